@@ -0,0 +1,112 @@
+package com.datagenerator.common.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+public final class KafkaSendWindow {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 10_000;
+
+    private static final int MAX_ERRORS = 5;
+
+    private final boolean sync;
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    public KafkaSendWindow(String deliveryMode, Integer maxInFlight) {
+        this.sync = "SYNC".equals(normalizeDeliveryMode(deliveryMode));
+        this.maxInFlight = maxInFlight == null || maxInFlight <= 0 ? DEFAULT_MAX_IN_FLIGHT : maxInFlight;
+        this.permits = new Semaphore(this.maxInFlight);
+    }
+
+    public static String normalizeDeliveryMode(String deliveryMode) {
+        if (deliveryMode == null || deliveryMode.isBlank()) {
+            return "ASYNC";
+        }
+        String normalized = deliveryMode.trim().toUpperCase(Locale.ROOT);
+        if (!"ASYNC".equals(normalized) && !"SYNC".equals(normalized)) {
+            throw new IllegalArgumentException("不支持的 Kafka deliveryMode: " + deliveryMode);
+        }
+        return normalized;
+    }
+
+    public String deliveryMode() {
+        return sync ? "SYNC" : "ASYNC";
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public <K, V> void send(Producer<K, V> producer, ProducerRecord<K, V> record) throws InterruptedException {
+        if (sync) {
+            try {
+                producer.send(record).get();
+                successCount.incrementAndGet();
+            } catch (ExecutionException exception) {
+                recordFailure(exception.getCause() == null ? exception : exception.getCause());
+            } catch (RuntimeException exception) {
+                recordFailure(exception);
+            }
+            return;
+        }
+
+        permits.acquire();
+        try {
+            producer.send(record, (metadata, exception) -> {
+                try {
+                    if (exception == null) {
+                        successCount.incrementAndGet();
+                    } else {
+                        recordFailure(exception);
+                    }
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException exception) {
+            permits.release();
+            recordFailure(exception);
+        }
+    }
+
+    public void await(Producer<?, ?> producer) throws InterruptedException {
+        producer.flush();
+        if (!sync) {
+            permits.acquire(maxInFlight);
+            permits.release(maxInFlight);
+        }
+    }
+
+    public void recordFailure(Throwable exception) {
+        failureCount.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(exception.getMessage());
+            }
+        }
+    }
+
+    public long successCount() {
+        return successCount.get();
+    }
+
+    public long failureCount() {
+        return failureCount.get();
+    }
+
+    public List<String> errors() {
+        synchronized (errors) {
+            return errors.stream().map(String::valueOf).toList();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.datagenerator.common.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+public final class RandomStreamSupport {
+
+    public static final int BLOCK_SIZE = 1_000;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private RandomStreamSupport() {
+    }
+
+    public static RandomGenerator forBlock(long seed, long blockIndex) {
+        return new SplittableRandom(mix64(seed + GOLDEN_GAMMA * (blockIndex + 1)));
+    }
+
+    public static long deriveSeed(long seed, String salt) {
+        long hash = seed;
+        for (int index = 0; index < salt.length(); index++) {
+            hash = hash * 31 + salt.charAt(index);
+        }
+        return mix64(hash ^ GOLDEN_GAMMA);
+    }
+
+    public static int blockCount(int rowCount) {
+        return rowCount <= 0 ? 0 : (rowCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    public static <T> List<T> generateBlocks(int firstBlock, int blockCount, IntFunction<List<T>> blockGenerator) {
+        List<List<T>> generated = mapBlocks(firstBlock, blockCount, blockGenerator);
+        int size = generated.stream().mapToInt(List::size).sum();
+        List<T> rows = new ArrayList<>(size);
+        generated.forEach(rows::addAll);
+        return rows;
+    }
+
+    public static <T> List<T> mapBlocks(int firstBlock, int blockCount, IntFunction<T> blockGenerator) {
+        if (blockCount <= 0) {
+            return List.of();
+        }
+        IntStream blocks = IntStream.range(firstBlock, firstBlock + blockCount);
+        try {
+            return (blockCount > 1 ? blocks.parallel() : blocks)
+                    .mapToObj(blockGenerator)
+                    .toList();
+        } catch (RuntimeException exception) {
+            if (exception.getCause() instanceof RuntimeException cause && cause.getClass() == exception.getClass()) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private static long mix64(long value) {
+        long mixed = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return mixed ^ (mixed >>> 33);
+    }
+}
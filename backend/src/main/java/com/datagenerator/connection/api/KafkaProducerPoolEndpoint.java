@@ -0,0 +1,23 @@
+package com.datagenerator.connection.api;
+
+import com.datagenerator.connection.application.KafkaProducerPoolManager;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "kafkaproducers")
+public class KafkaProducerPoolEndpoint {
+
+    private final KafkaProducerPoolManager producerPoolManager;
+
+    public KafkaProducerPoolEndpoint(KafkaProducerPoolManager producerPoolManager) {
+        this.producerPoolManager = producerPoolManager;
+    }
+
+    @ReadOperation
+    public List<KafkaProducerPoolStatsResponse> producers() {
+        return producerPoolManager.stats();
+    }
+}
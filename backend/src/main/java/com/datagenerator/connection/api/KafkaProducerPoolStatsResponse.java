@@ -0,0 +1,18 @@
+package com.datagenerator.connection.api;
+
+import java.time.Instant;
+
+public record KafkaProducerPoolStatsResponse(
+        Long connectionId,
+        String connectionName,
+        String configVersion,
+        String clientId,
+        int activeLeases,
+        boolean healthy,
+        long sentCount,
+        long failedCount,
+        String lastError,
+        Instant createdAt,
+        Instant lastUsedAt
+) {
+}
@@ -0,0 +1,23 @@
+package com.datagenerator.connection.api;
+
+import com.datagenerator.connection.application.TargetConnectionPoolManager;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "targetpools")
+public class TargetConnectionPoolEndpoint {
+
+    private final TargetConnectionPoolManager poolManager;
+
+    public TargetConnectionPoolEndpoint(TargetConnectionPoolManager poolManager) {
+        this.poolManager = poolManager;
+    }
+
+    @ReadOperation
+    public List<TargetConnectionPoolStatsResponse> pools() {
+        return poolManager.stats();
+    }
+}
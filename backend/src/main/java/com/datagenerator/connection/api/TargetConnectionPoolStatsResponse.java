@@ -0,0 +1,13 @@
+package com.datagenerator.connection.api;
+
+public record TargetConnectionPoolStatsResponse(
+        Long connectionId,
+        String connectionName,
+        String configVersion,
+        int maxPoolSize,
+        int activeConnections,
+        int idleConnections,
+        int totalConnections,
+        int threadsAwaitingConnection
+) {
+}
@@ -4,8 +4,11 @@ import com.datagenerator.connection.application.dialect.DatabaseDialect;
 import com.datagenerator.connection.application.dialect.DatabaseDialectRegistry;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
+import com.zaxxer.hikari.HikariConfig;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Objects;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,13 +16,33 @@ public class ConnectionJdbcSupport {
 
     private final DatabaseDialectRegistry dialectRegistry;
     private final TargetConnectionSecretCodec secretCodec;
+    private final TargetConnectionPoolManager poolManager;
 
-    public ConnectionJdbcSupport(DatabaseDialectRegistry dialectRegistry, TargetConnectionSecretCodec secretCodec) {
+    public ConnectionJdbcSupport(
+            DatabaseDialectRegistry dialectRegistry,
+            TargetConnectionSecretCodec secretCodec,
+            TargetConnectionPoolManager poolManager
+    ) {
         this.dialectRegistry = dialectRegistry;
         this.secretCodec = secretCodec;
+        this.poolManager = poolManager;
     }
 
     public Connection open(TargetConnection connection) throws Exception {
+        if (connection.getId() == null) {
+            return openUnpooled(connection);
+        }
+        rejectKafka(connection.getDbType(), "Kafka 连接不支持 JDBC 操作");
+        DatabaseDialect dialect = dialect(connection.getDbType());
+        return poolManager.borrow(
+                connection.getId(),
+                connection.getName(),
+                configVersion(connection),
+                () -> buildPoolConfig(dialect, withDecryptedPassword(connection))
+        );
+    }
+
+    public Connection openUnpooled(TargetConnection connection) throws Exception {
         rejectKafka(connection.getDbType(), "Kafka 连接不支持 JDBC 操作");
         DatabaseDialect dialect = dialect(connection.getDbType());
         TargetConnection runtimeConnection = withDecryptedPassword(connection);
@@ -29,6 +52,18 @@ public class ConnectionJdbcSupport {
         );
     }
 
+    public int maxPooledConnections() {
+        return poolManager.maxPoolSize();
+    }
+
+    public void invalidate(Long connectionId) {
+        poolManager.invalidate(connectionId);
+    }
+
+    public void evict(TargetConnection connection, Connection jdbcConnection) throws SQLException {
+        poolManager.evict(connection.getId(), jdbcConnection);
+    }
+
     public String buildJdbcUrl(TargetConnection connection) {
         rejectKafka(connection.getDbType(), "Kafka 连接不支持 JDBC URL");
         return dialect(connection.getDbType()).buildJdbcUrl(connection);
@@ -57,6 +92,27 @@ public class ConnectionJdbcSupport {
         }
     }
 
+    private HikariConfig buildPoolConfig(DatabaseDialect dialect, TargetConnection runtimeConnection) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(dialect.buildJdbcUrl(runtimeConnection));
+        config.setDataSourceProperties(dialect.buildConnectionProperties(runtimeConnection));
+        return config;
+    }
+
+    private String configVersion(TargetConnection connection) {
+        return connection.getUpdatedAt() + "#" + Integer.toHexString(Objects.hash(
+                connection.getDbType(),
+                connection.getHost(),
+                connection.getPort(),
+                connection.getDatabaseName(),
+                connection.getSchemaName(),
+                connection.getUsername(),
+                connection.getPasswordValue(),
+                connection.getJdbcParams(),
+                connection.getConfigJson()
+        ));
+    }
+
     private TargetConnection withDecryptedPassword(TargetConnection connection) {
         TargetConnection runtimeConnection = new TargetConnection();
         runtimeConnection.setId(connection.getId());
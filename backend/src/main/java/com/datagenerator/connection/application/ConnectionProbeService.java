@@ -53,7 +53,7 @@ public class ConnectionProbeService {
         details.put("jdbcUrl", jdbcSupport.buildJdbcUrl(connection));
         details.put("dbType", connection.getDbType().name());
 
-        try (Connection jdbcConnection = jdbcSupport.open(connection)) {
+        try (Connection jdbcConnection = jdbcSupport.openUnpooled(connection)) {
             DatabaseMetaData metadata = jdbcConnection.getMetaData();
             details.put("productName", metadata.getDatabaseProductName());
             details.put("productVersion", metadata.getDatabaseProductVersion());
@@ -3,13 +3,17 @@ package com.datagenerator.connection.application;
 import com.datagenerator.common.support.JsonConfigSupport;
 import com.datagenerator.connection.domain.TargetConnection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.config.SaslConfigs;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.stereotype.Component;
 
@@ -77,15 +81,33 @@ public class KafkaConnectionSupport {
         return properties;
     }
 
+    public int partitionCount(TargetConnection connection, String topic) throws Exception {
+        try (AdminClient adminClient = AdminClient.create(buildAdminProperties(connection))) {
+            TopicDescription description = adminClient.describeTopics(List.of(topic)).allTopicNames().get().get(topic);
+            if (description == null || description.partitions().isEmpty()) {
+                throw new IllegalArgumentException("Kafka Topic 不存在或没有分区: " + topic);
+            }
+            return description.partitions().size();
+        }
+    }
+
+    public Properties buildProducerProperties(TargetConnection connection) {
+        return buildProducerProperties(
+                connection,
+                "mdg-writer-" + (connection.getId() == null ? safeName(connection.getName()) : connection.getId())
+        );
+    }
+
     public Properties buildProducerProperties(TargetConnection connection, Long executionId) {
+        return buildProducerProperties(connection, "mdg-writer-" + (executionId == null ? "manual" : executionId));
+    }
+
+    private Properties buildProducerProperties(TargetConnection connection, String defaultClientId) {
         Map<String, Object> config = readConfig(connection);
         Properties properties = buildBaseProperties(connection, config);
-        properties.put(
-                CommonClientConfigs.CLIENT_ID_CONFIG,
-                resolveClientId(config, "mdg-writer-" + (executionId == null ? "manual" : executionId))
-        );
+        properties.put(CommonClientConfigs.CLIENT_ID_CONFIG, resolveClientId(config, defaultClientId));
         properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
-        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
         properties.put(
                 ProducerConfig.ACKS_CONFIG,
                 defaulted(JsonConfigSupport.optionalString(config, "acks"), "all")
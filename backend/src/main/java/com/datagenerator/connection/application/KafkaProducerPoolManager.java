@@ -0,0 +1,229 @@
+package com.datagenerator.connection.application;
+
+import com.datagenerator.connection.api.KafkaProducerPoolStatsResponse;
+import com.datagenerator.connection.domain.TargetConnection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KafkaProducerPoolManager implements DisposableBean {
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Map<PoolKey, PooledProducer> producers = new ConcurrentHashMap<>();
+    private final KafkaConnectionSupport kafkaConnectionSupport;
+    private final long idleTimeoutMillis;
+    private final Function<Properties, Producer<String, byte[]>> producerFactory;
+
+    @Autowired
+    public KafkaProducerPoolManager(
+            KafkaConnectionSupport kafkaConnectionSupport,
+            @Value("${mdg.kafka.producer.idle-timeout-ms:300000}") long idleTimeoutMillis
+    ) {
+        this(kafkaConnectionSupport, idleTimeoutMillis, KafkaProducer::new);
+    }
+
+    KafkaProducerPoolManager(
+            KafkaConnectionSupport kafkaConnectionSupport,
+            long idleTimeoutMillis,
+            Function<Properties, Producer<String, byte[]>> producerFactory
+    ) {
+        this.kafkaConnectionSupport = kafkaConnectionSupport;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.producerFactory = producerFactory;
+    }
+
+    public Lease borrow(TargetConnection connection) {
+        return borrow(connection, 0);
+    }
+
+    public Lease borrow(TargetConnection connection, int slot) {
+        Properties properties = kafkaConnectionSupport.buildProducerProperties(connection);
+        if (slot > 0) {
+            properties.put(
+                    CommonClientConfigs.CLIENT_ID_CONFIG,
+                    properties.getProperty(CommonClientConfigs.CLIENT_ID_CONFIG) + "-" + slot
+            );
+        }
+        if (connection.getId() == null) {
+            PooledProducer unpooled = createProducer(connection, properties);
+            unpooled.acquire();
+            unpooled.retire();
+            return new Lease(unpooled);
+        }
+
+        evictIdle();
+        String configVersion = Integer.toHexString(properties.hashCode());
+        PooledProducer pooled = producers.compute(new PoolKey(connection.getId(), slot), (key, current) -> {
+            if (current != null && current.configVersion.equals(configVersion) && current.healthy) {
+                current.acquire();
+                return current;
+            }
+            if (current != null) {
+                current.retire();
+            }
+            PooledProducer created = createProducer(connection, properties);
+            created.acquire();
+            return created;
+        });
+        return new Lease(pooled);
+    }
+
+    public void invalidate(Long connectionId) {
+        if (connectionId == null) {
+            return;
+        }
+        producers.forEach((key, pooled) -> {
+            if (key.connectionId().equals(connectionId) && producers.remove(key, pooled)) {
+                pooled.retire();
+            }
+        });
+    }
+
+    public List<KafkaProducerPoolStatsResponse> stats() {
+        evictIdle();
+        return producers.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey().connectionId()))
+                .sorted(Comparator.comparing(KafkaProducerPoolStatsResponse::connectionId)
+                        .thenComparing(KafkaProducerPoolStatsResponse::clientId))
+                .toList();
+    }
+
+    @Override
+    public void destroy() {
+        producers.keySet().stream().map(PoolKey::connectionId).distinct().toList().forEach(this::invalidate);
+    }
+
+    private void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleTimeoutMillis;
+        producers.forEach((key, pooled) -> {
+            if (pooled.idleSince(threshold) && producers.remove(key, pooled)) {
+                pooled.retire();
+            }
+        });
+    }
+
+    private PooledProducer createProducer(TargetConnection connection, Properties properties) {
+        return new PooledProducer(
+                connection.getName(),
+                Integer.toHexString(properties.hashCode()),
+                properties.getProperty(CommonClientConfigs.CLIENT_ID_CONFIG),
+                producerFactory.apply(properties)
+        );
+    }
+
+    private record PoolKey(Long connectionId, int slot) {
+    }
+
+    public static final class Lease implements AutoCloseable {
+
+        private final PooledProducer pooled;
+
+        private Lease(PooledProducer pooled) {
+            this.pooled = pooled;
+        }
+
+        public Producer<String, byte[]> producer() {
+            return pooled.producer;
+        }
+
+        public void reportDelivery(long successCount, long failureCount, String lastError) {
+            pooled.sentCount.addAndGet(successCount);
+            pooled.failedCount.addAndGet(failureCount);
+            if (failureCount > 0) {
+                pooled.lastError = lastError;
+            }
+            if (successCount > 0) {
+                pooled.healthy = true;
+            } else if (failureCount > 0) {
+                pooled.healthy = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            pooled.release();
+        }
+    }
+
+    private static final class PooledProducer {
+
+        private final String connectionName;
+        private final String configVersion;
+        private final String clientId;
+        private final Producer<String, byte[]> producer;
+        private final Instant createdAt = Instant.now();
+        private final AtomicLong sentCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private int leases;
+        private boolean retired;
+        private boolean closed;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+        private volatile boolean healthy = true;
+        private volatile String lastError;
+
+        private PooledProducer(String connectionName, String configVersion, String clientId, Producer<String, byte[]> producer) {
+            this.connectionName = connectionName;
+            this.configVersion = configVersion;
+            this.clientId = clientId;
+            this.producer = producer;
+        }
+
+        private synchronized void acquire() {
+            leases++;
+            lastUsedAt = System.currentTimeMillis();
+        }
+
+        private synchronized void release() {
+            leases = Math.max(0, leases - 1);
+            lastUsedAt = System.currentTimeMillis();
+            closeIfUnused();
+        }
+
+        private synchronized void retire() {
+            retired = true;
+            closeIfUnused();
+        }
+
+        private synchronized boolean idleSince(long threshold) {
+            return leases == 0 && lastUsedAt < threshold;
+        }
+
+        private void closeIfUnused() {
+            if (retired && leases == 0 && !closed) {
+                closed = true;
+                producer.close(CLOSE_TIMEOUT);
+            }
+        }
+
+        private synchronized KafkaProducerPoolStatsResponse toStats(Long connectionId) {
+            return new KafkaProducerPoolStatsResponse(
+                    connectionId,
+                    connectionName,
+                    configVersion,
+                    clientId,
+                    leases,
+                    healthy,
+                    sentCount.get(),
+                    failedCount.get(),
+                    lastError,
+                    createdAt,
+                    Instant.ofEpochMilli(lastUsedAt)
+            );
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.datagenerator.connection.application;
+
+import com.datagenerator.connection.api.TargetConnectionPoolStatsResponse;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TargetConnectionPoolManager implements DisposableBean {
+
+    private final Map<Long, PooledDataSource> pools = new ConcurrentHashMap<>();
+    private final int maxPoolSize;
+    private final long idleTimeoutMillis;
+    private final long maxLifetimeMillis;
+    private final long connectionTimeoutMillis;
+
+    public TargetConnectionPoolManager(
+            @Value("${mdg.jdbc.pool.max-size:5}") int maxPoolSize,
+            @Value("${mdg.jdbc.pool.idle-timeout-ms:600000}") long idleTimeoutMillis,
+            @Value("${mdg.jdbc.pool.max-lifetime-ms:1800000}") long maxLifetimeMillis,
+            @Value("${mdg.jdbc.pool.connection-timeout-ms:10000}") long connectionTimeoutMillis
+    ) {
+        this.maxPoolSize = Math.max(1, maxPoolSize);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+    }
+
+    public Connection borrow(
+            Long connectionId,
+            String connectionName,
+            String configVersion,
+            Supplier<HikariConfig> configSupplier
+    ) throws SQLException {
+        PooledDataSource pooled = pools.compute(connectionId, (id, current) -> {
+            if (current != null && current.configVersion().equals(configVersion) && !current.dataSource().isClosed()) {
+                return current;
+            }
+            if (current != null) {
+                current.dataSource().close();
+            }
+            return new PooledDataSource(configVersion, connectionName, createDataSource(id, configSupplier.get()));
+        });
+        return pooled.dataSource().getConnection();
+    }
+
+    public int maxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void invalidate(Long connectionId) {
+        if (connectionId == null) {
+            return;
+        }
+        PooledDataSource removed = pools.remove(connectionId);
+        if (removed != null) {
+            removed.dataSource().close();
+        }
+    }
+
+    public void evict(Long connectionId, Connection connection) throws SQLException {
+        PooledDataSource pooled = connectionId == null ? null : pools.get(connectionId);
+        if (pooled != null && !pooled.dataSource().isClosed()) {
+            pooled.dataSource().evictConnection(connection);
+            return;
+        }
+        connection.close();
+    }
+
+    public List<TargetConnectionPoolStatsResponse> stats() {
+        return pools.entrySet().stream()
+                .map(entry -> toStats(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(TargetConnectionPoolStatsResponse::connectionId))
+                .toList();
+    }
+
+    @Override
+    public void destroy() {
+        pools.keySet().forEach(this::invalidate);
+    }
+
+    private HikariDataSource createDataSource(Long connectionId, HikariConfig config) {
+        config.setPoolName("mdg-target-" + connectionId);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(0);
+        config.setIdleTimeout(idleTimeoutMillis);
+        config.setMaxLifetime(maxLifetimeMillis);
+        config.setConnectionTimeout(connectionTimeoutMillis);
+        return new HikariDataSource(config);
+    }
+
+    private TargetConnectionPoolStatsResponse toStats(Long connectionId, PooledDataSource pooled) {
+        HikariPoolMXBean pool = pooled.dataSource().getHikariPoolMXBean();
+        return new TargetConnectionPoolStatsResponse(
+                connectionId,
+                pooled.connectionName(),
+                pooled.configVersion(),
+                maxPoolSize,
+                pool == null ? 0 : pool.getActiveConnections(),
+                pool == null ? 0 : pool.getIdleConnections(),
+                pool == null ? 0 : pool.getTotalConnections(),
+                pool == null ? 0 : pool.getThreadsAwaitingConnection()
+        );
+    }
+
+    private record PooledDataSource(String configVersion, String connectionName, HikariDataSource dataSource) {
+    }
+}
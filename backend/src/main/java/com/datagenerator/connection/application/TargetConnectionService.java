@@ -26,7 +26,9 @@ public class TargetConnectionService {
     private final TableSchemaIntrospectionService tableSchemaIntrospectionService;
     private final ConnectionJdbcSupport connectionJdbcSupport;
     private final KafkaConnectionSupport kafkaConnectionSupport;
+    private final KafkaProducerPoolManager kafkaProducerPoolManager;
     private final TargetConnectionSecretCodec secretCodec;
+    private final TargetMetadataCache metadataCache;
 
     public TargetConnectionService(
             TargetConnectionRepository repository,
@@ -34,14 +36,18 @@ public class TargetConnectionService {
             TableSchemaIntrospectionService tableSchemaIntrospectionService,
             ConnectionJdbcSupport connectionJdbcSupport,
             KafkaConnectionSupport kafkaConnectionSupport,
-            TargetConnectionSecretCodec secretCodec
+            KafkaProducerPoolManager kafkaProducerPoolManager,
+            TargetConnectionSecretCodec secretCodec,
+            TargetMetadataCache metadataCache
     ) {
         this.repository = repository;
         this.connectionProbeService = connectionProbeService;
         this.tableSchemaIntrospectionService = tableSchemaIntrospectionService;
         this.connectionJdbcSupport = connectionJdbcSupport;
         this.kafkaConnectionSupport = kafkaConnectionSupport;
+        this.kafkaProducerPoolManager = kafkaProducerPoolManager;
         this.secretCodec = secretCodec;
+        this.metadataCache = metadataCache;
     }
 
     public List<TargetConnection> findAll() {
@@ -64,12 +70,19 @@ public class TargetConnectionService {
     public TargetConnection update(Long id, TargetConnectionUpsertRequest request) {
         TargetConnection connection = findById(id);
         apply(connection, request, true);
-        return repository.save(connection);
+        TargetConnection saved = repository.save(connection);
+        connectionJdbcSupport.invalidate(id);
+        kafkaProducerPoolManager.invalidate(id);
+        metadataCache.invalidate(id);
+        return saved;
     }
 
     @Transactional
     public void delete(Long id) {
         repository.deleteById(id);
+        connectionJdbcSupport.invalidate(id);
+        kafkaProducerPoolManager.invalidate(id);
+        metadataCache.invalidate(id);
     }
 
     @Transactional
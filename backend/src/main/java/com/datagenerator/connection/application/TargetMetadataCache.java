@@ -0,0 +1,80 @@
+package com.datagenerator.connection.application;
+
+import com.datagenerator.connection.domain.TargetConnection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TargetMetadataCache {
+
+    private final Map<CacheKey, CachedValue> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public TargetMetadataCache(@Value("${mdg.metadata.cache-ttl-seconds:300}") long ttlSeconds) {
+        this(TimeUnit.SECONDS.toNanos(ttlSeconds), System::nanoTime);
+    }
+
+    TargetMetadataCache(long ttlNanos, LongSupplier clock) {
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(TargetConnection connection, Kind kind, String tableReference, Loader<T> loader) throws SQLException {
+        if (connection.getId() == null || ttlNanos <= 0) {
+            return loader.load();
+        }
+
+        CacheKey key = new CacheKey(connection.getId(), kind, tableReference);
+        long now = clock.getAsLong();
+        CachedValue cached = entries.get(key);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return (T) cached.value();
+        }
+
+        T value = loader.load();
+        entries.put(key, new CachedValue(value, now));
+        return value;
+    }
+
+    public void invalidate(Long connectionId, String tableReference) {
+        if (connectionId == null) {
+            return;
+        }
+        entries.keySet().removeIf(key -> key.connectionId().equals(connectionId)
+                && Objects.equals(key.tableReference(), tableReference));
+    }
+
+    public void invalidate(Long connectionId) {
+        if (connectionId == null) {
+            return;
+        }
+        entries.keySet().removeIf(key -> key.connectionId().equals(connectionId));
+    }
+
+    public enum Kind {
+        COLUMNS,
+        TABLE_EXISTS
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+
+        T load() throws SQLException;
+    }
+
+    private record CacheKey(Long connectionId, Kind kind, String tableReference) {
+    }
+
+    private record CachedValue(Object value, long loadedAt) {
+    }
+}
@@ -10,10 +10,12 @@ import com.datagenerator.task.domain.WriteTask;
 import com.datagenerator.task.domain.WriteTaskColumn;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,6 +27,10 @@ import java.util.stream.Collectors;
 
 public abstract class AbstractJdbcDatabaseDialect implements DatabaseDialect {
 
+    private static final int BULK_MODEL_MIN_TABLES = 4;
+    private static final String STAGING_TABLE_SUFFIX = "_mdg_stage";
+    private static final String RETIRED_TABLE_SUFFIX = "_mdg_retired";
+
     @Override
     public Properties buildConnectionProperties(TargetConnection connection) {
         Properties properties = new Properties();
@@ -88,24 +94,7 @@ public abstract class AbstractJdbcDatabaseDialect implements DatabaseDialect {
                 "%"
         )) {
             while (resultSet.next()) {
-                String normalizedType = normalizeDbType(resultSet.getString("TYPE_NAME"));
-                int columnSize = resultSet.getInt("COLUMN_SIZE");
-                boolean columnSizeMissing = resultSet.wasNull();
-                int decimalDigits = resultSet.getInt("DECIMAL_DIGITS");
-                boolean decimalDigitsMissing = resultSet.wasNull();
-                String columnName = resultSet.getString("COLUMN_NAME");
-
-                columns.add(new DatabaseColumnResponse(
-                        columnName,
-                        normalizedType,
-                        isLengthType(normalizedType) && !columnSizeMissing ? columnSize : null,
-                        isNumericType(normalizedType) && !columnSizeMissing ? columnSize : null,
-                        isNumericType(normalizedType) && !decimalDigitsMissing ? decimalDigits : null,
-                        resultSet.getInt("NULLABLE") == DatabaseMetaData.columnNullable,
-                        primaryKeys.contains(columnName.toLowerCase(Locale.ROOT)),
-                        "YES".equalsIgnoreCase(resultSet.getString("IS_AUTOINCREMENT")),
-                        null
-                ));
+                columns.add(toColumnResponse(resultSet, primaryKeys));
             }
         }
 
@@ -178,14 +167,150 @@ public abstract class AbstractJdbcDatabaseDialect implements DatabaseDialect {
                 .toList();
         List<DatabaseTableSchemaResponse> tables = new ArrayList<>();
         List<DatabaseForeignKeyResponse> relations = new ArrayList<>();
-        for (String tableName : normalizedTables) {
-            DatabaseTableSchemaResponse schema = describeTable(connection, targetConnection, tableName);
-            tables.add(schema);
+        if (normalizedTables.size() >= BULK_MODEL_MIN_TABLES && bulkModelKeySql() != null) {
+            tables.addAll(describeTablesInBulk(connection, targetConnection, normalizedTables));
+        } else {
+            for (String tableName : normalizedTables) {
+                tables.add(describeTable(connection, targetConnection, tableName));
+            }
+        }
+        for (DatabaseTableSchemaResponse schema : tables) {
             relations.addAll(schema.foreignKeys());
         }
         return new DatabaseModelResponse(tables, relations);
     }
 
+    protected String bulkModelKeySql() {
+        return null;
+    }
+
+    protected String bulkModelOwner(String catalogName, String schemaName) {
+        return schemaName == null || schemaName.isBlank() ? catalogName : schemaName;
+    }
+
+    protected Map<String, List<DatabaseColumnResponse>> enrichModelColumns(
+            Connection connection,
+            String catalogName,
+            String schemaName,
+            Map<String, List<DatabaseColumnResponse>> columnsByTable
+    ) throws SQLException {
+        return columnsByTable;
+    }
+
+    private List<DatabaseTableSchemaResponse> describeTablesInBulk(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        LinkedHashMap<List<String>, List<String>> tablesByOwner = new LinkedHashMap<>();
+        Map<String, TableReference> references = new LinkedHashMap<>();
+        for (String tableName : tableNames) {
+            TableReference tableReference = resolveTableReference(targetConnection, tableName);
+            references.put(tableName, tableReference);
+            List<String> owner = Arrays.asList(
+                    resolveTableCatalog(connection, targetConnection, tableReference),
+                    resolveTableSchema(connection, targetConnection, tableReference)
+            );
+            tablesByOwner.computeIfAbsent(owner, ignored -> new ArrayList<>()).add(tableName);
+        }
+
+        Map<String, DatabaseTableSchemaResponse> described = new LinkedHashMap<>();
+        DatabaseMetaData metadata = connection.getMetaData();
+        for (Map.Entry<List<String>, List<String>> entry : tablesByOwner.entrySet()) {
+            String catalogName = entry.getKey().get(0);
+            String schemaName = entry.getKey().get(1);
+            String owner = bulkModelOwner(catalogName, schemaName);
+            if (owner == null || owner.isBlank()) {
+                for (String tableName : entry.getValue()) {
+                    described.put(tableName, describeTable(connection, targetConnection, tableName));
+                }
+                continue;
+            }
+            Map<String, String> requestedByTable = new LinkedHashMap<>();
+            for (String tableName : entry.getValue()) {
+                requestedByTable.put(references.get(tableName).tableName().toLowerCase(Locale.ROOT), tableName);
+            }
+
+            Map<String, Set<String>> primaryKeys = new LinkedHashMap<>();
+            Map<String, LinkedHashMap<String, ForeignKeyBuilder>> foreignKeys = new LinkedHashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement(bulkModelKeySql())) {
+                statement.setString(1, owner);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        String tableKey = resultSet.getString("TABLE_NAME").toLowerCase(Locale.ROOT);
+                        if (!requestedByTable.containsKey(tableKey)) {
+                            continue;
+                        }
+                        String columnName = resultSet.getString("COLUMN_NAME");
+                        if ("P".equalsIgnoreCase(resultSet.getString("CONSTRAINT_KIND"))) {
+                            primaryKeys.computeIfAbsent(tableKey, ignored -> new HashSet<>()).add(columnName.toLowerCase(Locale.ROOT));
+                            continue;
+                        }
+                        String childTableName = resultSet.getString("TABLE_NAME");
+                        LinkedHashMap<String, ForeignKeyBuilder> builders = foreignKeys.computeIfAbsent(tableKey, ignored -> new LinkedHashMap<>());
+                        String constraintName = normalizeConstraintName(resultSet.getString("CONSTRAINT_NAME"), childTableName, builders.size() + 1);
+                        String parentTable = qualifyTableName(resultSet.getString("REF_SCHEMA"), null, resultSet.getString("REF_TABLE"));
+                        String childTable = qualifyTableName(schemaName, catalogName, childTableName);
+                        ForeignKeyBuilder builder = builders.computeIfAbsent(
+                                constraintName,
+                                ignored -> new ForeignKeyBuilder(constraintName, parentTable, childTable)
+                        );
+                        builder.parentColumns().add(resultSet.getString("REF_COLUMN"));
+                        builder.childColumns().add(columnName);
+                    }
+                }
+            }
+
+            LinkedHashMap<String, List<DatabaseColumnResponse>> columnsByTable = new LinkedHashMap<>();
+            try (ResultSet resultSet = metadata.getColumns(catalogName, schemaName, "%", "%")) {
+                while (resultSet.next()) {
+                    String tableKey = resultSet.getString("TABLE_NAME").toLowerCase(Locale.ROOT);
+                    if (!requestedByTable.containsKey(tableKey)) {
+                        continue;
+                    }
+                    columnsByTable.computeIfAbsent(tableKey, ignored -> new ArrayList<>())
+                            .add(toColumnResponse(resultSet, primaryKeys.getOrDefault(tableKey, Set.of())));
+                }
+            }
+            Map<String, List<DatabaseColumnResponse>> enrichedColumns = enrichModelColumns(connection, catalogName, schemaName, columnsByTable);
+
+            for (Map.Entry<String, String> requested : requestedByTable.entrySet()) {
+                List<DatabaseColumnResponse> columns = enrichedColumns.get(requested.getKey());
+                if (columns == null || columns.isEmpty()) {
+                    throw new IllegalArgumentException("未找到数据表: " + requested.getValue());
+                }
+                List<DatabaseForeignKeyResponse> tableForeignKeys = foreignKeys.getOrDefault(requested.getKey(), new LinkedHashMap<>())
+                        .values()
+                        .stream()
+                        .map(ForeignKeyBuilder::build)
+                        .toList();
+                described.put(requested.getValue(), new DatabaseTableSchemaResponse(requested.getValue(), columns, tableForeignKeys));
+            }
+        }
+        return tableNames.stream().map(described::get).toList();
+    }
+
+    private DatabaseColumnResponse toColumnResponse(ResultSet resultSet, Set<String> primaryKeys) throws SQLException {
+        String normalizedType = normalizeDbType(resultSet.getString("TYPE_NAME"));
+        int columnSize = resultSet.getInt("COLUMN_SIZE");
+        boolean columnSizeMissing = resultSet.wasNull();
+        int decimalDigits = resultSet.getInt("DECIMAL_DIGITS");
+        boolean decimalDigitsMissing = resultSet.wasNull();
+        String columnName = resultSet.getString("COLUMN_NAME");
+
+        return new DatabaseColumnResponse(
+                columnName,
+                normalizedType,
+                isLengthType(normalizedType) && !columnSizeMissing ? columnSize : null,
+                isNumericType(normalizedType) && !columnSizeMissing ? columnSize : null,
+                isNumericType(normalizedType) && !decimalDigitsMissing ? decimalDigits : null,
+                resultSet.getInt("NULLABLE") == DatabaseMetaData.columnNullable,
+                primaryKeys.contains(columnName.toLowerCase(Locale.ROOT)),
+                "YES".equalsIgnoreCase(resultSet.getString("IS_AUTOINCREMENT")),
+                null
+        );
+    }
+
     @Override
     public boolean tableExists(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
         TableReference tableReference = resolveTableReference(targetConnection, tableName);
@@ -247,6 +372,24 @@ public abstract class AbstractJdbcDatabaseDialect implements DatabaseDialect {
         }
     }
 
+    protected Long queryRowEstimate(Connection connection, String sql, String schemaName, String tableName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, schemaName);
+            statement.setString(2, tableName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                long estimate = resultSet.getLong(1);
+                return resultSet.wasNull() || estimate < 0 ? null : estimate;
+            }
+        }
+    }
+
+    protected String formatSamplePercent(double percent) {
+        return String.format(Locale.ROOT, "%.6f", percent);
+    }
+
     @Override
     public void clearTargetTable(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
         try (Statement statement = connection.createStatement()) {
@@ -254,6 +397,199 @@ public abstract class AbstractJdbcDatabaseDialect implements DatabaseDialect {
         }
     }
 
+    @Override
+    public boolean truncateTargetTable(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        if (!transactionalTruncate() || hasForeignKeys(connection, targetConnection, tableName, false)) {
+            clearTargetTable(connection, targetConnection, tableName);
+            return false;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("TRUNCATE TABLE " + quoteQualifiedIdentifier(targetConnection, tableName));
+        }
+        return true;
+    }
+
+    @Override
+    public String createStagingTable(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        String stagingTableName = derivedTableName(tableName, STAGING_TABLE_SUFFIX);
+        StagingSwap swap = buildStagingSwap(
+                targetConnection,
+                tableName,
+                stagingTableName,
+                derivedTableName(tableName, RETIRED_TABLE_SUFFIX)
+        );
+        if (swap == null
+                || hasForeignKeys(connection, targetConnection, tableName, true)
+                || hasSwapDependencies(connection, targetConnection, tableName)) {
+            return null;
+        }
+        if (tableExists(connection, targetConnection, stagingTableName)) {
+            dropStagingTable(connection, targetConnection, stagingTableName);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(swap.createSql());
+        }
+        return stagingTableName;
+    }
+
+    @Override
+    public void swapStagingTable(
+            Connection connection,
+            TargetConnection targetConnection,
+            String tableName,
+            String stagingTableName
+    ) throws SQLException {
+        String retiredTableName = derivedTableName(tableName, RETIRED_TABLE_SUFFIX);
+        StagingSwap swap = buildStagingSwap(targetConnection, tableName, stagingTableName, retiredTableName);
+        if (swap == null) {
+            throw new IllegalArgumentException(type() + " 不支持临时表切换覆盖写入");
+        }
+        if (tableExists(connection, targetConnection, retiredTableName)) {
+            dropStagingTable(connection, targetConnection, retiredTableName);
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : swap.swapSql()) {
+                statement.execute(sql);
+            }
+        }
+        dropStagingTable(connection, targetConnection, retiredTableName);
+    }
+
+    @Override
+    public void dropStagingTable(Connection connection, TargetConnection targetConnection, String stagingTableName) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + quoteQualifiedIdentifier(targetConnection, stagingTableName));
+        }
+    }
+
+    @Override
+    public DatabaseBulkSession beginBulkSession(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        long startedAt = System.nanoTime();
+        BulkSessionProfile profile = applyBulkSessionProfile(connection, targetConnection, tableNames);
+        if (profile == null) {
+            return null;
+        }
+        if (!profile.relaxed()) {
+            return new DatabaseBulkSession(
+                    profile.name(),
+                    profile.settings(),
+                    false,
+                    System.nanoTime() - startedAt,
+                    DatabaseBulkSession.Step.NONE,
+                    profile.restore()
+            );
+        }
+        return new DatabaseBulkSession(
+                profile.name(),
+                profile.settings(),
+                true,
+                System.nanoTime() - startedAt,
+                finishingConnection -> {
+                    profile.beforeCommit().run(finishingConnection);
+                    validateForeignKeys(finishingConnection, targetConnection, tableNames);
+                },
+                profile.restore()
+        );
+    }
+
+    protected BulkSessionProfile applyBulkSessionProfile(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        return null;
+    }
+
+    protected boolean transactionalTruncate() {
+        return false;
+    }
+
+    protected boolean hasSwapDependencies(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        return false;
+    }
+
+    protected StagingSwap buildStagingSwap(
+            TargetConnection targetConnection,
+            String tableName,
+            String stagingTableName,
+            String retiredTableName
+    ) {
+        return null;
+    }
+
+    protected String unqualifiedTableName(String tableName) {
+        List<String> segments = splitTableName(tableName);
+        return segments.get(segments.size() - 1).trim();
+    }
+
+    private void validateForeignKeys(Connection connection, TargetConnection targetConnection, List<String> tableNames) throws SQLException {
+        for (String tableName : tableNames) {
+            for (DatabaseForeignKeyResponse foreignKey : listForeignKeys(connection, targetConnection, tableName)) {
+                long violations = countForeignKeyViolations(connection, targetConnection, tableName, foreignKey);
+                if (violations > 0) {
+                    throw new IllegalArgumentException(
+                            "批量会话写入后校验失败: 外键 " + foreignKey.constraintName() + " 有 " + violations + " 行未匹配父表记录"
+                    );
+                }
+            }
+        }
+    }
+
+    private long countForeignKeyViolations(
+            Connection connection,
+            TargetConnection targetConnection,
+            String tableName,
+            DatabaseForeignKeyResponse foreignKey
+    ) throws SQLException {
+        List<String> notNullFilters = new ArrayList<>();
+        List<String> joinConditions = new ArrayList<>();
+        for (int index = 0; index < foreignKey.childColumns().size(); index++) {
+            String childColumn = "c." + quoteIdentifier(foreignKey.childColumns().get(index));
+            notNullFilters.add(childColumn + " IS NOT NULL");
+            joinConditions.add("p." + quoteIdentifier(foreignKey.parentColumns().get(index)) + " = " + childColumn);
+        }
+        String sql = "SELECT COUNT(*) FROM " + quoteQualifiedIdentifier(targetConnection, tableName) + " c WHERE "
+                + String.join(" AND ", notNullFilters)
+                + " AND NOT EXISTS (SELECT 1 FROM " + quoteQualifiedIdentifier(targetConnection, foreignKey.parentTable())
+                + " p WHERE " + String.join(" AND ", joinConditions) + ")";
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private String derivedTableName(String tableName, String suffix) {
+        return tableName.trim() + suffix;
+    }
+
+    private boolean hasForeignKeys(
+            Connection connection,
+            TargetConnection targetConnection,
+            String tableName,
+            boolean includeImported
+    ) throws SQLException {
+        DatabaseMetaData metadata = connection.getMetaData();
+        TableReference tableReference = resolveTableReference(targetConnection, tableName);
+        String catalogName = resolveTableCatalog(connection, targetConnection, tableReference);
+        String schemaName = resolveTableSchema(connection, targetConnection, tableReference);
+        try (ResultSet resultSet = metadata.getExportedKeys(catalogName, schemaName, tableReference.tableName())) {
+            if (resultSet.next()) {
+                return true;
+            }
+        }
+        if (!includeImported) {
+            return false;
+        }
+        try (ResultSet resultSet = metadata.getImportedKeys(catalogName, schemaName, tableReference.tableName())) {
+            return resultSet.next();
+        }
+    }
+
     @Override
     public String buildInsertSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns) {
         String quotedColumns = columns.stream()
@@ -265,6 +601,22 @@ public abstract class AbstractJdbcDatabaseDialect implements DatabaseDialect {
                 + " (" + quotedColumns + ") VALUES (" + placeholders + ")";
     }
 
+    @Override
+    public String buildMultiRowInsertSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns, int rowCount) {
+        String singleRowSql = buildInsertSql(targetConnection, tableName, columns);
+        int valuesStart = singleRowSql.lastIndexOf(" VALUES ");
+        String rowPlaceholders = singleRowSql.substring(valuesStart + " VALUES ".length());
+        StringBuilder sql = new StringBuilder(valuesStart + 8 + rowCount * (rowPlaceholders.length() + 2));
+        sql.append(singleRowSql, 0, valuesStart).append(" VALUES ");
+        for (int row = 0; row < rowCount; row++) {
+            if (row > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholders);
+        }
+        return sql.toString();
+    }
+
     protected String buildColumnDefinition(WriteTaskColumn column) {
         StringBuilder definition = new StringBuilder();
         definition.append(quoteIdentifier(column.getColumnName()))
@@ -467,6 +819,30 @@ public abstract class AbstractJdbcDatabaseDialect implements DatabaseDialect {
         return schemaName + "." + tableName;
     }
 
+    protected record BulkSessionProfile(
+            String name,
+            List<String> settings,
+            DatabaseBulkSession.Step beforeCommit,
+            DatabaseBulkSession.Step restore,
+            boolean relaxed
+    ) {
+        protected BulkSessionProfile(
+                String name,
+                List<String> settings,
+                DatabaseBulkSession.Step beforeCommit,
+                DatabaseBulkSession.Step restore
+        ) {
+            this(name, settings, beforeCommit, restore, true);
+        }
+
+        protected static BulkSessionProfile noop(String name) {
+            return new BulkSessionProfile(name, List.of(), DatabaseBulkSession.Step.NONE, DatabaseBulkSession.Step.NONE, false);
+        }
+    }
+
+    protected record StagingSwap(String createSql, List<String> swapSql) {
+    }
+
     private record ForeignKeyBuilder(
             String constraintName,
             String parentTable,
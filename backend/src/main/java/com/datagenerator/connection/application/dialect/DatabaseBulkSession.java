@@ -0,0 +1,84 @@
+package com.datagenerator.connection.application.dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class DatabaseBulkSession {
+
+    private final String profile;
+    private final List<String> settings;
+    private final boolean relaxed;
+    private final long setupNanos;
+    private final Step beforeCommit;
+    private final Step restore;
+    private long validationNanos;
+    private boolean restored;
+
+    DatabaseBulkSession(
+            String profile,
+            List<String> settings,
+            boolean relaxed,
+            long setupNanos,
+            Step beforeCommit,
+            Step restore
+    ) {
+        this.profile = profile;
+        this.settings = settings;
+        this.relaxed = relaxed;
+        this.setupNanos = setupNanos;
+        this.beforeCommit = beforeCommit;
+        this.restore = restore;
+    }
+
+    public String profile() {
+        return profile;
+    }
+
+    public boolean relaxed() {
+        return relaxed;
+    }
+
+    public void finish(Connection connection) throws SQLException {
+        long startedAt = System.nanoTime();
+        try {
+            beforeCommit.run(connection);
+        } finally {
+            validationNanos = System.nanoTime() - startedAt;
+        }
+    }
+
+    public void restore(Connection connection) throws SQLException {
+        if (restored) {
+            return;
+        }
+        restored = true;
+        restore.run(connection);
+    }
+
+    public long overheadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(setupNanos + validationNanos);
+    }
+
+    public Map<String, Object> details() {
+        LinkedHashMap<String, Object> details = new LinkedHashMap<>();
+        details.put("profile", profile);
+        details.put("settings", settings);
+        details.put("relaxed", relaxed);
+        details.put("setupMs", TimeUnit.NANOSECONDS.toMillis(setupNanos));
+        details.put("validationMs", TimeUnit.NANOSECONDS.toMillis(validationNanos));
+        return details;
+    }
+
+    @FunctionalInterface
+    public interface Step {
+
+        Step NONE = connection -> {
+        };
+
+        void run(Connection connection) throws SQLException;
+    }
+}
@@ -46,9 +46,41 @@ public interface DatabaseDialect {
 
     void clearTargetTable(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException;
 
+    boolean truncateTargetTable(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException;
+
+    String createStagingTable(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException;
+
+    void swapStagingTable(Connection connection, TargetConnection targetConnection, String tableName, String stagingTableName) throws SQLException;
+
+    void dropStagingTable(Connection connection, TargetConnection targetConnection, String stagingTableName) throws SQLException;
+
+    DatabaseBulkSession beginBulkSession(Connection connection, TargetConnection targetConnection, List<String> tableNames) throws SQLException;
+
     String buildInsertSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns);
 
+    String buildMultiRowInsertSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns, int rowCount);
+
+    default String buildBulkLoadSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns) {
+        return null;
+    }
+
     String quoteQualifiedIdentifier(TargetConnection targetConnection, String identifier);
 
     String quoteIdentifier(String identifier);
+
+    default Long estimateRowCount(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        return null;
+    }
+
+    default String tableSampleClause(double percent, long seed) {
+        return null;
+    }
+
+    default String buildKeyRangeSampleSql(TargetConnection targetConnection, String tableName, List<String> columns, int limit) {
+        return null;
+    }
+
+    default int streamingFetchSize(int requestedFetchSize) {
+        return requestedFetchSize;
+    }
 }
@@ -8,10 +8,14 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -48,6 +52,38 @@ public class MysqlDatabaseDialect extends AbstractJdbcDatabaseDialect {
         return toParamString(params);
     }
 
+    @Override
+    public Properties buildConnectionProperties(TargetConnection connection) {
+        Properties properties = super.buildConnectionProperties(connection);
+        boolean rewriteConfigured = properties.stringPropertyNames().stream()
+                .anyMatch("rewriteBatchedStatements"::equalsIgnoreCase);
+        if (!rewriteConfigured) {
+            properties.setProperty("rewriteBatchedStatements", "true");
+        }
+        return properties;
+    }
+
+    @Override
+    public String buildBulkLoadSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns) {
+        List<String> targets = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (int index = 0; index < columns.size(); index++) {
+            WriteTaskColumn column = columns.get(index);
+            String quotedColumn = quoteIdentifier(column.getColumnName());
+            String typeName = normalizeDbType(column.getDbType());
+            if ("BIT".equals(typeName) || "BOOLEAN".equals(typeName) || "BOOL".equals(typeName)) {
+                targets.add("@v" + index);
+                assignments.add(quotedColumn + " = CAST(@v" + index + " AS UNSIGNED)");
+            } else {
+                targets.add(quotedColumn);
+            }
+        }
+        return "LOAD DATA LOCAL INFILE 'mdg-stream.tsv' INTO TABLE " + quoteQualifiedIdentifier(targetConnection, tableName)
+                + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n'"
+                + " (" + String.join(", ", targets) + ")"
+                + (assignments.isEmpty() ? "" : " SET " + String.join(", ", assignments));
+    }
+
     @Override
     public String defaultSchema(TargetConnection connection) {
         return connection.getDatabaseName();
@@ -83,6 +119,34 @@ public class MysqlDatabaseDialect extends AbstractJdbcDatabaseDialect {
         return tableReference.catalogName();
     }
 
+    @Override
+    public Long estimateRowCount(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        TableReference tableReference = resolveTableReference(targetConnection, tableName);
+        return queryRowEstimate(
+                connection,
+                "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?",
+                tableReference.catalogName(),
+                tableReference.tableName()
+        );
+    }
+
+    @Override
+    public String buildKeyRangeSampleSql(TargetConnection targetConnection, String tableName, List<String> columns, int limit) {
+        String keyColumn = quoteIdentifier(columns.get(0));
+        String selectColumns = columns.stream().map(this::quoteIdentifier).collect(Collectors.joining(", "));
+        String notNullFilter = columns.stream()
+                .map(column -> quoteIdentifier(column) + " IS NOT NULL")
+                .collect(Collectors.joining(" AND "));
+        return "SELECT " + selectColumns + " FROM " + quoteQualifiedIdentifier(targetConnection, tableName)
+                + " WHERE " + keyColumn + " >= ? AND " + notNullFilter
+                + " ORDER BY " + keyColumn + " LIMIT " + limit;
+    }
+
+    @Override
+    public int streamingFetchSize(int requestedFetchSize) {
+        return Integer.MIN_VALUE;
+    }
+
     @Override
     protected String resolveTableSchema(Connection connection, TargetConnection targetConnection, TableReference tableReference) {
         return null;
@@ -101,19 +165,131 @@ public class MysqlDatabaseDialect extends AbstractJdbcDatabaseDialect {
             return columns;
         }
 
-        return columns.stream()
-                .map(column -> new DatabaseColumnResponse(
-                        column.columnName(),
-                        column.dbType(),
-                        column.length(),
-                        column.precision(),
-                        column.scale(),
-                        column.nullable(),
-                        column.primaryKey(),
-                        column.autoIncrement(),
-                        enumValuesByColumn.getOrDefault(column.columnName(), column.enumValues())
-                ))
-                .toList();
+        return withEnumValues(columns, enumValuesByColumn);
+    }
+
+    @Override
+    protected boolean hasSwapDependencies(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        TableReference tableReference = resolveTableReference(targetConnection, tableName);
+        String sql = """
+                SELECT EXISTS (SELECT 1 FROM information_schema.TRIGGERS
+                               WHERE EVENT_OBJECT_SCHEMA = ? AND EVENT_OBJECT_TABLE = ?)
+                    OR EXISTS (SELECT 1 FROM information_schema.TABLE_PRIVILEGES
+                               WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?)
+                    OR EXISTS (SELECT 1 FROM information_schema.COLUMN_PRIVILEGES
+                               WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?)
+                """;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int index = 1; index <= 5; index += 2) {
+                statement.setString(index, tableReference.catalogName());
+                statement.setString(index + 1, tableReference.tableName());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return !resultSet.next() || resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    @Override
+    protected StagingSwap buildStagingSwap(
+            TargetConnection targetConnection,
+            String tableName,
+            String stagingTableName,
+            String retiredTableName
+    ) {
+        return new StagingSwap(
+                "CREATE TABLE " + quoteQualifiedIdentifier(targetConnection, stagingTableName)
+                        + " LIKE " + quoteQualifiedIdentifier(targetConnection, tableName),
+                List.of("RENAME TABLE "
+                        + quoteQualifiedIdentifier(targetConnection, tableName) + " TO " + quoteQualifiedIdentifier(targetConnection, retiredTableName)
+                        + ", "
+                        + quoteQualifiedIdentifier(targetConnection, stagingTableName) + " TO " + quoteQualifiedIdentifier(targetConnection, tableName)
+                )
+        );
+    }
+
+    @Override
+    protected BulkSessionProfile applyBulkSessionProfile(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        int foreignKeyChecks;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT @@SESSION.foreign_key_checks")) {
+            resultSet.next();
+            foreignKeyChecks = resultSet.getInt(1);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION foreign_key_checks = 0");
+        }
+        return new BulkSessionProfile(
+                "MYSQL_FOREIGN_KEY_CHECKS_DISABLED",
+                List.of("foreign_key_checks=0"),
+                DatabaseBulkSession.Step.NONE,
+                restoringConnection -> {
+                    try (Statement statement = restoringConnection.createStatement()) {
+                        statement.execute("SET SESSION foreign_key_checks = " + foreignKeyChecks);
+                    }
+                }
+        );
+    }
+
+    @Override
+    protected String bulkModelKeySql() {
+        return """
+                SELECT TABLE_NAME,
+                       CONSTRAINT_NAME,
+                       CASE WHEN CONSTRAINT_NAME = 'PRIMARY' THEN 'P' ELSE 'F' END AS CONSTRAINT_KIND,
+                       COLUMN_NAME,
+                       REFERENCED_TABLE_SCHEMA AS REF_SCHEMA,
+                       REFERENCED_TABLE_NAME AS REF_TABLE,
+                       REFERENCED_COLUMN_NAME AS REF_COLUMN
+                FROM information_schema.KEY_COLUMN_USAGE
+                WHERE TABLE_SCHEMA = ?
+                  AND (CONSTRAINT_NAME = 'PRIMARY' OR REFERENCED_TABLE_NAME IS NOT NULL)
+                ORDER BY TABLE_NAME, CONSTRAINT_NAME, ORDINAL_POSITION
+                """;
+    }
+
+    @Override
+    protected Map<String, List<DatabaseColumnResponse>> enrichModelColumns(
+            Connection connection,
+            String catalogName,
+            String schemaName,
+            Map<String, List<DatabaseColumnResponse>> columnsByTable
+    ) throws SQLException {
+        boolean hasEnum = columnsByTable.values().stream()
+                .flatMap(List::stream)
+                .anyMatch(column -> "ENUM".equalsIgnoreCase(column.dbType()));
+        if (!hasEnum) {
+            return columnsByTable;
+        }
+
+        String sql = """
+                SELECT TABLE_NAME, COLUMN_NAME, COLUMN_TYPE
+                FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = ?
+                  AND DATA_TYPE = 'enum'
+                """;
+        Map<String, Map<String, List<String>>> enumValuesByTable = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, catalogName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    enumValuesByTable
+                            .computeIfAbsent(resultSet.getString("TABLE_NAME").toLowerCase(Locale.ROOT), ignored -> new LinkedHashMap<>())
+                            .put(resultSet.getString("COLUMN_NAME"), parseEnumValues(resultSet.getString("COLUMN_TYPE")));
+                }
+            }
+        }
+
+        LinkedHashMap<String, List<DatabaseColumnResponse>> enriched = new LinkedHashMap<>();
+        columnsByTable.forEach((tableKey, columns) -> enriched.put(
+                tableKey,
+                withEnumValues(columns, enumValuesByTable.getOrDefault(tableKey, Map.of()))
+        ));
+        return enriched;
     }
 
     @Override
@@ -137,6 +313,28 @@ public class MysqlDatabaseDialect extends AbstractJdbcDatabaseDialect {
         return typeName + "(" + length + ")";
     }
 
+    private List<DatabaseColumnResponse> withEnumValues(
+            List<DatabaseColumnResponse> columns,
+            Map<String, List<String>> enumValuesByColumn
+    ) {
+        if (enumValuesByColumn.isEmpty()) {
+            return columns;
+        }
+        return columns.stream()
+                .map(column -> new DatabaseColumnResponse(
+                        column.columnName(),
+                        column.dbType(),
+                        column.length(),
+                        column.precision(),
+                        column.scale(),
+                        column.nullable(),
+                        column.primaryKey(),
+                        column.autoIncrement(),
+                        enumValuesByColumn.getOrDefault(column.columnName(), column.enumValues())
+                ))
+                .toList();
+    }
+
     private Map<String, List<String>> loadEnumValues(Connection connection, TableReference tableReference) throws SQLException {
         String sql = """
                 SELECT COLUMN_NAME, COLUMN_TYPE
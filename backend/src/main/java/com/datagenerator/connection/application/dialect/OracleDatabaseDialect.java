@@ -4,6 +4,10 @@ import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.domain.WriteTaskColumn;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -71,6 +75,93 @@ public class OracleDatabaseDialect extends AbstractJdbcDatabaseDialect {
         return null;
     }
 
+    @Override
+    protected BulkSessionProfile applyBulkSessionProfile(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        if (countDeferrableForeignKeys(connection, targetConnection, tableNames) == 0) {
+            return BulkSessionProfile.noop("ORACLE_NO_DEFERRABLE_CONSTRAINTS");
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET CONSTRAINTS ALL DEFERRED");
+        }
+        return new BulkSessionProfile(
+                "ORACLE_DEFERRED_CONSTRAINTS",
+                List.of("constraints=deferred"),
+                DatabaseBulkSession.Step.NONE,
+                DatabaseBulkSession.Step.NONE
+        );
+    }
+
+    private long countDeferrableForeignKeys(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        String sql = """
+                SELECT COUNT(*)
+                FROM ALL_CONSTRAINTS
+                WHERE OWNER = ?
+                  AND TABLE_NAME = ?
+                  AND CONSTRAINT_TYPE = 'R'
+                  AND DEFERRABLE = 'DEFERRABLE'
+                """;
+        long deferrable = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (String tableName : tableNames) {
+                TableReference tableReference = resolveTableReference(targetConnection, tableName);
+                statement.setString(1, tableReference.schemaName());
+                statement.setString(2, tableReference.tableName());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (resultSet.next()) {
+                        deferrable += resultSet.getLong(1);
+                    }
+                }
+            }
+        }
+        return deferrable;
+    }
+
+    @Override
+    protected String bulkModelKeySql() {
+        return """
+                SELECT c.TABLE_NAME,
+                       c.CONSTRAINT_NAME,
+                       CASE c.CONSTRAINT_TYPE WHEN 'P' THEN 'P' ELSE 'F' END AS CONSTRAINT_KIND,
+                       cc.COLUMN_NAME,
+                       rc.OWNER AS REF_SCHEMA,
+                       rc.TABLE_NAME AS REF_TABLE,
+                       rcc.COLUMN_NAME AS REF_COLUMN
+                FROM ALL_CONSTRAINTS c
+                JOIN ALL_CONS_COLUMNS cc ON cc.OWNER = c.OWNER AND cc.CONSTRAINT_NAME = c.CONSTRAINT_NAME
+                LEFT JOIN ALL_CONSTRAINTS rc ON rc.OWNER = c.R_OWNER AND rc.CONSTRAINT_NAME = c.R_CONSTRAINT_NAME
+                LEFT JOIN ALL_CONS_COLUMNS rcc ON rcc.OWNER = rc.OWNER
+                    AND rcc.CONSTRAINT_NAME = rc.CONSTRAINT_NAME
+                    AND rcc.POSITION = cc.POSITION
+                WHERE c.OWNER = ?
+                  AND c.CONSTRAINT_TYPE IN ('P', 'R')
+                ORDER BY c.TABLE_NAME, c.CONSTRAINT_NAME, cc.POSITION
+                """;
+    }
+
+    @Override
+    public Long estimateRowCount(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        TableReference tableReference = resolveTableReference(targetConnection, tableName);
+        return queryRowEstimate(
+                connection,
+                "SELECT NUM_ROWS FROM ALL_TABLES WHERE OWNER = ? AND TABLE_NAME = ?",
+                tableReference.schemaName(),
+                tableReference.tableName()
+        );
+    }
+
+    @Override
+    public String tableSampleClause(double percent, long seed) {
+        return "SAMPLE (" + formatSamplePercent(Math.min(percent, 99.999999D)) + ") SEED (" + (seed & 0xFFFFFFFFL) + ")";
+    }
+
     @Override
     protected String resolveTableSchema(Connection connection, TargetConnection targetConnection, TableReference tableReference) {
         return tableReference.schemaName();
@@ -4,6 +4,11 @@ import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.domain.WriteTaskColumn;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +81,126 @@ public class PostgresqlDatabaseDialect extends AbstractJdbcDatabaseDialect {
         return tableReference.schemaName();
     }
 
+    @Override
+    protected boolean transactionalTruncate() {
+        return true;
+    }
+
+    @Override
+    protected boolean hasSwapDependencies(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        TableReference tableReference = resolveTableReference(targetConnection, tableName);
+        String sql = """
+                SELECT c.relacl IS NOT NULL
+                    OR c.relrowsecurity
+                    OR EXISTS (SELECT 1 FROM pg_depend d JOIN pg_class s ON s.oid = d.objid AND s.relkind = 'S'
+                               WHERE d.classid = 'pg_class'::regclass AND d.refobjid = c.oid AND d.deptype = 'a')
+                    OR EXISTS (SELECT 1 FROM pg_depend d JOIN pg_rewrite r ON r.oid = d.objid
+                               WHERE d.classid = 'pg_rewrite'::regclass AND d.refobjid = c.oid AND r.ev_class <> c.oid)
+                    OR EXISTS (SELECT 1 FROM pg_trigger t WHERE t.tgrelid = c.oid AND NOT t.tgisinternal)
+                    OR EXISTS (SELECT 1 FROM pg_policy p WHERE p.polrelid = c.oid)
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relname = ?
+                """;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, tableReference.schemaName());
+            statement.setString(2, tableReference.tableName());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return !resultSet.next() || resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    @Override
+    protected StagingSwap buildStagingSwap(
+            TargetConnection targetConnection,
+            String tableName,
+            String stagingTableName,
+            String retiredTableName
+    ) {
+        return new StagingSwap(
+                "CREATE TABLE " + quoteQualifiedIdentifier(targetConnection, stagingTableName)
+                        + " (LIKE " + quoteQualifiedIdentifier(targetConnection, tableName) + " INCLUDING ALL)",
+                List.of(
+                        "ALTER TABLE " + quoteQualifiedIdentifier(targetConnection, tableName)
+                                + " RENAME TO " + quoteIdentifier(unqualifiedTableName(retiredTableName)),
+                        "ALTER TABLE " + quoteQualifiedIdentifier(targetConnection, stagingTableName)
+                                + " RENAME TO " + quoteIdentifier(unqualifiedTableName(tableName))
+                )
+        );
+    }
+
+    @Override
+    protected BulkSessionProfile applyBulkSessionProfile(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL session_replication_role = replica");
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException exception) {
+            connection.rollback(savepoint);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET CONSTRAINTS ALL DEFERRED");
+            }
+            return new BulkSessionProfile(
+                    "POSTGRESQL_DEFERRED_CONSTRAINTS",
+                    List.of("constraints=deferred"),
+                    DatabaseBulkSession.Step.NONE,
+                    DatabaseBulkSession.Step.NONE
+            );
+        }
+        return new BulkSessionProfile(
+                "POSTGRESQL_REPLICA_ROLE",
+                List.of("session_replication_role=replica"),
+                DatabaseBulkSession.Step.NONE,
+                DatabaseBulkSession.Step.NONE
+        );
+    }
+
+    @Override
+    protected String bulkModelKeySql() {
+        return """
+                SELECT c.relname AS TABLE_NAME,
+                       con.conname AS CONSTRAINT_NAME,
+                       CASE con.contype WHEN 'p' THEN 'P' ELSE 'F' END AS CONSTRAINT_KIND,
+                       a.attname AS COLUMN_NAME,
+                       rn.nspname AS REF_SCHEMA,
+                       rc.relname AS REF_TABLE,
+                       ra.attname AS REF_COLUMN
+                FROM pg_constraint con
+                JOIN pg_class c ON c.oid = con.conrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                CROSS JOIN LATERAL unnest(con.conkey, con.confkey) WITH ORDINALITY AS k(attnum, ref_attnum, position)
+                JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum
+                LEFT JOIN pg_class rc ON rc.oid = con.confrelid
+                LEFT JOIN pg_namespace rn ON rn.oid = rc.relnamespace
+                LEFT JOIN pg_attribute ra ON ra.attrelid = con.confrelid AND ra.attnum = k.ref_attnum
+                WHERE n.nspname = ?
+                  AND con.contype IN ('p', 'f')
+                ORDER BY c.relname, con.conname, k.position
+                """;
+    }
+
+    @Override
+    public Long estimateRowCount(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        TableReference tableReference = resolveTableReference(targetConnection, tableName);
+        return queryRowEstimate(
+                connection,
+                "SELECT c.reltuples::bigint FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE n.nspname = ? AND c.relname = ?",
+                tableReference.schemaName(),
+                tableReference.tableName()
+        );
+    }
+
+    @Override
+    public String tableSampleClause(double percent, long seed) {
+        return "TABLESAMPLE SYSTEM (" + formatSamplePercent(percent) + ") REPEATABLE (" + (int) seed + ")";
+    }
+
     @Override
     public String buildInsertSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns) {
         String quotedColumns = columns.stream()
@@ -89,6 +214,15 @@ public class PostgresqlDatabaseDialect extends AbstractJdbcDatabaseDialect {
                 + " (" + quotedColumns + ") VALUES (" + placeholders + ")";
     }
 
+    @Override
+    public String buildBulkLoadSql(TargetConnection targetConnection, String tableName, List<WriteTaskColumn> columns) {
+        String quotedColumns = columns.stream()
+                .map(WriteTaskColumn::getColumnName)
+                .map(this::quoteIdentifier)
+                .collect(Collectors.joining(", "));
+        return "COPY " + quoteQualifiedIdentifier(targetConnection, tableName) + " (" + quotedColumns + ") FROM STDIN";
+    }
+
     @Override
     protected String renderColumnType(WriteTaskColumn column) {
         String typeName = normalizeDbType(column.getDbType());
@@ -4,6 +4,8 @@ import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.domain.WriteTaskColumn;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +75,94 @@ public class SqlServerDatabaseDialect extends AbstractJdbcDatabaseDialect {
         return tableReference.catalogName();
     }
 
+    @Override
+    protected boolean transactionalTruncate() {
+        return true;
+    }
+
+    @Override
+    protected BulkSessionProfile applyBulkSessionProfile(
+            Connection connection,
+            TargetConnection targetConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        List<String> quotedTables = tableNames.stream()
+                .map(tableName -> quoteQualifiedIdentifier(targetConnection, tableName))
+                .toList();
+        try (Statement statement = connection.createStatement()) {
+            for (String quotedTable : quotedTables) {
+                statement.execute("ALTER TABLE " + quotedTable + " NOCHECK CONSTRAINT ALL");
+            }
+        }
+        return new BulkSessionProfile(
+                "SQLSERVER_NOCHECK_CONSTRAINTS",
+                List.of("NOCHECK CONSTRAINT ALL"),
+                finishingConnection -> {
+                    try (Statement statement = finishingConnection.createStatement()) {
+                        for (String quotedTable : quotedTables) {
+                            statement.execute("ALTER TABLE " + quotedTable + " WITH CHECK CHECK CONSTRAINT ALL");
+                        }
+                    }
+                },
+                DatabaseBulkSession.Step.NONE
+        );
+    }
+
+    @Override
+    protected String bulkModelKeySql() {
+        return """
+                SELECT TABLE_NAME, CONSTRAINT_NAME, CONSTRAINT_KIND, COLUMN_NAME, REF_SCHEMA, REF_TABLE, REF_COLUMN
+                FROM (
+                    SELECT s.name AS SCHEMA_NAME,
+                           t.name AS TABLE_NAME,
+                           kc.name AS CONSTRAINT_NAME,
+                           'P' AS CONSTRAINT_KIND,
+                           c.name AS COLUMN_NAME,
+                           CAST(NULL AS sysname) AS REF_SCHEMA,
+                           CAST(NULL AS sysname) AS REF_TABLE,
+                           CAST(NULL AS sysname) AS REF_COLUMN,
+                           ic.key_ordinal AS KEY_POSITION
+                    FROM sys.key_constraints kc
+                    JOIN sys.tables t ON t.object_id = kc.parent_object_id
+                    JOIN sys.schemas s ON s.schema_id = t.schema_id
+                    JOIN sys.index_columns ic ON ic.object_id = kc.parent_object_id AND ic.index_id = kc.unique_index_id
+                    JOIN sys.columns c ON c.object_id = ic.object_id AND c.column_id = ic.column_id
+                    WHERE kc.type = 'PK'
+                    UNION ALL
+                    SELECT s.name, t.name, fk.name, 'F', c.name, rs.name, rt.name, rc.name, fkc.constraint_column_id
+                    FROM sys.foreign_keys fk
+                    JOIN sys.tables t ON t.object_id = fk.parent_object_id
+                    JOIN sys.schemas s ON s.schema_id = t.schema_id
+                    JOIN sys.foreign_key_columns fkc ON fkc.constraint_object_id = fk.object_id
+                    JOIN sys.columns c ON c.object_id = fkc.parent_object_id AND c.column_id = fkc.parent_column_id
+                    JOIN sys.tables rt ON rt.object_id = fkc.referenced_object_id
+                    JOIN sys.schemas rs ON rs.schema_id = rt.schema_id
+                    JOIN sys.columns rc ON rc.object_id = fkc.referenced_object_id AND rc.column_id = fkc.referenced_column_id
+                ) table_keys
+                WHERE SCHEMA_NAME = ?
+                ORDER BY TABLE_NAME, CONSTRAINT_NAME, KEY_POSITION
+                """;
+    }
+
+    @Override
+    public Long estimateRowCount(Connection connection, TargetConnection targetConnection, String tableName) throws SQLException {
+        TableReference tableReference = resolveTableReference(targetConnection, tableName);
+        return queryRowEstimate(
+                connection,
+                "SELECT SUM(p.rows) FROM sys.partitions p "
+                        + "JOIN sys.tables t ON t.object_id = p.object_id "
+                        + "JOIN sys.schemas s ON s.schema_id = t.schema_id "
+                        + "WHERE s.name = ? AND t.name = ? AND p.index_id IN (0, 1)",
+                tableReference.schemaName(),
+                tableReference.tableName()
+        );
+    }
+
+    @Override
+    public String tableSampleClause(double percent, long seed) {
+        return "TABLESAMPLE (" + formatSamplePercent(percent) + " PERCENT) REPEATABLE (" + (seed & Integer.MAX_VALUE) + ")";
+    }
+
     @Override
     protected String resolveTableSchema(Connection connection, TargetConnection targetConnection, TableReference tableReference) {
         return tableReference.schemaName();
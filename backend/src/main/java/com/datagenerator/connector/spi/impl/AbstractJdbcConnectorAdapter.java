@@ -36,6 +36,10 @@ abstract class AbstractJdbcConnectorAdapter implements ConnectorAdapter {
 
     protected abstract String identifierQuote();
 
+    protected boolean transactionalTruncate() {
+        return false;
+    }
+
     @Override
     public ConnectorTestResult test(ConnectorInstance connector) {
         Map<String, Object> config = ConnectorConfigSupport.readConfig(connector);
@@ -104,7 +108,7 @@ abstract class AbstractJdbcConnectorAdapter implements ConnectorAdapter {
             connection.setAutoCommit(false);
 
             if (request.job().getWriteStrategy() == JobWriteStrategy.OVERWRITE) {
-                clearTargetTable(connection, tableName);
+                details.put("overwriteMode", clearTargetTable(connection, tableName, runtimeConfig));
                 details.put("targetCleared", true);
             }
 
@@ -171,11 +175,14 @@ abstract class AbstractJdbcConnectorAdapter implements ConnectorAdapter {
         return new ArrayList<>(discoveredColumns);
     }
 
-    private void clearTargetTable(Connection connection, String tableName) throws SQLException {
-        String sql = "DELETE FROM " + quoteQualifiedIdentifier(tableName);
+    private String clearTargetTable(Connection connection, String tableName, Map<String, Object> runtimeConfig) throws SQLException {
+        String overwriteMode = ConnectorConfigSupport.optionalString(runtimeConfig, "target.overwriteMode", "overwriteMode");
+        boolean truncate = "TRUNCATE".equalsIgnoreCase(overwriteMode) && transactionalTruncate();
+        String sql = (truncate ? "TRUNCATE TABLE " : "DELETE FROM ") + quoteQualifiedIdentifier(tableName);
         try (Statement statement = connection.createStatement()) {
             statement.executeUpdate(sql);
         }
+        return truncate ? "TRUNCATE" : "DELETE";
     }
 
     private void insertRows(
@@ -1,5 +1,6 @@
 package com.datagenerator.connector.spi.impl;
 
+import com.datagenerator.common.support.KafkaSendWindow;
 import com.datagenerator.connector.domain.ConnectorInstance;
 import com.datagenerator.connector.domain.ConnectorType;
 import com.datagenerator.connector.spi.ConnectorAdapter;
@@ -80,13 +81,17 @@ public class KafkaConnectorAdapter implements ConnectorAdapter {
         String keyField = ConnectorConfigSupport.optionalString(runtimeConfig, "target.keyField", "keyField");
         Integer partition = ConnectorConfigSupport.optionalInteger(runtimeConfig, "target.partition", "partition");
         Map<String, Object> headers = readHeaders(runtimeConfig);
+        KafkaSendWindow sendWindow = new KafkaSendWindow(
+                ConnectorConfigSupport.optionalString(runtimeConfig, "target.deliveryMode", "deliveryMode"),
+                ConnectorConfigSupport.optionalInteger(runtimeConfig, "target.maxInFlight", "maxInFlight")
+        );
 
-        long successCount = 0;
-        List<String> errors = new ArrayList<>();
         Map<String, Object> details = new LinkedHashMap<>();
         details.put("bootstrapServers", bootstrapServers);
         details.put("topic", topic);
         details.put("writeStrategy", request.job().getWriteStrategy());
+        details.put("deliveryMode", sendWindow.deliveryMode());
+        details.put("maxInFlight", sendWindow.maxInFlight());
         if (keyField != null) {
             details.put("keyField", keyField);
         }
@@ -98,25 +103,30 @@ public class KafkaConnectorAdapter implements ConnectorAdapter {
         }
 
         Properties producerProperties = buildProducerProperties(connectorConfig, request.execution().getId());
+        String producerError = null;
         try (KafkaProducer<String, String> producer = new KafkaProducer<>(producerProperties)) {
             for (Map<String, Object> row : request.rows()) {
                 try {
-                    ProducerRecord<String, String> record = buildRecord(topic, partition, keyField, headers, row);
-                    producer.send(record).get();
-                    successCount++;
+                    sendWindow.send(producer, buildRecord(topic, partition, keyField, headers, row));
+                } catch (InterruptedException exception) {
+                    throw exception;
                 } catch (Exception exception) {
-                    if (errors.size() < 5) {
-                        errors.add(exception.getMessage());
-                    }
+                    sendWindow.recordFailure(exception);
                 }
             }
-            producer.flush();
+            sendWindow.await(producer);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            producerError = exception.getMessage();
         } catch (Exception exception) {
-            if (errors.isEmpty()) {
-                errors.add(exception.getMessage());
-            }
+            producerError = exception.getMessage();
         }
 
+        long successCount = sendWindow.successCount();
+        List<String> errors = new ArrayList<>(sendWindow.errors());
+        if (errors.isEmpty() && producerError != null) {
+            errors.add(producerError);
+        }
         long errorCount = request.rows().size() - successCount;
         details.put("successCount", successCount);
         details.put("errorCount", errorCount);
@@ -25,4 +25,9 @@ public class PostgresqlConnectorAdapter extends AbstractJdbcConnectorAdapter {
     protected String identifierQuote() {
         return "\"";
     }
+
+    @Override
+    protected boolean transactionalTruncate() {
+        return true;
+    }
 }
@@ -1,5 +1,6 @@
 package com.datagenerator.dataset.preview;
 
+import com.datagenerator.common.support.RandomStreamSupport;
 import com.datagenerator.dataset.api.DatasetPreviewRequest;
 import com.datagenerator.dataset.api.DatasetPreviewResponse;
 import com.datagenerator.dataset.domain.DatasetDefinition;
@@ -16,7 +17,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.springframework.stereotype.Service;
@@ -65,14 +66,26 @@ public class DatasetPreviewService {
         }
 
         PreviewOptions options = new PreviewOptions(count, seed);
-        PreviewState state = new PreviewState(seed);
-        List<Map<String, Object>> rows = new ArrayList<>();
-        for (int index = 0; index < options.count(); index++) {
+        List<Map<String, Object>> rows = RandomStreamSupport.generateBlocks(
+                0,
+                RandomStreamSupport.blockCount(options.count()),
+                blockIndex -> generateBlock(schema, options, blockIndex)
+        );
+
+        return new GeneratedDatasetBatch(dataset, options.count(), options.seed(), rows);
+    }
+
+    private List<Map<String, Object>> generateBlock(Map<String, Object> schema, PreviewOptions options, int blockIndex) {
+        PreviewState state = new PreviewState(RandomStreamSupport.forBlock(options.seed(), blockIndex));
+        int from = blockIndex * RandomStreamSupport.BLOCK_SIZE;
+        int to = Math.min(from + RandomStreamSupport.BLOCK_SIZE, options.count());
+        List<Map<String, Object>> rows = new ArrayList<>(to - from);
+        for (int index = from; index < to; index++) {
+            state.startRow(index);
             Map<String, Object> rootContext = new LinkedHashMap<>();
             rows.add(generateObjectNode("", schema, rootContext, rootContext, state));
         }
-
-        return new GeneratedDatasetBatch(dataset, options.count(), options.seed(), rows);
+        return rows;
     }
 
     private Map<String, Object> generateObjectNode(
@@ -164,7 +177,7 @@ public class DatasetPreviewService {
         return items;
     }
 
-    private long generateRandomInt(Map<String, Object> node, Random random) {
+    private long generateRandomInt(Map<String, Object> node, RandomGenerator random) {
         long min = asLong(node.getOrDefault("min", 0), 0);
         long max = asLong(node.getOrDefault("max", 1000), 1000);
         if (max < min) {
@@ -173,7 +186,7 @@ public class DatasetPreviewService {
         return min + (long) Math.floor(random.nextDouble() * (max - min + 1));
     }
 
-    private BigDecimal generateRandomDecimal(Map<String, Object> node, Random random) {
+    private BigDecimal generateRandomDecimal(Map<String, Object> node, RandomGenerator random) {
         double min = asDouble(node.getOrDefault("min", 0), 0);
         double max = asDouble(node.getOrDefault("max", 1000), 1000);
         int scale = asInteger(node.getOrDefault("scale", 2), 2);
@@ -184,7 +197,7 @@ public class DatasetPreviewService {
         return BigDecimal.valueOf(generated).setScale(scale, RoundingMode.HALF_UP);
     }
 
-    private String generateString(Map<String, Object> node, Random random) {
+    private String generateString(Map<String, Object> node, RandomGenerator random) {
         String prefix = String.valueOf(node.getOrDefault("prefix", ""));
         String suffix = String.valueOf(node.getOrDefault("suffix", ""));
         int length = asInteger(node.getOrDefault("length", 12), 12);
@@ -203,7 +216,7 @@ public class DatasetPreviewService {
         return builder.toString();
     }
 
-    private Object chooseEnum(Map<String, Object> node, Random random) {
+    private Object chooseEnum(Map<String, Object> node, RandomGenerator random) {
         List<?> values = asList(node.get("values"));
         if (values.isEmpty()) {
             throw new IllegalArgumentException("enum 规则要求 values 数组不能为空");
@@ -211,7 +224,7 @@ public class DatasetPreviewService {
         return values.get(random.nextInt(values.size()));
     }
 
-    private Object chooseWeightedEnum(Map<String, Object> node, Random random) {
+    private Object chooseWeightedEnum(Map<String, Object> node, RandomGenerator random) {
         List<?> options = asList(node.get("options"));
         if (options.isEmpty()) {
             throw new IllegalArgumentException("weighted_enum 规则要求 options 数组不能为空");
@@ -241,12 +254,12 @@ public class DatasetPreviewService {
         return parsedOptions.getLast().get("value");
     }
 
-    private boolean generateBoolean(Map<String, Object> node, Random random) {
+    private boolean generateBoolean(Map<String, Object> node, RandomGenerator random) {
         double trueRate = asDouble(node.getOrDefault("trueRate", 0.5), 0.5);
         return random.nextDouble() <= trueRate;
     }
 
-    private String generateDatetime(Map<String, Object> node, Random random) {
+    private String generateDatetime(Map<String, Object> node, RandomGenerator random) {
         Instant from = Instant.parse(String.valueOf(node.getOrDefault("from", Instant.now().minus(30, ChronoUnit.DAYS))));
         Instant to = Instant.parse(String.valueOf(node.getOrDefault("to", Instant.now())));
         if (to.isBefore(from)) {
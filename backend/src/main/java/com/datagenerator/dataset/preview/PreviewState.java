@@ -1,26 +1,25 @@
 package com.datagenerator.dataset.preview;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class PreviewState {
 
-    private final Random random;
-    private final Map<String, Long> sequences = new HashMap<>();
+    private final RandomGenerator random;
+    private int rowIndex;
 
-    public PreviewState(long seed) {
-        this.random = new Random(seed);
+    public PreviewState(RandomGenerator random) {
+        this.random = random;
     }
 
-    public Random random() {
+    public RandomGenerator random() {
         return random;
     }
 
+    public void startRow(int rowIndex) {
+        this.rowIndex = rowIndex;
+    }
+
     public long nextSequence(String path, long start, long step) {
-        long nextValue = sequences.getOrDefault(path, start);
-        sequences.put(path, nextValue + step);
-        return nextValue;
+        return start + step * rowIndex;
     }
 }
-
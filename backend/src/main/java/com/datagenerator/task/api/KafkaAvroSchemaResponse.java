@@ -0,0 +1,8 @@
+package com.datagenerator.task.api;
+
+public record KafkaAvroSchemaResponse(
+        String payloadFormat,
+        String avroSchemaJson,
+        String fingerprint
+) {
+}
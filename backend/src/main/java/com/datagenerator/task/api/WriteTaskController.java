@@ -114,6 +114,11 @@ public class WriteTaskController {
         return ApiResponse.success(toResponse(schedulingService.stopContinuous(id)), "持续写入已停止");
     }
 
+    @GetMapping("/{id}/stream")
+    public ApiResponse<WriteTaskStreamStatusResponse> streamStatus(@PathVariable Long id) {
+        return ApiResponse.success(schedulingService.streamStatus(id));
+    }
+
     @GetMapping("/executions")
     public ApiResponse<List<WriteTaskExecutionResponse>> executions() {
         return ApiResponse.success(service.findExecutions().stream()
@@ -126,6 +131,11 @@ public class WriteTaskController {
         return ApiResponse.success(WriteTaskExecutionResponse.from(service.findExecutionById(id)));
     }
 
+    @PostMapping("/executions/{id}/resume")
+    public ApiResponse<WriteTaskExecutionResponse> resumeExecution(@PathVariable Long id) {
+        return ApiResponse.success(service.resumeExecution(id), "写入任务已从检查点恢复执行");
+    }
+
     @GetMapping("/executions/{id}/logs")
     public ApiResponse<List<WriteTaskExecutionLogResponse>> executionLogs(@PathVariable Long id) {
         return ApiResponse.success(service.findExecutionLogs(id).stream()
@@ -16,7 +16,10 @@ public record WriteTaskExecutionResponse(
         Long successCount,
         Long errorCount,
         String errorSummary,
-        String deliveryDetailsJson
+        String deliveryDetailsJson,
+        Long checkpointChunkIndex,
+        Long checkpointRowCount,
+        Long resumedFromExecutionId
 ) {
 
     public static WriteTaskExecutionResponse from(WriteTaskExecution execution) {
@@ -31,7 +34,10 @@ public record WriteTaskExecutionResponse(
                 execution.getSuccessCount(),
                 execution.getErrorCount(),
                 execution.getErrorSummary(),
-                execution.getDeliveryDetailsJson()
+                execution.getDeliveryDetailsJson(),
+                execution.getCheckpointChunkIndex(),
+                execution.getCheckpointRowCount(),
+                execution.getResumedFromExecutionId()
         );
     }
 }
@@ -1,8 +1,11 @@
 package com.datagenerator.task.api;
 
 import com.datagenerator.common.web.ApiResponse;
+import com.datagenerator.task.application.KafkaAvroSchemaService;
 import com.datagenerator.task.application.KafkaSchemaImportService;
 import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,9 +16,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class WriteTaskKafkaSchemaController {
 
     private final KafkaSchemaImportService importService;
+    private final KafkaAvroSchemaService avroSchemaService;
 
-    public WriteTaskKafkaSchemaController(KafkaSchemaImportService importService) {
+    public WriteTaskKafkaSchemaController(KafkaSchemaImportService importService, KafkaAvroSchemaService avroSchemaService) {
         this.importService = importService;
+        this.avroSchemaService = avroSchemaService;
     }
 
     @PostMapping("/example")
@@ -27,4 +32,14 @@ public class WriteTaskKafkaSchemaController {
     public ApiResponse<KafkaSchemaImportResponse> importJsonSchema(@Valid @RequestBody KafkaSchemaImportRequest request) {
         return ApiResponse.success(importService.importJsonSchema(request.content()), "已根据 JSON Schema 生成消息结构");
     }
+
+    @PostMapping("/avro")
+    public ApiResponse<KafkaAvroSchemaResponse> deriveAvroSchema(@Valid @RequestBody KafkaSchemaImportRequest request) {
+        return ApiResponse.success(avroSchemaService.describe(request.content()), "已根据消息结构生成 Avro Schema");
+    }
+
+    @GetMapping("/avro/tasks/{taskId}")
+    public ApiResponse<KafkaAvroSchemaResponse> taskAvroSchema(@PathVariable Long taskId) {
+        return ApiResponse.success(avroSchemaService.describeTask(taskId));
+    }
 }
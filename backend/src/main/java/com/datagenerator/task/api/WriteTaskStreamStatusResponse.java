@@ -0,0 +1,22 @@
+package com.datagenerator.task.api;
+
+import java.time.Instant;
+
+public record WriteTaskStreamStatusResponse(
+        Long taskId,
+        Long executionId,
+        boolean streaming,
+        String profile,
+        Double targetRowsPerSecond,
+        Double actualRowsPerSecond,
+        Double averageRowsPerSecond,
+        long generatedRowCount,
+        double elapsedSeconds,
+        Instant startedAt,
+        String error
+) {
+
+    public static WriteTaskStreamStatusResponse idle(Long taskId) {
+        return new WriteTaskStreamStatusResponse(taskId, null, false, null, null, null, null, 0, 0, null, null);
+    }
+}
@@ -18,7 +18,7 @@ public record WriteTaskUpsertRequest(
         @NotBlank String tableName,
         @NotNull TableMode tableMode,
         @NotNull WriteMode writeMode,
-        @NotNull @Min(1) @Max(100000) Integer rowCount,
+        @NotNull @Min(1) @Max(100000000) Integer rowCount,
         @NotNull @Min(1) @Max(5000) Integer batchSize,
         Long seed,
         @NotNull WriteTaskStatus status,
@@ -0,0 +1,149 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.task.api.KafkaAvroSchemaResponse;
+import com.datagenerator.task.domain.KafkaPayloadNodeType;
+import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.repository.WriteTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+@Service
+public class KafkaAvroSchemaService {
+
+    private static final String NAMESPACE = "com.datagenerator.kafka";
+    private static final String ROOT_RECORD_NAME = "Payload";
+
+    private final KafkaPayloadSchemaService payloadSchemaService;
+    private final WriteTaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    public KafkaAvroSchemaService(
+            KafkaPayloadSchemaService payloadSchemaService,
+            WriteTaskRepository taskRepository,
+            ObjectMapper objectMapper
+    ) {
+        this.payloadSchemaService = payloadSchemaService;
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public KafkaAvroSchemaResponse describe(String payloadSchemaJson) {
+        return describe(payloadSchemaService.parseAndValidate(payloadSchemaJson));
+    }
+
+    public KafkaAvroSchemaResponse describeTask(Long taskId) {
+        WriteTask task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("未找到写入任务: " + taskId));
+        if (task.getPayloadSchemaJson() == null || task.getPayloadSchemaJson().isBlank()) {
+            throw new IllegalArgumentException("写入任务未配置 payloadSchemaJson，无法生成 Avro Schema: " + taskId);
+        }
+        return describe(task.getPayloadSchemaJson());
+    }
+
+    public KafkaAvroSchemaResponse describe(KafkaPayloadSchemaNode payloadSchema) {
+        if (payloadSchema.type() != KafkaPayloadNodeType.OBJECT) {
+            throw new IllegalArgumentException("Kafka AVRO 负载格式要求消息 Schema 根节点为 OBJECT");
+        }
+        Set<String> recordNames = new HashSet<>();
+        Map<String, Object> schema = recordSchema(payloadSchema, ROOT_RECORD_NAME, recordNames);
+        schema.put("namespace", NAMESPACE);
+        try {
+            String schemaJson = objectMapper.writeValueAsString(schema);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(schemaJson.getBytes(StandardCharsets.UTF_8));
+            return new KafkaAvroSchemaResponse("AVRO", schemaJson, HexFormat.of().formatHex(digest, 0, 8));
+        } catch (Exception exception) {
+            throw new IllegalArgumentException("Avro Schema 序列化失败: " + exception.getMessage(), exception);
+        }
+    }
+
+    private Map<String, Object> recordSchema(KafkaPayloadSchemaNode node, String recordName, Set<String> recordNames) {
+        String uniqueName = recordName;
+        for (int suffix = 2; !recordNames.add(uniqueName); suffix++) {
+            uniqueName = recordName + suffix;
+        }
+        List<Map<String, Object>> fields = new ArrayList<>();
+        for (KafkaPayloadSchemaNode child : node.childrenOrEmpty()) {
+            LinkedHashMap<String, Object> field = new LinkedHashMap<>();
+            String fieldName = avroName(child.name());
+            field.put("name", fieldName);
+            field.put("type", nullable(child, typeSchema(child, uniqueName + "_" + fieldName, recordNames)));
+            if (child.nullableOrDefault()) {
+                field.put("default", null);
+            }
+            if (!fieldName.equals(child.name())) {
+                field.put("aliases", List.of(child.name()));
+            }
+            fields.add(field);
+        }
+        LinkedHashMap<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "record");
+        schema.put("name", uniqueName);
+        schema.put("fields", fields);
+        return schema;
+    }
+
+    private Object typeSchema(KafkaPayloadSchemaNode node, String recordName, Set<String> recordNames) {
+        return switch (node.type()) {
+            case OBJECT -> recordSchema(node, recordName, recordNames);
+            case ARRAY -> {
+                LinkedHashMap<String, Object> schema = new LinkedHashMap<>();
+                schema.put("type", "array");
+                schema.put("items", nullable(
+                        node.itemSchema(),
+                        typeSchema(node.itemSchema(), recordName + "_item", recordNames)
+                ));
+                yield schema;
+            }
+            case SCALAR -> switch (node.valueType()) {
+                case STRING, DATETIME -> "string";
+                case UUID -> {
+                    LinkedHashMap<String, Object> schema = new LinkedHashMap<>();
+                    schema.put("type", "string");
+                    schema.put("logicalType", "uuid");
+                    yield schema;
+                }
+                case INT -> "int";
+                case LONG -> "long";
+                case BOOLEAN -> "boolean";
+                case DECIMAL -> {
+                    LinkedHashMap<String, Object> schema = new LinkedHashMap<>();
+                    schema.put("type", "bytes");
+                    schema.put("logicalType", "decimal");
+                    schema.put("precision", WriteTaskKafkaAvroPayloadSerializer.DECIMAL_PRECISION);
+                    schema.put("scale", WriteTaskKafkaAvroPayloadSerializer.decimalScale(node));
+                    yield schema;
+                }
+            };
+        };
+    }
+
+    private Object nullable(KafkaPayloadSchemaNode node, Object type) {
+        return node.nullableOrDefault() ? List.of("null", type) : type;
+    }
+
+    private String avroName(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int index = 0; index < name.length(); index++) {
+            char current = name.charAt(index);
+            boolean valid = current == '_'
+                    || (current >= 'a' && current <= 'z')
+                    || (current >= 'A' && current <= 'Z')
+                    || (current >= '0' && current <= '9');
+            builder.append(valid ? current : '_');
+        }
+        if (builder.isEmpty() || Character.isDigit(builder.charAt(0))) {
+            builder.insert(0, '_');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.connection.domain.TargetConnection;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import java.sql.Connection;
+import java.util.List;
+
+public interface WriteTaskBulkLoader {
+
+    String strategy();
+
+    boolean supports(DatabaseType databaseType);
+
+    long load(
+            Connection connection,
+            TargetConnection targetConnection,
+            WriteTask task,
+            String tableName,
+            List<WriteTaskColumn> columns,
+            WriteTaskRowStream rows
+    ) throws Exception;
+}
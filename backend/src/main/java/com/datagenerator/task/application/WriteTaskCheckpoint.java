@@ -0,0 +1,50 @@
+package com.datagenerator.task.application;
+
+public final class WriteTaskCheckpoint {
+
+    private final long startChunkIndex;
+    private final long startRowCount;
+    private final Listener listener;
+    private long chunkIndex;
+    private long rowCount;
+
+    WriteTaskCheckpoint(long startChunkIndex, long startRowCount, Listener listener) {
+        this.startChunkIndex = startChunkIndex;
+        this.startRowCount = startRowCount;
+        this.listener = listener;
+        this.chunkIndex = startChunkIndex;
+        this.rowCount = startRowCount;
+    }
+
+    boolean resuming() {
+        return startRowCount > 0 || startChunkIndex > 0;
+    }
+
+    long startRowCount() {
+        return startRowCount;
+    }
+
+    long chunkIndex() {
+        return chunkIndex;
+    }
+
+    long rowCount() {
+        return rowCount;
+    }
+
+    void mark() {
+        listener.onCheckpoint(chunkIndex, rowCount);
+    }
+
+    void advance(long committedChunks, long committedRows) {
+        chunkIndex += committedChunks;
+        rowCount += committedRows;
+        mark();
+    }
+
+    @FunctionalInterface
+    interface Listener {
+
+        void onCheckpoint(long chunkIndex, long rowCount);
+    }
+}
@@ -0,0 +1,177 @@
+package com.datagenerator.task.application;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+@FunctionalInterface
+public interface WriteTaskCompiledGenerator {
+
+    Object next(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState);
+
+    default WriteTaskRowBatch.ColumnKind columnKind() {
+        return WriteTaskRowBatch.ColumnKind.OBJECT;
+    }
+
+    default int columnScale() {
+        return 0;
+    }
+
+    default void fill(
+            WriteTaskRowBatch batch,
+            int column,
+            int row,
+            RandomGenerator random,
+            int rowIndex,
+            Map<String, Long> sequenceState
+    ) {
+        batch.setObject(column, row, next(random, rowIndex, sequenceState));
+    }
+
+    @FunctionalInterface
+    interface LongValues extends WriteTaskCompiledGenerator {
+
+        long nextLong(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState);
+
+        @Override
+        default Object next(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+            return nextLong(random, rowIndex, sequenceState);
+        }
+
+        @Override
+        default WriteTaskRowBatch.ColumnKind columnKind() {
+            return WriteTaskRowBatch.ColumnKind.LONG;
+        }
+
+        @Override
+        default void fill(
+                WriteTaskRowBatch batch,
+                int column,
+                int row,
+                RandomGenerator random,
+                int rowIndex,
+                Map<String, Long> sequenceState
+        ) {
+            batch.setLong(column, row, nextLong(random, rowIndex, sequenceState));
+        }
+    }
+
+    @FunctionalInterface
+    interface BooleanValues extends WriteTaskCompiledGenerator {
+
+        boolean nextBoolean(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState);
+
+        @Override
+        default Object next(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+            return nextBoolean(random, rowIndex, sequenceState);
+        }
+
+        @Override
+        default WriteTaskRowBatch.ColumnKind columnKind() {
+            return WriteTaskRowBatch.ColumnKind.BOOLEAN;
+        }
+
+        @Override
+        default void fill(
+                WriteTaskRowBatch batch,
+                int column,
+                int row,
+                RandomGenerator random,
+                int rowIndex,
+                Map<String, Long> sequenceState
+        ) {
+            batch.setBoolean(column, row, nextBoolean(random, rowIndex, sequenceState));
+        }
+    }
+
+    @FunctionalInterface
+    interface StringValues extends WriteTaskCompiledGenerator {
+
+        String nextString(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState);
+
+        @Override
+        default Object next(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+            return nextString(random, rowIndex, sequenceState);
+        }
+
+        @Override
+        default WriteTaskRowBatch.ColumnKind columnKind() {
+            return WriteTaskRowBatch.ColumnKind.STRING;
+        }
+
+        @Override
+        default void fill(
+                WriteTaskRowBatch batch,
+                int column,
+                int row,
+                RandomGenerator random,
+                int rowIndex,
+                Map<String, Long> sequenceState
+        ) {
+            batch.setString(column, row, nextString(random, rowIndex, sequenceState));
+        }
+    }
+
+    record DecimalValues(int scale, LongValues unscaledValues) implements WriteTaskCompiledGenerator {
+
+        @Override
+        public Object next(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+            return BigDecimal.valueOf(unscaledValues.nextLong(random, rowIndex, sequenceState), scale);
+        }
+
+        @Override
+        public WriteTaskRowBatch.ColumnKind columnKind() {
+            return WriteTaskRowBatch.ColumnKind.DECIMAL;
+        }
+
+        @Override
+        public int columnScale() {
+            return scale;
+        }
+
+        @Override
+        public void fill(
+                WriteTaskRowBatch batch,
+                int column,
+                int row,
+                RandomGenerator random,
+                int rowIndex,
+                Map<String, Long> sequenceState
+        ) {
+            batch.setLong(column, row, unscaledValues.nextLong(random, rowIndex, sequenceState));
+        }
+    }
+
+    record TemporalValues(boolean dateOnly, LongValues epochMillis) implements WriteTaskCompiledGenerator {
+
+        private static final long MILLIS_PER_DAY = 86_400_000L;
+
+        @Override
+        public Object next(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+            long millis = epochMillis.nextLong(random, rowIndex, sequenceState);
+            return dateOnly
+                    ? LocalDate.ofEpochDay(Math.floorDiv(millis, MILLIS_PER_DAY)).toString()
+                    : Instant.ofEpochMilli(millis).toString();
+        }
+
+        @Override
+        public WriteTaskRowBatch.ColumnKind columnKind() {
+            return dateOnly ? WriteTaskRowBatch.ColumnKind.DATE : WriteTaskRowBatch.ColumnKind.TIMESTAMP;
+        }
+
+        @Override
+        public void fill(
+                WriteTaskRowBatch batch,
+                int column,
+                int row,
+                RandomGenerator random,
+                int rowIndex,
+                Map<String, Long> sequenceState
+        ) {
+            long millis = epochMillis.nextLong(random, rowIndex, sequenceState);
+            batch.setLong(column, row, dateOnly ? Math.floorDiv(millis, MILLIS_PER_DAY) : millis);
+        }
+    }
+}
@@ -110,10 +110,15 @@ public class WriteTaskDefinitionNormalizationService {
         }
 
         String payloadFormat = JsonConfigSupport.optionalString(targetConfig, "payloadFormat");
-        if (payloadFormat != null && !"JSON".equalsIgnoreCase(payloadFormat)) {
-            throw new IllegalArgumentException("Kafka target currently only supports JSON payload format");
+        String normalizedPayloadFormat = payloadFormat == null ? "JSON" : payloadFormat.trim().toUpperCase(Locale.ROOT);
+        if (!"JSON".equals(normalizedPayloadFormat) && !"AVRO".equals(normalizedPayloadFormat)) {
+            throw new IllegalArgumentException("Kafka target only supports JSON or AVRO payload format");
         }
-        targetConfig.put("payloadFormat", "JSON");
+        if ("AVRO".equals(normalizedPayloadFormat)
+                && (normalizedPayloadSchemaJson == null || normalizedPayloadSchemaJson.isBlank())) {
+            throw new IllegalArgumentException("Kafka AVRO payload format requires payloadSchemaJson");
+        }
+        targetConfig.put("payloadFormat", normalizedPayloadFormat);
 
         String keyMode = JsonConfigSupport.optionalString(targetConfig, "keyMode");
         String normalizedKeyMode = keyMode == null || keyMode.isBlank()
@@ -134,6 +139,13 @@ public class WriteTaskDefinitionNormalizationService {
         if (partition != null && partition < 0) {
             throw new IllegalArgumentException("Kafka partition must be greater than or equal to 0");
         }
+        Integer producerThreads = JsonConfigSupport.optionalInteger(targetConfig, "producerThreads");
+        if (producerThreads != null
+                && (producerThreads < 1 || producerThreads > WriteTaskKafkaPartitionFanOut.MAX_PRODUCER_THREADS)) {
+            throw new IllegalArgumentException(
+                    "Kafka producerThreads must be between 1 and " + WriteTaskKafkaPartitionFanOut.MAX_PRODUCER_THREADS
+            );
+        }
 
         normalizeHeaders(targetConfig, request, normalizedPayloadSchemaJson, kafkaComplexMode);
         return writeJson(targetConfig);
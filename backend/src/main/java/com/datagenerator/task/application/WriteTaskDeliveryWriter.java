@@ -13,7 +13,26 @@ public interface WriteTaskDeliveryWriter {
     WriteTaskDeliveryResult write(
             WriteTask task,
             TargetConnection connection,
-            List<Map<String, Object>> rows,
+            WriteTaskRowStream rows,
             Long executionId
     ) throws Exception;
+
+    default WriteTaskDeliveryResult write(
+            WriteTask task,
+            TargetConnection connection,
+            WriteTaskRowStream rows,
+            Long executionId,
+            WriteTaskCheckpoint checkpoint
+    ) throws Exception {
+        return write(task, connection, rows, executionId);
+    }
+
+    default WriteTaskDeliveryResult write(
+            WriteTask task,
+            TargetConnection connection,
+            List<Map<String, Object>> rows,
+            Long executionId
+    ) throws Exception {
+        return write(task, connection, WriteTaskRowStream.of(rows), executionId);
+    }
 }
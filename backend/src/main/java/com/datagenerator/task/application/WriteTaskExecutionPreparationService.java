@@ -1,6 +1,7 @@
 package com.datagenerator.task.application;
 
 import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.TargetMetadataCache;
 import com.datagenerator.connection.application.dialect.DatabaseDialect;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
@@ -19,9 +20,11 @@ import org.springframework.stereotype.Service;
 public class WriteTaskExecutionPreparationService {
 
     private final ConnectionJdbcSupport jdbcSupport;
+    private final TargetMetadataCache metadataCache;
 
-    public WriteTaskExecutionPreparationService(ConnectionJdbcSupport jdbcSupport) {
+    public WriteTaskExecutionPreparationService(ConnectionJdbcSupport jdbcSupport, TargetMetadataCache metadataCache) {
         this.jdbcSupport = jdbcSupport;
+        this.metadataCache = metadataCache;
     }
 
     public WriteTaskUpsertRequest prepareForExecution(
@@ -109,7 +112,13 @@ public class WriteTaskExecutionPreparationService {
     ) {
         try (Connection jdbcConnection = jdbcSupport.open(connection)) {
             DatabaseDialect dialect = jdbcSupport.dialect(connection.getDbType());
-            if (!dialect.tableExists(jdbcConnection, connection, task.getTableName())) {
+            boolean tableExists = metadataCache.get(
+                    connection,
+                    TargetMetadataCache.Kind.TABLE_EXISTS,
+                    dialect.quoteQualifiedIdentifier(connection, task.getTableName()),
+                    () -> dialect.tableExists(jdbcConnection, connection, task.getTableName())
+            );
+            if (!tableExists) {
                 return Map.of();
             }
 
@@ -0,0 +1,211 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.task.domain.KafkaPayloadNodeType;
+import com.datagenerator.task.domain.KafkaPayloadValueType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+public final class WriteTaskGeneratorPlan {
+
+    private final String[] columnNames;
+    private final WriteTaskCompiledGenerator[] columnGenerators;
+    private final PayloadNode payloadRoot;
+    private final boolean sequential;
+
+    private WriteTaskGeneratorPlan(
+            String[] columnNames,
+            WriteTaskCompiledGenerator[] columnGenerators,
+            PayloadNode payloadRoot,
+            boolean sequential
+    ) {
+        this.columnNames = columnNames;
+        this.columnGenerators = columnGenerators;
+        this.payloadRoot = payloadRoot;
+        this.sequential = sequential;
+    }
+
+    static WriteTaskGeneratorPlan forColumns(List<String> columnNames, List<WriteTaskCompiledGenerator> generators) {
+        return new WriteTaskGeneratorPlan(
+                columnNames.toArray(String[]::new),
+                generators.toArray(WriteTaskCompiledGenerator[]::new),
+                null,
+                false
+        );
+    }
+
+    static WriteTaskGeneratorPlan forPayload(PayloadNode payloadRoot, boolean sequential) {
+        return new WriteTaskGeneratorPlan(new String[0], new WriteTaskCompiledGenerator[0], payloadRoot, sequential);
+    }
+
+    public boolean hasPayloadSchema() {
+        return payloadRoot != null;
+    }
+
+    public boolean sequential() {
+        return sequential;
+    }
+
+    public int columnCount() {
+        return columnNames.length;
+    }
+
+    public String columnName(int columnIndex) {
+        return columnNames[columnIndex];
+    }
+
+    public Object nextColumnValue(int columnIndex, RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+        return columnGenerators[columnIndex].next(random, rowIndex, sequenceState);
+    }
+
+    public Object nextPayload(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+        return payloadRoot.generate(random, rowIndex, sequenceState);
+    }
+
+    public Map<String, Object> nextColumnRow(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+        LinkedHashMap<String, Object> row = new LinkedHashMap<>(Math.max(16, columnNames.length * 2));
+        for (int index = 0; index < columnNames.length; index++) {
+            row.put(columnNames[index], columnGenerators[index].next(random, rowIndex, sequenceState));
+        }
+        return row;
+    }
+
+    public WriteTaskRowBatch newBatch(int capacity) {
+        if (payloadRoot != null) {
+            String[] names = new String[payloadRoot.children.length];
+            for (int index = 0; index < names.length; index++) {
+                names[index] = payloadRoot.children[index].name;
+            }
+            WriteTaskRowBatch.ColumnKind[] kinds = new WriteTaskRowBatch.ColumnKind[names.length];
+            Arrays.fill(kinds, WriteTaskRowBatch.ColumnKind.OBJECT);
+            return WriteTaskRowBatch.create(names, kinds, new int[names.length], capacity);
+        }
+        WriteTaskRowBatch.ColumnKind[] kinds = new WriteTaskRowBatch.ColumnKind[columnNames.length];
+        int[] scales = new int[columnNames.length];
+        for (int index = 0; index < columnNames.length; index++) {
+            kinds[index] = columnGenerators[index].columnKind();
+            scales[index] = columnGenerators[index].columnScale();
+        }
+        return WriteTaskRowBatch.create(columnNames, kinds, scales, capacity);
+    }
+
+    public void fillRow(WriteTaskRowBatch batch, RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+        int row = batch.appendRow();
+        if (payloadRoot != null) {
+            if (payloadRoot.type != KafkaPayloadNodeType.OBJECT) {
+                throw new IllegalArgumentException("Kafka 消息 Schema 根节点必须生成对象");
+            }
+            for (int index = 0; index < payloadRoot.children.length; index++) {
+                batch.setObject(index, row, payloadRoot.children[index].generate(random, rowIndex, sequenceState));
+            }
+            return;
+        }
+        for (int index = 0; index < columnGenerators.length; index++) {
+            columnGenerators[index].fill(batch, index, row, random, rowIndex, sequenceState);
+        }
+    }
+
+    static final class PayloadNode {
+
+        private final KafkaPayloadNodeType type;
+        private final String name;
+        private final KafkaPayloadValueType valueType;
+        private final WriteTaskCompiledGenerator generator;
+        private final PayloadNode[] children;
+        private final PayloadNode itemNode;
+        private final int minItems;
+        private final int maxItems;
+
+        private PayloadNode(
+                KafkaPayloadNodeType type,
+                String name,
+                KafkaPayloadValueType valueType,
+                WriteTaskCompiledGenerator generator,
+                PayloadNode[] children,
+                PayloadNode itemNode,
+                int minItems,
+                int maxItems
+        ) {
+            this.type = type;
+            this.name = name;
+            this.valueType = valueType;
+            this.generator = generator;
+            this.children = children;
+            this.itemNode = itemNode;
+            this.minItems = minItems;
+            this.maxItems = maxItems;
+        }
+
+        static PayloadNode object(String name, List<PayloadNode> children) {
+            return new PayloadNode(
+                    KafkaPayloadNodeType.OBJECT,
+                    name,
+                    null,
+                    null,
+                    children.toArray(PayloadNode[]::new),
+                    null,
+                    0,
+                    0
+            );
+        }
+
+        static PayloadNode array(String name, PayloadNode itemNode, Integer minItems, Integer maxItems) {
+            int safeMinItems = minItems == null ? 1 : Math.max(0, minItems);
+            int safeMaxItems = maxItems == null ? safeMinItems : maxItems;
+            return new PayloadNode(
+                    KafkaPayloadNodeType.ARRAY,
+                    name,
+                    null,
+                    null,
+                    new PayloadNode[0],
+                    itemNode,
+                    safeMinItems,
+                    safeMaxItems
+            );
+        }
+
+        static PayloadNode scalar(String name, KafkaPayloadValueType valueType, WriteTaskCompiledGenerator generator) {
+            return new PayloadNode(KafkaPayloadNodeType.SCALAR, name, valueType, generator, new PayloadNode[0], null, 0, 0);
+        }
+
+        private Object generate(RandomGenerator random, int rowIndex, Map<String, Long> sequenceState) {
+            return switch (type) {
+                case OBJECT -> {
+                    LinkedHashMap<String, Object> value = new LinkedHashMap<>(Math.max(16, children.length * 2));
+                    for (PayloadNode child : children) {
+                        value.put(child.name, child.generate(random, rowIndex, sequenceState));
+                    }
+                    yield value;
+                }
+                case ARRAY -> {
+                    int size = maxItems <= minItems ? minItems : minItems + random.nextInt(maxItems - minItems + 1);
+                    ArrayList<Object> items = new ArrayList<>(size);
+                    for (int index = 0; index < size; index++) {
+                        items.add(itemNode.generate(random, rowIndex, sequenceState));
+                    }
+                    yield items;
+                }
+                case SCALAR -> castScalarValue(generator.next(random, rowIndex, sequenceState));
+            };
+        }
+
+        private Object castScalarValue(Object value) {
+            if (value == null || valueType == null) {
+                return value;
+            }
+            return switch (valueType) {
+                case STRING, DATETIME, UUID -> String.valueOf(value);
+                case INT -> value instanceof Number number ? number.intValue() : Integer.parseInt(String.valueOf(value));
+                case LONG -> value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+                case DECIMAL -> value instanceof BigDecimal decimal ? decimal : new BigDecimal(String.valueOf(value));
+                case BOOLEAN -> value instanceof Boolean booleanValue
+                        ? booleanValue
+                        : Boolean.parseBoolean(String.valueOf(value));
+            };
+        }
+    }
+}
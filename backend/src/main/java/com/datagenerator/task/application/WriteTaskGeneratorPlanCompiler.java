@@ -0,0 +1,204 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.common.support.JsonConfigSupport;
+import com.datagenerator.task.api.WriteTaskColumnUpsertRequest;
+import com.datagenerator.task.api.WriteTaskUpsertRequest;
+import com.datagenerator.task.domain.ColumnGeneratorType;
+import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WriteTaskGeneratorPlanCompiler {
+
+    private final KafkaPayloadSchemaService payloadSchemaService;
+    private final WriteTaskValueGenerator valueGenerator;
+    private final Map<PlanKey, CachedPlan> cache = new ConcurrentHashMap<>();
+
+    public WriteTaskGeneratorPlanCompiler(
+            KafkaPayloadSchemaService payloadSchemaService,
+            WriteTaskValueGenerator valueGenerator
+    ) {
+        this.payloadSchemaService = payloadSchemaService;
+        this.valueGenerator = valueGenerator;
+    }
+
+    public WriteTaskGeneratorPlan compile(WriteTaskUpsertRequest request) {
+        if (request.payloadSchemaJson() != null && !request.payloadSchemaJson().isBlank()) {
+            return compilePayload(request.payloadSchemaJson());
+        }
+        List<WriteTaskColumnUpsertRequest> columns = request.columns() == null ? List.of() : request.columns();
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("预览任务至少需要一个字段或 payloadSchemaJson");
+        }
+        List<String> names = new ArrayList<>(columns.size());
+        List<WriteTaskCompiledGenerator> generators = new ArrayList<>(columns.size());
+        for (WriteTaskColumnUpsertRequest column : columns) {
+            names.add(column.columnName());
+            generators.add(valueGenerator.compile(
+                    column.columnName(),
+                    column.generatorType(),
+                    column.generatorConfig(),
+                    true
+            ));
+        }
+        return WriteTaskGeneratorPlan.forColumns(names, generators);
+    }
+
+    public WriteTaskGeneratorPlan compile(WriteTask task) {
+        return cached(task, "", task.getColumns(), () -> {
+            if (hasPayloadSchema(task)) {
+                return compilePayload(task.getPayloadSchemaJson());
+            }
+            if (task.getColumns().isEmpty()) {
+                throw new IllegalArgumentException("预览任务至少需要一个字段或 payloadSchemaJson");
+            }
+            return compileColumns(task.getColumns(), "");
+        });
+    }
+
+    public WriteTaskGeneratorPlan compileGroupTask(WriteTask task) {
+        String sequencePrefix = task.getTaskKey() + ".";
+        List<WriteTaskColumn> sortedColumns = task.getColumns().stream()
+                .sorted(Comparator.comparing(WriteTaskColumn::getSortOrder).thenComparing(WriteTaskColumn::getColumnName))
+                .toList();
+        return cached(task, sequencePrefix, sortedColumns, () -> hasPayloadSchema(task)
+                ? compilePayload(task.getPayloadSchemaJson())
+                : compileColumns(sortedColumns, sequencePrefix));
+    }
+
+    public String fingerprint(WriteTask task) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(signature(task, task.getColumns()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 不可用", exception);
+        }
+    }
+
+    public void evict(Long taskId) {
+        if (taskId == null) {
+            return;
+        }
+        cache.keySet().removeIf(key -> key.taskId().equals(taskId));
+    }
+
+    private WriteTaskGeneratorPlan cached(
+            WriteTask task,
+            String sequencePrefix,
+            List<WriteTaskColumn> columns,
+            PlanFactory factory
+    ) {
+        if (task.getId() == null) {
+            return factory.create();
+        }
+        PlanKey key = new PlanKey(task.getId(), sequencePrefix);
+        String signature = signature(task, columns);
+        CachedPlan current = cache.get(key);
+        if (current != null && current.signature().equals(signature)) {
+            return current.plan();
+        }
+        WriteTaskGeneratorPlan plan = factory.create();
+        cache.put(key, new CachedPlan(signature, plan));
+        return plan;
+    }
+
+    private String signature(WriteTask task, List<WriteTaskColumn> columns) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(task.getPayloadSchemaJson()).append('\u0000');
+        for (WriteTaskColumn column : columns) {
+            builder.append(column.getColumnName()).append('\u0001')
+                    .append(column.getGeneratorType()).append('\u0001')
+                    .append(column.getGeneratorConfigJson()).append('\u0000');
+        }
+        return builder.toString();
+    }
+
+    private WriteTaskGeneratorPlan compileColumns(List<WriteTaskColumn> columns, String sequencePrefix) {
+        List<String> names = new ArrayList<>(columns.size());
+        List<WriteTaskCompiledGenerator> generators = new ArrayList<>(columns.size());
+        for (WriteTaskColumn column : columns) {
+            names.add(column.getColumnName());
+            generators.add(valueGenerator.compile(
+                    sequencePrefix + column.getColumnName(),
+                    column.getGeneratorType(),
+                    JsonConfigSupport.readConfig(column.getGeneratorConfigJson(), "generatorConfigJson"),
+                    true
+            ));
+        }
+        return WriteTaskGeneratorPlan.forColumns(names, generators);
+    }
+
+    private WriteTaskGeneratorPlan compilePayload(String payloadSchemaJson) {
+        KafkaPayloadSchemaNode payloadSchema = payloadSchemaService.parseAndValidate(payloadSchemaJson);
+        return WriteTaskGeneratorPlan.forPayload(
+                compileNode(payloadSchema, "", false),
+                containsRepeatedSequence(payloadSchema, false)
+        );
+    }
+
+    private WriteTaskGeneratorPlan.PayloadNode compileNode(KafkaPayloadSchemaNode node, String path, boolean repeated) {
+        return switch (node.type()) {
+            case OBJECT -> {
+                List<WriteTaskGeneratorPlan.PayloadNode> children = new ArrayList<>();
+                for (KafkaPayloadSchemaNode child : node.childrenOrEmpty()) {
+                    children.add(compileNode(child, appendPath(path, child.name()), repeated));
+                }
+                yield WriteTaskGeneratorPlan.PayloadNode.object(node.name(), children);
+            }
+            case ARRAY -> WriteTaskGeneratorPlan.PayloadNode.array(
+                    node.name(),
+                    compileNode(node.itemSchema(), path + "[]", true),
+                    node.minItems(),
+                    node.maxItems()
+            );
+            case SCALAR -> WriteTaskGeneratorPlan.PayloadNode.scalar(
+                    node.name(),
+                    node.valueType(),
+                    valueGenerator.compile(path, node.generatorType(), node.generatorConfigOrEmpty(), !repeated)
+            );
+        };
+    }
+
+    private boolean containsRepeatedSequence(KafkaPayloadSchemaNode node, boolean repeated) {
+        return switch (node.type()) {
+            case OBJECT -> node.childrenOrEmpty().stream().anyMatch(child -> containsRepeatedSequence(child, repeated));
+            case ARRAY -> containsRepeatedSequence(node.itemSchema(), true);
+            case SCALAR -> repeated && node.generatorType() == ColumnGeneratorType.SEQUENCE;
+        };
+    }
+
+    private boolean hasPayloadSchema(WriteTask task) {
+        return task.getPayloadSchemaJson() != null && !task.getPayloadSchemaJson().isBlank();
+    }
+
+    private String appendPath(String path, String segment) {
+        if (path == null || path.isBlank()) {
+            return segment;
+        }
+        return path + "." + segment;
+    }
+
+    @FunctionalInterface
+    private interface PlanFactory {
+
+        WriteTaskGeneratorPlan create();
+    }
+
+    private record PlanKey(Long taskId, String sequencePrefix) {
+    }
+
+    private record CachedPlan(String signature, WriteTaskGeneratorPlan plan) {
+    }
+}
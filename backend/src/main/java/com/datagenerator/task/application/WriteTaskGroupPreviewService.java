@@ -1,6 +1,7 @@
 package com.datagenerator.task.application;
 
 import com.datagenerator.common.support.JsonConfigSupport;
+import com.datagenerator.common.support.RandomStreamSupport;
 import com.datagenerator.connection.application.ConnectionJdbcSupport;
 import com.datagenerator.connection.application.dialect.DatabaseDialect;
 import com.datagenerator.connection.domain.DatabaseType;
@@ -12,7 +13,6 @@ import com.datagenerator.task.api.WriteTaskGroupTaskColumnUpsertRequest;
 import com.datagenerator.task.api.WriteTaskGroupTaskUpsertRequest;
 import com.datagenerator.task.api.WriteTaskGroupUpsertRequest;
 import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
-import com.datagenerator.task.domain.KafkaPayloadValueType;
 import com.datagenerator.task.domain.ReferenceSourceMode;
 import com.datagenerator.task.domain.RelationReusePolicy;
 import com.datagenerator.task.domain.WriteTask;
@@ -20,14 +20,10 @@ import com.datagenerator.task.domain.WriteTaskColumn;
 import com.datagenerator.task.domain.WriteTaskGroupRowPlanMode;
 import com.datagenerator.task.domain.WriteTaskRelationMode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.math.BigDecimal;
 import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.Statement;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -36,29 +32,29 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
 public class WriteTaskGroupPreviewService {
 
-    private static final Pattern INDEXED_SEGMENT = Pattern.compile("^(.*)\\[(\\d+)]$");
-
-    private final WriteTaskValueGenerator valueGenerator;
+    private final WriteTaskGeneratorPlanCompiler planCompiler;
     private final ConnectionJdbcSupport jdbcSupport;
+    private final WriteTaskParentKeySampler parentKeySampler;
     private final KafkaPayloadSchemaService payloadSchemaService;
     private final ObjectMapper objectMapper;
 
     public WriteTaskGroupPreviewService(
-            WriteTaskValueGenerator valueGenerator,
+            WriteTaskGeneratorPlanCompiler planCompiler,
             ConnectionJdbcSupport jdbcSupport,
+            WriteTaskParentKeySampler parentKeySampler,
             KafkaPayloadSchemaService payloadSchemaService,
             ObjectMapper objectMapper
     ) {
-        this.valueGenerator = valueGenerator;
+        this.planCompiler = planCompiler;
         this.jdbcSupport = jdbcSupport;
+        this.parentKeySampler = parentKeySampler;
         this.payloadSchemaService = payloadSchemaService;
         this.objectMapper = objectMapper;
     }
@@ -114,8 +110,6 @@ public class WriteTaskGroupPreviewService {
         Random random = new Random(seed);
         Map<String, Long> sequenceState = new LinkedHashMap<>();
         Map<String, List<Map<String, Object>>> generatedRowsByTaskKey = new LinkedHashMap<>();
-        Map<String, List<Map<String, Object>>> existingRowsCache = new HashMap<>();
-        Map<String, Deque<Map<String, Object>>> uniqueCandidateCache = new HashMap<>();
         List<WriteTaskTableGenerationResult> tables = new ArrayList<>();
 
         Connection jdbcConnection = null;
@@ -123,6 +117,12 @@ public class WriteTaskGroupPreviewService {
             if (definition.requiresExistingRows()) {
                 jdbcConnection = jdbcSupport.open(connection);
             }
+            DatabaseCandidateSource candidateSource = new DatabaseCandidateSource(
+                    generatedRowsByTaskKey,
+                    jdbcConnection,
+                    connection,
+                    seed
+            );
             for (String taskKey : definition.topologicalOrder()) {
                 WriteTask task = definition.tasksByKey().get(taskKey);
                 List<DatabaseResolvedRelation> incomingRelations = definition.incomingRelations().getOrDefault(taskKey, List.of());
@@ -130,11 +130,8 @@ public class WriteTaskGroupPreviewService {
                         task,
                         definition,
                         incomingRelations,
-                        generatedRowsByTaskKey,
-                        existingRowsCache,
-                        uniqueCandidateCache,
-                        jdbcConnection,
-                        connection,
+                        candidateSource,
+                        seed,
                         random,
                         sequenceState
                 );
@@ -167,26 +164,13 @@ public class WriteTaskGroupPreviewService {
             WriteTask task,
             DatabaseResolvedDefinition definition,
             List<DatabaseResolvedRelation> incomingRelations,
-            Map<String, List<Map<String, Object>>> generatedRowsByTaskKey,
-            Map<String, List<Map<String, Object>>> existingRowsCache,
-            Map<String, Deque<Map<String, Object>>> uniqueCandidateCache,
-            Connection jdbcConnection,
-            TargetConnection connection,
+            DatabaseCandidateSource candidateSource,
+            long seed,
             Random random,
             Map<String, Long> sequenceState
-    ) throws Exception {
+    ) {
         RowPlan rowPlan = definition.rowPlans().get(task.getTaskKey());
-        List<Map<String, Object>> rows = initializeDatabaseRows(
-                task,
-                rowPlan,
-                incomingRelations,
-                generatedRowsByTaskKey,
-                existingRowsCache,
-                uniqueCandidateCache,
-                jdbcConnection,
-                connection,
-                random
-        );
+        List<Map<String, Object>> rows = initializeDatabaseRows(task, rowPlan, incomingRelations, candidateSource, random);
 
         int foreignKeyMissCount = 0;
         int nullViolationCount = 0;
@@ -194,51 +178,39 @@ public class WriteTaskGroupPreviewService {
         List<WriteTaskColumn> sortedColumns = task.getColumns().stream()
                 .sorted(Comparator.comparing(WriteTaskColumn::getSortOrder).thenComparing(WriteTaskColumn::getColumnName))
                 .toList();
+        WriteTaskGeneratorPlan plan = planCompiler.compileGroupTask(task);
 
-        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
-            Map<String, Object> row = rows.get(rowIndex);
-            for (DatabaseResolvedRelation relation : incomingRelations) {
-                if (relation.rowDriver() && rowPlan.mode() == WriteTaskGroupRowPlanMode.CHILD_PER_PARENT) {
-                    continue;
-                }
+        List<DatabaseResolvedRelation> assignedRelations = incomingRelations.stream()
+                .filter(relation -> !(relation.rowDriver() && rowPlan.mode() == WriteTaskGroupRowPlanMode.CHILD_PER_PARENT))
+                .toList();
+        List<RelationCandidates> assignedCandidates = new ArrayList<>(assignedRelations.size());
+        for (DatabaseResolvedRelation relation : assignedRelations) {
+            assignedCandidates.add(candidateSource.candidates(relation));
+        }
+
+        for (Map<String, Object> row : rows) {
+            for (int index = 0; index < assignedRelations.size(); index++) {
+                DatabaseResolvedRelation relation = assignedRelations.get(index);
                 if (isDatabaseRelationAlreadyAssigned(row, relation.request())) {
                     continue;
                 }
-                Map<String, Object> parentValues = chooseDatabaseCandidate(
-                        relation,
-                        generatedRowsByTaskKey,
-                        existingRowsCache,
-                        uniqueCandidateCache,
-                        jdbcConnection,
-                        connection,
-                        random
-                );
-                if (parentValues == null) {
+                RelationCandidates candidates = assignedCandidates.get(index);
+                int candidate = relation.request().reusePolicy() == RelationReusePolicy.UNIQUE_ONCE
+                        ? candidates.nextUnique()
+                        : candidates.pick(random);
+                if (candidate < 0) {
                     if (!shouldAssignNull(relation.request(), random)) {
                         foreignKeyMissCount++;
                     }
                     continue;
                 }
-                assignDatabaseRelationValues(row, relation.request(), parentValues);
+                candidates.assign(candidate, row);
             }
+        }
 
-            for (WriteTaskColumn column : sortedColumns) {
-                if (row.containsKey(column.getColumnName())) {
-                    continue;
-                }
-                row.put(
-                        column.getColumnName(),
-                        valueGenerator.generateValue(
-                                task.getTaskKey() + "." + column.getColumnName(),
-                                column.getGeneratorType(),
-                                JsonSupport.readMap(column.getGeneratorConfigJson()),
-                                rowIndex,
-                                random,
-                                sequenceState
-                        )
-                );
-            }
+        fillDatabaseColumns(plan, rows, RandomStreamSupport.deriveSeed(seed, task.getTaskKey()), sequenceState);
 
+        for (Map<String, Object> row : rows) {
             for (WriteTaskColumn column : sortedColumns) {
                 Object value = row.get(column.getColumnName());
                 if (column.isNullableFlag()) {
@@ -257,17 +229,36 @@ public class WriteTaskGroupPreviewService {
         return new GeneratedRowsResult(rows, foreignKeyMissCount, nullViolationCount, blankStringCount);
     }
 
+    private void fillDatabaseColumns(
+            WriteTaskGeneratorPlan plan,
+            List<Map<String, Object>> rows,
+            long taskSeed,
+            Map<String, Long> sequenceState
+    ) {
+        RandomStreamSupport.generateBlocks(0, RandomStreamSupport.blockCount(rows.size()), blockIndex -> {
+            RandomGenerator blockRandom = RandomStreamSupport.forBlock(taskSeed, blockIndex);
+            int from = blockIndex * RandomStreamSupport.BLOCK_SIZE;
+            int to = Math.min(from + RandomStreamSupport.BLOCK_SIZE, rows.size());
+            for (int rowIndex = from; rowIndex < to; rowIndex++) {
+                Map<String, Object> row = rows.get(rowIndex);
+                for (int columnIndex = 0; columnIndex < plan.columnCount(); columnIndex++) {
+                    String columnName = plan.columnName(columnIndex);
+                    if (!row.containsKey(columnName)) {
+                        row.put(columnName, plan.nextColumnValue(columnIndex, blockRandom, rowIndex, sequenceState));
+                    }
+                }
+            }
+            return List.of();
+        });
+    }
+
     private List<Map<String, Object>> initializeDatabaseRows(
             WriteTask task,
             RowPlan rowPlan,
             List<DatabaseResolvedRelation> incomingRelations,
-            Map<String, List<Map<String, Object>>> generatedRowsByTaskKey,
-            Map<String, List<Map<String, Object>>> existingRowsCache,
-            Map<String, Deque<Map<String, Object>>> uniqueCandidateCache,
-            Connection jdbcConnection,
-            TargetConnection connection,
+            DatabaseCandidateSource candidateSource,
             Random random
-    ) throws Exception {
+    ) {
         if (rowPlan.mode() == WriteTaskGroupRowPlanMode.FIXED) {
             int rowCount = rowPlan.rowCount() == null ? 1 : rowPlan.rowCount();
             List<Map<String, Object>> rows = new ArrayList<>(rowCount);
@@ -281,14 +272,8 @@ public class WriteTaskGroupPreviewService {
                 .filter(DatabaseResolvedRelation::rowDriver)
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Child task " + task.getTaskKey() + " is missing driver relationship"));
-        List<Map<String, Object>> driverCandidates = allDatabaseCandidates(
-                driverRelation,
-                generatedRowsByTaskKey,
-                existingRowsCache,
-                jdbcConnection,
-                connection
-        );
-        if (driverCandidates.isEmpty()) {
+        RelationCandidates driverCandidates = candidateSource.candidates(driverRelation);
+        if (driverCandidates.size() == 0) {
             throw new IllegalArgumentException("Driver relationship " + driverRelation.request().relationName() + " has no available parent rows");
         }
 
@@ -299,13 +284,13 @@ public class WriteTaskGroupPreviewService {
         }
 
         List<Map<String, Object>> rows = new ArrayList<>();
-        for (Map<String, Object> driverCandidate : driverCandidates) {
+        for (int candidate = 0; candidate < driverCandidates.size(); candidate++) {
             int childCount = minChildren == maxChildren
                     ? minChildren
                     : minChildren + random.nextInt(maxChildren - minChildren + 1);
             for (int index = 0; index < childCount; index++) {
                 LinkedHashMap<String, Object> row = new LinkedHashMap<>();
-                assignDatabaseRelationValues(row, driverRelation.request(), driverCandidate);
+                driverCandidates.assign(candidate, row);
                 rows.add(row);
             }
         }
@@ -321,150 +306,20 @@ public class WriteTaskGroupPreviewService {
         return true;
     }
 
-    private void assignDatabaseRelationValues(
-            Map<String, Object> row,
-            WriteTaskGroupRelationUpsertRequest relation,
-            Map<String, Object> parentValues
-    ) {
-        List<String> parentColumns = safeList(relation.parentColumns());
-        List<String> childColumns = safeList(relation.childColumns());
-        for (int index = 0; index < childColumns.size(); index++) {
-            row.put(childColumns.get(index), parentValues.get(parentColumns.get(index)));
-        }
-    }
-
-    private Map<String, Object> chooseDatabaseCandidate(
-            DatabaseResolvedRelation relation,
-            Map<String, List<Map<String, Object>>> generatedRowsByTaskKey,
-            Map<String, List<Map<String, Object>>> existingRowsCache,
-            Map<String, Deque<Map<String, Object>>> uniqueCandidateCache,
+    private WriteTaskRelationCandidatePool loadExistingRows(
             Connection jdbcConnection,
             TargetConnection connection,
-            Random random
-    ) throws Exception {
-        String relationKey = relation.request().relationName();
-        if (relation.request().reusePolicy() == RelationReusePolicy.UNIQUE_ONCE) {
-            Deque<Map<String, Object>> uniqueCandidates = uniqueCandidateCache.get(relationKey);
-            if (uniqueCandidates == null) {
-                List<Map<String, Object>> all = allDatabaseCandidates(
-                        relation,
-                        generatedRowsByTaskKey,
-                        existingRowsCache,
-                        jdbcConnection,
-                        connection
-                );
-                uniqueCandidates = new ArrayDeque<>(all);
-                uniqueCandidateCache.put(relationKey, uniqueCandidates);
-            }
-            return uniqueCandidates.pollFirst();
-        }
-
-        return switch (relation.request().sourceMode()) {
-            case CURRENT_BATCH -> pickRandom(currentDatabaseCandidates(relation, generatedRowsByTaskKey), random);
-            case TARGET_TABLE -> pickRandom(existingDatabaseCandidates(relation, existingRowsCache, jdbcConnection, connection), random);
-            case MIXED -> chooseMixedDatabaseCandidate(relation, generatedRowsByTaskKey, existingRowsCache, jdbcConnection, connection, random);
-        };
-    }
-
-    private Map<String, Object> chooseMixedDatabaseCandidate(
             DatabaseResolvedRelation relation,
-            Map<String, List<Map<String, Object>>> generatedRowsByTaskKey,
-            Map<String, List<Map<String, Object>>> existingRowsCache,
-            Connection jdbcConnection,
-            TargetConnection connection,
-            Random random
-    ) throws Exception {
-        List<Map<String, Object>> current = currentDatabaseCandidates(relation, generatedRowsByTaskKey);
-        List<Map<String, Object>> existing = existingDatabaseCandidates(relation, existingRowsCache, jdbcConnection, connection);
-        if (current.isEmpty()) {
-            return pickRandom(existing, random);
-        }
-        if (existing.isEmpty()) {
-            return pickRandom(current, random);
-        }
-        double existingRatio = relation.request().mixedExistingRatio() == null ? 0.5D : relation.request().mixedExistingRatio();
-        return random.nextDouble() <= existingRatio
-                ? pickRandom(existing, random)
-                : pickRandom(current, random);
-    }
-
-    private List<Map<String, Object>> allDatabaseCandidates(
-            DatabaseResolvedRelation relation,
-            Map<String, List<Map<String, Object>>> generatedRowsByTaskKey,
-            Map<String, List<Map<String, Object>>> existingRowsCache,
-            Connection jdbcConnection,
-            TargetConnection connection
-    ) throws Exception {
-        return switch (relation.request().sourceMode()) {
-            case CURRENT_BATCH -> currentDatabaseCandidates(relation, generatedRowsByTaskKey);
-            case TARGET_TABLE -> existingDatabaseCandidates(relation, existingRowsCache, jdbcConnection, connection);
-            case MIXED -> {
-                List<Map<String, Object>> mixed = new ArrayList<>(currentDatabaseCandidates(relation, generatedRowsByTaskKey));
-                mixed.addAll(existingDatabaseCandidates(relation, existingRowsCache, jdbcConnection, connection));
-                yield mixed;
-            }
-        };
-    }
-
-    private List<Map<String, Object>> currentDatabaseCandidates(
-            DatabaseResolvedRelation relation,
-            Map<String, List<Map<String, Object>>> generatedRowsByTaskKey
-    ) {
-        List<Map<String, Object>> rows = generatedRowsByTaskKey.getOrDefault(relation.parentTask().getTaskKey(), List.of());
-        if (rows.isEmpty()) {
-            return List.of();
-        }
-        return rows.stream()
-                .filter(row -> containsAllColumns(row, safeList(relation.request().parentColumns())))
-                .toList();
-    }
-
-    private List<Map<String, Object>> existingDatabaseCandidates(
-            DatabaseResolvedRelation relation,
-            Map<String, List<Map<String, Object>>> existingRowsCache,
-            Connection jdbcConnection,
-            TargetConnection connection
-    ) throws Exception {
-        if (jdbcConnection == null) {
-            return List.of();
-        }
-        String cacheKey = relation.parentTask().getTaskKey() + "|" + String.join(",", safeList(relation.request().parentColumns()));
-        return existingRowsCache.computeIfAbsent(cacheKey, ignored -> loadExistingRows(jdbcConnection, connection, relation));
-    }
-
-    private List<Map<String, Object>> loadExistingRows(
-            Connection jdbcConnection,
-            TargetConnection connection,
-            DatabaseResolvedRelation relation
+            long seed
     ) {
         try {
-            DatabaseDialect dialect = jdbcSupport.dialect(connection.getDbType());
-            List<String> parentColumns = safeList(relation.request().parentColumns());
-            String selectColumns = parentColumns.stream()
-                    .map(dialect::quoteIdentifier)
-                    .reduce((left, right) -> left + ", " + right)
-                    .orElseThrow();
-            String whereClause = parentColumns.stream()
-                    .map(column -> dialect.quoteIdentifier(column) + " IS NOT NULL")
-                    .reduce((left, right) -> left + " AND " + right)
-                    .orElse("1=1");
-            String sql = "SELECT " + selectColumns + " FROM "
-                    + dialect.quoteQualifiedIdentifier(connection, relation.parentTask().getTableName())
-                    + " WHERE " + whereClause;
-            try (Statement statement = jdbcConnection.createStatement();
-                 ResultSet resultSet = statement.executeQuery(sql)) {
-                List<Map<String, Object>> rows = new ArrayList<>();
-                while (resultSet.next()) {
-                    LinkedHashMap<String, Object> row = new LinkedHashMap<>();
-                    for (String column : parentColumns) {
-                        row.put(column, resultSet.getObject(column));
-                    }
-                    if (containsAllColumns(row, parentColumns)) {
-                        rows.add(row);
-                    }
-                }
-                return rows;
-            }
+            return parentKeySampler.sample(
+                    jdbcConnection,
+                    connection,
+                    relation.parentTask().getTableName(),
+                    safeList(relation.request().parentColumns()),
+                    seed
+            );
         } catch (Exception exception) {
             throw new IllegalArgumentException("Failed to load existing parent rows: " + exception.getMessage(), exception);
         }
@@ -517,6 +372,7 @@ public class WriteTaskGroupPreviewService {
             Map<String, Long> sequenceState
     ) {
         RowPlan rowPlan = definition.rowPlans().get(task.getTaskKey());
+        WriteTaskGeneratorPlan plan = planCompiler.compileGroupTask(task);
         int foreignKeyMissCount = 0;
         List<Map<String, Object>> rows = new ArrayList<>();
 
@@ -541,8 +397,8 @@ public class WriteTaskGroupPreviewService {
                         ? minChildren
                         : minChildren + random.nextInt(maxChildren - minChildren + 1);
                 for (int index = 0; index < childCount; index++) {
-                    Map<String, Object> row = generateKafkaRow(task, rows.size(), random, sequenceState);
-                    foreignKeyMissCount += applyKafkaRelationMapping(row, parentRow, driverRelation.mappingConfig());
+                    Map<String, Object> row = generateKafkaRow(plan, rows.size(), random, sequenceState);
+                    foreignKeyMissCount += applyKafkaRelationMapping(row, parentRow, driverRelation.fieldMappings());
                     for (KafkaResolvedRelation relation : incomingRelations) {
                         if (relation == driverRelation) {
                             continue;
@@ -555,7 +411,7 @@ public class WriteTaskGroupPreviewService {
                             foreignKeyMissCount++;
                             continue;
                         }
-                        foreignKeyMissCount += applyKafkaRelationMapping(row, parentCandidate, relation.mappingConfig());
+                        foreignKeyMissCount += applyKafkaRelationMapping(row, parentCandidate, relation.fieldMappings());
                     }
                     rows.add(row);
                 }
@@ -563,7 +419,7 @@ public class WriteTaskGroupPreviewService {
         } else {
             int rowCount = rowPlan.rowCount() == null ? 1 : rowPlan.rowCount();
             for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
-                Map<String, Object> row = generateKafkaRow(task, rowIndex, random, sequenceState);
+                Map<String, Object> row = generateKafkaRow(plan, rowIndex, random, sequenceState);
                 for (KafkaResolvedRelation relation : incomingRelations) {
                     Map<String, Object> parentCandidate = pickRandom(
                             generatedRowsByTaskKey.getOrDefault(relation.parentTask().getTaskKey(), List.of()),
@@ -573,7 +429,7 @@ public class WriteTaskGroupPreviewService {
                         foreignKeyMissCount++;
                         continue;
                     }
-                    foreignKeyMissCount += applyKafkaRelationMapping(row, parentCandidate, relation.mappingConfig());
+                    foreignKeyMissCount += applyKafkaRelationMapping(row, parentCandidate, relation.fieldMappings());
                 }
                 rows.add(row);
             }
@@ -589,55 +445,36 @@ public class WriteTaskGroupPreviewService {
     }
 
     private Map<String, Object> generateKafkaRow(
-            WriteTask task,
+            WriteTaskGeneratorPlan plan,
             int rowIndex,
             Random random,
             Map<String, Long> sequenceState
     ) {
-        if (task.getPayloadSchemaJson() != null && !task.getPayloadSchemaJson().isBlank()) {
-            KafkaPayloadSchemaNode payloadSchema = payloadSchemaService.parseAndValidate(task.getPayloadSchemaJson());
-            Object generated = generatePayloadNode(payloadSchema, "", rowIndex, random, sequenceState);
-            if (!(generated instanceof Map<?, ?> rawRow)) {
-                throw new IllegalArgumentException("Kafka payload schema root must generate an object");
-            }
-            return castRow(rawRow);
+        if (!plan.hasPayloadSchema()) {
+            return plan.nextColumnRow(random, rowIndex, sequenceState);
         }
-
-        LinkedHashMap<String, Object> row = new LinkedHashMap<>();
-        List<WriteTaskColumn> columns = task.getColumns().stream()
-                .sorted(Comparator.comparing(WriteTaskColumn::getSortOrder).thenComparing(WriteTaskColumn::getColumnName))
-                .toList();
-        for (WriteTaskColumn column : columns) {
-            row.put(
-                    column.getColumnName(),
-                    valueGenerator.generateValue(
-                            task.getTaskKey() + "." + column.getColumnName(),
-                            column.getGeneratorType(),
-                            JsonSupport.readMap(column.getGeneratorConfigJson()),
-                            rowIndex,
-                            random,
-                            sequenceState
-                    )
-            );
+        Object generated = plan.nextPayload(random, rowIndex, sequenceState);
+        if (!(generated instanceof Map<?, ?> rawRow)) {
+            throw new IllegalArgumentException("Kafka payload schema root must generate an object");
         }
-        return row;
+        return castRow(rawRow);
     }
 
     private int applyKafkaRelationMapping(
             Map<String, Object> childRow,
             Map<String, Object> parentRow,
-            KafkaRelationMappingConfig mappingConfig
+            List<KafkaCompiledFieldMapping> fieldMappings
     ) {
         int missingRequiredCount = 0;
-        for (KafkaRelationFieldMapping mapping : mappingConfig.fieldMappings()) {
-            Object value = resolvePathValue(parentRow, mapping.from());
+        for (KafkaCompiledFieldMapping mapping : fieldMappings) {
+            Object value = mapping.from().resolve(parentRow);
             if (value == null) {
                 if (mapping.required()) {
                     missingRequiredCount++;
                 }
                 continue;
             }
-            boolean assigned = assignPathValue(childRow, mapping.to(), deepCopyValue(value));
+            boolean assigned = mapping.to().assign(childRow, deepCopyValue(value), this::deepCopyValue);
             if (!assigned && mapping.required()) {
                 missingRequiredCount++;
             }
@@ -722,94 +559,6 @@ public class WriteTaskGroupPreviewService {
         }
     }
 
-    private Object generatePayloadNode(
-            KafkaPayloadSchemaNode node,
-            String path,
-            int rowIndex,
-            Random random,
-            Map<String, Long> sequenceState
-    ) {
-        return switch (node.type()) {
-            case OBJECT -> generateObjectNode(node, path, rowIndex, random, sequenceState);
-            case ARRAY -> generateArrayNode(node, path, rowIndex, random, sequenceState);
-            case SCALAR -> generateScalarNode(node, path, rowIndex, random, sequenceState);
-        };
-    }
-
-    private Map<String, Object> generateObjectNode(
-            KafkaPayloadSchemaNode node,
-            String path,
-            int rowIndex,
-            Random random,
-            Map<String, Long> sequenceState
-    ) {
-        LinkedHashMap<String, Object> value = new LinkedHashMap<>();
-        for (KafkaPayloadSchemaNode child : node.childrenOrEmpty()) {
-            value.put(
-                    child.name(),
-                    generatePayloadNode(child, appendPath(path, child.name()), rowIndex, random, sequenceState)
-            );
-        }
-        return value;
-    }
-
-    private List<Object> generateArrayNode(
-            KafkaPayloadSchemaNode node,
-            String path,
-            int rowIndex,
-            Random random,
-            Map<String, Long> sequenceState
-    ) {
-        int size = resolveArraySize(node, random);
-        ArrayList<Object> items = new ArrayList<>(size);
-        for (int index = 0; index < size; index++) {
-            items.add(generatePayloadNode(node.itemSchema(), path + "[]", rowIndex, random, sequenceState));
-        }
-        return items;
-    }
-
-    private Object generateScalarNode(
-            KafkaPayloadSchemaNode node,
-            String path,
-            int rowIndex,
-            Random random,
-            Map<String, Long> sequenceState
-    ) {
-        Object rawValue = valueGenerator.generateValue(
-                path,
-                node.generatorType(),
-                node.generatorConfigOrEmpty(),
-                rowIndex,
-                random,
-                sequenceState
-        );
-        return castScalarValue(node.valueType(), rawValue);
-    }
-
-    private Object castScalarValue(KafkaPayloadValueType valueType, Object value) {
-        if (value == null || valueType == null) {
-            return value;
-        }
-        return switch (valueType) {
-            case STRING, DATETIME, UUID -> String.valueOf(value);
-            case INT -> value instanceof Number number ? number.intValue() : Integer.parseInt(String.valueOf(value));
-            case LONG -> value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
-            case DECIMAL -> value instanceof BigDecimal decimal ? decimal : new BigDecimal(String.valueOf(value));
-            case BOOLEAN -> value instanceof Boolean booleanValue
-                    ? booleanValue
-                    : Boolean.parseBoolean(String.valueOf(value));
-        };
-    }
-
-    private int resolveArraySize(KafkaPayloadSchemaNode node, Random random) {
-        int minItems = node.minItems() == null ? 1 : Math.max(0, node.minItems());
-        int maxItems = node.maxItems() == null ? minItems : node.maxItems();
-        if (maxItems <= minItems) {
-            return minItems;
-        }
-        return minItems + random.nextInt(maxItems - minItems + 1);
-    }
-
     private Map<String, WriteTask> resolveTasksByKey(
             WriteTaskGroupUpsertRequest request,
             List<WriteTask> persistedTasks
@@ -971,7 +720,7 @@ public class WriteTaskGroupPreviewService {
         }
     }
 
-    private KafkaRelationMappingConfig parseKafkaRelationMappingConfig(
+    private List<KafkaCompiledFieldMapping> parseKafkaRelationMappingConfig(
             WriteTaskGroupRelationUpsertRequest relation,
             WriteTask parentTask,
             WriteTask childTask
@@ -986,6 +735,7 @@ public class WriteTaskGroupPreviewService {
             }
             List<String> parentPaths = availableKafkaPaths(parentTask);
             List<String> childPaths = availableKafkaPaths(childTask);
+            List<KafkaCompiledFieldMapping> compiledMappings = new ArrayList<>();
             for (KafkaRelationFieldMapping fieldMapping : mappingConfig.fieldMappings()) {
                 if (fieldMapping.from() == null || fieldMapping.from().isBlank()) {
                     throw new IllegalArgumentException("Kafka relationship source path cannot be blank");
@@ -999,8 +749,13 @@ public class WriteTaskGroupPreviewService {
                 if (!childPaths.contains(fieldMapping.to())) {
                     throw new IllegalArgumentException("Kafka relationship target path does not exist in child task: " + fieldMapping.to());
                 }
+                compiledMappings.add(new KafkaCompiledFieldMapping(
+                        WriteTaskPayloadPath.compile(fieldMapping.from()),
+                        WriteTaskPayloadPath.compile(fieldMapping.to()),
+                        fieldMapping.required()
+                ));
             }
-            return mappingConfig;
+            return compiledMappings;
         } catch (IllegalArgumentException exception) {
             throw exception;
         } catch (Exception exception) {
@@ -1125,15 +880,6 @@ public class WriteTaskGroupPreviewService {
         return candidates.get(random.nextInt(candidates.size()));
     }
 
-    private boolean containsAllColumns(Map<String, Object> row, List<String> columns) {
-        for (String column : columns) {
-            if (row.get(column) == null) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private long countPrimaryKeyDuplicates(WriteTask task, List<Map<String, Object>> rows) {
         List<String> primaryKeys = task.getColumns().stream()
                 .filter(WriteTaskColumn::isPrimaryKeyFlag)
@@ -1170,138 +916,6 @@ public class WriteTaskGroupPreviewService {
         return Math.min(previewCount, 20);
     }
 
-    private Object resolvePathValue(Object current, String keyPath) {
-        if (keyPath == null || keyPath.isBlank()) {
-            return null;
-        }
-        return resolvePathValue(current, keyPath.split("\\."), 0);
-    }
-
-    private Object resolvePathValue(Object current, String[] segments, int index) {
-        if (current == null) {
-            return null;
-        }
-        if (index >= segments.length) {
-            return current;
-        }
-
-        String segment = segments[index];
-        if (segment.endsWith("[]")) {
-            Object next = resolveObjectSegment(current, segment.substring(0, segment.length() - 2));
-            if (!(next instanceof List<?> listValue)) {
-                return null;
-            }
-            ArrayList<Object> values = new ArrayList<>();
-            for (Object item : listValue) {
-                Object nested = resolvePathValue(item, segments, index + 1);
-                if (nested instanceof List<?> nestedList) {
-                    values.addAll(nestedList);
-                } else if (nested != null) {
-                    values.add(nested);
-                }
-            }
-            return values;
-        }
-
-        Matcher matcher = INDEXED_SEGMENT.matcher(segment);
-        if (matcher.matches()) {
-            Object next = resolveObjectSegment(current, matcher.group(1));
-            if (!(next instanceof List<?> listValue)) {
-                return null;
-            }
-            int itemIndex = Integer.parseInt(matcher.group(2));
-            if (itemIndex < 0 || itemIndex >= listValue.size()) {
-                return null;
-            }
-            return resolvePathValue(listValue.get(itemIndex), segments, index + 1);
-        }
-
-        Object next = resolveObjectSegment(current, segment);
-        return resolvePathValue(next, segments, index + 1);
-    }
-
-    private boolean assignPathValue(Map<String, Object> root, String path, Object value) {
-        if (path == null || path.isBlank()) {
-            return false;
-        }
-        return assignPathValue(root, path.split("\\."), 0, value);
-    }
-
-    @SuppressWarnings("unchecked")
-    private boolean assignPathValue(Object current, String[] segments, int index, Object value) {
-        if (current == null || index >= segments.length) {
-            return false;
-        }
-        String segment = segments[index];
-
-        if (segment.endsWith("[]")) {
-            if (!(current instanceof Map<?, ?> mapValue)) {
-                return false;
-            }
-            Object next = mapValue.get(segment.substring(0, segment.length() - 2));
-            if (!(next instanceof List<?> listValue)) {
-                return false;
-            }
-            if (index == segments.length - 1) {
-                if (value instanceof List<?> sourceList && sourceList.size() == listValue.size()) {
-                    for (int itemIndex = 0; itemIndex < listValue.size(); itemIndex++) {
-                        ((List<Object>) listValue).set(itemIndex, deepCopyValue(sourceList.get(itemIndex)));
-                    }
-                } else {
-                    for (int itemIndex = 0; itemIndex < listValue.size(); itemIndex++) {
-                        ((List<Object>) listValue).set(itemIndex, deepCopyValue(value));
-                    }
-                }
-                return true;
-            }
-            boolean assigned = false;
-            for (Object item : listValue) {
-                assigned |= assignPathValue(item, segments, index + 1, value);
-            }
-            return assigned;
-        }
-
-        Matcher matcher = INDEXED_SEGMENT.matcher(segment);
-        if (matcher.matches()) {
-            if (!(current instanceof Map<?, ?> mapValue)) {
-                return false;
-            }
-            Object next = mapValue.get(matcher.group(1));
-            if (!(next instanceof List<?> listValue)) {
-                return false;
-            }
-            int itemIndex = Integer.parseInt(matcher.group(2));
-            if (itemIndex < 0 || itemIndex >= listValue.size()) {
-                return false;
-            }
-            if (index == segments.length - 1) {
-                ((List<Object>) listValue).set(itemIndex, deepCopyValue(value));
-                return true;
-            }
-            return assignPathValue(listValue.get(itemIndex), segments, index + 1, value);
-        }
-
-        if (!(current instanceof Map<?, ?> mapValue)) {
-            return false;
-        }
-        Map<String, Object> mutableMap = (Map<String, Object>) mapValue;
-        if (index == segments.length - 1) {
-            mutableMap.put(segment, deepCopyValue(value));
-            return true;
-        }
-        return assignPathValue(mutableMap.get(segment), segments, index + 1, value);
-    }
-
-    private Object resolveObjectSegment(Object current, String segment) {
-        if (segment == null || segment.isBlank()) {
-            return current;
-        }
-        if (!(current instanceof Map<?, ?> mapValue)) {
-            return null;
-        }
-        return mapValue.get(segment);
-    }
-
     private Object deepCopyValue(Object value) {
         if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
             return value;
@@ -1354,6 +968,127 @@ public class WriteTaskGroupPreviewService {
     ) {
     }
 
+    private final class DatabaseCandidateSource {
+
+        private final Map<String, List<Map<String, Object>>> generatedRowsByTaskKey;
+        private final Connection jdbcConnection;
+        private final TargetConnection connection;
+        private final long seed;
+        private final Map<String, WriteTaskRelationCandidatePool> currentPools = new HashMap<>();
+        private final Map<String, WriteTaskRelationCandidatePool> existingPools = new HashMap<>();
+        private final Map<String, RelationCandidates> candidatesByRelation = new HashMap<>();
+
+        private DatabaseCandidateSource(
+                Map<String, List<Map<String, Object>>> generatedRowsByTaskKey,
+                Connection jdbcConnection,
+                TargetConnection connection,
+                long seed
+        ) {
+            this.generatedRowsByTaskKey = generatedRowsByTaskKey;
+            this.jdbcConnection = jdbcConnection;
+            this.connection = connection;
+            this.seed = seed;
+        }
+
+        private RelationCandidates candidates(DatabaseResolvedRelation relation) {
+            return candidatesByRelation.computeIfAbsent(relation.request().relationName(), ignored -> {
+                ReferenceSourceMode sourceMode = relation.request().sourceMode();
+                WriteTaskRelationCandidatePool current = sourceMode == ReferenceSourceMode.TARGET_TABLE
+                        ? WriteTaskRelationCandidatePool.empty()
+                        : currentPool(relation);
+                WriteTaskRelationCandidatePool existing = sourceMode == ReferenceSourceMode.CURRENT_BATCH
+                        ? WriteTaskRelationCandidatePool.empty()
+                        : existingPool(relation);
+                double existingRatio = relation.request().mixedExistingRatio() == null
+                        ? 0.5D
+                        : relation.request().mixedExistingRatio();
+                return new RelationCandidates(
+                        current,
+                        existing,
+                        sourceMode == ReferenceSourceMode.MIXED,
+                        existingRatio,
+                        safeList(relation.request().childColumns())
+                );
+            });
+        }
+
+        private WriteTaskRelationCandidatePool currentPool(DatabaseResolvedRelation relation) {
+            List<Map<String, Object>> rows = generatedRowsByTaskKey.getOrDefault(relation.parentTask().getTaskKey(), List.of());
+            if (rows.isEmpty()) {
+                return WriteTaskRelationCandidatePool.empty();
+            }
+            return currentPools.computeIfAbsent(
+                    poolKey(relation),
+                    ignored -> WriteTaskRelationCandidatePool.fromRows(rows, safeList(relation.request().parentColumns()))
+            );
+        }
+
+        private WriteTaskRelationCandidatePool existingPool(DatabaseResolvedRelation relation) {
+            if (jdbcConnection == null) {
+                return WriteTaskRelationCandidatePool.empty();
+            }
+            return existingPools.computeIfAbsent(
+                    poolKey(relation),
+                    key -> loadExistingRows(jdbcConnection, connection, relation, RandomStreamSupport.deriveSeed(seed, key))
+            );
+        }
+
+        private String poolKey(DatabaseResolvedRelation relation) {
+            return relation.parentTask().getTaskKey() + "|" + String.join(",", safeList(relation.request().parentColumns()));
+        }
+    }
+
+    private static final class RelationCandidates {
+
+        private final WriteTaskRelationCandidatePool current;
+        private final WriteTaskRelationCandidatePool existing;
+        private final boolean mixed;
+        private final double existingRatio;
+        private final String[] childColumns;
+        private int uniqueCursor;
+
+        private RelationCandidates(
+                WriteTaskRelationCandidatePool current,
+                WriteTaskRelationCandidatePool existing,
+                boolean mixed,
+                double existingRatio,
+                List<String> childColumns
+        ) {
+            this.current = current;
+            this.existing = existing;
+            this.mixed = mixed;
+            this.existingRatio = existingRatio;
+            this.childColumns = childColumns.toArray(String[]::new);
+        }
+
+        private int size() {
+            return current.size() + existing.size();
+        }
+
+        private int pick(Random random) {
+            if (current.isEmpty()) {
+                int candidate = existing.pick(random);
+                return candidate < 0 ? -1 : current.size() + candidate;
+            }
+            if (existing.isEmpty() || !mixed || random.nextDouble() > existingRatio) {
+                return current.pick(random);
+            }
+            return current.size() + existing.pick(random);
+        }
+
+        private int nextUnique() {
+            return uniqueCursor < size() ? uniqueCursor++ : -1;
+        }
+
+        private void assign(int candidate, Map<String, Object> row) {
+            WriteTaskRelationCandidatePool pool = candidate < current.size() ? current : existing;
+            int poolIndex = candidate < current.size() ? candidate : candidate - current.size();
+            for (int index = 0; index < childColumns.length; index++) {
+                row.put(childColumns[index], pool.value(poolIndex, index));
+            }
+        }
+    }
+
     private record KafkaResolvedDefinition(
             Map<String, WriteTask> tasksByKey,
             Map<String, List<KafkaResolvedRelation>> incomingRelations,
@@ -1367,7 +1102,7 @@ public class WriteTaskGroupPreviewService {
             WriteTask parentTask,
             WriteTask childTask,
             boolean rowDriver,
-            KafkaRelationMappingConfig mappingConfig
+            List<KafkaCompiledFieldMapping> fieldMappings
     ) {
     }
 
@@ -1400,6 +1135,9 @@ public class WriteTaskGroupPreviewService {
     private record KafkaRelationFieldMapping(String from, String to, boolean required) {
     }
 
+    private record KafkaCompiledFieldMapping(WriteTaskPayloadPath from, WriteTaskPayloadPath to, boolean required) {
+    }
+
     private static final class ValidationCounter {
 
         private long nullValueCount;
@@ -1427,10 +1165,6 @@ public class WriteTaskGroupPreviewService {
         private JsonSupport() {
         }
 
-        private static Map<String, Object> readMap(String json) {
-            return JsonConfigSupport.readConfig(json, "generatorConfigJson");
-        }
-
         private static String writeMap(Map<String, Object> value) {
             return JsonConfigSupport.writeJson(value == null ? Map.of() : value, "generatorConfig");
         }
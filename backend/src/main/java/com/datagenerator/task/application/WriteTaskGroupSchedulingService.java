@@ -278,6 +278,7 @@ public class WriteTaskGroupSchedulingService {
             case MANUAL -> false;
             case ONCE, CRON -> group.getStatus() == WriteTaskStatus.READY || group.getStatus() == WriteTaskStatus.PAUSED;
             case INTERVAL -> group.getStatus() == WriteTaskStatus.RUNNING || group.getStatus() == WriteTaskStatus.PAUSED;
+            case STREAM -> false;
         };
     }
 
@@ -317,6 +318,7 @@ public class WriteTaskGroupSchedulingService {
             case ONCE -> buildOnceTrigger(group);
             case CRON -> buildCronTrigger(group);
             case INTERVAL -> buildIntervalTrigger(group);
+            case STREAM -> null;
         };
     }
 
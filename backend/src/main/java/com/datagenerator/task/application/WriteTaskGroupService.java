@@ -2,6 +2,7 @@ package com.datagenerator.task.application;
 
 import com.datagenerator.common.support.JsonConfigSupport;
 import com.datagenerator.connection.application.TargetConnectionService;
+import com.datagenerator.connection.application.dialect.DatabaseBulkSession;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.api.WriteTaskColumnUpsertRequest;
@@ -47,6 +48,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Sort;
@@ -63,6 +65,7 @@ public class WriteTaskGroupService {
     private final WriteTaskGroupTableExecutionRepository tableExecutionRepository;
     private final TargetConnectionService connectionService;
     private final WriteTaskGroupPreviewService previewService;
+    private final WriteTaskGeneratorPlanCompiler planCompiler;
     private final WriteTaskExecutionPreparationService executionPreparationService;
     private final WriteTaskDeliveryWriterRegistry writerRegistry;
     private final WriteTaskJdbcWriter jdbcWriter;
@@ -77,6 +80,7 @@ public class WriteTaskGroupService {
             WriteTaskGroupTableExecutionRepository tableExecutionRepository,
             TargetConnectionService connectionService,
             WriteTaskGroupPreviewService previewService,
+            WriteTaskGeneratorPlanCompiler planCompiler,
             WriteTaskExecutionPreparationService executionPreparationService,
             WriteTaskDeliveryWriterRegistry writerRegistry,
             WriteTaskJdbcWriter jdbcWriter,
@@ -90,6 +94,7 @@ public class WriteTaskGroupService {
         this.tableExecutionRepository = tableExecutionRepository;
         this.connectionService = connectionService;
         this.previewService = previewService;
+        this.planCompiler = planCompiler;
         this.executionPreparationService = executionPreparationService;
         this.writerRegistry = writerRegistry;
         this.jdbcWriter = jdbcWriter;
@@ -134,6 +139,7 @@ public class WriteTaskGroupService {
         relationRepository.deleteAll(relationRepository.findByGroupIdOrderBySortOrderAscIdAsc(id));
         for (WriteTask task : taskRepository.findByGroupIdOrderByIdAsc(id)) {
             taskRepository.delete(task);
+            planCompiler.evict(task.getId());
         }
         groupRepository.delete(group);
     }
@@ -182,6 +188,7 @@ public class WriteTaskGroupService {
         long totalInserted = 0L;
         Long generatedSeed = group.getSeed();
         String deliveryType = "UNKNOWN";
+        LinkedHashMap<String, Object> deliveryStats = new LinkedHashMap<>();
         try {
             TargetConnection connection = loadConnection(group.getConnectionId());
             deliveryType = connection.getDbType().name();
@@ -199,7 +206,10 @@ public class WriteTaskGroupService {
 
             totalInserted = connection.getDbType() == DatabaseType.KAFKA
                     ? writeKafkaTables(connection, execution.getId(), generated.tables(), tableExecutions)
-                    : writeJdbcTablesAtomically(connection, execution.getId(), generated.tables(), tableExecutions);
+                    : writeJdbcTablesAtomically(connection, execution.getId(), generated.tables(), tableExecutions, deliveryStats);
+            if (deliveryStats.containsKey("bulkSessionOverheadMs")) {
+                estimateBulkSessionSavings(group.getId(), execution.getId(), totalInserted, deliveryStats);
+            }
 
             int successTables = (int) tableExecutions.stream()
                     .filter(item -> item.getStatus() == WriteExecutionStatus.SUCCESS)
@@ -219,6 +229,7 @@ public class WriteTaskGroupService {
                     deliveryType,
                     generatedSeed,
                     totalInserted,
+                    deliveryStats,
                     null
             )));
         } catch (Exception exception) {
@@ -235,6 +246,7 @@ public class WriteTaskGroupService {
                     deliveryType,
                     generatedSeed,
                     totalInserted,
+                    deliveryStats,
                     exception.getMessage()
             )));
         }
@@ -253,6 +265,7 @@ public class WriteTaskGroupService {
             String deliveryType,
             Long seed,
             long insertedRowCount,
+            Map<String, Object> deliveryStats,
             String error
     ) {
         LinkedHashMap<String, Object> summary = new LinkedHashMap<>();
@@ -261,12 +274,43 @@ public class WriteTaskGroupService {
         summary.put("deliveryType", deliveryType);
         summary.put("seed", seed);
         summary.put("insertedRowCount", insertedRowCount);
+        summary.putAll(deliveryStats);
         if (error != null) {
             summary.put("error", error);
         }
         return summary;
     }
 
+    private void estimateBulkSessionSavings(
+            Long groupId,
+            Long executionId,
+            long insertedRowCount,
+            Map<String, Object> deliveryStats
+    ) {
+        if (insertedRowCount <= 0) {
+            return;
+        }
+        for (WriteTaskGroupExecution previous : executionRepository.findByWriteTaskGroupIdOrderByStartedAtDesc(groupId)) {
+            if (previous.getId() == null
+                    || previous.getId().equals(executionId)
+                    || previous.getStatus() != WriteExecutionStatus.SUCCESS
+                    || previous.getSummaryJson() == null) {
+                continue;
+            }
+            Map<String, Object> summary = JsonConfigSupport.readConfig(previous.getSummaryJson(), "summaryJson");
+            Long baselineDurationMs = readLong(summary.get("writeDurationMs"));
+            Long baselineRowCount = readLong(summary.get("insertedRowCount"));
+            if (summary.containsKey("bulkSession") || baselineDurationMs == null || baselineRowCount == null || baselineRowCount <= 0) {
+                continue;
+            }
+            long expectedDurationMs = Math.round((double) baselineDurationMs * insertedRowCount / baselineRowCount);
+            long actualDurationMs = readLong(deliveryStats.get("writeDurationMs")) + readLong(deliveryStats.get("bulkSessionOverheadMs"));
+            deliveryStats.put("baselineExecutionId", previous.getId());
+            deliveryStats.put("estimatedTimeSavedMs", expectedDurationMs - actualDurationMs);
+            return;
+        }
+    }
+
     private long writeKafkaTables(
             TargetConnection connection,
             Long executionId,
@@ -299,14 +343,23 @@ public class WriteTaskGroupService {
             TargetConnection connection,
             Long executionId,
             List<WriteTaskTableGenerationResult> tables,
-            List<WriteTaskGroupTableExecution> tableExecutions
+            List<WriteTaskGroupTableExecution> tableExecutions,
+            Map<String, Object> deliveryStats
     ) throws Exception {
         if (tables.isEmpty()) {
             return 0L;
         }
         long totalInserted = 0L;
         try (Connection jdbcConnection = jdbcWriter.openTransactionalConnection(connection)) {
+            DatabaseBulkSession bulkSession = null;
+            Exception restoreFailure = null;
+            long startedAt = System.nanoTime();
             try {
+                bulkSession = jdbcWriter.openBulkSession(
+                        connection,
+                        jdbcConnection,
+                        tables.stream().map(table -> table.task().getTableName()).toList()
+                );
                 for (WriteTaskTableGenerationResult table : tables) {
                     WriteTaskGroupTableExecution tableExecution = createTableExecution(executionId, table);
                     tableExecutions.add(tableExecution);
@@ -327,16 +380,58 @@ public class WriteTaskGroupService {
                     }
                     tableExecutionRepository.save(tableExecution);
                 }
+                if (bulkSession != null) {
+                    bulkSession.finish(jdbcConnection);
+                    restoreFailure = restoreBulkSession(bulkSession, jdbcConnection);
+                }
                 jdbcConnection.commit();
+                deliveryStats.put("writeDurationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                if (bulkSession != null) {
+                    deliveryStats.put("bulkSession", bulkSession.details());
+                    if (bulkSession.relaxed()) {
+                        deliveryStats.put("bulkSessionOverheadMs", bulkSession.overheadMillis());
+                    }
+                    if (restoreFailure != null) {
+                        deliveryStats.put("bulkSessionRestoreError", restoreFailure.getMessage());
+                        discardConnection(connection, jdbcConnection, restoreFailure);
+                    }
+                }
                 return totalInserted;
             } catch (Exception exception) {
                 jdbcConnection.rollback();
                 markJdbcTransactionRolledBack(tableExecutions, exception);
+                if (restoreFailure == null) {
+                    restoreFailure = restoreBulkSession(bulkSession, jdbcConnection);
+                }
+                if (restoreFailure != null) {
+                    exception.addSuppressed(restoreFailure);
+                    discardConnection(connection, jdbcConnection, exception);
+                }
                 throw exception;
             }
         }
     }
 
+    private Exception restoreBulkSession(DatabaseBulkSession bulkSession, Connection jdbcConnection) {
+        if (bulkSession == null) {
+            return null;
+        }
+        try {
+            bulkSession.restore(jdbcConnection);
+            return null;
+        } catch (Exception exception) {
+            return exception;
+        }
+    }
+
+    private void discardConnection(TargetConnection connection, Connection jdbcConnection, Exception failure) {
+        try {
+            jdbcWriter.discardConnection(connection, jdbcConnection);
+        } catch (Exception suppressed) {
+            failure.addSuppressed(suppressed);
+        }
+    }
+
     private WriteTaskGroupTableExecution createTableExecution(Long executionId, WriteTaskTableGenerationResult table) {
         WriteTaskGroupTableExecution tableExecution = new WriteTaskGroupTableExecution();
         tableExecution.setWriteTaskGroupExecutionId(executionId);
@@ -487,6 +582,7 @@ public class WriteTaskGroupService {
 
         for (WriteTask obsoleteTask : existingTasksByKey.values()) {
             taskRepository.delete(obsoleteTask);
+            planCompiler.evict(obsoleteTask.getId());
         }
     }
 
@@ -518,6 +614,7 @@ public class WriteTaskGroupService {
                     throw new IllegalArgumentException("\u6301\u7eed\u5199\u5165\u5173\u7cfb\u4efb\u52a1\u7ec4\u5fc5\u987b\u8bbe\u7f6e intervalSeconds");
                 }
             }
+            case STREAM -> throw new IllegalArgumentException("\u5173\u7cfb\u4efb\u52a1\u7ec4\u6682\u4e0d\u652f\u6301\u6d41\u5f0f\u5199\u5165");
         }
     }
 
@@ -0,0 +1,201 @@
+package com.datagenerator.task.application;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+final class WriteTaskJdbcPartitionedLoad {
+
+    static final int MAX_PARALLEL_WRITERS = 32;
+
+    private static final long POLL_MILLIS = 100;
+    private static final WriteTaskRowBatch END = WriteTaskRowBatch.fromRows(List.of());
+
+    private final ConnectionOpener opener;
+    private final PartitionWriter writer;
+    private final long commitEveryRows;
+    private final BlockingQueue<WriteTaskRowBatch> queue;
+    private final Partition[] partitions;
+    private volatile boolean aborted;
+
+    WriteTaskJdbcPartitionedLoad(
+            int partitionCount,
+            long commitEveryRows,
+            ConnectionOpener opener,
+            PartitionWriter writer,
+            String threadNamePrefix
+    ) {
+        this.opener = opener;
+        this.writer = writer;
+        this.commitEveryRows = commitEveryRows;
+        this.queue = new ArrayBlockingQueue<>(partitionCount * 2);
+        this.partitions = new Partition[partitionCount];
+        for (int index = 0; index < partitionCount; index++) {
+            partitions[index] = new Partition(index);
+            Thread thread = new Thread(partitions[index], threadNamePrefix + "-" + index);
+            thread.setDaemon(true);
+            partitions[index].thread = thread;
+        }
+    }
+
+    long run(WriteTaskRowStream rows) throws Exception {
+        for (Partition partition : partitions) {
+            partition.thread.start();
+        }
+        try {
+            while (rows.hasNext()) {
+                rethrowFailure();
+                enqueue(rows.next());
+            }
+            for (int index = 0; index < partitions.length; index++) {
+                enqueue(END);
+            }
+            long writtenRowCount = 0;
+            for (Partition partition : partitions) {
+                partition.thread.join();
+                writtenRowCount += partition.writtenRowCount;
+            }
+            rethrowFailure();
+            return writtenRowCount;
+        } catch (Exception | Error exception) {
+            abort();
+            throw exception;
+        }
+    }
+
+    List<Map<String, Object>> partitionDetails() {
+        List<Map<String, Object>> details = new ArrayList<>();
+        for (Partition partition : partitions) {
+            LinkedHashMap<String, Object> item = new LinkedHashMap<>();
+            item.put("partition", partition.index);
+            item.put("writtenRowCount", partition.writtenRowCount);
+            item.put("commitCount", partition.commitCount);
+            item.put("writeDurationMs", TimeUnit.NANOSECONDS.toMillis(partition.durationNanos));
+            details.add(item);
+        }
+        return details;
+    }
+
+    private void enqueue(WriteTaskRowBatch batch) throws Exception {
+        while (!queue.offer(batch, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            rethrowFailure();
+        }
+    }
+
+    private void abort() throws InterruptedException {
+        aborted = true;
+        for (Partition partition : partitions) {
+            partition.thread.join();
+        }
+    }
+
+    private void rethrowFailure() throws Exception {
+        for (Partition partition : partitions) {
+            Throwable failure = partition.failure;
+            if (failure instanceof Exception exception) {
+                throw exception;
+            }
+            if (failure != null) {
+                throw new IllegalStateException("JDBC 并行写入线程异常终止", failure);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ConnectionOpener {
+
+        Connection open() throws Exception;
+    }
+
+    @FunctionalInterface
+    interface PartitionWriter {
+
+        long write(Connection connection, WriteTaskRowStream rows) throws Exception;
+    }
+
+    private final class Partition implements Runnable {
+
+        private final int index;
+        private Thread thread;
+        private volatile long writtenRowCount;
+        private volatile int commitCount;
+        private volatile long durationNanos;
+        private volatile Throwable failure;
+        private boolean drained;
+
+        private Partition(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            try (Connection connection = opener.open()) {
+                connection.setAutoCommit(false);
+                try {
+                    while (!drained && !aborted) {
+                        WriteTaskRowStream segment = nextSegment();
+                        if (!segment.hasNext()) {
+                            continue;
+                        }
+                        long written = writer.write(connection, segment);
+                        if (aborted) {
+                            connection.rollback();
+                            return;
+                        }
+                        connection.commit();
+                        writtenRowCount += written;
+                        commitCount++;
+                    }
+                } catch (Throwable throwable) {
+                    connection.rollback();
+                    throw throwable;
+                }
+            } catch (Throwable throwable) {
+                failure = throwable;
+                aborted = true;
+            } finally {
+                durationNanos = System.nanoTime() - startedAt;
+            }
+        }
+
+        private WriteTaskRowStream nextSegment() {
+            long[] segmentRows = {0};
+            return WriteTaskRowStream.of(0, () -> {
+                if (drained || segmentRows[0] >= commitEveryRows) {
+                    return null;
+                }
+                WriteTaskRowBatch batch = take();
+                if (batch == END) {
+                    drained = true;
+                    return null;
+                }
+                if (batch == null) {
+                    return null;
+                }
+                segmentRows[0] += batch.size();
+                return batch;
+            });
+        }
+
+        private WriteTaskRowBatch take() {
+            try {
+                while (!aborted) {
+                    WriteTaskRowBatch batch = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (batch != null) {
+                        return batch;
+                    }
+                }
+                return null;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("JDBC 并行写入被中断", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class WriteTaskJdbcValueConverter {
+
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private final ObjectMapper objectMapper;
+
+    WriteTaskJdbcValueConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    RowBinder rowBinder(DatabaseType databaseType, List<WriteTaskColumn> columns) {
+        return new RowBinder(databaseType, columns);
+    }
+
+    ParameterBinder binderFor(DatabaseType databaseType, String dbType, WriteTaskRowBatch.ColumnKind kind) {
+        if (kind == null) {
+            return isPostgresqlJsonType(databaseType, dbType)
+                    ? (statement, index, batch, column, row) -> statement.setNull(index, Types.OTHER)
+                    : (statement, index, batch, column, row) -> statement.setObject(index, null);
+        }
+        if (isPostgresqlJsonType(databaseType, dbType)) {
+            return (statement, index, batch, column, row) ->
+                    bindPostgresqlJsonValue(statement, index, batch.isNull(column, row) ? null : batch.getObject(column, row));
+        }
+        boolean timestampColumn = isTimestampType(dbType);
+        boolean dateColumn = "DATE".equals(dbType);
+        return switch (kind) {
+            case LONG -> (statement, index, batch, column, row) -> {
+                if (batch.isNull(column, row)) {
+                    statement.setObject(index, null);
+                } else {
+                    statement.setLong(index, batch.getLong(column, row));
+                }
+            };
+            case DECIMAL -> (statement, index, batch, column, row) -> {
+                if (batch.isNull(column, row)) {
+                    statement.setObject(index, null);
+                } else {
+                    statement.setBigDecimal(index, batch.getDecimal(column, row));
+                }
+            };
+            case BOOLEAN -> (statement, index, batch, column, row) -> {
+                if (batch.isNull(column, row)) {
+                    statement.setObject(index, null);
+                } else {
+                    statement.setBoolean(index, batch.getBoolean(column, row));
+                }
+            };
+            case TIMESTAMP -> timestampColumn
+                    ? (statement, index, batch, column, row) -> {
+                        if (batch.isNull(column, row)) {
+                            statement.setObject(index, null);
+                        } else {
+                            statement.setTimestamp(index, new Timestamp(batch.getLong(column, row)));
+                        }
+                    }
+                    : dateColumn
+                    ? (statement, index, batch, column, row) -> {
+                        if (batch.isNull(column, row)) {
+                            statement.setObject(index, null);
+                        } else {
+                            statement.setObject(index, LocalDate.ofInstant(Instant.ofEpochMilli(batch.getLong(column, row)), ZoneOffset.UTC));
+                        }
+                    }
+                    : stringBinder();
+            case DATE -> timestampColumn
+                    ? (statement, index, batch, column, row) -> {
+                        if (batch.isNull(column, row)) {
+                            statement.setObject(index, null);
+                        } else {
+                            statement.setTimestamp(index, Timestamp.valueOf(LocalDate.ofEpochDay(batch.getLong(column, row)).atStartOfDay()));
+                        }
+                    }
+                    : dateColumn
+                    ? (statement, index, batch, column, row) -> {
+                        if (batch.isNull(column, row)) {
+                            statement.setObject(index, null);
+                        } else {
+                            statement.setObject(index, LocalDate.ofEpochDay(batch.getLong(column, row)));
+                        }
+                    }
+                    : stringBinder();
+            case STRING -> timestampColumn
+                    ? (statement, index, batch, column, row) -> {
+                        if (batch.isNull(column, row)) {
+                            statement.setObject(index, null);
+                        } else {
+                            statement.setTimestamp(index, parseTimestamp(batch.getString(column, row)));
+                        }
+                    }
+                    : dateColumn
+                    ? (statement, index, batch, column, row) -> {
+                        if (batch.isNull(column, row)) {
+                            statement.setObject(index, null);
+                        } else {
+                            statement.setObject(index, parseDate(batch.getString(column, row)));
+                        }
+                    }
+                    : stringBinder();
+            case OBJECT -> (statement, index, batch, column, row) ->
+                    bindValue(statement, index, dbType, batch.isNull(column, row) ? null : batch.getObject(column, row));
+        };
+    }
+
+    void bindValue(
+            PreparedStatement statement,
+            int index,
+            DatabaseType databaseType,
+            WriteTaskColumn column,
+            Object value
+    ) throws Exception {
+        String dbType = column.getDbType() == null ? "" : column.getDbType().toUpperCase(Locale.ROOT);
+        if (isPostgresqlJsonType(databaseType, dbType)) {
+            bindPostgresqlJsonValue(statement, index, value);
+            return;
+        }
+        bindValue(statement, index, dbType, value);
+    }
+
+    private ParameterBinder stringBinder() {
+        return (statement, index, batch, column, row) -> {
+            if (batch.isNull(column, row)) {
+                statement.setObject(index, null);
+            } else {
+                statement.setString(index, String.valueOf(batch.getObject(column, row)));
+            }
+        };
+    }
+
+    private void bindValue(PreparedStatement statement, int index, String dbType, Object value) throws Exception {
+        if (value == null) {
+            statement.setObject(index, null);
+            return;
+        }
+        if (value instanceof String stringValue) {
+            if (isTimestampType(dbType)) {
+                statement.setTimestamp(index, parseTimestamp(stringValue));
+                return;
+            }
+            if ("DATE".equals(dbType)) {
+                statement.setObject(index, parseDate(stringValue));
+                return;
+            }
+            statement.setString(index, stringValue);
+            return;
+        }
+        if (value instanceof Integer integerValue) {
+            statement.setInt(index, integerValue);
+            return;
+        }
+        if (value instanceof Long longValue) {
+            statement.setLong(index, longValue);
+            return;
+        }
+        if (value instanceof Boolean booleanValue) {
+            statement.setBoolean(index, booleanValue);
+            return;
+        }
+        if (value instanceof Double doubleValue) {
+            statement.setDouble(index, doubleValue);
+            return;
+        }
+        if (value instanceof Float floatValue) {
+            statement.setFloat(index, floatValue);
+            return;
+        }
+        if (value instanceof BigDecimal bigDecimalValue) {
+            statement.setBigDecimal(index, bigDecimalValue);
+            return;
+        }
+        if (value instanceof Instant instantValue) {
+            statement.setTimestamp(index, Timestamp.from(instantValue));
+            return;
+        }
+        if (value instanceof LocalDateTime localDateTimeValue) {
+            statement.setObject(index, localDateTimeValue);
+            return;
+        }
+        if (value instanceof LocalDate localDateValue) {
+            statement.setObject(index, localDateValue);
+            return;
+        }
+        if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            statement.setString(index, toJson(value));
+            return;
+        }
+        statement.setObject(index, value);
+    }
+
+    boolean isPostgresqlJsonType(DatabaseType databaseType, String dbType) {
+        return databaseType == DatabaseType.POSTGRESQL && ("JSON".equals(dbType) || "JSONB".equals(dbType));
+    }
+
+    private void bindPostgresqlJsonValue(PreparedStatement statement, int index, Object value) throws Exception {
+        if (value == null) {
+            statement.setNull(index, Types.OTHER);
+            return;
+        }
+        statement.setObject(index, normalizeJsonValue(value), Types.OTHER);
+    }
+
+    boolean isTimestampType(String dbType) {
+        return dbType.contains("TIMESTAMP") || dbType.contains("DATETIME");
+    }
+
+    String toJson(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    String normalizeJsonValue(Object value) throws Exception {
+        if (value instanceof String stringValue) {
+            String trimmed = stringValue.trim();
+            if (mayBeJson(trimmed)) {
+                try {
+                    objectMapper.readTree(trimmed);
+                    return trimmed;
+                } catch (Exception ignored) {
+                }
+            }
+            return objectMapper.writeValueAsString(stringValue);
+        }
+        return objectMapper.writeValueAsString(value);
+    }
+
+    Timestamp parseTimestamp(String value) {
+        if (hasZoneDesignator(value)) {
+            try {
+                return Timestamp.from(Instant.parse(value));
+            } catch (Exception ignored) {
+            }
+
+            try {
+                return Timestamp.from(OffsetDateTime.parse(value).toInstant());
+            } catch (Exception ignored) {
+            }
+        }
+
+        try {
+            return Timestamp.valueOf(LocalDateTime.parse(value.replace(" ", "T")));
+        } catch (Exception exception) {
+            throw new IllegalArgumentException("无法解析时间值: " + value, exception);
+        }
+    }
+
+    LocalDate parseDate(String value) {
+        if (value.length() == ISO_DATE_LENGTH) {
+            try {
+                return LocalDate.parse(value);
+            } catch (Exception ignored) {
+            }
+        }
+
+        if (hasZoneDesignator(value)) {
+            try {
+                return Instant.parse(value).atZone(ZoneOffset.UTC).toLocalDate();
+            } catch (Exception ignored) {
+            }
+
+            try {
+                return OffsetDateTime.parse(value).toLocalDate();
+            } catch (Exception ignored) {
+            }
+        }
+
+        try {
+            return LocalDateTime.parse(value.replace(" ", "T")).toLocalDate();
+        } catch (Exception exception) {
+            throw new IllegalArgumentException("无法解析日期值: " + value, exception);
+        }
+    }
+
+    private static boolean hasZoneDesignator(String value) {
+        int length = value.length();
+        if (length <= ISO_DATE_LENGTH) {
+            return false;
+        }
+        char last = value.charAt(length - 1);
+        if (last == 'Z' || last == 'z') {
+            return true;
+        }
+        for (int index = ISO_DATE_LENGTH; index < length; index++) {
+            char character = value.charAt(index);
+            if (character == '+' || character == '-') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean mayBeJson(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '{' || first == '[' || first == '"' || first == '-' || (first >= '0' && first <= '9')
+                || value.equals("true") || value.equals("false") || value.equals("null");
+    }
+
+    @FunctionalInterface
+    interface ParameterBinder {
+
+        void bind(PreparedStatement statement, int index, WriteTaskRowBatch batch, int column, int row) throws Exception;
+    }
+
+    final class RowBinder {
+
+        private final DatabaseType databaseType;
+        private final String[] columnNames;
+        private final String[] dbTypes;
+        private final int[] batchColumns;
+        private final WriteTaskRowBatch.ColumnKind[] kinds;
+        private final ParameterBinder[] binders;
+
+        private RowBinder(DatabaseType databaseType, List<WriteTaskColumn> columns) {
+            this.databaseType = databaseType;
+            this.columnNames = new String[columns.size()];
+            this.dbTypes = new String[columns.size()];
+            this.batchColumns = new int[columns.size()];
+            this.kinds = new WriteTaskRowBatch.ColumnKind[columns.size()];
+            this.binders = new ParameterBinder[columns.size()];
+            for (int index = 0; index < columnNames.length; index++) {
+                WriteTaskColumn column = columns.get(index);
+                String dbType = column.getDbType();
+                columnNames[index] = column.getColumnName();
+                dbTypes[index] = dbType == null ? "" : dbType.toUpperCase(Locale.ROOT);
+            }
+        }
+
+        void bind(WriteTaskRowBatch batch) {
+            for (int index = 0; index < columnNames.length; index++) {
+                int batchColumn = batch.columnIndex(columnNames[index]);
+                WriteTaskRowBatch.ColumnKind kind = batchColumn < 0 ? null : batch.columnKind(batchColumn);
+                if (binders[index] == null || kinds[index] != kind) {
+                    binders[index] = binderFor(databaseType, dbTypes[index], kind);
+                    kinds[index] = kind;
+                }
+                batchColumns[index] = batchColumn;
+            }
+        }
+
+        void bindRow(PreparedStatement statement, int firstIndex, WriteTaskRowBatch batch, int row) throws Exception {
+            for (int index = 0; index < binders.length; index++) {
+                binders[index].bind(statement, firstIndex + index, batch, batchColumns[index], row);
+            }
+        }
+    }
+}
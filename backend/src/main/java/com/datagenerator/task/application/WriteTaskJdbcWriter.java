@@ -1,38 +1,55 @@
 package com.datagenerator.task.application;
 
+import com.datagenerator.common.support.JsonConfigSupport;
 import com.datagenerator.connection.api.DatabaseColumnResponse;
 import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.TargetMetadataCache;
+import com.datagenerator.connection.application.dialect.DatabaseBulkSession;
 import com.datagenerator.connection.application.dialect.DatabaseDialect;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.domain.TableMode;
 import com.datagenerator.task.domain.WriteTask;
 import com.datagenerator.task.domain.WriteTaskColumn;
+import com.datagenerator.task.domain.WriteTaskScheduleType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Types;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Component;
 
 @Component
 public class WriteTaskJdbcWriter implements WriteTaskDeliveryWriter {
 
-    private final ConnectionJdbcSupport jdbcSupport;
-    private final ObjectMapper objectMapper;
+    private static final String INSERT_STRATEGY = "INSERT";
+    private static final String PARALLEL_STRATEGY = "PARALLEL";
+    static final String CHECKPOINT_STRATEGY = "CHECKPOINT";
+    private static final int DEFAULT_PARALLEL_WRITERS = 4;
+    private static final int DEFAULT_COMMIT_BATCHES = 10;
+    private static final int DEFAULT_STREAM_COMMIT_INTERVAL_SECONDS = 5;
 
-    public WriteTaskJdbcWriter(ConnectionJdbcSupport jdbcSupport, ObjectMapper objectMapper) {
+    private final ConnectionJdbcSupport jdbcSupport;
+    private final WriteTaskJdbcValueConverter valueConverter;
+    private final List<WriteTaskBulkLoader> bulkLoaders;
+    private final TargetMetadataCache metadataCache;
+
+    public WriteTaskJdbcWriter(
+            ConnectionJdbcSupport jdbcSupport,
+            ObjectMapper objectMapper,
+            List<WriteTaskBulkLoader> bulkLoaders,
+            TargetMetadataCache metadataCache
+    ) {
         this.jdbcSupport = jdbcSupport;
-        this.objectMapper = objectMapper;
+        this.valueConverter = new WriteTaskJdbcValueConverter(objectMapper);
+        this.bulkLoaders = bulkLoaders;
+        this.metadataCache = metadataCache;
     }
 
     @Override
@@ -44,12 +61,39 @@ public class WriteTaskJdbcWriter implements WriteTaskDeliveryWriter {
     public WriteTaskDeliveryResult write(
             WriteTask task,
             TargetConnection connection,
-            List<Map<String, Object>> rows,
+            WriteTaskRowStream rows,
             Long executionId
     ) throws Exception {
+        return write(task, connection, rows, executionId, null);
+    }
+
+    @Override
+    public WriteTaskDeliveryResult write(
+            WriteTask task,
+            TargetConnection connection,
+            WriteTaskRowStream rows,
+            Long executionId,
+            WriteTaskCheckpoint checkpoint
+    ) throws Exception {
+        Map<String, Object> targetConfig = JsonConfigSupport.readConfig(task.getTargetConfigJson(), "targetConfigJson");
+        String writeStrategy = JsonConfigSupport.optionalString(targetConfig, "writeStrategy");
+        boolean streaming = task.getScheduleType() == WriteTaskScheduleType.STREAM;
+        if (PARALLEL_STRATEGY.equalsIgnoreCase(writeStrategy) && !streaming) {
+            return writeParallel(task, connection, rows, executionId, targetConfig);
+        }
+        if (CHECKPOINT_STRATEGY.equalsIgnoreCase(writeStrategy) || streaming) {
+            return writeCheckpointed(
+                    task,
+                    connection,
+                    rows,
+                    checkpoint == null ? new WriteTaskCheckpoint(0, 0, (chunkIndex, rowCount) -> {
+                    }) : checkpoint,
+                    targetConfig
+            );
+        }
         try (Connection jdbcConnection = openTransactionalConnection(connection)) {
             try {
-                WriteTaskDeliveryResult result = writeWithinTransaction(task, connection, jdbcConnection, rows, executionId);
+                WriteTaskDeliveryResult result = writeWithinTransaction(task, connection, jdbcConnection, rows, executionId, true);
                 jdbcConnection.commit();
                 return result;
             } catch (Exception exception) {
@@ -69,72 +113,560 @@ public class WriteTaskJdbcWriter implements WriteTaskDeliveryWriter {
         return jdbcConnection;
     }
 
+    public void discardConnection(TargetConnection connection, Connection jdbcConnection) throws SQLException {
+        jdbcSupport.evict(connection, jdbcConnection);
+    }
+
+    public DatabaseBulkSession openBulkSession(
+            TargetConnection connection,
+            Connection jdbcConnection,
+            List<String> tableNames
+    ) throws SQLException {
+        Boolean enabled = JsonConfigSupport.optionalBoolean(
+                JsonConfigSupport.readConfig(connection.getConfigJson(), "连接配置"),
+                "bulkSession"
+        );
+        if (!Boolean.TRUE.equals(enabled)) {
+            return null;
+        }
+        return jdbcSupport.dialect(connection.getDbType()).beginBulkSession(jdbcConnection, connection, tableNames);
+    }
+
     public WriteTaskDeliveryResult writeWithinTransaction(
             WriteTask task,
             TargetConnection connection,
             Connection jdbcConnection,
             List<Map<String, Object>> rows,
             Long executionId
+    ) throws Exception {
+        return writeWithinTransaction(task, connection, jdbcConnection, WriteTaskRowStream.of(rows), executionId);
+    }
+
+    public WriteTaskDeliveryResult writeWithinTransaction(
+            WriteTask task,
+            TargetConnection connection,
+            Connection jdbcConnection,
+            WriteTaskRowStream rows,
+            Long executionId
+    ) throws Exception {
+        return writeWithinTransaction(task, connection, jdbcConnection, rows, executionId, false);
+    }
+
+    private WriteTaskDeliveryResult writeWithinTransaction(
+            WriteTask task,
+            TargetConnection connection,
+            Connection jdbcConnection,
+            WriteTaskRowStream rows,
+            Long executionId,
+            boolean allowStagingSwap
     ) throws Exception {
         DatabaseDialect dialect = jdbcSupport.dialect(connection.getDbType());
+        WriteTaskBulkLoader bulkLoader = resolveBulkLoader(task, connection.getDbType());
+        Map<String, Object> targetConfig = JsonConfigSupport.readConfig(task.getTargetConfigJson(), "targetConfigJson");
+        RowCountMode rowCountMode = resolveRowCountMode(targetConfig);
         if (task.getTableMode() == com.datagenerator.task.domain.TableMode.CREATE_IF_MISSING) {
-            dialect.createTableIfMissing(jdbcConnection, connection, task);
+            createTableIfMissing(dialect, jdbcConnection, connection, task);
         }
-        Long beforeRowCount = tryCountRows(jdbcConnection, connection, task.getTableName());
+        Long beforeRowCount = readRowCount(rowCountMode, jdbcConnection, connection, task.getTableName());
+        OverwriteTarget overwrite = prepareOverwrite(dialect, jdbcConnection, connection, task, targetConfig, allowStagingSwap);
 
-        if (task.getWriteMode() == com.datagenerator.task.domain.WriteMode.OVERWRITE) {
-            dialect.clearTargetTable(jdbcConnection, connection, task.getTableName());
+        long writeStartedAt = System.nanoTime();
+        long writtenRowCount;
+        try {
+            writtenRowCount = rows.hasNext()
+                    ? insertRows(
+                            jdbcConnection,
+                            task,
+                            connection,
+                            overwrite.tableName(),
+                            resolveInsertColumns(jdbcConnection, task, connection),
+                            rows,
+                            bulkLoader
+                    )
+                    : 0;
+            completeOverwrite(dialect, jdbcConnection, connection, task, overwrite);
+        } catch (Exception exception) {
+            discardStagingTable(dialect, jdbcConnection, connection, overwrite);
+            throw exception;
+        }
+        long writeDurationNanos = System.nanoTime() - writeStartedAt;
+        Long afterRowCount = readAfterRowCount(
+                rowCountMode,
+                jdbcConnection,
+                connection,
+                task.getTableName(),
+                beforeRowCount,
+                task.getWriteMode() == com.datagenerator.task.domain.WriteMode.OVERWRITE,
+                writtenRowCount
+        );
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("deliveryType", "JDBC");
+        details.put("loadStrategy", bulkLoader == null ? INSERT_STRATEGY : bulkLoader.strategy());
+        putOverwriteMode(details, overwrite);
+        putRowCounts(details, rowCountMode, beforeRowCount, afterRowCount, writtenRowCount);
+        details.put("writtenRowCount", writtenRowCount);
+        details.put("chunkCount", rows.generatedChunkCount());
+        details.put("writeDurationMs", writeDurationNanos / 1_000_000);
+        details.put("rowsPerSecond", writeDurationNanos <= 0 ? 0 : Math.round(writtenRowCount * 1_000_000_000D / writeDurationNanos));
+
+        return new WriteTaskDeliveryResult(writtenRowCount, 0, "目标表写入完成", details);
+    }
+
+    private WriteTaskDeliveryResult writeParallel(
+            WriteTask task,
+            TargetConnection connection,
+            WriteTaskRowStream rows,
+            Long executionId,
+            Map<String, Object> targetConfig
+    ) throws Exception {
+        DatabaseDialect dialect = jdbcSupport.dialect(connection.getDbType());
+        WriteTaskBulkLoader bulkLoader = resolveBulkLoader(task, connection.getDbType());
+        int parallelWriters = resolveParallelWriters(connection, targetConfig);
+        RowCountMode rowCountMode = resolveRowCountMode(targetConfig);
+        Integer configuredCommitEveryRows = JsonConfigSupport.optionalInteger(targetConfig, "commitEveryRows");
+        long commitEveryRows = configuredCommitEveryRows == null
+                ? (long) task.getBatchSize() * DEFAULT_COMMIT_BATCHES
+                : configuredCommitEveryRows;
+
+        Long beforeRowCount;
+        List<WriteTaskColumn> columns;
+        OverwriteTarget overwrite;
+        try (Connection jdbcConnection = openTransactionalConnection(connection)) {
+            try {
+                if (task.getTableMode() == TableMode.CREATE_IF_MISSING) {
+                    createTableIfMissing(dialect, jdbcConnection, connection, task);
+                }
+                beforeRowCount = readRowCount(rowCountMode, jdbcConnection, connection, task.getTableName());
+                overwrite = prepareOverwrite(dialect, jdbcConnection, connection, task, targetConfig, true);
+                columns = resolveInsertColumns(jdbcConnection, task, connection);
+                jdbcConnection.commit();
+            } catch (Exception exception) {
+                jdbcConnection.rollback();
+                throw exception;
+            }
+        }
+
+        WriteTaskJdbcPartitionedLoad load = new WriteTaskJdbcPartitionedLoad(
+                parallelWriters,
+                commitEveryRows,
+                () -> jdbcSupport.open(connection),
+                (jdbcConnection, segment) -> insertRows(
+                        jdbcConnection,
+                        task,
+                        connection,
+                        overwrite.tableName(),
+                        columns,
+                        segment,
+                        bulkLoader
+                ),
+                "mdg-jdbc-" + (executionId == null ? task.getId() : executionId)
+        );
+        long writeStartedAt = System.nanoTime();
+        long writtenRowCount;
+        try {
+            writtenRowCount = load.run(rows);
+            if (overwrite.stagingTableName() != null) {
+                try (Connection jdbcConnection = openTransactionalConnection(connection)) {
+                    try {
+                        completeOverwrite(dialect, jdbcConnection, connection, task, overwrite);
+                        jdbcConnection.commit();
+                    } catch (Exception exception) {
+                        jdbcConnection.rollback();
+                        throw exception;
+                    }
+                }
+            }
+        } catch (Exception exception) {
+            if (overwrite.stagingTableName() != null) {
+                try (Connection jdbcConnection = jdbcSupport.open(connection)) {
+                    discardStagingTable(dialect, jdbcConnection, connection, overwrite);
+                } catch (Exception suppressed) {
+                    exception.addSuppressed(suppressed);
+                }
+            }
+            throw exception;
         }
+        long writeDurationNanos = System.nanoTime() - writeStartedAt;
 
-        if (!rows.isEmpty()) {
-            insertRows(jdbcConnection, task, connection, rows);
+        boolean cleared = task.getWriteMode() == com.datagenerator.task.domain.WriteMode.OVERWRITE;
+        Long afterRowCount;
+        if (rowCountMode == RowCountMode.EXACT) {
+            try (Connection jdbcConnection = jdbcSupport.open(connection)) {
+                afterRowCount = dialect.countRows(jdbcConnection, connection, task.getTableName());
+            }
+        } else {
+            afterRowCount = readAfterRowCount(rowCountMode, null, connection, task.getTableName(), beforeRowCount, cleared, writtenRowCount);
         }
-        long afterRowCount = dialect.countRows(jdbcConnection, connection, task.getTableName());
-        long safeBeforeRowCount = beforeRowCount == null ? 0 : beforeRowCount;
 
         Map<String, Object> details = new LinkedHashMap<>();
         details.put("deliveryType", "JDBC");
-        details.put("beforeWriteRowCount", safeBeforeRowCount);
-        details.put("afterWriteRowCount", afterRowCount);
-        details.put("rowDelta", afterRowCount - safeBeforeRowCount);
-        details.put("writtenRowCount", rows.size());
+        details.put("writeStrategy", PARALLEL_STRATEGY);
+        details.put("loadStrategy", bulkLoader == null ? INSERT_STRATEGY : bulkLoader.strategy());
+        details.put("parallelWriters", parallelWriters);
+        details.put("commitEveryRows", commitEveryRows);
+        putOverwriteMode(details, overwrite);
+        putRowCounts(details, rowCountMode, beforeRowCount, afterRowCount, writtenRowCount);
+        details.put("writtenRowCount", writtenRowCount);
+        details.put("chunkCount", rows.generatedChunkCount());
+        details.put("writeDurationMs", writeDurationNanos / 1_000_000);
+        details.put("rowsPerSecond", writeDurationNanos <= 0 ? 0 : Math.round(writtenRowCount * 1_000_000_000D / writeDurationNanos));
+        details.put("partitions", load.partitionDetails());
+
+        return new WriteTaskDeliveryResult(writtenRowCount, 0, "目标表并行写入完成", details);
+    }
+
+    private WriteTaskDeliveryResult writeCheckpointed(
+            WriteTask task,
+            TargetConnection connection,
+            WriteTaskRowStream rows,
+            WriteTaskCheckpoint checkpoint,
+            Map<String, Object> targetConfig
+    ) throws Exception {
+        DatabaseDialect dialect = jdbcSupport.dialect(connection.getDbType());
+        WriteTaskBulkLoader bulkLoader = resolveBulkLoader(task, connection.getDbType());
+        Integer configuredCommitEveryBatches = JsonConfigSupport.optionalInteger(targetConfig, "commitEveryBatches");
+        int commitEveryBatches = configuredCommitEveryBatches == null ? DEFAULT_COMMIT_BATCHES : configuredCommitEveryBatches;
+        Integer configuredCommitIntervalSeconds = JsonConfigSupport.optionalInteger(targetConfig, "commitIntervalSeconds");
+        int commitIntervalSeconds = configuredCommitIntervalSeconds != null
+                ? configuredCommitIntervalSeconds
+                : task.getScheduleType() == WriteTaskScheduleType.STREAM ? DEFAULT_STREAM_COMMIT_INTERVAL_SECONDS : 0;
+        long commitIntervalNanos = TimeUnit.SECONDS.toNanos(commitIntervalSeconds);
+        RowCountMode rowCountMode = resolveRowCountMode(targetConfig);
+        boolean cleared = !checkpoint.resuming() && task.getWriteMode() == com.datagenerator.task.domain.WriteMode.OVERWRITE;
+
+        try (Connection jdbcConnection = openTransactionalConnection(connection)) {
+            Long beforeRowCount;
+            List<WriteTaskColumn> columns;
+            OverwriteTarget overwrite = null;
+            try {
+                if (task.getTableMode() == TableMode.CREATE_IF_MISSING) {
+                    createTableIfMissing(dialect, jdbcConnection, connection, task);
+                }
+                beforeRowCount = readRowCount(rowCountMode, jdbcConnection, connection, task.getTableName());
+                if (cleared) {
+                    overwrite = prepareOverwrite(dialect, jdbcConnection, connection, task, targetConfig, false);
+                }
+                columns = resolveInsertColumns(jdbcConnection, task, connection);
+                jdbcConnection.commit();
+            } catch (Exception exception) {
+                jdbcConnection.rollback();
+                throw exception;
+            }
+            checkpoint.mark();
+
+            long writeStartedAt = System.nanoTime();
+            long writtenRowCount = 0;
+            int commitCount = 0;
+            try {
+                while (rows.hasNext()) {
+                    long[] segmentChunks = {0};
+                    long[] segmentRows = {0};
+                    long segmentStartedAt = System.nanoTime();
+                    WriteTaskRowStream segment = WriteTaskRowStream.of(0, () -> {
+                        if (segmentChunks[0] >= commitEveryBatches
+                                || (commitIntervalNanos > 0 && System.nanoTime() - segmentStartedAt >= commitIntervalNanos)
+                                || !rows.hasNext()) {
+                            return null;
+                        }
+                        WriteTaskRowBatch batch = rows.next();
+                        segmentChunks[0]++;
+                        segmentRows[0] += batch.size();
+                        return batch;
+                    });
+                    long written = insertRows(jdbcConnection, task, connection, task.getTableName(), columns, segment, bulkLoader);
+                    jdbcConnection.commit();
+                    writtenRowCount += written;
+                    commitCount++;
+                    checkpoint.advance(segmentChunks[0], segmentRows[0]);
+                }
+            } catch (Exception exception) {
+                jdbcConnection.rollback();
+                throw exception;
+            }
+            long writeDurationNanos = System.nanoTime() - writeStartedAt;
+            Long afterRowCount = readAfterRowCount(
+                    rowCountMode,
+                    jdbcConnection,
+                    connection,
+                    task.getTableName(),
+                    beforeRowCount,
+                    cleared,
+                    writtenRowCount
+            );
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("deliveryType", "JDBC");
+            details.put("writeStrategy", CHECKPOINT_STRATEGY);
+            details.put("loadStrategy", bulkLoader == null ? INSERT_STRATEGY : bulkLoader.strategy());
+            details.put("commitEveryBatches", commitEveryBatches);
+            if (commitIntervalSeconds > 0) {
+                details.put("commitIntervalSeconds", commitIntervalSeconds);
+            }
+            details.put("commitCount", commitCount);
+            if (overwrite != null) {
+                putOverwriteMode(details, overwrite);
+            }
+            details.put("resumedFromRowCount", checkpoint.startRowCount());
+            details.put("checkpointChunkIndex", checkpoint.chunkIndex());
+            details.put("checkpointRowCount", checkpoint.rowCount());
+            putRowCounts(details, rowCountMode, beforeRowCount, afterRowCount, writtenRowCount);
+            details.put("writtenRowCount", writtenRowCount);
+            details.put("chunkCount", rows.generatedChunkCount());
+            details.put("writeDurationMs", writeDurationNanos / 1_000_000);
+            details.put("rowsPerSecond", writeDurationNanos <= 0 ? 0 : Math.round(writtenRowCount * 1_000_000_000D / writeDurationNanos));
+
+            return new WriteTaskDeliveryResult(writtenRowCount, 0, "目标表分段提交写入完成", details);
+        }
+    }
 
-        return new WriteTaskDeliveryResult(rows.size(), 0, "目标表写入完成", details);
+    private int resolveParallelWriters(TargetConnection connection, Map<String, Object> targetConfig) {
+        Integer requested = JsonConfigSupport.optionalInteger(targetConfig, "parallelWriters");
+        int parallelWriters = requested == null ? DEFAULT_PARALLEL_WRITERS : requested;
+        Integer connectionLimit = JsonConfigSupport.optionalInteger(
+                JsonConfigSupport.readConfig(connection.getConfigJson(), "连接配置"),
+                "maxParallelWriters"
+        );
+        if (connectionLimit != null && connectionLimit > 0) {
+            parallelWriters = Math.min(parallelWriters, connectionLimit);
+        }
+        int poolLimit = connection.getId() == null ? 0 : jdbcSupport.maxPooledConnections();
+        if (poolLimit > 0) {
+            parallelWriters = Math.min(parallelWriters, poolLimit);
+        }
+        return Math.max(1, Math.min(parallelWriters, WriteTaskJdbcPartitionedLoad.MAX_PARALLEL_WRITERS));
     }
 
-    private Long tryCountRows(Connection connection, TargetConnection targetConnection, String tableName) {
+    private RowCountMode resolveRowCountMode(Map<String, Object> targetConfig) {
+        String mode = JsonConfigSupport.optionalString(targetConfig, "rowCountMode");
+        if (mode == null || mode.isBlank()) {
+            return RowCountMode.BATCH;
+        }
         try {
-            return jdbcSupport.dialect(targetConnection.getDbType()).countRows(connection, targetConnection, tableName);
+            return RowCountMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("不支持的行数统计模式: " + mode);
+        }
+    }
+
+    private Long readRowCount(
+            RowCountMode mode,
+            Connection connection,
+            TargetConnection targetConnection,
+            String tableName
+    ) {
+        DatabaseDialect dialect = jdbcSupport.dialect(targetConnection.getDbType());
+        try {
+            return switch (mode) {
+                case EXACT -> dialect.countRows(connection, targetConnection, tableName);
+                case ESTIMATE -> dialect.estimateRowCount(connection, targetConnection, tableName);
+                case BATCH -> null;
+            };
         } catch (SQLException exception) {
             return null;
         }
     }
 
-    private void insertRows(Connection connection, WriteTask task, TargetConnection targetConnection, List<Map<String, Object>> rows) throws Exception {
+    private Long readAfterRowCount(
+            RowCountMode mode,
+            Connection connection,
+            TargetConnection targetConnection,
+            String tableName,
+            Long beforeRowCount,
+            boolean cleared,
+            long writtenRowCount
+    ) throws SQLException {
+        if (mode == RowCountMode.EXACT) {
+            return jdbcSupport.dialect(targetConnection.getDbType()).countRows(connection, targetConnection, tableName);
+        }
+        if (cleared) {
+            return writtenRowCount;
+        }
+        return beforeRowCount == null ? null : beforeRowCount + writtenRowCount;
+    }
+
+    private void putRowCounts(
+            Map<String, Object> details,
+            RowCountMode mode,
+            Long beforeRowCount,
+            Long afterRowCount,
+            long writtenRowCount
+    ) {
+        details.put("rowCountMode", mode.name());
+        if (mode == RowCountMode.EXACT) {
+            long safeBeforeRowCount = beforeRowCount == null ? 0 : beforeRowCount;
+            details.put("beforeWriteRowCount", safeBeforeRowCount);
+            details.put("afterWriteRowCount", afterRowCount);
+            details.put("rowDelta", afterRowCount - safeBeforeRowCount);
+            return;
+        }
+        if (beforeRowCount != null) {
+            details.put("beforeWriteRowCount", beforeRowCount);
+        }
+        if (afterRowCount != null) {
+            details.put("afterWriteRowCount", afterRowCount);
+        }
+        details.put("rowDelta", beforeRowCount == null || afterRowCount == null ? writtenRowCount : afterRowCount - beforeRowCount);
+    }
+
+    private long affectedRows(int[] updateCounts, int batchRows) {
+        if (updateCounts == null || updateCounts.length != batchRows) {
+            return batchRows;
+        }
+        long affected = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount >= 0) {
+                affected += updateCount;
+            } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                affected++;
+            }
+        }
+        return affected;
+    }
+
+    private WriteTaskBulkLoader resolveBulkLoader(WriteTask task, DatabaseType databaseType) {
+        Map<String, Object> targetConfig = JsonConfigSupport.readConfig(task.getTargetConfigJson(), "targetConfigJson");
+        String strategy = JsonConfigSupport.optionalString(targetConfig, "loadStrategy");
+        if (strategy == null || INSERT_STRATEGY.equalsIgnoreCase(strategy)) {
+            return null;
+        }
+        return bulkLoaders.stream()
+                .filter(loader -> loader.strategy().equalsIgnoreCase(strategy) && loader.supports(databaseType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("当前数据库不支持写入策略: " + strategy));
+    }
+
+    private List<WriteTaskColumn> resolveInsertColumns(
+            Connection connection,
+            WriteTask task,
+            TargetConnection targetConnection
+    ) throws Exception {
         List<WriteTaskColumn> columns = resolveEffectiveColumns(connection, task, targetConnection);
         if (columns.isEmpty()) {
             throw new IllegalArgumentException("写入任务缺少字段定义");
         }
+        return columns;
+    }
+
+    private long insertRows(
+            Connection connection,
+            WriteTask task,
+            TargetConnection targetConnection,
+            String tableName,
+            List<WriteTaskColumn> columns,
+            WriteTaskRowStream rows,
+            WriteTaskBulkLoader bulkLoader
+    ) throws Exception {
+        if (bulkLoader != null) {
+            return bulkLoader.load(connection, targetConnection, task, tableName, columns, rows);
+        }
 
-        String sql = jdbcSupport.dialect(targetConnection.getDbType()).buildInsertSql(targetConnection, task.getTableName(), columns);
+        String sql = jdbcSupport.dialect(targetConnection.getDbType()).buildInsertSql(targetConnection, tableName, columns);
+        long writtenRowCount = 0;
+        WriteTaskJdbcValueConverter.RowBinder rowBinder = valueConverter.rowBinder(targetConnection.getDbType(), columns);
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
             int currentBatchSize = 0;
-            for (Map<String, Object> row : rows) {
-                for (int index = 0; index < columns.size(); index++) {
-                    WriteTaskColumn column = columns.get(index);
-                    bindValue(statement, index + 1, targetConnection.getDbType(), column, row.get(column.getColumnName()));
-                }
-                statement.addBatch();
-                currentBatchSize++;
-                if (currentBatchSize >= task.getBatchSize()) {
-                    statement.executeBatch();
-                    currentBatchSize = 0;
+            while (rows.hasNext()) {
+                WriteTaskRowBatch batch = rows.next();
+                rowBinder.bind(batch);
+                for (int row = 0; row < batch.size(); row++) {
+                    rowBinder.bindRow(statement, 1, batch, row);
+                    statement.addBatch();
+                    currentBatchSize++;
+                    if (currentBatchSize >= task.getBatchSize()) {
+                        writtenRowCount += affectedRows(statement.executeBatch(), currentBatchSize);
+                        currentBatchSize = 0;
+                    }
                 }
             }
             if (currentBatchSize > 0) {
-                statement.executeBatch();
+                writtenRowCount += affectedRows(statement.executeBatch(), currentBatchSize);
+            }
+        }
+        return writtenRowCount;
+    }
+
+    private OverwriteTarget prepareOverwrite(
+            DatabaseDialect dialect,
+            Connection jdbcConnection,
+            TargetConnection connection,
+            WriteTask task,
+            Map<String, Object> targetConfig,
+            boolean allowStagingSwap
+    ) throws SQLException {
+        if (task.getWriteMode() != com.datagenerator.task.domain.WriteMode.OVERWRITE) {
+            return new OverwriteTarget(null, task.getTableName(), null);
+        }
+        OverwriteMode mode = resolveOverwriteMode(targetConfig);
+        if (mode == OverwriteMode.SWAP && allowStagingSwap) {
+            String stagingTableName = dialect.createStagingTable(jdbcConnection, connection, task.getTableName());
+            if (stagingTableName != null) {
+                return new OverwriteTarget(OverwriteMode.SWAP, stagingTableName, stagingTableName);
             }
         }
+        if (mode == OverwriteMode.DELETE) {
+            dialect.clearTargetTable(jdbcConnection, connection, task.getTableName());
+            return new OverwriteTarget(OverwriteMode.DELETE, task.getTableName(), null);
+        }
+        boolean truncated = dialect.truncateTargetTable(jdbcConnection, connection, task.getTableName());
+        return new OverwriteTarget(truncated ? OverwriteMode.TRUNCATE : OverwriteMode.DELETE, task.getTableName(), null);
+    }
+
+    private void completeOverwrite(
+            DatabaseDialect dialect,
+            Connection jdbcConnection,
+            TargetConnection connection,
+            WriteTask task,
+            OverwriteTarget overwrite
+    ) throws SQLException {
+        if (overwrite.stagingTableName() == null) {
+            return;
+        }
+        dialect.swapStagingTable(jdbcConnection, connection, task.getTableName(), overwrite.stagingTableName());
+        metadataCache.invalidate(connection.getId(), dialect.quoteQualifiedIdentifier(connection, task.getTableName()));
+    }
+
+    private void discardStagingTable(
+            DatabaseDialect dialect,
+            Connection jdbcConnection,
+            TargetConnection connection,
+            OverwriteTarget overwrite
+    ) {
+        if (overwrite.stagingTableName() == null) {
+            return;
+        }
+        try {
+            dialect.dropStagingTable(jdbcConnection, connection, overwrite.stagingTableName());
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private OverwriteMode resolveOverwriteMode(Map<String, Object> targetConfig) {
+        String mode = JsonConfigSupport.optionalString(targetConfig, "overwriteMode");
+        if (mode == null || mode.isBlank()) {
+            return OverwriteMode.DELETE;
+        }
+        try {
+            return OverwriteMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("不支持的覆盖写入模式: " + mode);
+        }
+    }
+
+    private void putOverwriteMode(Map<String, Object> details, OverwriteTarget overwrite) {
+        if (overwrite.mode() != null) {
+            details.put("overwriteMode", overwrite.mode().name());
+        }
+    }
+
+    private void createTableIfMissing(
+            DatabaseDialect dialect,
+            Connection jdbcConnection,
+            TargetConnection connection,
+            WriteTask task
+    ) throws SQLException {
+        dialect.createTableIfMissing(jdbcConnection, connection, task);
+        metadataCache.invalidate(connection.getId(), dialect.quoteQualifiedIdentifier(connection, task.getTableName()));
     }
 
     private List<WriteTaskColumn> resolveEffectiveColumns(
@@ -148,7 +680,12 @@ public class WriteTaskJdbcWriter implements WriteTaskDeliveryWriter {
         }
 
         DatabaseDialect dialect = jdbcSupport.dialect(targetConnection.getDbType());
-        List<DatabaseColumnResponse> actualColumns = dialect.listColumns(connection, targetConnection, task.getTableName());
+        List<DatabaseColumnResponse> actualColumns = metadataCache.get(
+                targetConnection,
+                TargetMetadataCache.Kind.COLUMNS,
+                dialect.quoteQualifiedIdentifier(targetConnection, task.getTableName()),
+                () -> dialect.listColumns(connection, targetConnection, task.getTableName())
+        );
         if (actualColumns.isEmpty()) {
             return columns;
         }
@@ -212,142 +749,18 @@ public class WriteTaskJdbcWriter implements WriteTaskDeliveryWriter {
         return copy;
     }
 
-    private void bindValue(
-            PreparedStatement statement,
-            int index,
-            DatabaseType databaseType,
-            WriteTaskColumn column,
-            Object value
-    ) throws Exception {
-        String dbType = column.getDbType() == null ? "" : column.getDbType().toUpperCase(Locale.ROOT);
-        if (isPostgresqlJsonType(databaseType, dbType)) {
-            bindPostgresqlJsonValue(statement, index, value);
-            return;
-        }
-        if (value == null) {
-            statement.setObject(index, null);
-            return;
-        }
-        if (value instanceof String stringValue) {
-            if (dbType.contains("TIMESTAMP") || dbType.contains("DATETIME")) {
-                statement.setTimestamp(index, parseTimestamp(stringValue));
-                return;
-            }
-            if ("DATE".equals(dbType)) {
-                statement.setObject(index, parseDate(stringValue));
-                return;
-            }
-            statement.setString(index, stringValue);
-            return;
-        }
-        if (value instanceof Integer integerValue) {
-            statement.setInt(index, integerValue);
-            return;
-        }
-        if (value instanceof Long longValue) {
-            statement.setLong(index, longValue);
-            return;
-        }
-        if (value instanceof Boolean booleanValue) {
-            statement.setBoolean(index, booleanValue);
-            return;
-        }
-        if (value instanceof Double doubleValue) {
-            statement.setDouble(index, doubleValue);
-            return;
-        }
-        if (value instanceof Float floatValue) {
-            statement.setFloat(index, floatValue);
-            return;
-        }
-        if (value instanceof java.math.BigDecimal bigDecimalValue) {
-            statement.setBigDecimal(index, bigDecimalValue);
-            return;
-        }
-        if (value instanceof Instant instantValue) {
-            statement.setTimestamp(index, java.sql.Timestamp.from(instantValue));
-            return;
-        }
-        if (value instanceof LocalDateTime localDateTimeValue) {
-            statement.setObject(index, localDateTimeValue);
-            return;
-        }
-        if (value instanceof LocalDate localDateValue) {
-            statement.setObject(index, localDateValue);
-            return;
-        }
-        if (value instanceof Map<?, ?> || value instanceof List<?>) {
-            statement.setString(index, objectMapper.writeValueAsString(value));
-            return;
-        }
-        statement.setObject(index, value);
-    }
-
-    private boolean isPostgresqlJsonType(DatabaseType databaseType, String dbType) {
-        return databaseType == DatabaseType.POSTGRESQL && ("JSON".equals(dbType) || "JSONB".equals(dbType));
-    }
-
-    private void bindPostgresqlJsonValue(PreparedStatement statement, int index, Object value) throws Exception {
-        if (value == null) {
-            statement.setNull(index, Types.OTHER);
-            return;
-        }
-        statement.setObject(index, normalizeJsonValue(value), Types.OTHER);
+    private enum RowCountMode {
+        BATCH,
+        ESTIMATE,
+        EXACT
     }
 
-    private String normalizeJsonValue(Object value) throws Exception {
-        if (value instanceof String stringValue) {
-            String trimmed = stringValue.trim();
-            if (!trimmed.isEmpty()) {
-                try {
-                    objectMapper.readTree(trimmed);
-                    return trimmed;
-                } catch (Exception ignored) {
-                }
-            }
-            return objectMapper.writeValueAsString(stringValue);
-        }
-        return objectMapper.writeValueAsString(value);
+    private enum OverwriteMode {
+        DELETE,
+        TRUNCATE,
+        SWAP
     }
 
-    private java.sql.Timestamp parseTimestamp(String value) {
-        try {
-            return java.sql.Timestamp.from(Instant.parse(value));
-        } catch (Exception ignored) {
-        }
-
-        try {
-            return java.sql.Timestamp.from(OffsetDateTime.parse(value).toInstant());
-        } catch (Exception ignored) {
-        }
-
-        try {
-            return java.sql.Timestamp.valueOf(LocalDateTime.parse(value.replace(" ", "T")));
-        } catch (Exception exception) {
-            throw new IllegalArgumentException("无法解析时间值: " + value, exception);
-        }
-    }
-
-    private LocalDate parseDate(String value) {
-        try {
-            return LocalDate.parse(value);
-        } catch (Exception ignored) {
-        }
-
-        try {
-            return Instant.parse(value).atZone(java.time.ZoneOffset.UTC).toLocalDate();
-        } catch (Exception ignored) {
-        }
-
-        try {
-            return OffsetDateTime.parse(value).toLocalDate();
-        } catch (Exception ignored) {
-        }
-
-        try {
-            return LocalDateTime.parse(value.replace(" ", "T")).toLocalDate();
-        } catch (Exception exception) {
-            throw new IllegalArgumentException("无法解析日期值: " + value, exception);
-        }
+    private record OverwriteTarget(OverwriteMode mode, String tableName, String stagingTableName) {
     }
 }
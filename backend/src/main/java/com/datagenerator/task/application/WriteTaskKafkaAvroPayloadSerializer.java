@@ -0,0 +1,144 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.task.domain.KafkaPayloadNodeType;
+import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+final class WriteTaskKafkaAvroPayloadSerializer implements WriteTaskKafkaPayloadSerializer {
+
+    static final int DECIMAL_PRECISION = 38;
+
+    private static final int DEFAULT_DECIMAL_SCALE = 2;
+
+    private final KafkaPayloadSchemaNode[] rootFields;
+    private byte[] buffer = new byte[256];
+    private int length;
+    private WriteTaskRowBatch boundBatch;
+    private int[] rootColumns = new int[0];
+
+    WriteTaskKafkaAvroPayloadSerializer(KafkaPayloadSchemaNode payloadSchema) {
+        if (payloadSchema == null || payloadSchema.type() != KafkaPayloadNodeType.OBJECT) {
+            throw new IllegalArgumentException("Kafka AVRO 负载格式要求消息 Schema 根节点为 OBJECT");
+        }
+        this.rootFields = payloadSchema.childrenOrEmpty().toArray(KafkaPayloadSchemaNode[]::new);
+    }
+
+    static int decimalScale(KafkaPayloadSchemaNode node) {
+        Object scale = node.generatorConfigOrEmpty().get("scale");
+        if (scale instanceof Number number) {
+            return number.intValue();
+        }
+        if (scale != null && !scale.toString().isBlank()) {
+            return Integer.parseInt(scale.toString().trim());
+        }
+        return DEFAULT_DECIMAL_SCALE;
+    }
+
+    @Override
+    public String format() {
+        return "AVRO";
+    }
+
+    @Override
+    public byte[] serialize(WriteTaskRowBatch batch, int row) {
+        if (batch != boundBatch) {
+            rootColumns = new int[rootFields.length];
+            for (int index = 0; index < rootFields.length; index++) {
+                rootColumns[index] = batch.columnIndex(rootFields[index].name());
+            }
+            boundBatch = batch;
+        }
+        length = 0;
+        for (int index = 0; index < rootFields.length; index++) {
+            int column = rootColumns[index];
+            writeNode(rootFields[index], column < 0 ? null : batch.getObject(column, row), rootFields[index].name());
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private void writeNode(KafkaPayloadSchemaNode node, Object value, String path) {
+        if (node.nullableOrDefault()) {
+            if (value == null) {
+                writeLong(0);
+                return;
+            }
+            writeLong(1);
+        } else if (value == null) {
+            throw new IllegalArgumentException("Avro 字段 " + path + " 不能为空");
+        }
+
+        switch (node.type()) {
+            case OBJECT -> {
+                if (!(value instanceof Map<?, ?> mapValue)) {
+                    throw new IllegalArgumentException("Avro 字段 " + path + " 需要对象值");
+                }
+                for (KafkaPayloadSchemaNode child : node.childrenOrEmpty()) {
+                    writeNode(child, mapValue.get(child.name()), path + "." + child.name());
+                }
+            }
+            case ARRAY -> {
+                if (!(value instanceof List<?> listValue)) {
+                    throw new IllegalArgumentException("Avro 字段 " + path + " 需要数组值");
+                }
+                if (!listValue.isEmpty()) {
+                    writeLong(listValue.size());
+                    for (Object item : listValue) {
+                        writeNode(node.itemSchema(), item, path + "[]");
+                    }
+                }
+                writeLong(0);
+            }
+            case SCALAR -> writeScalar(node, value);
+        }
+    }
+
+    private void writeScalar(KafkaPayloadSchemaNode node, Object value) {
+        switch (node.valueType()) {
+            case STRING, DATETIME, UUID -> {
+                byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                writeLong(bytes.length);
+                writeBytes(bytes);
+            }
+            case INT -> writeLong(value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString().trim()));
+            case LONG -> writeLong(value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim()));
+            case DECIMAL -> {
+                BigDecimal decimal = value instanceof BigDecimal bigDecimal ? bigDecimal : new BigDecimal(value.toString().trim());
+                byte[] unscaled = decimal.setScale(decimalScale(node), RoundingMode.HALF_UP).unscaledValue().toByteArray();
+                writeLong(unscaled.length);
+                writeBytes(unscaled);
+            }
+            case BOOLEAN -> {
+                boolean booleanValue = value instanceof Boolean bool ? bool : Boolean.parseBoolean(value.toString().trim());
+                ensureCapacity(1);
+                buffer[length++] = (byte) (booleanValue ? 1 : 0);
+            }
+        }
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(10);
+        long encoded = (value << 1) ^ (value >> 63);
+        while ((encoded & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((encoded & 0x7F) | 0x80);
+            encoded >>>= 7;
+        }
+        buffer[length++] = (byte) encoded;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.task.domain.KafkaPayloadNodeType;
+import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class WriteTaskKafkaJsonPayloadSerializer implements WriteTaskKafkaPayloadSerializer {
+
+    private final ObjectMapper objectMapper;
+    private final boolean columnarJson;
+    private final boolean writeNullFields;
+    private final boolean writeNestedNullFields;
+    private final Map<String, KafkaPayloadSchemaNode> rootFields;
+    private final Map<KafkaPayloadSchemaNode, Map<String, KafkaPayloadSchemaNode>> childIndexes = new IdentityHashMap<>();
+    private final PayloadBuffer buffer = new PayloadBuffer();
+    private JsonGenerator generator;
+    private WriteTaskRowBatch boundBatch;
+    private KafkaPayloadSchemaNode[] columnSchemas = new KafkaPayloadSchemaNode[0];
+
+    WriteTaskKafkaJsonPayloadSerializer(ObjectMapper objectMapper, KafkaPayloadSchemaNode payloadSchema) {
+        this.objectMapper = objectMapper;
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig().getDefaultPropertyInclusion().getValueInclusion();
+        this.writeNullFields = inclusion == null
+                || inclusion == JsonInclude.Include.ALWAYS
+                || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        this.columnarJson = writeNullFields
+                || inclusion == JsonInclude.Include.NON_NULL
+                || inclusion == JsonInclude.Include.NON_ABSENT;
+        this.writeNestedNullFields = writesNullMapValues(objectMapper);
+        this.rootFields = payloadSchema == null || payloadSchema.type() != KafkaPayloadNodeType.OBJECT
+                ? Map.of()
+                : childIndex(payloadSchema);
+    }
+
+    @Override
+    public String format() {
+        return "JSON";
+    }
+
+    @Override
+    public byte[] serialize(WriteTaskRowBatch batch, int row) throws IOException {
+        if (!columnarJson) {
+            return objectMapper.writeValueAsBytes(batch.rowView(row));
+        }
+        if (batch != boundBatch) {
+            bind(batch);
+        }
+        try {
+            JsonGenerator json = generator();
+            json.writeStartObject();
+            for (int column = 0; column < batch.columnCount(); column++) {
+                if (batch.isNull(column, row)) {
+                    if (writeNullFields) {
+                        json.writeNullField(batch.columnName(column));
+                    }
+                    continue;
+                }
+                json.writeFieldName(batch.columnName(column));
+                switch (batch.columnKind(column)) {
+                    case LONG -> json.writeNumber(batch.getLong(column, row));
+                    case DECIMAL -> json.writeNumber(batch.getDecimal(column, row));
+                    case BOOLEAN -> json.writeBoolean(batch.getBoolean(column, row));
+                    case STRING -> json.writeUTF8String(
+                            batch.stringBytes(column),
+                            batch.stringOffset(column, row),
+                            batch.stringLength(column, row)
+                    );
+                    case TIMESTAMP, DATE -> json.writeString((String) batch.getObject(column, row));
+                    case OBJECT -> writeValue(json, columnSchemas[column], batch.getObject(column, row));
+                }
+            }
+            json.writeEndObject();
+            json.flush();
+            return buffer.drain();
+        } catch (IOException | RuntimeException exception) {
+            generator = null;
+            buffer.reset();
+            throw exception;
+        }
+    }
+
+    private void bind(WriteTaskRowBatch batch) {
+        columnSchemas = new KafkaPayloadSchemaNode[batch.columnCount()];
+        for (int column = 0; column < columnSchemas.length; column++) {
+            columnSchemas[column] = rootFields.get(batch.columnName(column));
+        }
+        boundBatch = batch;
+    }
+
+    private JsonGenerator generator() throws IOException {
+        if (generator == null) {
+            buffer.reset();
+            generator = objectMapper.createGenerator(buffer);
+            generator.setRootValueSeparator(null);
+        }
+        return generator;
+    }
+
+    private void writeValue(JsonGenerator json, KafkaPayloadSchemaNode node, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+            return;
+        }
+        if (value instanceof Map<?, ?> mapValue) {
+            writeObject(json, node != null && node.type() == KafkaPayloadNodeType.OBJECT ? node : null, mapValue);
+            return;
+        }
+        if (value instanceof List<?> listValue) {
+            KafkaPayloadSchemaNode itemNode = node != null && node.type() == KafkaPayloadNodeType.ARRAY ? node.itemSchema() : null;
+            json.writeStartArray(listValue, listValue.size());
+            for (Object item : listValue) {
+                writeValue(json, itemNode, item);
+            }
+            json.writeEndArray();
+            return;
+        }
+        if (node != null && node.type() == KafkaPayloadNodeType.SCALAR && node.valueType() != null
+                && writeScalar(json, node, value)) {
+            return;
+        }
+        objectMapper.writeValue(json, value);
+    }
+
+    private void writeObject(JsonGenerator json, KafkaPayloadSchemaNode node, Map<?, ?> value) throws IOException {
+        Map<String, KafkaPayloadSchemaNode> children = node == null ? Map.of() : childIndex(node);
+        json.writeStartObject(value);
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            String fieldName = String.valueOf(entry.getKey());
+            writeField(json, children.get(fieldName), fieldName, entry.getValue());
+        }
+        json.writeEndObject();
+    }
+
+    private void writeField(JsonGenerator json, KafkaPayloadSchemaNode node, String fieldName, Object value) throws IOException {
+        if (value == null && !writeNestedNullFields) {
+            return;
+        }
+        json.writeFieldName(fieldName);
+        writeValue(json, node, value);
+    }
+
+    private boolean writeScalar(JsonGenerator json, KafkaPayloadSchemaNode node, Object value) throws IOException {
+        switch (node.valueType()) {
+            case STRING, DATETIME, UUID -> {
+                if (value instanceof String text) {
+                    json.writeString(text);
+                    return true;
+                }
+            }
+            case INT -> {
+                if (value instanceof Integer number) {
+                    json.writeNumber(number);
+                    return true;
+                }
+            }
+            case LONG -> {
+                if (value instanceof Long number) {
+                    json.writeNumber(number);
+                    return true;
+                }
+            }
+            case DECIMAL -> {
+                if (value instanceof BigDecimal decimal) {
+                    json.writeNumber(decimal);
+                    return true;
+                }
+            }
+            case BOOLEAN -> {
+                if (value instanceof Boolean booleanValue) {
+                    json.writeBoolean(booleanValue);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Map<String, KafkaPayloadSchemaNode> childIndex(KafkaPayloadSchemaNode node) {
+        return childIndexes.computeIfAbsent(node, ignored -> {
+            Map<String, KafkaPayloadSchemaNode> children = new HashMap<>();
+            for (KafkaPayloadSchemaNode child : node.childrenOrEmpty()) {
+                children.put(child.name(), child);
+            }
+            return children;
+        });
+    }
+
+    private static boolean writesNullMapValues(ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsString(Collections.singletonMap("value", null)).contains("value");
+        } catch (IOException exception) {
+            return true;
+        }
+    }
+
+    private static final class PayloadBuffer extends ByteArrayOutputStream {
+
+        private PayloadBuffer() {
+            super(256);
+        }
+
+        private byte[] drain() {
+            byte[] bytes = Arrays.copyOf(buf, count);
+            reset();
+            return bytes;
+        }
+    }
+}
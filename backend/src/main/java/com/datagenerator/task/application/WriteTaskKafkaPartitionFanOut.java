@@ -0,0 +1,172 @@
+package com.datagenerator.task.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.utils.Utils;
+
+final class WriteTaskKafkaPartitionFanOut implements AutoCloseable {
+
+    static final int MAX_PRODUCER_THREADS = 32;
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final Slice END = new Slice(null, new int[0], new int[0], new String[0], 0);
+
+    private final Worker[] workers;
+    private final int partitionCount;
+    private long unkeyedSequence;
+    private boolean finished;
+
+    WriteTaskKafkaPartitionFanOut(List<RecordSender> senders, int partitionCount, String threadNamePrefix) {
+        this.partitionCount = partitionCount;
+        this.workers = new Worker[senders.size()];
+        for (int index = 0; index < workers.length; index++) {
+            workers[index] = new Worker(senders.get(index));
+            Thread thread = new Thread(workers[index], threadNamePrefix + "-" + index);
+            thread.setDaemon(true);
+            workers[index].thread = thread;
+            thread.start();
+        }
+    }
+
+    static int partitionForKey(String key, int partitionCount) {
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitionCount;
+    }
+
+    int partitionFor(Integer fixedPartition, String key) {
+        if (fixedPartition != null) {
+            return fixedPartition;
+        }
+        if (key == null) {
+            return (int) (unkeyedSequence++ % partitionCount);
+        }
+        return partitionForKey(key, partitionCount);
+    }
+
+    void dispatch(WriteTaskRowBatch batch, int[] partitions, String[] keys) throws Exception {
+        int[] counts = new int[workers.length];
+        for (int row = 0; row < batch.size(); row++) {
+            if (partitions[row] >= 0) {
+                counts[partitions[row] % workers.length]++;
+            }
+        }
+        Slice[] slices = new Slice[workers.length];
+        for (int index = 0; index < workers.length; index++) {
+            if (counts[index] > 0) {
+                slices[index] = new Slice(batch, new int[counts[index]], new int[counts[index]], new String[counts[index]], 0);
+            }
+        }
+        for (int row = 0; row < batch.size(); row++) {
+            if (partitions[row] < 0) {
+                continue;
+            }
+            Slice slice = slices[partitions[row] % workers.length];
+            int position = slice.size++;
+            slice.rows[position] = row;
+            slice.partitions[position] = partitions[row];
+            slice.keys[position] = keys[row];
+        }
+        for (int index = 0; index < workers.length; index++) {
+            if (slices[index] != null) {
+                enqueue(workers[index], slices[index]);
+            }
+        }
+    }
+
+    void finish() throws Exception {
+        for (Worker worker : workers) {
+            enqueue(worker, END);
+        }
+        for (Worker worker : workers) {
+            worker.thread.join();
+        }
+        finished = true;
+        rethrowFailure();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (finished) {
+            return;
+        }
+        for (Worker worker : workers) {
+            worker.thread.interrupt();
+        }
+        for (Worker worker : workers) {
+            worker.thread.join();
+        }
+        finished = true;
+    }
+
+    private void enqueue(Worker worker, Slice slice) throws Exception {
+        while (!worker.queue.offer(slice, 100, TimeUnit.MILLISECONDS)) {
+            rethrowFailure();
+        }
+    }
+
+    private void rethrowFailure() throws Exception {
+        for (Worker worker : workers) {
+            Throwable failure = worker.failure;
+            if (failure instanceof Exception exception) {
+                throw exception;
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Kafka 分区写入线程异常终止", failure);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface RecordSender {
+
+        void send(int partition, String key, WriteTaskRowBatch batch, int row) throws Exception;
+    }
+
+    private static final class Slice {
+
+        private final WriteTaskRowBatch batch;
+        private final int[] rows;
+        private final int[] partitions;
+        private final String[] keys;
+        private int size;
+
+        private Slice(WriteTaskRowBatch batch, int[] rows, int[] partitions, String[] keys, int size) {
+            this.batch = batch;
+            this.rows = rows;
+            this.partitions = partitions;
+            this.keys = keys;
+            this.size = size;
+        }
+    }
+
+    private static final class Worker implements Runnable {
+
+        private final BlockingQueue<Slice> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final RecordSender sender;
+        private Thread thread;
+        private volatile Throwable failure;
+
+        private Worker(RecordSender sender) {
+            this.sender = sender;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    Slice slice = queue.take();
+                    if (slice == END) {
+                        return;
+                    }
+                    for (int index = 0; index < slice.size; index++) {
+                        sender.send(slice.partitions[index], slice.keys[index], slice.batch, slice.rows[index]);
+                    }
+                }
+            } catch (Throwable throwable) {
+                failure = throwable;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.datagenerator.task.application;
+
+import java.io.IOException;
+
+interface WriteTaskKafkaPayloadSerializer {
+
+    String format();
+
+    byte[] serialize(WriteTaskRowBatch batch, int row) throws IOException;
+}
@@ -1,9 +1,12 @@
 package com.datagenerator.task.application;
 
 import com.datagenerator.common.support.JsonConfigSupport;
+import com.datagenerator.common.support.KafkaSendWindow;
 import com.datagenerator.connection.application.KafkaConnectionSupport;
+import com.datagenerator.connection.application.KafkaProducerPoolManager;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
+import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
 import com.datagenerator.task.domain.WriteTask;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
@@ -12,23 +15,32 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import org.apache.kafka.clients.producer.KafkaProducer;
+import java.util.function.Supplier;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.springframework.stereotype.Component;
 
 @Component
 public class WriteTaskKafkaWriter implements WriteTaskDeliveryWriter {
 
-    private static final Pattern INDEXED_SEGMENT = Pattern.compile("^(.*)\\[(\\d+)]$");
+    private static final String EXECUTION_ID_HEADER = "mdg-execution-id";
 
     private final KafkaConnectionSupport kafkaConnectionSupport;
+    private final KafkaProducerPoolManager producerPoolManager;
+    private final KafkaPayloadSchemaService payloadSchemaService;
     private final ObjectMapper objectMapper;
 
-    public WriteTaskKafkaWriter(KafkaConnectionSupport kafkaConnectionSupport, ObjectMapper objectMapper) {
+    public WriteTaskKafkaWriter(
+            KafkaConnectionSupport kafkaConnectionSupport,
+            KafkaProducerPoolManager producerPoolManager,
+            KafkaPayloadSchemaService payloadSchemaService,
+            ObjectMapper objectMapper
+    ) {
         this.kafkaConnectionSupport = kafkaConnectionSupport;
+        this.producerPoolManager = producerPoolManager;
+        this.payloadSchemaService = payloadSchemaService;
         this.objectMapper = objectMapper;
     }
 
@@ -41,7 +53,7 @@ public class WriteTaskKafkaWriter implements WriteTaskDeliveryWriter {
     public WriteTaskDeliveryResult write(
             WriteTask task,
             TargetConnection connection,
-            List<Map<String, Object>> rows,
+            WriteTaskRowStream rows,
             Long executionId
     ) throws Exception {
         Map<String, Object> targetConfig = JsonConfigSupport.readConfig(task.getTargetConfigJson(), "targetConfigJson");
@@ -55,46 +67,63 @@ public class WriteTaskKafkaWriter implements WriteTaskDeliveryWriter {
         Integer partition = JsonConfigSupport.optionalInteger(targetConfig, "partition");
         Map<String, Object> headers = readHeaders(targetConfig);
         List<KafkaHeaderDefinition> headerDefinitions = readHeaderDefinitions(targetConfig);
+        String deliveryMode = JsonConfigSupport.optionalString(targetConfig, "deliveryMode");
+        Integer maxInFlight = JsonConfigSupport.optionalInteger(targetConfig, "maxInFlight");
+        int producerThreads = normalizeProducerThreads(JsonConfigSupport.optionalInteger(targetConfig, "producerThreads"));
+        KafkaSendWindow[] sendWindows = new KafkaSendWindow[producerThreads];
+        for (int index = 0; index < producerThreads; index++) {
+            sendWindows[index] = new KafkaSendWindow(deliveryMode, maxInFlight);
+        }
+        Supplier<KafkaRecordTemplate> templates = () -> new KafkaRecordTemplate(
+                topic,
+                keyMode,
+                keyPath,
+                fixedKey,
+                compileHeaders(headers, headerDefinitions, executionId),
+                payloadSerializer(task, targetConfig)
+        );
+        KafkaRecordTemplate template = templates.get();
 
-        long successCount = 0;
-        List<String> errors = new ArrayList<>();
-
-        try (KafkaProducer<String, String> producer = new KafkaProducer<>(
-                kafkaConnectionSupport.buildProducerProperties(connection, executionId)
-        )) {
-            for (Map<String, Object> row : rows) {
-                try {
-                    Map<String, Object> resolvedHeaders = headerDefinitions.isEmpty()
-                            ? headers
-                            : resolveHeaders(headerDefinitions, row);
-                    ProducerRecord<String, String> record = buildRecord(
-                            topic,
-                            partition,
-                            resolveKey(keyMode, keyPath, fixedKey, row),
-                            resolvedHeaders,
-                            row
-                    );
-                    producer.send(record).get();
-                    successCount++;
-                } catch (Exception exception) {
-                    if (errors.size() < 5) {
-                        errors.add(exception.getMessage());
-                    }
+        String producerError = null;
+        Integer partitionCount = null;
+        try {
+            if (producerThreads == 1) {
+                writeSequential(connection, rows, template, partition, sendWindows[0]);
+            } else {
+                partitionCount = kafkaConnectionSupport.partitionCount(connection, topic);
+                if (partition != null && partition >= partitionCount) {
+                    throw new IllegalArgumentException("Kafka partition 超出 Topic 分区数: " + partition);
                 }
+                writePartitioned(connection, rows, template, templates, partition, partitionCount, sendWindows);
             }
-            producer.flush();
         } catch (Exception exception) {
-            if (errors.isEmpty()) {
-                errors.add(exception.getMessage());
+            if (rows.failed() || exception instanceof InterruptedException) {
+                throw exception;
             }
+            producerError = exception.getMessage();
         }
 
-        long errorCount = rows.size() - successCount;
+        long successCount = 0;
+        List<String> errors = new ArrayList<>();
+        for (KafkaSendWindow sendWindow : sendWindows) {
+            successCount += sendWindow.successCount();
+            sendWindow.errors().stream().limit(Math.max(0, 5 - errors.size())).forEach(errors::add);
+        }
+        if (errors.isEmpty() && producerError != null) {
+            errors.add(producerError);
+        }
+        long errorCount = Math.max(rows.generatedRowCount(), rows.plannedRowCount()) - successCount;
         LinkedHashMap<String, Object> details = new LinkedHashMap<>();
         details.put("deliveryType", "KAFKA");
         details.put("topic", topic);
         details.put("bootstrapServers", kafkaConnectionSupport.bootstrapServers(connection));
-        details.put("payloadFormat", "JSON");
+        details.put("payloadFormat", template.payloadFormat());
+        details.put("deliveryMode", sendWindows[0].deliveryMode());
+        details.put("maxInFlight", sendWindows[0].maxInFlight());
+        details.put("producerThreads", producerThreads);
+        if (partitionCount != null) {
+            details.put("partitionCount", partitionCount);
+        }
         details.put("keyMode", keyMode);
         if (keyPath != null) {
             details.put("keyPath", keyPath);
@@ -119,11 +148,12 @@ public class WriteTaskKafkaWriter implements WriteTaskDeliveryWriter {
         }
         details.put("writtenRowCount", successCount);
         details.put("errorCount", errorCount);
+        details.put("chunkCount", rows.generatedChunkCount());
         if (!errors.isEmpty()) {
             details.put("errors", errors);
         }
 
-        String summary = successCount == rows.size()
+        String summary = errorCount == 0
                 ? "Kafka Topic 写入完成"
                 : successCount > 0
                         ? "Kafka Topic 部分写入成功"
@@ -131,34 +161,128 @@ public class WriteTaskKafkaWriter implements WriteTaskDeliveryWriter {
         return new WriteTaskDeliveryResult(successCount, errorCount, summary, details);
     }
 
-    private ProducerRecord<String, String> buildRecord(
-            String topic,
+    private WriteTaskKafkaPayloadSerializer payloadSerializer(WriteTask task, Map<String, Object> targetConfig) {
+        String payloadFormat = JsonConfigSupport.optionalString(targetConfig, "payloadFormat");
+        KafkaPayloadSchemaNode payloadSchema = task.getPayloadSchemaJson() == null || task.getPayloadSchemaJson().isBlank()
+                ? null
+                : payloadSchemaService.parseAndValidate(task.getPayloadSchemaJson());
+        if (payloadFormat == null || "JSON".equalsIgnoreCase(payloadFormat)) {
+            return new WriteTaskKafkaJsonPayloadSerializer(objectMapper, payloadSchema);
+        }
+        if ("AVRO".equalsIgnoreCase(payloadFormat)) {
+            return new WriteTaskKafkaAvroPayloadSerializer(payloadSchema);
+        }
+        throw new IllegalArgumentException("不支持的 Kafka 负载格式: " + payloadFormat);
+    }
+
+    private void writeSequential(
+            TargetConnection connection,
+            WriteTaskRowStream rows,
+            KafkaRecordTemplate template,
             Integer partition,
-            String key,
-            Map<String, Object> headers,
-            Map<String, Object> row
+            KafkaSendWindow sendWindow
     ) throws Exception {
-        String payload = objectMapper.writeValueAsString(row);
-        ProducerRecord<String, String> record = partition == null
-                ? new ProducerRecord<>(topic, key, payload)
-                : new ProducerRecord<>(topic, partition, key, payload);
+        try (KafkaProducerPoolManager.Lease lease = producerPoolManager.borrow(connection)) {
+            Producer<String, byte[]> producer = lease.producer();
+            try {
+                while (rows.hasNext()) {
+                    WriteTaskRowBatch batch = rows.next();
+                    for (int rowIndex = 0; rowIndex < batch.size(); rowIndex++) {
+                        try {
+                            String key = template.resolveKey(batch, rowIndex);
+                            sendWindow.send(producer, template.build(partition, key, batch, rowIndex));
+                        } catch (InterruptedException exception) {
+                            throw exception;
+                        } catch (Exception exception) {
+                            sendWindow.recordFailure(exception);
+                        }
+                    }
+                }
+            } finally {
+                sendWindow.await(producer);
+            }
+            reportDelivery(lease, sendWindow);
+        }
+    }
 
-        for (Map.Entry<String, Object> header : headers.entrySet()) {
-            record.headers().add(new RecordHeader(
-                    header.getKey(),
-                    String.valueOf(header.getValue()).getBytes(StandardCharsets.UTF_8)
-            ));
+    private void writePartitioned(
+            TargetConnection connection,
+            WriteTaskRowStream rows,
+            KafkaRecordTemplate keyTemplate,
+            Supplier<KafkaRecordTemplate> templates,
+            Integer partition,
+            int partitionCount,
+            KafkaSendWindow[] sendWindows
+    ) throws Exception {
+        List<KafkaProducerPoolManager.Lease> leases = new ArrayList<>();
+        try {
+            List<WriteTaskKafkaPartitionFanOut.RecordSender> senders = new ArrayList<>();
+            for (int index = 0; index < sendWindows.length; index++) {
+                KafkaProducerPoolManager.Lease lease = producerPoolManager.borrow(connection, index);
+                leases.add(lease);
+                KafkaSendWindow sendWindow = sendWindows[index];
+                KafkaRecordTemplate template = templates.get();
+                senders.add((recordPartition, key, batch, rowIndex) -> {
+                    try {
+                        sendWindow.send(lease.producer(), template.build(recordPartition, key, batch, rowIndex));
+                    } catch (InterruptedException exception) {
+                        throw exception;
+                    } catch (Exception exception) {
+                        sendWindow.recordFailure(exception);
+                    }
+                });
+            }
+            String threadName = "mdg-kafka-" + (connection.getId() == null ? "manual" : connection.getId());
+            try (WriteTaskKafkaPartitionFanOut fanOut = new WriteTaskKafkaPartitionFanOut(senders, partitionCount, threadName)) {
+                while (rows.hasNext()) {
+                    WriteTaskRowBatch batch = rows.next();
+                    int[] partitions = new int[batch.size()];
+                    String[] keys = new String[batch.size()];
+                    for (int rowIndex = 0; rowIndex < batch.size(); rowIndex++) {
+                        try {
+                            keys[rowIndex] = keyTemplate.resolveKey(batch, rowIndex);
+                            partitions[rowIndex] = fanOut.partitionFor(partition, keys[rowIndex]);
+                        } catch (Exception exception) {
+                            partitions[rowIndex] = -1;
+                            sendWindows[0].recordFailure(exception);
+                        }
+                    }
+                    fanOut.dispatch(batch, partitions, keys);
+                }
+                fanOut.finish();
+            }
+        } finally {
+            for (int index = 0; index < leases.size(); index++) {
+                KafkaProducerPoolManager.Lease lease = leases.get(index);
+                try {
+                    sendWindows[index].await(lease.producer());
+                    reportDelivery(lease, sendWindows[index]);
+                } finally {
+                    lease.close();
+                }
+            }
         }
-        return record;
     }
 
-    private String resolveKey(String keyMode, String keyPath, String fixedKey, Map<String, Object> row) throws Exception {
-        return switch (keyMode) {
-            case "NONE" -> null;
-            case "FIXED" -> fixedKey;
-            case "FIELD" -> stringifyKey(resolvePathValue(row, keyPath));
-            default -> throw new IllegalArgumentException("不支持的 Kafka keyMode: " + keyMode);
-        };
+    private void reportDelivery(KafkaProducerPoolManager.Lease lease, KafkaSendWindow sendWindow) {
+        List<String> windowErrors = sendWindow.errors();
+        lease.reportDelivery(
+                sendWindow.successCount(),
+                sendWindow.failureCount(),
+                windowErrors.isEmpty() ? null : windowErrors.get(0)
+        );
+    }
+
+    private int normalizeProducerThreads(Integer producerThreads) {
+        if (producerThreads == null) {
+            return 1;
+        }
+        if (producerThreads < 1 || producerThreads > WriteTaskKafkaPartitionFanOut.MAX_PRODUCER_THREADS) {
+            throw new IllegalArgumentException(
+                    "Kafka producerThreads 必须在 1 到 " + WriteTaskKafkaPartitionFanOut.MAX_PRODUCER_THREADS + " 之间"
+            );
+        }
+        return producerThreads;
     }
 
     private String stringifyKey(Object keyValue) throws Exception {
@@ -171,65 +295,31 @@ public class WriteTaskKafkaWriter implements WriteTaskDeliveryWriter {
         return String.valueOf(keyValue);
     }
 
-    private Object resolvePathValue(Object current, String keyPath) {
-        if (keyPath == null || keyPath.isBlank()) {
-            return null;
-        }
-        String[] segments = keyPath.split("\\.");
-        return resolvePathValue(current, segments, 0);
-    }
-
-    private Object resolvePathValue(Object current, String[] segments, int index) {
-        if (current == null) {
-            return null;
-        }
-        if (index >= segments.length) {
-            return current;
-        }
-
-        String segment = segments[index];
-        if (segment.endsWith("[]")) {
-            Object next = resolveObjectSegment(current, segment.substring(0, segment.length() - 2));
-            if (!(next instanceof List<?> listValue)) {
-                return null;
-            }
-            ArrayList<Object> values = new ArrayList<>();
-            for (Object item : listValue) {
-                Object nested = resolvePathValue(item, segments, index + 1);
-                if (nested instanceof List<?> nestedList) {
-                    values.addAll(nestedList);
-                } else if (nested != null) {
-                    values.add(nested);
-                }
-            }
-            return values;
+    private CompiledHeader[] compileHeaders(
+            Map<String, Object> headers,
+            List<KafkaHeaderDefinition> headerDefinitions,
+            Long executionId
+    ) {
+        LinkedHashMap<String, CompiledHeader> compiled = new LinkedHashMap<>();
+        if (headerDefinitions.isEmpty()) {
+            headers.forEach((name, value) -> compiled.put(name, CompiledHeader.fixed(name, String.valueOf(value))));
         }
-
-        Matcher matcher = INDEXED_SEGMENT.matcher(segment);
-        if (matcher.matches()) {
-            Object next = resolveObjectSegment(current, matcher.group(1));
-            if (!(next instanceof List<?> listValue)) {
-                return null;
-            }
-            int itemIndex = Integer.parseInt(matcher.group(2));
-            if (itemIndex < 0 || itemIndex >= listValue.size()) {
-                return null;
+        for (KafkaHeaderDefinition definition : headerDefinitions) {
+            if ("FIELD".equals(definition.mode())) {
+                compiled.put(definition.name(), new CompiledHeader(
+                        definition.name(),
+                        null,
+                        WriteTaskPayloadPath.compile(definition.path())
+                ));
+            } else if (definition.value() != null) {
+                compiled.put(definition.name(), CompiledHeader.fixed(definition.name(), definition.value()));
             }
-            return resolvePathValue(listValue.get(itemIndex), segments, index + 1);
-        }
-
-        Object next = resolveObjectSegment(current, segment);
-        return resolvePathValue(next, segments, index + 1);
-    }
-
-    private Object resolveObjectSegment(Object current, String segment) {
-        if (segment == null || segment.isBlank()) {
-            return current;
         }
-        if (!(current instanceof Map<?, ?> mapValue)) {
-            return null;
+        ArrayList<CompiledHeader> ordered = new ArrayList<>(compiled.values());
+        if (executionId != null) {
+            ordered.add(CompiledHeader.fixed(EXECUTION_ID_HEADER, String.valueOf(executionId)));
         }
-        return mapValue.get(segment);
+        return ordered.toArray(CompiledHeader[]::new);
     }
 
     private Map<String, Object> readHeaders(Map<String, Object> targetConfig) {
@@ -273,28 +363,81 @@ public class WriteTaskKafkaWriter implements WriteTaskDeliveryWriter {
         return normalized;
     }
 
-    private Map<String, Object> resolveHeaders(List<KafkaHeaderDefinition> headerDefinitions, Map<String, Object> row) throws Exception {
-        LinkedHashMap<String, Object> resolved = new LinkedHashMap<>();
-        for (KafkaHeaderDefinition definition : headerDefinitions) {
-            if ("FIELD".equals(definition.mode())) {
-                Object value = resolvePathValue(row, definition.path());
+    private String normalizeKeyMode(String keyMode) {
+        if (keyMode == null || keyMode.isBlank()) {
+            return "NONE";
+        }
+        return keyMode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private final class KafkaRecordTemplate {
+
+        private final String topic;
+        private final String keyMode;
+        private final WriteTaskPayloadPath keyAccessor;
+        private final String fixedKey;
+        private final CompiledHeader[] headers;
+        private final WriteTaskKafkaPayloadSerializer payloadSerializer;
+
+        private KafkaRecordTemplate(
+                String topic,
+                String keyMode,
+                String keyPath,
+                String fixedKey,
+                CompiledHeader[] headers,
+                WriteTaskKafkaPayloadSerializer payloadSerializer
+        ) {
+            this.topic = topic;
+            this.keyMode = keyMode;
+            this.keyAccessor = keyPath == null ? null : WriteTaskPayloadPath.compile(keyPath);
+            this.fixedKey = fixedKey;
+            this.headers = headers;
+            this.payloadSerializer = payloadSerializer;
+        }
+
+        private String payloadFormat() {
+            return payloadSerializer.format();
+        }
+
+        private String resolveKey(WriteTaskRowBatch batch, int rowIndex) throws Exception {
+            return switch (keyMode) {
+                case "NONE" -> null;
+                case "FIXED" -> fixedKey;
+                case "FIELD" -> stringifyKey(keyAccessor.resolve(batch, rowIndex));
+                default -> throw new IllegalArgumentException("不支持的 Kafka keyMode: " + keyMode);
+            };
+        }
+
+        private ProducerRecord<String, byte[]> build(
+                Integer partition,
+                String key,
+                WriteTaskRowBatch batch,
+                int rowIndex
+        ) throws Exception {
+            byte[] payload = payloadSerializer.serialize(batch, rowIndex);
+            ProducerRecord<String, byte[]> record = partition == null
+                    ? new ProducerRecord<>(topic, key, payload)
+                    : new ProducerRecord<>(topic, partition, key, payload);
+
+            for (CompiledHeader header : headers) {
+                if (header.fixed() != null) {
+                    record.headers().add(header.fixed());
+                    continue;
+                }
+                Object value = header.path().resolve(batch, rowIndex);
                 if (value != null) {
-                    resolved.put(definition.name(), stringifyKey(value));
+                    record.headers().add(header.name(), stringifyKey(value).getBytes(StandardCharsets.UTF_8));
                 }
-                continue;
-            }
-            if (definition.value() != null) {
-                resolved.put(definition.name(), definition.value());
             }
+            return record;
         }
-        return resolved;
     }
 
-    private String normalizeKeyMode(String keyMode) {
-        if (keyMode == null || keyMode.isBlank()) {
-            return "NONE";
+    private record CompiledHeader(String name, Header fixed, WriteTaskPayloadPath path) {
+
+        private static CompiledHeader fixed(String name, String value) {
+            return new CompiledHeader(name, new RecordHeader(name, value.getBytes(StandardCharsets.UTF_8)), null);
         }
-        return keyMode.trim().toUpperCase(Locale.ROOT);
     }
 
     private record KafkaHeaderDefinition(String name, String mode, String value, String path) {
@@ -0,0 +1,187 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.dialect.DatabaseDialect;
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.connection.domain.TargetConnection;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import java.io.ByteArrayInputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WriteTaskMysqlLoadDataLoader implements WriteTaskBulkLoader {
+
+    private static final int MAX_PLACEHOLDERS = 65_535;
+    private static final long DEFAULT_MAX_ALLOWED_PACKET = 4L * 1024 * 1024;
+    private static final int VALUE_OVERHEAD_BYTES = 4;
+
+    private final ConnectionJdbcSupport jdbcSupport;
+    private final WriteTaskJdbcValueConverter valueConverter;
+
+    public WriteTaskMysqlLoadDataLoader(ConnectionJdbcSupport jdbcSupport, ObjectMapper objectMapper) {
+        this.jdbcSupport = jdbcSupport;
+        this.valueConverter = new WriteTaskJdbcValueConverter(objectMapper);
+    }
+
+    @Override
+    public String strategy() {
+        return "LOAD_DATA";
+    }
+
+    @Override
+    public boolean supports(DatabaseType databaseType) {
+        return databaseType == DatabaseType.MYSQL;
+    }
+
+    @Override
+    public long load(
+            Connection connection,
+            TargetConnection targetConnection,
+            WriteTask task,
+            String tableName,
+            List<WriteTaskColumn> columns,
+            WriteTaskRowStream rows
+    ) throws Exception {
+        DatabaseDialect dialect = jdbcSupport.dialect(targetConnection.getDbType());
+        if (localInfileEnabled(connection)) {
+            return loadData(connection, dialect, targetConnection, tableName, columns, rows);
+        }
+        return insertMultiRow(connection, dialect, targetConnection, tableName, columns, rows);
+    }
+
+    private boolean localInfileEnabled(Connection connection) throws SQLException {
+        JdbcConnection mysqlConnection = connection.unwrap(JdbcConnection.class);
+        if (!mysqlConnection.getPropertySet().getBooleanProperty(PropertyKey.allowLoadLocalInfile).getValue()) {
+            return false;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT @@GLOBAL.local_infile")) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private long loadData(
+            Connection connection,
+            DatabaseDialect dialect,
+            TargetConnection targetConnection,
+            String tableName,
+            List<WriteTaskColumn> columns,
+            WriteTaskRowStream rows
+    ) throws Exception {
+        String sql = dialect.buildBulkLoadSql(targetConnection, tableName, columns);
+        WriteTaskTextRowEncoder encoder = new WriteTaskTextRowEncoder(valueConverter, columns, DatabaseType.MYSQL);
+        long writtenRowCount = 0;
+        try (Statement statement = connection.createStatement()) {
+            JdbcStatement mysqlStatement = statement.unwrap(JdbcStatement.class);
+            while (rows.hasNext()) {
+                WriteTaskRowBatch batch = rows.next();
+                encoder.bind(batch);
+                encoder.reset();
+                for (int row = 0; row < batch.size(); row++) {
+                    encoder.encodeRow(row);
+                }
+                mysqlStatement.setLocalInfileInputStream(new ByteArrayInputStream(encoder.buffer(), 0, encoder.length()));
+                writtenRowCount += statement.executeUpdate(sql);
+            }
+            mysqlStatement.setLocalInfileInputStream(null);
+        }
+        return writtenRowCount;
+    }
+
+    private long insertMultiRow(
+            Connection connection,
+            DatabaseDialect dialect,
+            TargetConnection targetConnection,
+            String tableName,
+            List<WriteTaskColumn> columns,
+            WriteTaskRowStream rows
+    ) throws Exception {
+        long packetBudget = maxAllowedPacket(connection) / 2;
+        WriteTaskTextRowEncoder encoder = new WriteTaskTextRowEncoder(valueConverter, columns, DatabaseType.MYSQL);
+        WriteTaskJdbcValueConverter.RowBinder rowBinder = valueConverter.rowBinder(DatabaseType.MYSQL, columns);
+        int rowsPerStatement = 0;
+        PreparedStatement fullStatement = null;
+        long writtenRowCount = 0;
+        try {
+            while (rows.hasNext()) {
+                WriteTaskRowBatch batch = rows.next();
+                rowBinder.bind(batch);
+                if (fullStatement == null) {
+                    rowsPerStatement = rowsPerStatement(encoder, batch, columns.size(), packetBudget);
+                    fullStatement = connection.prepareStatement(
+                            dialect.buildMultiRowInsertSql(targetConnection, tableName, columns, rowsPerStatement)
+                    );
+                }
+                for (int from = 0; from < batch.size(); from += rowsPerStatement) {
+                    int count = Math.min(rowsPerStatement, batch.size() - from);
+                    if (count == rowsPerStatement) {
+                        bindRows(fullStatement, rowBinder, columns.size(), batch, from, count);
+                        writtenRowCount += fullStatement.executeUpdate();
+                        continue;
+                    }
+                    try (PreparedStatement tailStatement = connection.prepareStatement(
+                            dialect.buildMultiRowInsertSql(targetConnection, tableName, columns, count)
+                    )) {
+                        bindRows(tailStatement, rowBinder, columns.size(), batch, from, count);
+                        writtenRowCount += tailStatement.executeUpdate();
+                    }
+                }
+            }
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+        return writtenRowCount;
+    }
+
+    private int rowsPerStatement(WriteTaskTextRowEncoder encoder, WriteTaskRowBatch batch, int columnCount, long packetBudget)
+            throws Exception {
+        encoder.bind(batch);
+        int widestRow = 0;
+        for (int row = 0; row < batch.size(); row++) {
+            encoder.reset();
+            encoder.encodeRow(row);
+            widestRow = Math.max(widestRow, encoder.length());
+        }
+        encoder.reset();
+        long rowBytes = widestRow + (long) columnCount * VALUE_OVERHEAD_BYTES;
+        long byPacket = Math.max(1, packetBudget / Math.max(1, rowBytes));
+        return (int) Math.max(1, Math.min(byPacket, MAX_PLACEHOLDERS / columnCount));
+    }
+
+    private void bindRows(
+            PreparedStatement statement,
+            WriteTaskJdbcValueConverter.RowBinder rowBinder,
+            int columnCount,
+            WriteTaskRowBatch batch,
+            int from,
+            int count
+    ) throws Exception {
+        int parameterIndex = 1;
+        for (int row = from; row < from + count; row++) {
+            rowBinder.bindRow(statement, parameterIndex, batch, row);
+            parameterIndex += columnCount;
+        }
+    }
+
+    private long maxAllowedPacket(Connection connection) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT @@max_allowed_packet")) {
+            return resultSet.next() ? resultSet.getLong(1) : DEFAULT_MAX_ALLOWED_PACKET;
+        } catch (SQLException exception) {
+            return DEFAULT_MAX_ALLOWED_PACKET;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.dialect.DatabaseDialect;
+import com.datagenerator.connection.domain.TargetConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WriteTaskParentKeySampler {
+
+    private static final int RANGE_WINDOW = 1_000;
+    private static final double OVERSAMPLING_FACTOR = 2D;
+
+    private final ConnectionJdbcSupport jdbcSupport;
+    private final int sampleSize;
+    private final int fetchSize;
+
+    public WriteTaskParentKeySampler(
+            ConnectionJdbcSupport jdbcSupport,
+            @Value("${mdg.relation.sample-size:100000}") int sampleSize,
+            @Value("${mdg.relation.fetch-size:5000}") int fetchSize
+    ) {
+        this.jdbcSupport = jdbcSupport;
+        this.sampleSize = Math.max(1, sampleSize);
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    public WriteTaskRelationCandidatePool sample(
+            Connection jdbcConnection,
+            TargetConnection connection,
+            String tableName,
+            List<String> parentColumns,
+            long seed
+    ) throws SQLException {
+        DatabaseDialect dialect = jdbcSupport.dialect(connection.getDbType());
+        SplittableRandom random = new SplittableRandom(seed);
+        Long estimate = estimateRowCount(dialect, jdbcConnection, connection, tableName);
+        if (estimate != null && estimate > sampleSize) {
+            double percent = Math.min(100D, OVERSAMPLING_FACTOR * 100D * sampleSize / estimate);
+            String sampleClause = dialect.tableSampleClause(percent, seed);
+            if (sampleClause != null) {
+                WriteTaskRelationCandidatePool pool = scan(
+                        dialect,
+                        jdbcConnection,
+                        buildSelectSql(dialect, connection, tableName, parentColumns, sampleClause),
+                        parentColumns.size(),
+                        random
+                );
+                if (pool.size() >= sampleSize / 2) {
+                    return pool;
+                }
+            }
+            if (parentColumns.size() == 1) {
+                WriteTaskRelationCandidatePool pool = sampleKeyRanges(dialect, jdbcConnection, connection, tableName, parentColumns, random);
+                if (pool != null && pool.size() >= sampleSize / 2) {
+                    return pool;
+                }
+            }
+        }
+        return scan(
+                dialect,
+                jdbcConnection,
+                buildSelectSql(dialect, connection, tableName, parentColumns, null),
+                parentColumns.size(),
+                random
+        );
+    }
+
+    private Long estimateRowCount(
+            DatabaseDialect dialect,
+            Connection jdbcConnection,
+            TargetConnection connection,
+            String tableName
+    ) {
+        try {
+            return dialect.estimateRowCount(jdbcConnection, connection, tableName);
+        } catch (SQLException exception) {
+            return null;
+        }
+    }
+
+    private WriteTaskRelationCandidatePool scan(
+            DatabaseDialect dialect,
+            Connection jdbcConnection,
+            String sql,
+            int arity,
+            SplittableRandom random
+    ) throws SQLException {
+        boolean autoCommit = jdbcConnection.getAutoCommit();
+        if (autoCommit) {
+            jdbcConnection.setAutoCommit(false);
+        }
+        try (Statement statement = jdbcConnection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(dialect.streamingFetchSize(fetchSize));
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                WriteTaskRelationCandidatePool.Builder builder = WriteTaskRelationCandidatePool.builder(arity, Math.min(sampleSize, fetchSize));
+                Object[] tuple = new Object[arity];
+                long seen = 0;
+                while (resultSet.next()) {
+                    for (int index = 0; index < arity; index++) {
+                        tuple[index] = resultSet.getObject(index + 1);
+                    }
+                    if (builder.size() < sampleSize) {
+                        if (builder.add(tuple)) {
+                            seen++;
+                        }
+                        continue;
+                    }
+                    long slot = random.nextLong(++seen);
+                    if (slot < sampleSize) {
+                        builder.replace((int) slot, tuple);
+                    }
+                }
+                return builder.build();
+            }
+        } finally {
+            if (autoCommit) {
+                jdbcConnection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private WriteTaskRelationCandidatePool sampleKeyRanges(
+            DatabaseDialect dialect,
+            Connection jdbcConnection,
+            TargetConnection connection,
+            String tableName,
+            List<String> parentColumns,
+            SplittableRandom random
+    ) throws SQLException {
+        String rangeSql = dialect.buildKeyRangeSampleSql(connection, tableName, parentColumns, RANGE_WINDOW);
+        if (rangeSql == null) {
+            return null;
+        }
+        String keyColumn = dialect.quoteIdentifier(parentColumns.get(0));
+        long minKey;
+        long maxKey;
+        try (Statement statement = jdbcConnection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT MIN(" + keyColumn + "), MAX(" + keyColumn + ") FROM "
+                             + dialect.quoteQualifiedIdentifier(connection, tableName)
+             )) {
+            if (!resultSet.next() || !isIntegral(resultSet.getObject(1)) || !isIntegral(resultSet.getObject(2))) {
+                return null;
+            }
+            minKey = resultSet.getLong(1);
+            maxKey = resultSet.getLong(2);
+        }
+        if (maxKey <= minKey) {
+            return null;
+        }
+
+        WriteTaskRelationCandidatePool.Builder builder = WriteTaskRelationCandidatePool.builder(1, sampleSize);
+        Set<Long> seenKeys = new HashSet<>();
+        Object[] tuple = new Object[1];
+        int probes = Math.max(1, sampleSize / RANGE_WINDOW) * 2;
+        try (PreparedStatement statement = jdbcConnection.prepareStatement(rangeSql)) {
+            for (int probe = 0; probe < probes && builder.size() < sampleSize; probe++) {
+                statement.setLong(1, random.nextLong(minKey, maxKey + 1));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next() && builder.size() < sampleSize) {
+                        Object key = resultSet.getObject(1);
+                        if (!isIntegral(key) || !seenKeys.add(((Number) key).longValue())) {
+                            continue;
+                        }
+                        tuple[0] = key;
+                        builder.add(tuple);
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private String buildSelectSql(
+            DatabaseDialect dialect,
+            TargetConnection connection,
+            String tableName,
+            List<String> parentColumns,
+            String sampleClause
+    ) {
+        String selectColumns = parentColumns.stream()
+                .map(dialect::quoteIdentifier)
+                .collect(Collectors.joining(", "));
+        String whereClause = parentColumns.stream()
+                .map(column -> dialect.quoteIdentifier(column) + " IS NOT NULL")
+                .collect(Collectors.joining(" AND "));
+        return "SELECT " + selectColumns + " FROM "
+                + dialect.quoteQualifiedIdentifier(connection, tableName)
+                + (sampleClause == null ? "" : " " + sampleClause)
+                + " WHERE " + whereClause;
+    }
+
+    private boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+}
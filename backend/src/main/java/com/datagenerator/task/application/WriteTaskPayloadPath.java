@@ -0,0 +1,182 @@
+package com.datagenerator.task.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class WriteTaskPayloadPath {
+
+    private static final Pattern INDEXED_SEGMENT = Pattern.compile("^(.*)\\[(\\d+)]$");
+
+    private final String path;
+    private final Segment[] segments;
+    private WriteTaskRowBatch boundBatch;
+    private int boundColumn = -1;
+
+    private WriteTaskPayloadPath(String path, Segment[] segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    static WriteTaskPayloadPath compile(String path) {
+        if (path == null || path.isBlank()) {
+            return new WriteTaskPayloadPath(path, new Segment[0]);
+        }
+        String[] rawSegments = path.split("\\.");
+        Segment[] segments = new Segment[rawSegments.length];
+        for (int index = 0; index < rawSegments.length; index++) {
+            segments[index] = compileSegment(rawSegments[index]);
+        }
+        return new WriteTaskPayloadPath(path, segments);
+    }
+
+    String path() {
+        return path;
+    }
+
+    Object resolve(Object root) {
+        if (segments.length == 0) {
+            return null;
+        }
+        return resolve(root, 0);
+    }
+
+    Object resolve(WriteTaskRowBatch batch, int row) {
+        if (segments.length == 0) {
+            return null;
+        }
+        if (segments[0].name().isBlank()) {
+            return resolve(batch.rowView(row), 0);
+        }
+        if (batch != boundBatch) {
+            boundColumn = batch.columnIndex(segments[0].name());
+            boundBatch = batch;
+        }
+        return boundColumn < 0 ? null : step(batch.getObject(boundColumn, row), 0);
+    }
+
+    boolean assign(Map<String, Object> root, Object value, UnaryOperator<Object> copier) {
+        if (segments.length == 0) {
+            return false;
+        }
+        return assign(root, 0, value, copier);
+    }
+
+    private Object resolve(Object current, int index) {
+        if (current == null) {
+            return null;
+        }
+        if (index >= segments.length) {
+            return current;
+        }
+        String name = segments[index].name();
+        if (name.isBlank()) {
+            return step(current, index);
+        }
+        return step(current instanceof Map<?, ?> mapValue ? mapValue.get(name) : null, index);
+    }
+
+    private Object step(Object next, int index) {
+        Segment segment = segments[index];
+        return switch (segment.kind()) {
+            case FIELD -> resolve(next, index + 1);
+            case INDEXED -> {
+                if (!(next instanceof List<?> listValue) || segment.index() >= listValue.size()) {
+                    yield null;
+                }
+                yield resolve(listValue.get(segment.index()), index + 1);
+            }
+            case EACH -> {
+                if (!(next instanceof List<?> listValue)) {
+                    yield null;
+                }
+                ArrayList<Object> values = new ArrayList<>();
+                for (Object item : listValue) {
+                    Object nested = resolve(item, index + 1);
+                    if (nested instanceof List<?> nestedList) {
+                        values.addAll(nestedList);
+                    } else if (nested != null) {
+                        values.add(nested);
+                    }
+                }
+                yield values;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean assign(Object current, int index, Object value, UnaryOperator<Object> copier) {
+        if (!(current instanceof Map<?, ?> mapValue) || index >= segments.length) {
+            return false;
+        }
+        Segment segment = segments[index];
+        boolean last = index == segments.length - 1;
+        switch (segment.kind()) {
+            case EACH -> {
+                if (!(mapValue.get(segment.name()) instanceof List<?> listValue)) {
+                    return false;
+                }
+                List<Object> mutableList = (List<Object>) listValue;
+                if (last) {
+                    boolean pairwise = value instanceof List<?> sourceList && sourceList.size() == mutableList.size();
+                    for (int itemIndex = 0; itemIndex < mutableList.size(); itemIndex++) {
+                        mutableList.set(itemIndex, copier.apply(pairwise ? ((List<?>) value).get(itemIndex) : value));
+                    }
+                    return true;
+                }
+                boolean assigned = false;
+                for (Object item : mutableList) {
+                    assigned |= assign(item, index + 1, value, copier);
+                }
+                return assigned;
+            }
+            case INDEXED -> {
+                if (!(mapValue.get(segment.name()) instanceof List<?> listValue) || segment.index() >= listValue.size()) {
+                    return false;
+                }
+                if (last) {
+                    ((List<Object>) listValue).set(segment.index(), copier.apply(value));
+                    return true;
+                }
+                return assign(listValue.get(segment.index()), index + 1, value, copier);
+            }
+            default -> {
+                Map<String, Object> mutableMap = (Map<String, Object>) mapValue;
+                if (last) {
+                    mutableMap.put(segment.name(), copier.apply(value));
+                    return true;
+                }
+                return assign(mutableMap.get(segment.name()), index + 1, value, copier);
+            }
+        }
+    }
+
+    private static Segment compileSegment(String rawSegment) {
+        if (rawSegment.endsWith("[]")) {
+            return new Segment(SegmentKind.EACH, rawSegment.substring(0, rawSegment.length() - 2), -1);
+        }
+        Matcher matcher = INDEXED_SEGMENT.matcher(rawSegment);
+        if (matcher.matches()) {
+            int itemIndex;
+            try {
+                itemIndex = Integer.parseInt(matcher.group(2));
+            } catch (NumberFormatException exception) {
+                itemIndex = Integer.MAX_VALUE;
+            }
+            return new Segment(SegmentKind.INDEXED, matcher.group(1), itemIndex);
+        }
+        return new Segment(SegmentKind.FIELD, rawSegment, -1);
+    }
+
+    private enum SegmentKind {
+        FIELD,
+        INDEXED,
+        EACH
+    }
+
+    private record Segment(SegmentKind kind, String name, int index) {
+    }
+}
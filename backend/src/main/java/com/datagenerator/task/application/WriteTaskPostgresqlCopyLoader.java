@@ -0,0 +1,83 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.connection.domain.TargetConnection;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.util.List;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WriteTaskPostgresqlCopyLoader implements WriteTaskBulkLoader {
+
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+
+    private final ConnectionJdbcSupport jdbcSupport;
+    private final WriteTaskJdbcValueConverter valueConverter;
+
+    public WriteTaskPostgresqlCopyLoader(ConnectionJdbcSupport jdbcSupport, ObjectMapper objectMapper) {
+        this.jdbcSupport = jdbcSupport;
+        this.valueConverter = new WriteTaskJdbcValueConverter(objectMapper);
+    }
+
+    @Override
+    public String strategy() {
+        return "COPY";
+    }
+
+    @Override
+    public boolean supports(DatabaseType databaseType) {
+        return databaseType == DatabaseType.POSTGRESQL;
+    }
+
+    @Override
+    public long load(
+            Connection connection,
+            TargetConnection targetConnection,
+            WriteTask task,
+            String tableName,
+            List<WriteTaskColumn> columns,
+            WriteTaskRowStream rows
+    ) throws Exception {
+        String sql = jdbcSupport.dialect(targetConnection.getDbType())
+                .buildBulkLoadSql(targetConnection, tableName, columns);
+        WriteTaskTextRowEncoder encoder = new WriteTaskTextRowEncoder(valueConverter, columns, DatabaseType.POSTGRESQL);
+        int flushSize = Math.max(1, task.getBatchSize());
+        long writtenRowCount = 0;
+        int pendingRowCount = 0;
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            while (rows.hasNext()) {
+                WriteTaskRowBatch batch = rows.next();
+                encoder.bind(batch);
+                for (int row = 0; row < batch.size(); row++) {
+                    encoder.encodeRow(row);
+                    writtenRowCount++;
+                    pendingRowCount++;
+                    if (pendingRowCount >= flushSize || encoder.length() >= COPY_BUFFER_BYTES) {
+                        copyIn.writeToCopy(encoder.buffer(), 0, encoder.length());
+                        encoder.reset();
+                    }
+                    if (pendingRowCount >= flushSize) {
+                        copyIn.flushCopy();
+                        pendingRowCount = 0;
+                    }
+                }
+            }
+            if (encoder.length() > 0) {
+                copyIn.writeToCopy(encoder.buffer(), 0, encoder.length());
+            }
+            copyIn.endCopy();
+            return writtenRowCount;
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.datagenerator.task.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+final class WriteTaskRateGovernor {
+
+    private static final double BURST_SECONDS = 0.05;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long RECENT_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final WriteTaskStreamProfile profile;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+    private final long startedAtNanos;
+    private long lastRefillNanos;
+    private double tokens;
+    private volatile long grantedRows;
+    private long windowStartNanos;
+    private long windowRows;
+    private volatile double recentRowsPerSecond;
+
+    WriteTaskRateGovernor(WriteTaskStreamProfile profile) {
+        this(profile, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    WriteTaskRateGovernor(WriteTaskStreamProfile profile, LongSupplier nanoClock, Sleeper sleeper) {
+        this.profile = profile;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.startedAtNanos = nanoClock.getAsLong();
+        this.lastRefillNanos = startedAtNanos;
+        this.windowStartNanos = startedAtNanos;
+    }
+
+    int acquire(int maxRows, BooleanSupplier stopRequested) throws InterruptedException {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            double elapsedSeconds = elapsedSeconds(now);
+            if (stopRequested.getAsBoolean() || profile.expired(elapsedSeconds)) {
+                return 0;
+            }
+            double rate = profile.rateAt(elapsedSeconds);
+            double capacity = Math.max(1, rate * BURST_SECONDS);
+            tokens = Math.min(capacity, tokens + rate * (now - lastRefillNanos) / 1_000_000_000d);
+            lastRefillNanos = now;
+
+            int wanted = (int) Math.max(1, Math.min(maxRows, Math.floor(capacity)));
+            if (tokens >= wanted) {
+                tokens -= wanted;
+                record(now, wanted);
+                return wanted;
+            }
+            long parkNanos = rate <= 0
+                    ? MAX_PARK_NANOS
+                    : (long) Math.ceil((wanted - tokens) / rate * 1_000_000_000d);
+            sleeper.sleep(Math.max(1, Math.min(parkNanos, MAX_PARK_NANOS)));
+        }
+    }
+
+    double targetRowsPerSecond() {
+        return profile.rateAt(elapsedSeconds(nanoClock.getAsLong()));
+    }
+
+    double averageRowsPerSecond() {
+        double elapsedSeconds = elapsedSeconds(nanoClock.getAsLong());
+        return elapsedSeconds <= 0 ? 0 : grantedRows / elapsedSeconds;
+    }
+
+    double recentRowsPerSecond() {
+        return recentRowsPerSecond;
+    }
+
+    long grantedRows() {
+        return grantedRows;
+    }
+
+    double elapsedSeconds() {
+        return elapsedSeconds(nanoClock.getAsLong());
+    }
+
+    private void record(long now, int rows) {
+        grantedRows += rows;
+        windowRows += rows;
+        long windowNanos = now - windowStartNanos;
+        if (windowNanos >= RECENT_WINDOW_NANOS) {
+            recentRowsPerSecond = windowRows * 1_000_000_000d / windowNanos;
+            windowStartNanos = now;
+            windowRows = 0;
+        }
+    }
+
+    private double elapsedSeconds(long now) {
+        return (now - startedAtNanos) / 1_000_000_000d;
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -0,0 +1,182 @@
+package com.datagenerator.task.application;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+public final class WriteTaskRelationCandidatePool {
+
+    private static final WriteTaskRelationCandidatePool EMPTY = new WriteTaskRelationCandidatePool(
+            0,
+            0,
+            new long[0][],
+            new Object[0][],
+            new boolean[0]
+    );
+
+    private final int arity;
+    private final int size;
+    private final long[][] longColumns;
+    private final Object[][] objectColumns;
+    private final boolean[] integerColumns;
+
+    private WriteTaskRelationCandidatePool(
+            int arity,
+            int size,
+            long[][] longColumns,
+            Object[][] objectColumns,
+            boolean[] integerColumns
+    ) {
+        this.arity = arity;
+        this.size = size;
+        this.longColumns = longColumns;
+        this.objectColumns = objectColumns;
+        this.integerColumns = integerColumns;
+    }
+
+    public static WriteTaskRelationCandidatePool empty() {
+        return EMPTY;
+    }
+
+    public static WriteTaskRelationCandidatePool fromRows(List<Map<String, Object>> rows, List<String> columns) {
+        Builder builder = builder(columns.size(), rows.size());
+        Object[] tuple = new Object[columns.size()];
+        for (Map<String, Object> row : rows) {
+            for (int index = 0; index < tuple.length; index++) {
+                tuple[index] = row.get(columns.get(index));
+            }
+            builder.add(tuple);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder(int arity, int expectedSize) {
+        return new Builder(arity, expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public boolean primitiveColumn(int column) {
+        return longColumns[column] != null;
+    }
+
+    public Object value(int candidate, int column) {
+        long[] longs = longColumns[column];
+        if (longs == null) {
+            return objectColumns[column][candidate];
+        }
+        return integerColumns[column] ? Integer.valueOf((int) longs[candidate]) : Long.valueOf(longs[candidate]);
+    }
+
+    public int pick(RandomGenerator random) {
+        return size == 0 ? -1 : random.nextInt(size);
+    }
+
+    public static final class Builder {
+
+        private final int arity;
+        private final long[][] longColumns;
+        private final Object[][] objectColumns;
+        private final boolean[] integerColumns;
+        private int capacity;
+        private int size;
+
+        private Builder(int arity, int expectedSize) {
+            this.arity = arity;
+            this.capacity = Math.max(16, expectedSize);
+            this.longColumns = new long[arity][];
+            this.objectColumns = new Object[arity][];
+            this.integerColumns = new boolean[arity];
+            for (int column = 0; column < arity; column++) {
+                longColumns[column] = new long[capacity];
+                integerColumns[column] = true;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean add(Object[] tuple) {
+            if (!complete(tuple)) {
+                return false;
+            }
+            if (size == capacity) {
+                grow(capacity * 2);
+            }
+            write(size++, tuple);
+            return true;
+        }
+
+        public boolean replace(int index, Object[] tuple) {
+            if (!complete(tuple)) {
+                return false;
+            }
+            write(index, tuple);
+            return true;
+        }
+
+        public WriteTaskRelationCandidatePool build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new WriteTaskRelationCandidatePool(arity, size, longColumns, objectColumns, integerColumns);
+        }
+
+        private boolean complete(Object[] tuple) {
+            for (int index = 0; index < arity; index++) {
+                if (tuple[index] == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void write(int row, Object[] tuple) {
+            for (int column = 0; column < arity; column++) {
+                Object value = tuple[column];
+                if (longColumns[column] != null && (value instanceof Long || value instanceof Integer)) {
+                    longColumns[column][row] = ((Number) value).longValue();
+                    integerColumns[column] &= value instanceof Integer;
+                    continue;
+                }
+                if (longColumns[column] != null) {
+                    boxColumn(column);
+                }
+                objectColumns[column][row] = value;
+            }
+        }
+
+        private void boxColumn(int column) {
+            Object[] boxed = new Object[capacity];
+            long[] longs = longColumns[column];
+            for (int row = 0; row < size; row++) {
+                boxed[row] = integerColumns[column] ? Integer.valueOf((int) longs[row]) : Long.valueOf(longs[row]);
+            }
+            objectColumns[column] = boxed;
+            longColumns[column] = null;
+        }
+
+        private void grow(int newCapacity) {
+            for (int column = 0; column < arity; column++) {
+                if (longColumns[column] != null) {
+                    longColumns[column] = Arrays.copyOf(longColumns[column], newCapacity);
+                } else {
+                    objectColumns[column] = Arrays.copyOf(objectColumns[column], newCapacity);
+                }
+            }
+            capacity = newCapacity;
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package com.datagenerator.task.application;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public final class WriteTaskRowBatch {
+
+    public enum ColumnKind {
+        LONG,
+        DECIMAL,
+        BOOLEAN,
+        STRING,
+        TIMESTAMP,
+        DATE,
+        OBJECT
+    }
+
+    private final String[] columnNames;
+    private final Map<String, Integer> columnIndexes;
+    private final Column[] columns;
+    private int capacity;
+    private int size;
+
+    private WriteTaskRowBatch(String[] columnNames, ColumnKind[] kinds, int[] scales, int capacity) {
+        this.columnNames = columnNames;
+        this.columnIndexes = new HashMap<>(Math.max(16, columnNames.length * 2));
+        this.columns = new Column[columnNames.length];
+        this.capacity = Math.max(capacity, 0);
+        for (int index = 0; index < columnNames.length; index++) {
+            columnIndexes.putIfAbsent(columnNames[index], index);
+            columns[index] = new Column(kinds[index], scales[index], this.capacity);
+        }
+    }
+
+    public static WriteTaskRowBatch create(String[] columnNames, ColumnKind[] kinds, int[] scales, int capacity) {
+        return new WriteTaskRowBatch(columnNames, kinds, scales, capacity);
+    }
+
+    public static WriteTaskRowBatch fromRows(List<Map<String, Object>> rows) {
+        List<Map<String, Object>> safeRows = rows == null ? List.of() : rows;
+        LinkedHashMap<String, Integer> names = new LinkedHashMap<>();
+        for (Map<String, Object> row : safeRows) {
+            for (String name : row.keySet()) {
+                names.putIfAbsent(name, names.size());
+            }
+        }
+        String[] columnNames = names.keySet().toArray(String[]::new);
+        ColumnKind[] kinds = new ColumnKind[columnNames.length];
+        Arrays.fill(kinds, ColumnKind.OBJECT);
+        WriteTaskRowBatch batch = new WriteTaskRowBatch(columnNames, kinds, new int[columnNames.length], safeRows.size());
+        for (Map<String, Object> source : safeRows) {
+            int row = batch.appendRow();
+            for (int column = 0; column < columnNames.length; column++) {
+                batch.setObject(column, row, source.get(columnNames[column]));
+            }
+        }
+        return batch;
+    }
+
+    public static WriteTaskRowBatch concat(List<WriteTaskRowBatch> batches) {
+        if (batches.isEmpty()) {
+            throw new IllegalArgumentException("至少需要一个数据块");
+        }
+        if (batches.size() == 1) {
+            return batches.get(0);
+        }
+        WriteTaskRowBatch first = batches.get(0);
+        int totalSize = batches.stream().mapToInt(WriteTaskRowBatch::size).sum();
+        ColumnKind[] kinds = new ColumnKind[first.columns.length];
+        int[] scales = new int[first.columns.length];
+        for (int index = 0; index < kinds.length; index++) {
+            kinds[index] = first.columns[index].kind;
+            scales[index] = first.columns[index].scale;
+        }
+        WriteTaskRowBatch merged = new WriteTaskRowBatch(first.columnNames, kinds, scales, totalSize);
+        for (WriteTaskRowBatch batch : batches) {
+            if (!Arrays.equals(batch.columnNames, first.columnNames)) {
+                throw new IllegalArgumentException("数据块字段结构不一致，无法合并");
+            }
+            for (int index = 0; index < kinds.length; index++) {
+                merged.columns[index].copyFrom(batch.columns[index], batch.size, merged.size);
+            }
+            merged.size += batch.size;
+        }
+        return merged;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int columnCount() {
+        return columnNames.length;
+    }
+
+    public String columnName(int column) {
+        return columnNames[column];
+    }
+
+    public int columnIndex(String columnName) {
+        Integer index = columnIndexes.get(columnName);
+        return index == null ? -1 : index;
+    }
+
+    public ColumnKind columnKind(int column) {
+        return columns[column].kind;
+    }
+
+    public int appendRow() {
+        if (size == capacity) {
+            capacity = Math.max(16, capacity * 2);
+            for (Column column : columns) {
+                column.grow(capacity);
+            }
+        }
+        return size++;
+    }
+
+    public void setNull(int column, int row) {
+        columns[column].setNull(row);
+    }
+
+    public void setLong(int column, int row, long value) {
+        Column target = columns[column];
+        target.longs[row] = value;
+        target.clearNull(row);
+    }
+
+    public void setBoolean(int column, int row, boolean value) {
+        Column target = columns[column];
+        if (value) {
+            target.booleans[row >>> 6] |= 1L << row;
+        } else {
+            target.booleans[row >>> 6] &= ~(1L << row);
+        }
+        target.clearNull(row);
+    }
+
+    public void setString(int column, int row, String value) {
+        if (value == null) {
+            setNull(column, row);
+            return;
+        }
+        columns[column].appendString(row, value);
+    }
+
+    public void setObject(int column, int row, Object value) {
+        if (value == null) {
+            setNull(column, row);
+            return;
+        }
+        Column target = columns[column];
+        switch (target.kind) {
+            case LONG -> setLong(column, row, value instanceof Number number
+                    ? number.longValue()
+                    : Long.parseLong(String.valueOf(value)));
+            case DECIMAL -> setLong(column, row, new BigDecimal(String.valueOf(value))
+                    .setScale(target.scale, RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact());
+            case BOOLEAN -> setBoolean(column, row, value instanceof Boolean booleanValue
+                    ? booleanValue
+                    : Boolean.parseBoolean(String.valueOf(value)));
+            case STRING -> setString(column, row, String.valueOf(value));
+            case TIMESTAMP -> setLong(column, row, value instanceof Number number
+                    ? number.longValue()
+                    : Instant.parse(String.valueOf(value)).toEpochMilli());
+            case DATE -> setLong(column, row, value instanceof Number number
+                    ? number.longValue()
+                    : LocalDate.parse(String.valueOf(value)).toEpochDay());
+            case OBJECT -> {
+                target.objects[row] = value;
+                target.clearNull(row);
+            }
+        }
+    }
+
+    public boolean isNull(int column, int row) {
+        long[] nulls = columns[column].nulls;
+        return (nulls[row >>> 6] & (1L << row)) != 0;
+    }
+
+    public long getLong(int column, int row) {
+        return columns[column].longs[row];
+    }
+
+    public BigDecimal getDecimal(int column, int row) {
+        Column source = columns[column];
+        return BigDecimal.valueOf(source.longs[row], source.scale);
+    }
+
+    public boolean getBoolean(int column, int row) {
+        return (columns[column].booleans[row >>> 6] & (1L << row)) != 0;
+    }
+
+    public String getString(int column, int row) {
+        Column source = columns[column];
+        return new String(source.bytes, source.offsets[row], source.lengths[row], StandardCharsets.UTF_8);
+    }
+
+    public byte[] stringBytes(int column) {
+        return columns[column].bytes;
+    }
+
+    public int stringOffset(int column, int row) {
+        return columns[column].offsets[row];
+    }
+
+    public int stringLength(int column, int row) {
+        return columns[column].lengths[row];
+    }
+
+    public Object getObject(int column, int row) {
+        if (isNull(column, row)) {
+            return null;
+        }
+        return switch (columns[column].kind) {
+            case LONG -> getLong(column, row);
+            case DECIMAL -> getDecimal(column, row);
+            case BOOLEAN -> getBoolean(column, row);
+            case STRING -> getString(column, row);
+            case TIMESTAMP -> Instant.ofEpochMilli(getLong(column, row)).toString();
+            case DATE -> LocalDate.ofEpochDay(getLong(column, row)).toString();
+            case OBJECT -> columns[column].objects[row];
+        };
+    }
+
+    public boolean isBlank(int column, int row) {
+        if (isNull(column, row)) {
+            return false;
+        }
+        Column source = columns[column];
+        if (source.kind == ColumnKind.OBJECT) {
+            return source.objects[row] instanceof String stringValue && stringValue.isBlank();
+        }
+        if (source.kind != ColumnKind.STRING) {
+            return false;
+        }
+        int end = source.offsets[row] + source.lengths[row];
+        for (int index = source.offsets[row]; index < end; index++) {
+            byte value = source.bytes[index];
+            if (value < 0) {
+                return getString(column, row).isBlank();
+            }
+            if (!Character.isWhitespace(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Map<String, Object> rowView(int row) {
+        return new RowView(row);
+    }
+
+    public Map<String, Object> toRow(int row) {
+        LinkedHashMap<String, Object> values = new LinkedHashMap<>(Math.max(16, columnNames.length * 2));
+        for (int column = 0; column < columnNames.length; column++) {
+            values.put(columnNames[column], getObject(column, row));
+        }
+        return values;
+    }
+
+    public List<Map<String, Object>> toRows() {
+        List<Map<String, Object>> rows = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            rows.add(toRow(row));
+        }
+        return rows;
+    }
+
+    private static final class Column {
+
+        private final ColumnKind kind;
+        private final int scale;
+        private long[] nulls;
+        private long[] longs;
+        private long[] booleans;
+        private byte[] bytes;
+        private int[] offsets;
+        private int[] lengths;
+        private int byteLength;
+        private Object[] objects;
+
+        private Column(ColumnKind kind, int scale, int capacity) {
+            this.kind = kind;
+            this.scale = scale;
+            this.nulls = new long[words(capacity)];
+            switch (kind) {
+                case LONG, DECIMAL, TIMESTAMP, DATE -> longs = new long[capacity];
+                case BOOLEAN -> booleans = new long[words(capacity)];
+                case STRING -> {
+                    bytes = new byte[Math.max(64, capacity * 16)];
+                    offsets = new int[capacity];
+                    lengths = new int[capacity];
+                }
+                case OBJECT -> objects = new Object[capacity];
+            }
+        }
+
+        private void grow(int capacity) {
+            nulls = Arrays.copyOf(nulls, words(capacity));
+            if (longs != null) {
+                longs = Arrays.copyOf(longs, capacity);
+            }
+            if (booleans != null) {
+                booleans = Arrays.copyOf(booleans, words(capacity));
+            }
+            if (offsets != null) {
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            if (objects != null) {
+                objects = Arrays.copyOf(objects, capacity);
+            }
+        }
+
+        private void setNull(int row) {
+            nulls[row >>> 6] |= 1L << row;
+            if (objects != null) {
+                objects[row] = null;
+            }
+        }
+
+        private void clearNull(int row) {
+            nulls[row >>> 6] &= ~(1L << row);
+        }
+
+        private void appendString(int row, String value) {
+            int length = value.length();
+            ensureBytes(byteLength + length);
+            int start = byteLength;
+            int position = start;
+            for (int index = 0; index < length; index++) {
+                char character = value.charAt(index);
+                if (character >= 0x80) {
+                    byte[] encoded = value.substring(index).getBytes(StandardCharsets.UTF_8);
+                    ensureBytes(position + encoded.length);
+                    System.arraycopy(encoded, 0, bytes, position, encoded.length);
+                    position += encoded.length;
+                    break;
+                }
+                bytes[position++] = (byte) character;
+            }
+            offsets[row] = start;
+            lengths[row] = position - start;
+            byteLength = position;
+            clearNull(row);
+        }
+
+        private void ensureBytes(int required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+            }
+        }
+
+        private void copyFrom(Column source, int rowCount, int targetRow) {
+            for (int row = 0; row < rowCount; row++) {
+                if ((source.nulls[row >>> 6] & (1L << row)) != 0) {
+                    nulls[(targetRow + row) >>> 6] |= 1L << (targetRow + row);
+                }
+            }
+            switch (kind) {
+                case LONG, DECIMAL, TIMESTAMP, DATE -> System.arraycopy(source.longs, 0, longs, targetRow, rowCount);
+                case BOOLEAN -> {
+                    for (int row = 0; row < rowCount; row++) {
+                        if ((source.booleans[row >>> 6] & (1L << row)) != 0) {
+                            booleans[(targetRow + row) >>> 6] |= 1L << (targetRow + row);
+                        }
+                    }
+                }
+                case STRING -> {
+                    ensureBytes(byteLength + source.byteLength);
+                    System.arraycopy(source.bytes, 0, bytes, byteLength, source.byteLength);
+                    for (int row = 0; row < rowCount; row++) {
+                        offsets[targetRow + row] = source.offsets[row] + byteLength;
+                        lengths[targetRow + row] = source.lengths[row];
+                    }
+                    byteLength += source.byteLength;
+                }
+                case OBJECT -> System.arraycopy(source.objects, 0, objects, targetRow, rowCount);
+            }
+        }
+
+        private static int words(int capacity) {
+            return Math.max(1, (capacity + 63) >>> 6);
+        }
+    }
+
+    private final class RowView extends AbstractMap<String, Object> {
+
+        private final int row;
+
+        private RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Integer column = columnIndexes.get(key);
+            return column == null ? null : getObject(column, row);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return columnIndexes.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return columnNames.length;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int column;
+
+                        @Override
+                        public boolean hasNext() {
+                            return column < columnNames.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int current = column++;
+                            return new SimpleImmutableEntry<>(columnNames[current], getObject(current, row));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return columnNames.length;
+                }
+            };
+        }
+    }
+}
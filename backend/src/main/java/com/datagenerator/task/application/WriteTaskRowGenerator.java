@@ -0,0 +1,190 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.common.support.RandomStreamSupport;
+import com.datagenerator.task.api.WriteTaskColumnUpsertRequest;
+import com.datagenerator.task.api.WriteTaskUpsertRequest;
+import com.datagenerator.task.domain.ColumnGeneratorType;
+import com.datagenerator.task.domain.WriteTask;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WriteTaskRowGenerator {
+
+    static final int DEFAULT_CHUNK_SIZE = 500;
+    static final int MAX_CHUNK_SIZE = 32_000;
+
+    private final WriteTaskGeneratorPlanCompiler planCompiler;
+
+    public WriteTaskRowGenerator(WriteTaskGeneratorPlanCompiler planCompiler) {
+        this.planCompiler = planCompiler;
+    }
+
+    public long resolveSeed(WriteTaskUpsertRequest request, Long requestedSeed) {
+        if (requestedSeed != null) {
+            return requestedSeed;
+        }
+        return request.seed() != null ? request.seed() : System.currentTimeMillis();
+    }
+
+    public List<Map<String, Object>> generate(WriteTaskUpsertRequest request, int count, long seed) {
+        RowCursor cursor = new RowCursor(planCompiler.compile(request), seed, Map.of(), Math.max(count, 0));
+        return cursor.nextChunk(count).toRows();
+    }
+
+    public WriteTaskRowStream stream(
+            WriteTask task,
+            WriteTaskUpsertRequest runtimeRequest,
+            int rowCount,
+            long seed,
+            Integer chunkSize
+    ) {
+        int safeRowCount = Math.max(rowCount, 0);
+        RowCursor cursor = new RowCursor(planCompiler.compile(task), seed, sequenceStarts(runtimeRequest), safeRowCount);
+        int safeChunkSize = sanitizeChunkSize(chunkSize);
+        return WriteTaskRowStream.of(safeRowCount, () -> cursor.nextChunk(safeChunkSize));
+    }
+
+    WriteTaskRowStream resume(
+            WriteTask task,
+            Map<String, Long> sequenceStarts,
+            int rowCount,
+            long seed,
+            Integer chunkSize,
+            int startRow
+    ) {
+        int safeRowCount = Math.max(rowCount, 0);
+        RowCursor cursor = new RowCursor(planCompiler.compile(task), seed, sequenceStarts, safeRowCount);
+        cursor.skip(Math.min(Math.max(startRow, 0), safeRowCount));
+        int safeChunkSize = sanitizeChunkSize(chunkSize);
+        return WriteTaskRowStream.of(safeRowCount - cursor.rowIndex, () -> cursor.nextChunk(safeChunkSize));
+    }
+
+    WriteTaskRowStream streamPaced(
+            WriteTask task,
+            WriteTaskUpsertRequest runtimeRequest,
+            Long maxRowCount,
+            long seed,
+            Integer chunkSize,
+            WriteTaskStreamSession session
+    ) {
+        int safeRowCount = maxRowCount == null ? Integer.MAX_VALUE : (int) Math.min(Math.max(maxRowCount, 0), Integer.MAX_VALUE);
+        RowCursor cursor = new RowCursor(planCompiler.compile(task), seed, sequenceStarts(runtimeRequest), safeRowCount);
+        int safeChunkSize = sanitizeChunkSize(chunkSize);
+        return WriteTaskRowStream.of(0, () -> {
+            try {
+                int granted = session.governor().acquire(safeChunkSize, session::stopRequested);
+                return granted == 0 ? null : cursor.nextChunk(granted);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+    }
+
+    Map<String, Long> sequenceStarts(WriteTaskUpsertRequest runtimeRequest) {
+        Map<String, Long> starts = new LinkedHashMap<>();
+        if (runtimeRequest == null || runtimeRequest.columns() == null) {
+            return starts;
+        }
+        for (WriteTaskColumnUpsertRequest column : runtimeRequest.columns()) {
+            if (column.generatorType() != ColumnGeneratorType.SEQUENCE
+                    || column.generatorConfig() == null
+                    || !(column.generatorConfig().get("start") instanceof Number start)) {
+                continue;
+            }
+            starts.put(column.columnName(), start.longValue());
+        }
+        return starts;
+    }
+
+    private int sanitizeChunkSize(Integer chunkSize) {
+        int requested = chunkSize == null || chunkSize < 1 ? DEFAULT_CHUNK_SIZE : chunkSize;
+        int parallelRows = RandomStreamSupport.BLOCK_SIZE * Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+        int rows = Math.min(Math.max(requested, parallelRows), MAX_CHUNK_SIZE);
+        return RandomStreamSupport.blockCount(rows) * RandomStreamSupport.BLOCK_SIZE;
+    }
+
+    private static final class RowCursor {
+
+        private final WriteTaskGeneratorPlan plan;
+        private final long seed;
+        private final Map<String, Long> sequenceStarts;
+        private final int rowCount;
+        private final RandomGenerator sequentialRandom;
+        private final Map<String, Long> sequentialState;
+        private int rowIndex;
+        private RandomGenerator openBlockRandom;
+        private int openBlockRow = -1;
+
+        private RowCursor(WriteTaskGeneratorPlan plan, long seed, Map<String, Long> sequenceStarts, int rowCount) {
+            this.plan = plan;
+            this.seed = seed;
+            this.sequenceStarts = Map.copyOf(sequenceStarts);
+            this.rowCount = rowCount;
+            this.sequentialRandom = plan.sequential() ? RandomStreamSupport.forBlock(seed, 0) : null;
+            this.sequentialState = plan.sequential() ? new HashMap<>(sequenceStarts) : null;
+        }
+
+        private void skip(int rows) {
+            if (!plan.sequential()) {
+                rowIndex += rows;
+                return;
+            }
+            int target = rowIndex + rows;
+            while (rowIndex < target) {
+                nextChunk(Math.min(target - rowIndex, MAX_CHUNK_SIZE));
+            }
+        }
+
+        private WriteTaskRowBatch nextChunk(int maxRows) {
+            int size = Math.max(0, Math.min(maxRows, rowCount - rowIndex));
+            int firstRow = rowIndex;
+            rowIndex += size;
+            if (size == 0 || plan.sequential()) {
+                WriteTaskRowBatch batch = plan.newBatch(size);
+                for (int index = firstRow; index < firstRow + size; index++) {
+                    plan.fillRow(batch, sequentialRandom, index, sequentialState);
+                }
+                return batch;
+            }
+
+            int firstBlock = firstRow / RandomStreamSupport.BLOCK_SIZE;
+            int blockCount = RandomStreamSupport.blockCount(firstRow + size) - firstBlock;
+            int lastRow = firstRow + size;
+            // Continue a block left open by the previous chunk instead of replaying its prefix.
+            RandomGenerator carried = openBlockRow == firstRow ? openBlockRandom : null;
+            RandomGenerator[] leftOpen = new RandomGenerator[1];
+            WriteTaskRowBatch chunk = WriteTaskRowBatch.concat(RandomStreamSupport.mapBlocks(firstBlock, blockCount, blockIndex -> {
+                int blockStart = blockIndex * RandomStreamSupport.BLOCK_SIZE;
+                int from = Math.max(blockStart, firstRow);
+                int to = Math.min(blockStart + RandomStreamSupport.BLOCK_SIZE, lastRow);
+                RandomGenerator random = from > blockStart && carried != null
+                        ? carried
+                        : RandomStreamSupport.forBlock(seed, blockIndex);
+                if (from > blockStart && random != carried) {
+                    WriteTaskRowBatch skipped = plan.newBatch(from - blockStart);
+                    for (int index = blockStart; index < from; index++) {
+                        plan.fillRow(skipped, random, index, sequenceStarts);
+                    }
+                }
+                WriteTaskRowBatch batch = plan.newBatch(to - from);
+                for (int index = from; index < to; index++) {
+                    plan.fillRow(batch, random, index, sequenceStarts);
+                }
+                if (to == lastRow && to < blockStart + RandomStreamSupport.BLOCK_SIZE) {
+                    leftOpen[0] = random;
+                }
+                return batch;
+            }));
+            openBlockRandom = leftOpen[0];
+            openBlockRow = leftOpen[0] == null ? -1 : lastRow;
+            return chunk;
+        }
+    }
+}
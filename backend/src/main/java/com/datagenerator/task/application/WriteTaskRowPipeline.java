@@ -0,0 +1,123 @@
+package com.datagenerator.task.application;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+final class WriteTaskRowPipeline implements WriteTaskRowStream.ChunkSource {
+
+    static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    private static final long POLL_MILLIS = 100;
+    private static final WriteTaskRowBatch END = WriteTaskRowBatch.fromRows(List.of());
+
+    private final WriteTaskRowStream upstream;
+    private final BlockingQueue<WriteTaskRowBatch> queue;
+    private final int queueCapacity;
+    private final Thread producer;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+    private volatile long generatorBusyNanos;
+    private volatile long generatorBlockedNanos;
+    private long writerBusyNanos;
+    private long writerIdleNanos;
+    private long lastHandOffNanos;
+    private boolean drained;
+
+    WriteTaskRowPipeline(WriteTaskRowStream upstream, int queueCapacity, String threadName) {
+        this.upstream = upstream;
+        this.queueCapacity = queueCapacity;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.producer = new Thread(this::produce, threadName);
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    @Override
+    public WriteTaskRowBatch nextChunk() {
+        if (drained) {
+            return null;
+        }
+        long requestedAt = System.nanoTime();
+        if (lastHandOffNanos > 0) {
+            writerBusyNanos += requestedAt - lastHandOffNanos;
+        }
+        WriteTaskRowBatch chunk;
+        try {
+            do {
+                rethrowFailure();
+                chunk = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } while (chunk == null);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("写入流水线等待数据时被中断", exception);
+        }
+        lastHandOffNanos = System.nanoTime();
+        writerIdleNanos += lastHandOffNanos - requestedAt;
+        if (chunk == END) {
+            drained = true;
+            return null;
+        }
+        return chunk;
+    }
+
+    void close() {
+        closed = true;
+        try {
+            producer.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Map<String, Object> stats() {
+        long generatorBusy = generatorBusyNanos;
+        long generatorBlocked = generatorBlockedNanos;
+        LinkedHashMap<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("generatorBusyMs", TimeUnit.NANOSECONDS.toMillis(generatorBusy));
+        stats.put("generatorBlockedMs", TimeUnit.NANOSECONDS.toMillis(generatorBlocked));
+        stats.put("writerBusyMs", TimeUnit.NANOSECONDS.toMillis(writerBusyNanos));
+        stats.put("writerIdleMs", TimeUnit.NANOSECONDS.toMillis(writerIdleNanos));
+        stats.put("bottleneck", writerIdleNanos > generatorBlocked ? "GENERATOR" : "WRITER");
+        return stats;
+    }
+
+    private void produce() {
+        try {
+            while (!closed) {
+                long startedAt = System.nanoTime();
+                WriteTaskRowBatch chunk = upstream.hasNext() ? upstream.next() : END;
+                long generatedAt = System.nanoTime();
+                generatorBusyNanos += generatedAt - startedAt;
+                while (!queue.offer(chunk, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        return;
+                    }
+                }
+                generatorBlockedNanos += System.nanoTime() - generatedAt;
+                if (chunk == END) {
+                    return;
+                }
+            }
+        } catch (Throwable throwable) {
+            failure = throwable;
+        }
+    }
+
+    private void rethrowFailure() {
+        Throwable throwable = failure;
+        if (throwable instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        if (throwable != null) {
+            throw new IllegalStateException("写入数据生成线程异常终止", throwable);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.datagenerator.task.application;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+public final class WriteTaskRowStream implements Iterator<WriteTaskRowBatch>, AutoCloseable {
+
+    private final long plannedRowCount;
+    private final ChunkSource source;
+    private final List<Consumer<WriteTaskRowBatch>> chunkListeners = new ArrayList<>();
+
+    private WriteTaskRowPipeline pipeline;
+    private WriteTaskRowBatch pendingChunk;
+    private boolean exhausted;
+    private boolean failed;
+    private long generatedRowCount;
+    private int generatedChunkCount;
+
+    private WriteTaskRowStream(long plannedRowCount, ChunkSource source) {
+        this.plannedRowCount = plannedRowCount;
+        this.source = source;
+    }
+
+    public static WriteTaskRowStream of(long plannedRowCount, ChunkSource source) {
+        return new WriteTaskRowStream(plannedRowCount, source);
+    }
+
+    public static WriteTaskRowStream of(List<Map<String, Object>> rows) {
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(rows);
+        boolean[] consumed = {false};
+        return new WriteTaskRowStream(batch.size(), () -> {
+            if (consumed[0]) {
+                return null;
+            }
+            consumed[0] = true;
+            return batch;
+        });
+    }
+
+    public WriteTaskRowStream onChunk(Consumer<WriteTaskRowBatch> listener) {
+        chunkListeners.add(listener);
+        return this;
+    }
+
+    public WriteTaskRowStream pipelined(int queueCapacity, String threadName) {
+        WriteTaskRowPipeline rowPipeline = new WriteTaskRowPipeline(this, queueCapacity, threadName);
+        WriteTaskRowStream stream = new WriteTaskRowStream(plannedRowCount, rowPipeline);
+        stream.pipeline = rowPipeline;
+        return stream;
+    }
+
+    public WriteTaskRowStream prefetch() {
+        hasNext();
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendingChunk != null) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+
+        WriteTaskRowBatch chunk;
+        try {
+            chunk = source.nextChunk();
+            if (chunk == null || chunk.size() == 0) {
+                exhausted = true;
+                return false;
+            }
+            generatedRowCount += chunk.size();
+            generatedChunkCount++;
+            for (Consumer<WriteTaskRowBatch> listener : chunkListeners) {
+                listener.accept(chunk);
+            }
+        } catch (RuntimeException exception) {
+            failed = true;
+            exhausted = true;
+            throw exception;
+        }
+        pendingChunk = chunk;
+        return true;
+    }
+
+    @Override
+    public WriteTaskRowBatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("写入数据流已结束");
+        }
+        WriteTaskRowBatch chunk = pendingChunk;
+        pendingChunk = null;
+        return chunk;
+    }
+
+    public long plannedRowCount() {
+        return plannedRowCount;
+    }
+
+    public long generatedRowCount() {
+        return generatedRowCount;
+    }
+
+    public int generatedChunkCount() {
+        return generatedChunkCount;
+    }
+
+    public boolean failed() {
+        return failed;
+    }
+
+    public Map<String, Object> stageStats() {
+        return pipeline == null ? Map.of() : pipeline.stats();
+    }
+
+    @Override
+    public void close() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChunkSource {
+
+        WriteTaskRowBatch nextChunk();
+    }
+}
@@ -1,5 +1,6 @@
 package com.datagenerator.task.application;
 
+import com.datagenerator.task.api.WriteTaskStreamStatusResponse;
 import com.datagenerator.task.domain.WriteExecutionStatus;
 import com.datagenerator.task.domain.WriteExecutionTriggerType;
 import com.datagenerator.task.domain.WriteTask;
@@ -39,17 +40,20 @@ public class WriteTaskSchedulingService {
     private final WriteTaskRepository repository;
     private final WriteTaskExecutionRepository executionRepository;
     private final WriteTaskService service;
+    private final WriteTaskStreamingService streamingService;
 
     public WriteTaskSchedulingService(
             Scheduler scheduler,
             WriteTaskRepository repository,
             WriteTaskExecutionRepository executionRepository,
-            WriteTaskService service
+            WriteTaskService service,
+            WriteTaskStreamingService streamingService
     ) {
         this.scheduler = scheduler;
         this.repository = repository;
         this.executionRepository = executionRepository;
         this.service = service;
+        this.streamingService = streamingService;
     }
 
     @EventListener(ApplicationReadyEvent.class)
@@ -74,6 +78,13 @@ public class WriteTaskSchedulingService {
     }
 
     public void scheduleOrUpdate(WriteTask task) {
+        if (task.getScheduleType() == WriteTaskScheduleType.STREAM) {
+            unschedule(task.getId());
+            if (task.getStatus() == WriteTaskStatus.RUNNING) {
+                streamingService.start(task);
+            }
+            return;
+        }
         try {
             if (!shouldSchedule(task)) {
                 unschedule(task.getId());
@@ -114,6 +125,7 @@ public class WriteTaskSchedulingService {
     }
 
     public void unschedule(Long taskId) {
+        streamingService.stop(taskId);
         try {
             TriggerKey triggerKey = triggerKey(taskId);
             if (scheduler.checkExists(triggerKey)) {
@@ -131,7 +143,7 @@ public class WriteTaskSchedulingService {
 
     public WriteTask startContinuous(Long taskId) {
         WriteTask task = service.findById(taskId);
-        if (task.getScheduleType() != WriteTaskScheduleType.INTERVAL) {
+        if (!isContinuous(task)) {
             throw new IllegalArgumentException("只有持续写入任务才能启动");
         }
         task.setStatus(WriteTaskStatus.RUNNING);
@@ -146,7 +158,7 @@ public class WriteTaskSchedulingService {
         if (task.getScheduleType() == WriteTaskScheduleType.MANUAL) {
             throw new IllegalArgumentException("手动任务不支持暂停调度");
         }
-        if (task.getScheduleType() == WriteTaskScheduleType.INTERVAL && task.getStatus() == WriteTaskStatus.READY) {
+        if (isContinuous(task) && task.getStatus() == WriteTaskStatus.READY) {
             throw new IllegalArgumentException("持续写入尚未启动");
         }
         task.setStatus(WriteTaskStatus.PAUSED);
@@ -161,7 +173,7 @@ public class WriteTaskSchedulingService {
         if (task.getScheduleType() == WriteTaskScheduleType.MANUAL) {
             throw new IllegalArgumentException("手动任务不支持恢复调度");
         }
-        task.setStatus(task.getScheduleType() == WriteTaskScheduleType.INTERVAL ? WriteTaskStatus.RUNNING : WriteTaskStatus.READY);
+        task.setStatus(isContinuous(task) ? WriteTaskStatus.RUNNING : WriteTaskStatus.READY);
         WriteTask saved = repository.save(task);
         scheduleOrUpdate(saved);
         applyScheduleSnapshot(saved);
@@ -170,7 +182,7 @@ public class WriteTaskSchedulingService {
 
     public WriteTask stopContinuous(Long taskId) {
         WriteTask task = service.findById(taskId);
-        if (task.getScheduleType() != WriteTaskScheduleType.INTERVAL) {
+        if (!isContinuous(task)) {
             throw new IllegalArgumentException("只有持续写入任务才能停止");
         }
         task.setStatus(WriteTaskStatus.READY);
@@ -180,6 +192,11 @@ public class WriteTaskSchedulingService {
         return saved;
     }
 
+    public WriteTaskStreamStatusResponse streamStatus(Long taskId) {
+        service.findById(taskId);
+        return streamingService.status(taskId);
+    }
+
     public void handleScheduledFire(Long taskId, WriteExecutionTriggerType triggerType) {
         WriteTask task = repository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("未找到写入任务: " + taskId));
@@ -215,9 +232,13 @@ public class WriteTaskSchedulingService {
             if (task.getStatus() == WriteTaskStatus.DISABLED) {
                 return new WriteTaskScheduleSnapshot("DISABLED", null, null);
             }
-            if (task.getScheduleType() == WriteTaskScheduleType.INTERVAL && task.getStatus() == WriteTaskStatus.READY) {
+            if (isContinuous(task) && task.getStatus() == WriteTaskStatus.READY) {
                 return new WriteTaskScheduleSnapshot("STOPPED", null, null);
             }
+            if (task.getScheduleType() == WriteTaskScheduleType.STREAM) {
+                String state = streamingService.isStreaming(task.getId()) ? "STREAMING" : task.getStatus().name();
+                return new WriteTaskScheduleSnapshot(state, null, null);
+            }
             if (task.getScheduleType() == WriteTaskScheduleType.ONCE && hasOnceAlreadyCompleted(task)) {
                 return new WriteTaskScheduleSnapshot("COMPLETED", null, task.getLastTriggeredAt());
             }
@@ -255,9 +276,15 @@ public class WriteTaskSchedulingService {
             case MANUAL -> false;
             case ONCE, CRON -> task.getStatus() == WriteTaskStatus.READY || task.getStatus() == WriteTaskStatus.PAUSED;
             case INTERVAL -> task.getStatus() == WriteTaskStatus.RUNNING || task.getStatus() == WriteTaskStatus.PAUSED;
+            case STREAM -> false;
         };
     }
 
+    private boolean isContinuous(WriteTask task) {
+        return task.getScheduleType() == WriteTaskScheduleType.INTERVAL
+                || task.getScheduleType() == WriteTaskScheduleType.STREAM;
+    }
+
     private boolean reachedContinuousLimit(WriteTask task) {
         long completedRuns = executionRepository.countByWriteTaskIdAndTriggerTypeAndStatusIn(
                 task.getId(),
@@ -294,6 +321,7 @@ public class WriteTaskSchedulingService {
             case ONCE -> buildOnceTrigger(task);
             case CRON -> buildCronTrigger(task);
             case INTERVAL -> buildIntervalTrigger(task);
+            case STREAM -> null;
         };
     }
 
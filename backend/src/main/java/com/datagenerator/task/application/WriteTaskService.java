@@ -32,6 +32,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -45,6 +46,8 @@ public class WriteTaskService {
     private final WriteTaskExecutionLogRepository executionLogRepository;
     private final TargetConnectionService connectionService;
     private final WriteTaskPreviewService previewService;
+    private final WriteTaskRowGenerator rowGenerator;
+    private final WriteTaskGeneratorPlanCompiler planCompiler;
     private final WriteTaskExecutionPreparationService executionPreparationService;
     private final WriteTaskDeliveryWriterRegistry writerRegistry;
     private final KafkaPayloadSchemaService payloadSchemaService;
@@ -56,6 +59,8 @@ public class WriteTaskService {
             WriteTaskExecutionLogRepository executionLogRepository,
             TargetConnectionService connectionService,
             WriteTaskPreviewService previewService,
+            WriteTaskRowGenerator rowGenerator,
+            WriteTaskGeneratorPlanCompiler planCompiler,
             WriteTaskExecutionPreparationService executionPreparationService,
             WriteTaskDeliveryWriterRegistry writerRegistry,
             KafkaPayloadSchemaService payloadSchemaService,
@@ -66,6 +71,8 @@ public class WriteTaskService {
         this.executionLogRepository = executionLogRepository;
         this.connectionService = connectionService;
         this.previewService = previewService;
+        this.rowGenerator = rowGenerator;
+        this.planCompiler = planCompiler;
         this.executionPreparationService = executionPreparationService;
         this.writerRegistry = writerRegistry;
         this.payloadSchemaService = payloadSchemaService;
@@ -92,6 +99,7 @@ public class WriteTaskService {
     public WriteTask update(Long id, WriteTaskUpsertRequest request) {
         WriteTask task = findById(id);
         apply(task, request);
+        planCompiler.evict(id);
         return repository.save(task);
     }
 
@@ -110,6 +118,7 @@ public class WriteTaskService {
             executionRepository.deleteAllInBatch(executions);
         }
         repository.delete(task);
+        planCompiler.evict(id);
     }
 
     public WriteTaskPreviewResponse preview(WriteTaskPreviewRequest request) {
@@ -153,7 +162,44 @@ public class WriteTaskService {
         return runInternal(findById(id), triggerType);
     }
 
+    WriteTaskExecutionResponse runStreaming(Long id, WriteTaskStreamSession session) {
+        return runInternal(findById(id), WriteExecutionTriggerType.STREAMING, session, null);
+    }
+
+    public WriteTaskExecutionResponse resumeExecution(Long executionId) {
+        WriteTaskExecution execution = findExecutionById(executionId);
+        if (execution.getStatus() != WriteExecutionStatus.FAILED) {
+            throw new IllegalArgumentException("仅失败的执行记录可以从检查点恢复");
+        }
+        if (execution.getCheckpointRowCount() == null || execution.getCheckpointSeed() == null) {
+            throw new IllegalArgumentException("该执行记录没有可恢复的检查点: " + executionId);
+        }
+        if (executionRepository.existsByResumedFromExecutionId(executionId)) {
+            throw new IllegalArgumentException("该执行记录已恢复过，请从最新的恢复执行记录继续");
+        }
+        WriteTask task = findById(execution.getWriteTaskId());
+        if (!isCheckpointStrategy(task)) {
+            throw new IllegalArgumentException("写入任务未使用 CHECKPOINT 写入策略，无法从检查点恢复");
+        }
+        if (!Objects.equals(planCompiler.fingerprint(task), execution.getCheckpointPlanFingerprint())) {
+            throw new IllegalArgumentException("写入任务的字段或生成配置在检查点之后已修改，无法从检查点恢复");
+        }
+        if (!Objects.equals(task.getRowCount().longValue(), execution.getCheckpointPlannedRowCount())) {
+            throw new IllegalArgumentException("写入任务的写入行数在检查点之后已修改，无法从检查点恢复");
+        }
+        return runInternal(task, WriteExecutionTriggerType.RESUME, null, execution);
+    }
+
     public WriteTaskExecutionResponse runInternal(WriteTask task, WriteExecutionTriggerType triggerType) {
+        return runInternal(task, triggerType, null, null);
+    }
+
+    private WriteTaskExecutionResponse runInternal(
+            WriteTask task,
+            WriteExecutionTriggerType triggerType,
+            WriteTaskStreamSession session,
+            WriteTaskExecution resumeFrom
+    ) {
         if (executionRepository.existsByWriteTaskIdAndStatus(task.getId(), WriteExecutionStatus.RUNNING)) {
             throw new IllegalArgumentException("当前任务仍在执行中，请等待上一批写入完成");
         }
@@ -166,13 +212,24 @@ public class WriteTaskService {
         execution.setTriggerType(triggerType);
         execution.setStatus(WriteExecutionStatus.RUNNING);
         execution.setStartedAt(Instant.now());
+        execution.setResumedFromExecutionId(resumeFrom == null ? null : resumeFrom.getId());
         WriteTaskExecution savedExecution = executionRepository.save(execution);
 
         Map<String, Object> deliveryDetails = new LinkedHashMap<>();
         deliveryDetails.put("tableName", task.getTableName());
         deliveryDetails.put("writeMode", task.getWriteMode());
         deliveryDetails.put("tableMode", task.getTableMode());
-        deliveryDetails.put("plannedRowCount", task.getRowCount());
+        if (session == null) {
+            deliveryDetails.put("plannedRowCount", task.getRowCount());
+        } else {
+            session.attachExecution(savedExecution.getId());
+            deliveryDetails.put("stream", session.rateDetails());
+        }
+        if (resumeFrom != null) {
+            deliveryDetails.put("resumedFromExecutionId", resumeFrom.getId());
+            deliveryDetails.put("resumedFromChunkIndex", resumeFrom.getCheckpointChunkIndex());
+            deliveryDetails.put("resumedFromRowCount", resumeFrom.getCheckpointRowCount());
+        }
 
         log(savedExecution.getId(), WriteLogLevel.INFO, "开始执行写入任务", Map.of(
                 "taskId", task.getId(),
@@ -181,45 +238,92 @@ public class WriteTaskService {
                 "triggerType", triggerType.name()
         ));
 
+        WriteTaskRowStream rows = null;
+        RowValidator validator = null;
         try {
             var connection = connectionService.findById(task.getConnectionId());
             deliveryDetails.put("targetType", connection.getDbType().name());
 
-            WriteTaskUpsertRequest runtimeRequest = executionPreparationService.prepareForExecution(
-                    task,
-                    toUpsertRequest(task),
-                    connection
-            );
-            logSequenceAdjustments(savedExecution.getId(), toUpsertRequest(task), runtimeRequest);
-
-            WriteTaskPreviewResponse preview = previewService.preview(runtimeRequest, task.getRowCount(), task.getSeed());
-            savedExecution.setGeneratedCount((long) preview.count());
-            deliveryDetails.put("generatedCount", preview.count());
-            deliveryDetails.put("seed", preview.seed());
-            log(savedExecution.getId(), WriteLogLevel.INFO, "已生成模拟数据", Map.of(
-                    "count", preview.count(),
-                    "seed", preview.seed()
-            ));
-
-            RowValidationSummary validationSummary = validateRows(task, preview.rows());
-            deliveryDetails.put("nonNullValidation", validationSummary.toMap());
-            if (validationSummary.passed()) {
-                log(savedExecution.getId(), WriteLogLevel.INFO, "非空字段校验通过", Map.of(
-                        "requiredColumnCount", validationSummary.requiredColumnCount(),
-                        "checkedRowCount", validationSummary.checkedRowCount()
-                ));
+            long seed;
+            WriteTaskRowStream source;
+            WriteTaskCheckpoint checkpoint = null;
+            if (resumeFrom == null) {
+                WriteTaskUpsertRequest runtimeRequest = executionPreparationService.prepareForExecution(
+                        task,
+                        toUpsertRequest(task),
+                        connection
+                );
+                logSequenceAdjustments(savedExecution.getId(), toUpsertRequest(task), runtimeRequest);
+
+                seed = rowGenerator.resolveSeed(runtimeRequest, task.getSeed());
+                source = session == null
+                        ? rowGenerator.stream(task, runtimeRequest, task.getRowCount(), seed, task.getBatchSize())
+                        : rowGenerator.streamPaced(task, runtimeRequest, task.getMaxRowsTotal(), seed, task.getBatchSize(), session);
+                if (session == null && isCheckpointStrategy(task)) {
+                    checkpoint = checkpoint(savedExecution, task, seed, rowGenerator.sequenceStarts(runtimeRequest), 0, 0);
+                }
             } else {
-                savedExecution.setDeliveryDetailsJson(writeJson(deliveryDetails));
-                log(savedExecution.getId(), WriteLogLevel.WARN, "非空字段校验未通过", Map.of(
-                        "nullValueCount", validationSummary.nullValueCount(),
-                        "blankStringCount", validationSummary.blankStringCount(),
-                        "issueCount", validationSummary.issues().size()
+                seed = resumeFrom.getCheckpointSeed();
+                Map<String, Long> sequenceStarts = readSequenceStarts(resumeFrom.getCheckpointSequenceJson());
+                long startChunkIndex = resumeFrom.getCheckpointChunkIndex() == null ? 0 : resumeFrom.getCheckpointChunkIndex();
+                long startRowCount = resumeFrom.getCheckpointRowCount();
+                source = rowGenerator.resume(
+                        task,
+                        sequenceStarts,
+                        task.getRowCount(),
+                        seed,
+                        task.getBatchSize(),
+                        Math.toIntExact(startRowCount)
+                );
+                checkpoint = checkpoint(savedExecution, task, seed, sequenceStarts, startChunkIndex, startRowCount);
+                log(savedExecution.getId(), WriteLogLevel.INFO, "从检查点恢复写入", Map.of(
+                        "resumedFromExecutionId", resumeFrom.getId(),
+                        "chunkIndex", startChunkIndex,
+                        "rowCount", startRowCount,
+                        "seed", seed
                 ));
-                throw new IllegalArgumentException("非空字段校验未通过，请检查空值或空字符串字段");
             }
+            deliveryDetails.put("seed", seed);
+            RowValidator chunkValidator = new RowValidator(task);
+            validator = chunkValidator;
+            rows = source
+                    .onChunk(chunk -> {
+                        if (!chunkValidator.accept(chunk).passed()) {
+                            throw new IllegalArgumentException("非空字段校验未通过，请检查空值或空字符串字段");
+                        }
+                    })
+                    .pipelined(WriteTaskRowPipeline.DEFAULT_QUEUE_CAPACITY, "mdg-generate-" + savedExecution.getId())
+                    .onChunk(chunk -> {
+                        savedExecution.setGeneratedCount(savedExecution.getGeneratedCount() + chunk.size());
+                        deliveryDetails.put("generatedCount", savedExecution.getGeneratedCount());
+                        if (session != null) {
+                            reportStreamProgress(savedExecution, deliveryDetails, session);
+                        }
+                    })
+                    .prefetch();
 
             WriteTaskDeliveryWriter writer = writerRegistry.get(connection.getDbType());
-            WriteTaskDeliveryResult result = writer.write(task, connection, preview.rows(), savedExecution.getId());
+            WriteTaskDeliveryResult result = checkpoint == null
+                    ? writer.write(task, connection, rows, savedExecution.getId())
+                    : writer.write(task, connection, rows, savedExecution.getId(), checkpoint);
+            rows.close();
+
+            RowValidationSummary validationSummary = chunkValidator.summary();
+            deliveryDetails.put("generatedCount", savedExecution.getGeneratedCount());
+            if (session != null) {
+                deliveryDetails.put("stream", session.rateDetails());
+            }
+            deliveryDetails.put("nonNullValidation", validationSummary.toMap());
+            deliveryDetails.put("pipeline", rows.stageStats());
+            log(savedExecution.getId(), WriteLogLevel.INFO, "已生成模拟数据", Map.of(
+                    "count", savedExecution.getGeneratedCount(),
+                    "chunkCount", rows.generatedChunkCount(),
+                    "seed", seed
+            ));
+            log(savedExecution.getId(), WriteLogLevel.INFO, "非空字段校验通过", Map.of(
+                    "requiredColumnCount", validationSummary.requiredColumnCount(),
+                    "checkedRowCount", validationSummary.checkedRowCount()
+            ));
 
             savedExecution.setStatus(result.errorCount() > 0 ? WriteExecutionStatus.PARTIAL_SUCCESS : WriteExecutionStatus.SUCCESS);
             savedExecution.setSuccessCount(result.successCount());
@@ -233,6 +337,18 @@ public class WriteTaskService {
             logDetails.putIfAbsent("successCount", result.successCount());
             log(savedExecution.getId(), WriteLogLevel.INFO, result.summary(), logDetails);
         } catch (Exception exception) {
+            if (rows != null) {
+                rows.close();
+            }
+            RowValidationSummary validationSummary = validator == null ? null : validator.summary();
+            if (validationSummary != null && !validationSummary.passed()) {
+                deliveryDetails.put("nonNullValidation", validationSummary.toMap());
+                log(savedExecution.getId(), WriteLogLevel.WARN, "非空字段校验未通过", Map.of(
+                        "nullValueCount", validationSummary.nullValueCount(),
+                        "blankStringCount", validationSummary.blankStringCount(),
+                        "issueCount", validationSummary.issues().size()
+                ));
+            }
             savedExecution.setStatus(WriteExecutionStatus.FAILED);
             savedExecution.setFinishedAt(Instant.now());
             savedExecution.setErrorCount(Math.max(savedExecution.getErrorCount(), 1));
@@ -278,7 +394,8 @@ public class WriteTaskService {
         task.setTriggerAt(request.scheduleType() == WriteTaskScheduleType.ONCE ? request.triggerAt() : null);
         task.setIntervalSeconds(request.scheduleType() == WriteTaskScheduleType.INTERVAL ? request.intervalSeconds() : null);
         task.setMaxRuns(request.scheduleType() == WriteTaskScheduleType.INTERVAL ? request.maxRuns() : null);
-        task.setMaxRowsTotal(request.scheduleType() == WriteTaskScheduleType.INTERVAL ? request.maxRowsTotal() : null);
+        task.setMaxRowsTotal(request.scheduleType() == WriteTaskScheduleType.INTERVAL
+                || request.scheduleType() == WriteTaskScheduleType.STREAM ? request.maxRowsTotal() : null);
         task.setDescription(normalizeText(request.description()));
         task.setTargetConfigJson(normalizedTargetConfigJson);
         task.setPayloadSchemaJson(normalizedPayloadSchemaJson);
@@ -393,6 +510,62 @@ public class WriteTaskService {
         }
     }
 
+    private boolean isCheckpointStrategy(WriteTask task) {
+        Map<String, Object> targetConfig = JsonConfigSupport.readConfig(task.getTargetConfigJson(), "targetConfigJson");
+        return WriteTaskJdbcWriter.CHECKPOINT_STRATEGY.equalsIgnoreCase(
+                JsonConfigSupport.optionalString(targetConfig, "writeStrategy")
+        );
+    }
+
+    private WriteTaskCheckpoint checkpoint(
+            WriteTaskExecution execution,
+            WriteTask task,
+            long seed,
+            Map<String, Long> sequenceStarts,
+            long startChunkIndex,
+            long startRowCount
+    ) {
+        String sequenceJson = writeJson(sequenceStarts);
+        String planFingerprint = planCompiler.fingerprint(task);
+        long plannedRowCount = task.getRowCount();
+        return new WriteTaskCheckpoint(startChunkIndex, startRowCount, (chunkIndex, rowCount) -> {
+            execution.setCheckpointSeed(seed);
+            execution.setCheckpointSequenceJson(sequenceJson);
+            execution.setCheckpointPlanFingerprint(planFingerprint);
+            execution.setCheckpointPlannedRowCount(plannedRowCount);
+            execution.setCheckpointChunkIndex(chunkIndex);
+            execution.setCheckpointRowCount(rowCount);
+            executionRepository.save(execution);
+        });
+    }
+
+    private Map<String, Long> readSequenceStarts(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<LinkedHashMap<String, Long>>() {
+            });
+        } catch (Exception exception) {
+            throw new IllegalArgumentException("检查点序列状态 JSON 非法: " + exception.getMessage(), exception);
+        }
+    }
+
+    private void reportStreamProgress(
+            WriteTaskExecution execution,
+            Map<String, Object> deliveryDetails,
+            WriteTaskStreamSession session
+    ) {
+        if (!session.reportDue()) {
+            return;
+        }
+        Map<String, Object> rateDetails = session.rateDetails();
+        deliveryDetails.put("stream", rateDetails);
+        execution.setDeliveryDetailsJson(writeJson(deliveryDetails));
+        executionRepository.save(execution);
+        log(execution.getId(), WriteLogLevel.INFO, "流式写入速率", rateDetails);
+    }
+
     private void log(Long executionId, WriteLogLevel level, String message, Map<String, Object> details) {
         WriteTaskExecutionLog log = new WriteTaskExecutionLog();
         log.setWriteTaskExecutionId(executionId);
@@ -445,6 +618,9 @@ public class WriteTaskService {
                     throw new IllegalArgumentException("持续写入任务必须设置 intervalSeconds");
                 }
             }
+            case STREAM -> WriteTaskStreamProfile.fromTargetConfig(
+                    JsonConfigSupport.readConfig(request.targetConfigJson(), "targetConfigJson")
+            );
         }
     }
 
@@ -457,6 +633,7 @@ public class WriteTaskService {
                 JsonConfigSupport.readConfig(request.targetConfigJson(), "targetConfigJson")
         );
         if (databaseType != DatabaseType.KAFKA) {
+            validateJdbcWriteStrategy(targetConfig);
             return JsonConfigSupport.normalizeJson(request.targetConfigJson(), "targetConfigJson");
         }
 
@@ -465,10 +642,15 @@ public class WriteTaskService {
         }
 
         String payloadFormat = JsonConfigSupport.optionalString(targetConfig, "payloadFormat");
-        if (payloadFormat != null && !"JSON".equalsIgnoreCase(payloadFormat)) {
-            throw new IllegalArgumentException("Kafka 目标当前仅支持 JSON 负载格式");
+        String normalizedPayloadFormat = payloadFormat == null ? "JSON" : payloadFormat.trim().toUpperCase(Locale.ROOT);
+        if (!"JSON".equals(normalizedPayloadFormat) && !"AVRO".equals(normalizedPayloadFormat)) {
+            throw new IllegalArgumentException("Kafka 目标仅支持 JSON 或 AVRO 负载格式");
         }
-        targetConfig.put("payloadFormat", "JSON");
+        if ("AVRO".equals(normalizedPayloadFormat)
+                && (normalizedPayloadSchemaJson == null || normalizedPayloadSchemaJson.isBlank())) {
+            throw new IllegalArgumentException("Kafka AVRO 负载格式需要配置 payloadSchemaJson");
+        }
+        targetConfig.put("payloadFormat", normalizedPayloadFormat);
 
         String keyMode = JsonConfigSupport.optionalString(targetConfig, "keyMode");
         String normalizedKeyMode = keyMode == null || keyMode.isBlank()
@@ -489,11 +671,61 @@ public class WriteTaskService {
         if (partition != null && partition < 0) {
             throw new IllegalArgumentException("Kafka partition 不能小于 0");
         }
+        Integer producerThreads = JsonConfigSupport.optionalInteger(targetConfig, "producerThreads");
+        if (producerThreads != null
+                && (producerThreads < 1 || producerThreads > WriteTaskKafkaPartitionFanOut.MAX_PRODUCER_THREADS)) {
+            throw new IllegalArgumentException(
+                    "Kafka producerThreads 必须在 1 到 " + WriteTaskKafkaPartitionFanOut.MAX_PRODUCER_THREADS + " 之间"
+            );
+        }
 
         normalizeHeaders(targetConfig, request, normalizedPayloadSchemaJson, kafkaComplexMode);
         return writeJson(targetConfig);
     }
 
+    private void validateJdbcWriteStrategy(Map<String, Object> targetConfig) {
+        String writeStrategy = JsonConfigSupport.optionalString(targetConfig, "writeStrategy");
+        if (writeStrategy != null
+                && !"TRANSACTIONAL".equalsIgnoreCase(writeStrategy)
+                && !"PARALLEL".equalsIgnoreCase(writeStrategy)
+                && !WriteTaskJdbcWriter.CHECKPOINT_STRATEGY.equalsIgnoreCase(writeStrategy)) {
+            throw new IllegalArgumentException("JDBC 写入策略仅支持 TRANSACTIONAL、PARALLEL 或 CHECKPOINT");
+        }
+        Integer parallelWriters = JsonConfigSupport.optionalInteger(targetConfig, "parallelWriters");
+        if (parallelWriters != null
+                && (parallelWriters < 1 || parallelWriters > WriteTaskJdbcPartitionedLoad.MAX_PARALLEL_WRITERS)) {
+            throw new IllegalArgumentException(
+                    "parallelWriters 必须在 1 到 " + WriteTaskJdbcPartitionedLoad.MAX_PARALLEL_WRITERS + " 之间"
+            );
+        }
+        Integer commitEveryRows = JsonConfigSupport.optionalInteger(targetConfig, "commitEveryRows");
+        if (commitEveryRows != null && commitEveryRows < 1) {
+            throw new IllegalArgumentException("commitEveryRows 必须大于 0");
+        }
+        String rowCountMode = JsonConfigSupport.optionalString(targetConfig, "rowCountMode");
+        if (rowCountMode != null
+                && !"BATCH".equalsIgnoreCase(rowCountMode)
+                && !"ESTIMATE".equalsIgnoreCase(rowCountMode)
+                && !"EXACT".equalsIgnoreCase(rowCountMode)) {
+            throw new IllegalArgumentException("行数统计模式仅支持 BATCH、ESTIMATE 或 EXACT");
+        }
+        Integer commitEveryBatches = JsonConfigSupport.optionalInteger(targetConfig, "commitEveryBatches");
+        if (commitEveryBatches != null && commitEveryBatches < 1) {
+            throw new IllegalArgumentException("commitEveryBatches 必须大于 0");
+        }
+        Integer commitIntervalSeconds = JsonConfigSupport.optionalInteger(targetConfig, "commitIntervalSeconds");
+        if (commitIntervalSeconds != null && commitIntervalSeconds < 1) {
+            throw new IllegalArgumentException("commitIntervalSeconds 必须大于 0");
+        }
+        String overwriteMode = JsonConfigSupport.optionalString(targetConfig, "overwriteMode");
+        if (overwriteMode != null
+                && !"DELETE".equalsIgnoreCase(overwriteMode)
+                && !"TRUNCATE".equalsIgnoreCase(overwriteMode)
+                && !"SWAP".equalsIgnoreCase(overwriteMode)) {
+            throw new IllegalArgumentException("覆盖写入模式仅支持 DELETE、TRUNCATE 或 SWAP");
+        }
+    }
+
     private void normalizeKafkaFieldKey(
             Map<String, Object> targetConfig,
             WriteTaskUpsertRequest request,
@@ -630,63 +862,6 @@ public class WriteTaskService {
         targetConfig.remove("headerDefinitions");
     }
 
-    private RowValidationSummary validateRows(WriteTask task, List<Map<String, Object>> rows) {
-        KafkaPayloadSchemaNode payloadSchema = parsePayloadSchema(task.getPayloadSchemaJson());
-        if (payloadSchema != null) {
-            return validatePayloadRows(payloadSchema, rows);
-        }
-
-        List<RowValidationIssue> issues = new ArrayList<>();
-        long nullValueCount = 0;
-        long blankStringCount = 0;
-        List<WriteTaskColumn> requiredColumns = task.getColumns().stream()
-                .filter(column -> !column.isNullableFlag())
-                .toList();
-
-        for (WriteTaskColumn column : requiredColumns) {
-            long columnNullCount = 0;
-            long columnBlankCount = 0;
-            for (Map<String, Object> row : rows) {
-                Object value = row.get(column.getColumnName());
-                if (value == null) {
-                    columnNullCount++;
-                    continue;
-                }
-                if (value instanceof String stringValue && stringValue.isBlank()) {
-                    columnBlankCount++;
-                }
-            }
-
-            if (columnNullCount > 0) {
-                nullValueCount += columnNullCount;
-                issues.add(new RowValidationIssue(
-                        column.getColumnName(),
-                        "NULL_VALUE",
-                        columnNullCount,
-                        "非空字段生成了 null"
-                ));
-            }
-            if (columnBlankCount > 0) {
-                blankStringCount += columnBlankCount;
-                issues.add(new RowValidationIssue(
-                        column.getColumnName(),
-                        "BLANK_STRING",
-                        columnBlankCount,
-                        "非空字符串字段生成了空字符串"
-                ));
-            }
-        }
-
-        return new RowValidationSummary(
-                issues.isEmpty(),
-                rows.size(),
-                requiredColumns.size(),
-                nullValueCount,
-                blankStringCount,
-                issues
-        );
-    }
-
     private KafkaPayloadSchemaNode parsePayloadSchema(String payloadSchemaJson) {
         if (payloadSchemaJson == null || payloadSchemaJson.isBlank()) {
             return null;
@@ -694,46 +869,6 @@ public class WriteTaskService {
         return payloadSchemaService.parseAndValidate(payloadSchemaJson);
     }
 
-    private RowValidationSummary validatePayloadRows(KafkaPayloadSchemaNode payloadSchema, List<Map<String, Object>> rows) {
-        LinkedHashMap<String, ValidationCounter> counters = new LinkedHashMap<>();
-        for (Map<String, Object> row : rows) {
-            validatePayloadNode(payloadSchema, row, "", counters);
-        }
-
-        List<RowValidationIssue> issues = new ArrayList<>();
-        long nullValueCount = 0;
-        long blankStringCount = 0;
-        for (Map.Entry<String, ValidationCounter> entry : counters.entrySet()) {
-            if (entry.getValue().nullValueCount() > 0) {
-                nullValueCount += entry.getValue().nullValueCount();
-                issues.add(new RowValidationIssue(
-                        entry.getKey(),
-                        "NULL_VALUE",
-                        entry.getValue().nullValueCount(),
-                        "非空字段生成了 null"
-                ));
-            }
-            if (entry.getValue().blankStringCount() > 0) {
-                blankStringCount += entry.getValue().blankStringCount();
-                issues.add(new RowValidationIssue(
-                        entry.getKey(),
-                        "BLANK_STRING",
-                        entry.getValue().blankStringCount(),
-                        "非空字符串字段生成了空字符串"
-                ));
-            }
-        }
-
-        return new RowValidationSummary(
-                issues.isEmpty(),
-                rows.size(),
-                countRequiredScalarFields(payloadSchema),
-                nullValueCount,
-                blankStringCount,
-                issues
-        );
-    }
-
     private void validatePayloadNode(
             KafkaPayloadSchemaNode node,
             Object value,
@@ -858,9 +993,87 @@ public class WriteTaskService {
         return Long.parseLong(text);
     }
 
+    private final class RowValidator {
+
+        private final KafkaPayloadSchemaNode payloadSchema;
+        private final List<String> requiredColumnNames;
+        private final LinkedHashMap<String, ValidationCounter> counters = new LinkedHashMap<>();
+        private long checkedRowCount;
+
+        private RowValidator(WriteTask task) {
+            this.payloadSchema = parsePayloadSchema(task.getPayloadSchemaJson());
+            this.requiredColumnNames = payloadSchema != null
+                    ? List.of()
+                    : task.getColumns().stream()
+                            .filter(column -> !column.isNullableFlag())
+                            .map(WriteTaskColumn::getColumnName)
+                            .toList();
+            for (String columnName : requiredColumnNames) {
+                counters.put(columnName, new ValidationCounter());
+            }
+        }
+
+        private RowValidationSummary accept(WriteTaskRowBatch rows) {
+            if (payloadSchema != null) {
+                for (int row = 0; row < rows.size(); row++) {
+                    validatePayloadNode(payloadSchema, rows.rowView(row), "", counters);
+                }
+            } else {
+                for (String columnName : requiredColumnNames) {
+                    ValidationCounter counter = counters.get(columnName);
+                    int column = rows.columnIndex(columnName);
+                    for (int row = 0; row < rows.size(); row++) {
+                        if (column < 0 || rows.isNull(column, row)) {
+                            counter.incrementNull();
+                        } else if (rows.isBlank(column, row)) {
+                            counter.incrementBlank();
+                        }
+                    }
+                }
+            }
+            checkedRowCount += rows.size();
+            return summary();
+        }
+
+        private RowValidationSummary summary() {
+            List<RowValidationIssue> issues = new ArrayList<>();
+            long nullValueCount = 0;
+            long blankStringCount = 0;
+            for (Map.Entry<String, ValidationCounter> entry : counters.entrySet()) {
+                if (entry.getValue().nullValueCount() > 0) {
+                    nullValueCount += entry.getValue().nullValueCount();
+                    issues.add(new RowValidationIssue(
+                            entry.getKey(),
+                            "NULL_VALUE",
+                            entry.getValue().nullValueCount(),
+                            "非空字段生成了 null"
+                    ));
+                }
+                if (entry.getValue().blankStringCount() > 0) {
+                    blankStringCount += entry.getValue().blankStringCount();
+                    issues.add(new RowValidationIssue(
+                            entry.getKey(),
+                            "BLANK_STRING",
+                            entry.getValue().blankStringCount(),
+                            "非空字符串字段生成了空字符串"
+                    ));
+                }
+            }
+
+            return new RowValidationSummary(
+                    issues.isEmpty(),
+                    checkedRowCount,
+                    payloadSchema != null ? countRequiredScalarFields(payloadSchema) : requiredColumnNames.size(),
+                    nullValueCount,
+                    blankStringCount,
+                    issues
+            );
+        }
+    }
+
     private record RowValidationSummary(
             boolean passed,
-            int checkedRowCount,
+            long checkedRowCount,
             int requiredColumnCount,
             long nullValueCount,
             long blankStringCount,
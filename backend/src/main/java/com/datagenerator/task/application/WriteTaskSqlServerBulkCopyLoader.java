@@ -0,0 +1,68 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.common.support.JsonConfigSupport;
+import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.connection.domain.TargetConnection;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WriteTaskSqlServerBulkCopyLoader implements WriteTaskBulkLoader {
+
+    private final ConnectionJdbcSupport jdbcSupport;
+    private final WriteTaskJdbcValueConverter valueConverter;
+
+    public WriteTaskSqlServerBulkCopyLoader(ConnectionJdbcSupport jdbcSupport, ObjectMapper objectMapper) {
+        this.jdbcSupport = jdbcSupport;
+        this.valueConverter = new WriteTaskJdbcValueConverter(objectMapper);
+    }
+
+    @Override
+    public String strategy() {
+        return "BULK_COPY";
+    }
+
+    @Override
+    public boolean supports(DatabaseType databaseType) {
+        return databaseType == DatabaseType.SQLSERVER;
+    }
+
+    @Override
+    public long load(
+            Connection connection,
+            TargetConnection targetConnection,
+            WriteTask task,
+            String tableName,
+            List<WriteTaskColumn> columns,
+            WriteTaskRowStream rows
+    ) throws Exception {
+        Map<String, Object> targetConfig = JsonConfigSupport.readConfig(task.getTargetConfigJson(), "targetConfigJson");
+        SQLServerBulkCopyOptions options = new SQLServerBulkCopyOptions();
+        options.setBatchSize(Math.max(1, task.getBatchSize()));
+        options.setTableLock(Boolean.TRUE.equals(JsonConfigSupport.optionalBoolean(targetConfig, "tableLock")));
+        options.setUseInternalTransaction(false);
+        options.setBulkCopyTimeout(0);
+
+        WriteTaskSqlServerBulkData bulkData = new WriteTaskSqlServerBulkData(columns, rows, valueConverter);
+        try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+            bulkCopy.setBulkCopyOptions(options);
+            bulkCopy.setDestinationTableName(
+                    jdbcSupport.dialect(targetConnection.getDbType()).quoteQualifiedIdentifier(targetConnection, tableName)
+            );
+            for (int index = 0; index < columns.size(); index++) {
+                bulkCopy.addColumnMapping(index + 1, columns.get(index).getColumnName());
+            }
+            bulkCopy.writeToServer(bulkData);
+        }
+        return bulkData.rowCount();
+    }
+}
@@ -0,0 +1,231 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+final class WriteTaskSqlServerBulkData implements ISQLServerBulkData {
+
+    private static final int DEFAULT_STRING_PRECISION = 4_000;
+
+    private final transient WriteTaskRowStream rows;
+    private final transient WriteTaskJdbcValueConverter valueConverter;
+    private final String[] columnNames;
+    private final int[] jdbcTypes;
+    private final int[] precisions;
+    private final int[] scales;
+    private final int[] batchColumns;
+    private transient WriteTaskRowBatch batch;
+    private int row = -1;
+    private long rowCount;
+
+    WriteTaskSqlServerBulkData(List<WriteTaskColumn> columns, WriteTaskRowStream rows, WriteTaskJdbcValueConverter valueConverter) {
+        this.rows = rows;
+        this.valueConverter = valueConverter;
+        this.columnNames = new String[columns.size()];
+        this.jdbcTypes = new int[columns.size()];
+        this.precisions = new int[columns.size()];
+        this.scales = new int[columns.size()];
+        this.batchColumns = new int[columns.size()];
+        for (int index = 0; index < columns.size(); index++) {
+            WriteTaskColumn column = columns.get(index);
+            columnNames[index] = column.getColumnName();
+            describeColumn(index, column);
+        }
+    }
+
+    long rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public Set<Integer> getColumnOrdinals() {
+        Set<Integer> ordinals = new LinkedHashSet<>();
+        for (int index = 1; index <= columnNames.length; index++) {
+            ordinals.add(index);
+        }
+        return ordinals;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column - 1];
+    }
+
+    @Override
+    public int getColumnType(int column) {
+        return jdbcTypes[column - 1];
+    }
+
+    @Override
+    public int getPrecision(int column) {
+        return precisions[column - 1];
+    }
+
+    @Override
+    public int getScale(int column) {
+        return scales[column - 1];
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        row++;
+        while (batch == null || row >= batch.size()) {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            batch = rows.next();
+            row = 0;
+            for (int index = 0; index < columnNames.length; index++) {
+                batchColumns[index] = batch.columnIndex(columnNames[index]);
+            }
+        }
+        rowCount++;
+        return true;
+    }
+
+    @Override
+    public Object[] getRowData() throws SQLException {
+        Object[] values = new Object[columnNames.length];
+        for (int index = 0; index < values.length; index++) {
+            int column = batchColumns[index];
+            if (column < 0 || batch.isNull(column, row)) {
+                continue;
+            }
+            Object value = batch.columnKind(column) == WriteTaskRowBatch.ColumnKind.LONG
+                    ? Long.valueOf(batch.getLong(column, row))
+                    : batch.getObject(column, row);
+            try {
+                values[index] = convert(index, value);
+            } catch (SQLException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new SQLException("字段 " + columnNames[index] + " 的值无法转换: " + exception.getMessage(), exception);
+            }
+        }
+        return values;
+    }
+
+    private void describeColumn(int index, WriteTaskColumn column) {
+        String dbType = column.getDbType() == null ? "" : column.getDbType().trim().toUpperCase(Locale.ROOT);
+        int parenthesis = dbType.indexOf('(');
+        String typeName = parenthesis < 0 ? dbType : dbType.substring(0, parenthesis).trim();
+        switch (typeName) {
+            case "BIGINT" -> describe(index, Types.BIGINT, 19, 0);
+            case "INT", "INTEGER" -> describe(index, Types.INTEGER, 10, 0);
+            case "SMALLINT" -> describe(index, Types.SMALLINT, 5, 0);
+            case "TINYINT" -> describe(index, Types.TINYINT, 3, 0);
+            case "BIT", "BOOLEAN", "BOOL" -> describe(index, Types.BIT, 1, 0);
+            case "DECIMAL", "NUMERIC" -> describe(
+                    index,
+                    Types.DECIMAL,
+                    column.getPrecisionValue() == null ? 18 : column.getPrecisionValue(),
+                    column.getScaleValue() == null ? 0 : column.getScaleValue()
+            );
+            case "MONEY", "SMALLMONEY" -> describe(index, Types.DECIMAL, 19, 4);
+            case "FLOAT", "DOUBLE" -> describe(index, Types.DOUBLE, 15, 0);
+            case "REAL" -> describe(index, Types.REAL, 7, 0);
+            case "DATE" -> describe(index, Types.DATE, 10, 0);
+            case "DATETIME", "DATETIME2", "SMALLDATETIME" -> describe(index, Types.TIMESTAMP, 27, 7);
+            default -> describe(
+                    index,
+                    Types.NVARCHAR,
+                    column.getLengthValue() == null || column.getLengthValue() <= 0
+                            ? DEFAULT_STRING_PRECISION
+                            : column.getLengthValue(),
+                    0
+            );
+        }
+    }
+
+    private void describe(int index, int jdbcType, int precision, int scale) {
+        jdbcTypes[index] = jdbcType;
+        precisions[index] = precision;
+        scales[index] = scale;
+    }
+
+    private Object convert(int index, Object value) throws Exception {
+        return switch (jdbcTypes[index]) {
+            case Types.BIGINT -> toDecimal(value).longValueExact();
+            case Types.INTEGER -> toDecimal(value).intValueExact();
+            case Types.SMALLINT, Types.TINYINT -> toDecimal(value).shortValueExact();
+            case Types.BIT -> toBoolean(value);
+            case Types.DECIMAL -> toDecimal(value).setScale(scales[index], RoundingMode.HALF_UP);
+            case Types.DOUBLE -> toDecimal(value).doubleValue();
+            case Types.REAL -> toDecimal(value).floatValue();
+            case Types.DATE -> toDate(value);
+            case Types.TIMESTAMP -> toTimestamp(value);
+            default -> toText(value);
+        };
+    }
+
+    private BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Number number) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+        if (value instanceof Boolean booleanValue) {
+            return booleanValue ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private Boolean toBoolean(Object value) {
+        if (value instanceof Boolean booleanValue) {
+            return booleanValue;
+        }
+        if (value instanceof Number number) {
+            return number.longValue() != 0;
+        }
+        String text = value.toString().trim();
+        return "1".equals(text) || Boolean.parseBoolean(text);
+    }
+
+    private Date toDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return Date.valueOf(localDate);
+        }
+        if (value instanceof Date date) {
+            return date;
+        }
+        return Date.valueOf(valueConverter.parseDate(value.toString()));
+    }
+
+    private Timestamp toTimestamp(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp;
+        }
+        if (value instanceof Instant instant) {
+            return Timestamp.from(instant);
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return Timestamp.valueOf(localDateTime);
+        }
+        return valueConverter.parseTimestamp(value.toString());
+    }
+
+    private String toText(Object value) throws Exception {
+        if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            return valueConverter.toJson(value);
+        }
+        return value.toString();
+    }
+}
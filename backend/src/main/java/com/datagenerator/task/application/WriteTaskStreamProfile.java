@@ -0,0 +1,169 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.common.support.JsonConfigSupport;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+record WriteTaskStreamProfile(
+        double targetRowsPerSecond,
+        Shape shape,
+        double rampUpSeconds,
+        double amplitude,
+        double periodSeconds,
+        List<Step> steps,
+        Long durationSeconds,
+        int reportIntervalSeconds
+) {
+
+    static final String CONFIG_KEY = "stream";
+
+    private static final int DEFAULT_REPORT_INTERVAL_SECONDS = 5;
+    private static final double DEFAULT_PERIOD_SECONDS = 60;
+
+    static WriteTaskStreamProfile fromTargetConfig(Map<String, Object> targetConfig) {
+        if (!(JsonConfigSupport.findValue(targetConfig, CONFIG_KEY) instanceof Map<?, ?> rawConfig)) {
+            throw new IllegalArgumentException("流式写入任务必须在 targetConfigJson.stream 中配置速率");
+        }
+        Map<String, Object> config = new LinkedHashMap<>();
+        rawConfig.forEach((key, value) -> config.put(String.valueOf(key), value));
+
+        double targetRowsPerSecond = positiveNumber(config, "targetRowsPerSecond");
+        String rawShape = JsonConfigSupport.optionalString(config, "profile");
+        Shape shape;
+        try {
+            shape = rawShape == null ? Shape.CONSTANT : Shape.valueOf(rawShape.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("不支持的流式速率曲线: " + rawShape);
+        }
+        double rampUpSeconds = optionalNumber(config, "rampUpSeconds", 0);
+        double amplitude = optionalNumber(config, "amplitude", 0);
+        double periodSeconds = optionalNumber(config, "periodSeconds", DEFAULT_PERIOD_SECONDS);
+        if (rampUpSeconds < 0) {
+            throw new IllegalArgumentException("流式写入 rampUpSeconds 不能小于 0");
+        }
+        if (shape == Shape.SINE && (amplitude < 0 || amplitude > 1 || periodSeconds <= 0)) {
+            throw new IllegalArgumentException("SINE 速率曲线要求 amplitude 在 0 到 1 之间且 periodSeconds 大于 0");
+        }
+        List<Step> steps = shape == Shape.STEP ? readSteps(config) : List.of();
+        Integer durationSeconds = JsonConfigSupport.optionalInteger(config, "durationSeconds");
+        if (durationSeconds != null && durationSeconds < 1) {
+            throw new IllegalArgumentException("流式写入 durationSeconds 必须大于 0");
+        }
+        Integer reportIntervalSeconds = JsonConfigSupport.optionalInteger(config, "reportIntervalSeconds");
+        if (reportIntervalSeconds != null && reportIntervalSeconds < 1) {
+            throw new IllegalArgumentException("流式写入 reportIntervalSeconds 必须大于 0");
+        }
+        return new WriteTaskStreamProfile(
+                targetRowsPerSecond,
+                shape,
+                rampUpSeconds,
+                amplitude,
+                periodSeconds,
+                steps,
+                durationSeconds == null ? null : durationSeconds.longValue(),
+                reportIntervalSeconds == null ? DEFAULT_REPORT_INTERVAL_SECONDS : reportIntervalSeconds
+        );
+    }
+
+    double rateAt(double elapsedSeconds) {
+        double rate = switch (shape) {
+            case CONSTANT -> targetRowsPerSecond;
+            case SINE -> targetRowsPerSecond * (1 + amplitude * Math.sin(2 * Math.PI * elapsedSeconds / periodSeconds));
+            case STEP -> {
+                double stepRate = targetRowsPerSecond;
+                for (Step step : steps) {
+                    if (step.afterSeconds() > elapsedSeconds) {
+                        break;
+                    }
+                    stepRate = step.rowsPerSecond();
+                }
+                yield stepRate;
+            }
+        };
+        if (rampUpSeconds > 0 && elapsedSeconds < rampUpSeconds) {
+            rate *= Math.max(0, elapsedSeconds) / rampUpSeconds;
+        }
+        return Math.max(0, rate);
+    }
+
+    boolean expired(double elapsedSeconds) {
+        return durationSeconds != null && elapsedSeconds >= durationSeconds;
+    }
+
+    Map<String, Object> toMap() {
+        LinkedHashMap<String, Object> details = new LinkedHashMap<>();
+        details.put("targetRowsPerSecond", targetRowsPerSecond);
+        details.put("profile", shape.name());
+        if (rampUpSeconds > 0) {
+            details.put("rampUpSeconds", rampUpSeconds);
+        }
+        if (shape == Shape.SINE) {
+            details.put("amplitude", amplitude);
+            details.put("periodSeconds", periodSeconds);
+        }
+        if (shape == Shape.STEP) {
+            details.put("stepCount", steps.size());
+        }
+        if (durationSeconds != null) {
+            details.put("durationSeconds", durationSeconds);
+        }
+        return details;
+    }
+
+    private static List<Step> readSteps(Map<String, Object> config) {
+        if (!(config.get("steps") instanceof List<?> rawSteps) || rawSteps.isEmpty()) {
+            throw new IllegalArgumentException("STEP 速率曲线必须配置 steps");
+        }
+        List<Step> steps = new ArrayList<>();
+        for (Object rawStep : rawSteps) {
+            if (!(rawStep instanceof Map<?, ?> stepMap)) {
+                throw new IllegalArgumentException("STEP 速率曲线的 steps 必须是对象数组");
+            }
+            Map<String, Object> step = new LinkedHashMap<>();
+            stepMap.forEach((key, value) -> step.put(String.valueOf(key), value));
+            double afterSeconds = optionalNumber(step, "afterSeconds", 0);
+            if (afterSeconds < 0) {
+                throw new IllegalArgumentException("STEP 速率曲线的 afterSeconds 不能小于 0");
+            }
+            steps.add(new Step(afterSeconds, positiveNumber(step, "rowsPerSecond")));
+        }
+        steps.sort(Comparator.comparingDouble(Step::afterSeconds));
+        return List.copyOf(steps);
+    }
+
+    private static double positiveNumber(Map<String, Object> config, String key) {
+        double value = optionalNumber(config, key, -1);
+        if (value <= 0) {
+            throw new IllegalArgumentException("流式写入 " + key + " 必须大于 0");
+        }
+        return value;
+    }
+
+    private static double optionalNumber(Map<String, Object> config, String key, double defaultValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("流式写入 " + key + " 必须是数字");
+        }
+    }
+
+    enum Shape {
+        CONSTANT,
+        SINE,
+        STEP
+    }
+
+    record Step(double afterSeconds, double rowsPerSecond) {
+    }
+}
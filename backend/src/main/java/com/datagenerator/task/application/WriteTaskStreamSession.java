@@ -0,0 +1,113 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.task.api.WriteTaskStreamStatusResponse;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class WriteTaskStreamSession {
+
+    private final Long taskId;
+    private final WriteTaskStreamProfile profile;
+    private final WriteTaskRateGovernor governor;
+    private final Instant startedAt = Instant.now();
+    private volatile boolean stopRequested;
+    private volatile Long executionId;
+    private volatile String failure;
+    private double lastReportSeconds;
+    private Thread thread;
+
+    WriteTaskStreamSession(Long taskId, WriteTaskStreamProfile profile) {
+        this(taskId, profile, new WriteTaskRateGovernor(profile));
+    }
+
+    WriteTaskStreamSession(Long taskId, WriteTaskStreamProfile profile, WriteTaskRateGovernor governor) {
+        this.taskId = taskId;
+        this.profile = profile;
+        this.governor = governor;
+    }
+
+    Long taskId() {
+        return taskId;
+    }
+
+    WriteTaskStreamProfile profile() {
+        return profile;
+    }
+
+    WriteTaskRateGovernor governor() {
+        return governor;
+    }
+
+    void attachExecution(Long executionId) {
+        this.executionId = executionId;
+    }
+
+    void attachThread(Thread thread) {
+        this.thread = thread;
+    }
+
+    Thread thread() {
+        return thread;
+    }
+
+    boolean alive() {
+        return thread != null && thread.isAlive();
+    }
+
+    void requestStop() {
+        stopRequested = true;
+    }
+
+    boolean stopRequested() {
+        return stopRequested;
+    }
+
+    void fail(String message) {
+        failure = message == null ? "流式写入异常终止" : message;
+    }
+
+    String failure() {
+        return failure;
+    }
+
+    boolean reportDue() {
+        double elapsedSeconds = governor.elapsedSeconds();
+        if (elapsedSeconds - lastReportSeconds < profile.reportIntervalSeconds()) {
+            return false;
+        }
+        lastReportSeconds = elapsedSeconds;
+        return true;
+    }
+
+    Map<String, Object> rateDetails() {
+        LinkedHashMap<String, Object> details = new LinkedHashMap<>(profile.toMap());
+        details.put("currentTargetRowsPerSecond", round(governor.targetRowsPerSecond()));
+        details.put("actualRowsPerSecond", round(governor.recentRowsPerSecond()));
+        details.put("averageRowsPerSecond", round(governor.averageRowsPerSecond()));
+        details.put("generatedRowCount", governor.grantedRows());
+        details.put("elapsedSeconds", round(governor.elapsedSeconds()));
+        details.put("stopRequested", stopRequested);
+        return details;
+    }
+
+    WriteTaskStreamStatusResponse toStatus() {
+        return new WriteTaskStreamStatusResponse(
+                taskId,
+                executionId,
+                alive(),
+                profile.shape().name(),
+                round(governor.targetRowsPerSecond()),
+                round(governor.recentRowsPerSecond()),
+                round(governor.averageRowsPerSecond()),
+                governor.grantedRows(),
+                round(governor.elapsedSeconds()),
+                startedAt,
+                failure
+        );
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100d;
+    }
+}
@@ -0,0 +1,115 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.common.support.JsonConfigSupport;
+import com.datagenerator.task.api.WriteTaskExecutionResponse;
+import com.datagenerator.task.api.WriteTaskStreamStatusResponse;
+import com.datagenerator.task.domain.WriteExecutionStatus;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskScheduleType;
+import com.datagenerator.task.domain.WriteTaskStatus;
+import com.datagenerator.task.repository.WriteTaskRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+@Service
+public class WriteTaskStreamingService implements DisposableBean {
+
+    private static final long SHUTDOWN_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final WriteTaskService service;
+    private final WriteTaskRepository repository;
+    private final Map<Long, WriteTaskStreamSession> sessions = new ConcurrentHashMap<>();
+
+    public WriteTaskStreamingService(WriteTaskService service, WriteTaskRepository repository) {
+        this.service = service;
+        this.repository = repository;
+    }
+
+    public synchronized void start(WriteTask task) {
+        WriteTaskStreamSession current = sessions.get(task.getId());
+        if (current != null && current.alive()) {
+            if (!current.stopRequested()) {
+                return;
+            }
+            awaitStopped(current);
+        }
+        WriteTaskStreamProfile profile = WriteTaskStreamProfile.fromTargetConfig(
+                JsonConfigSupport.readConfig(task.getTargetConfigJson(), "targetConfigJson")
+        );
+        WriteTaskStreamSession session = new WriteTaskStreamSession(task.getId(), profile);
+        Thread thread = new Thread(() -> run(session), "mdg-stream-" + task.getId());
+        thread.setDaemon(true);
+        session.attachThread(thread);
+        sessions.put(task.getId(), session);
+        thread.start();
+    }
+
+    public void stop(Long taskId) {
+        WriteTaskStreamSession session = sessions.get(taskId);
+        if (session != null) {
+            session.requestStop();
+        }
+    }
+
+    public boolean isStreaming(Long taskId) {
+        WriteTaskStreamSession session = sessions.get(taskId);
+        return session != null && session.alive() && !session.stopRequested();
+    }
+
+    public WriteTaskStreamStatusResponse status(Long taskId) {
+        WriteTaskStreamSession session = sessions.get(taskId);
+        return session == null ? WriteTaskStreamStatusResponse.idle(taskId) : session.toStatus();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        List<WriteTaskStreamSession> running = List.copyOf(sessions.values());
+        running.forEach(WriteTaskStreamSession::requestStop);
+        for (WriteTaskStreamSession session : running) {
+            session.thread().join(SHUTDOWN_WAIT_MILLIS);
+        }
+    }
+
+    private void awaitStopped(WriteTaskStreamSession session) {
+        try {
+            session.thread().join(SHUTDOWN_WAIT_MILLIS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("等待上一轮流式写入停止时被中断", exception);
+        }
+        if (session.alive()) {
+            throw new IllegalArgumentException("上一轮流式写入仍在停止中，请稍后再试");
+        }
+    }
+
+    private void run(WriteTaskStreamSession session) {
+        try {
+            WriteTaskExecutionResponse execution = service.runStreaming(session.taskId(), session);
+            if (execution.status() == WriteExecutionStatus.FAILED) {
+                session.fail(execution.errorSummary());
+            }
+        } catch (Exception exception) {
+            session.fail(exception.getMessage());
+        } finally {
+            if (session.failure() == null) {
+                sessions.remove(session.taskId(), session);
+            }
+            if (!session.stopRequested()) {
+                markFinished(session.taskId());
+            }
+        }
+    }
+
+    private void markFinished(Long taskId) {
+        repository.findById(taskId).ifPresent(task -> {
+            if (task.getScheduleType() == WriteTaskScheduleType.STREAM && task.getStatus() == WriteTaskStatus.RUNNING) {
+                task.setStatus(WriteTaskStatus.READY);
+                repository.save(task);
+            }
+        });
+    }
+}
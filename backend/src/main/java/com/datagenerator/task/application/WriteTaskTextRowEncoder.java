@@ -0,0 +1,232 @@
+package com.datagenerator.task.application;
+
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+final class WriteTaskTextRowEncoder {
+
+    private static final byte[] NULL_VALUE = {'\\', 'N'};
+
+    private enum ValueFormat {
+        PLAIN,
+        JSON,
+        TIMESTAMP,
+        DATE
+    }
+
+    private final WriteTaskJdbcValueConverter valueConverter;
+    private final String[] columnNames;
+    private final ValueFormat[] formats;
+    private final int[] batchColumns;
+    private final boolean timestampWithOffset;
+    private final byte[] trueValue;
+    private final byte[] falseValue;
+    private WriteTaskRowBatch batch;
+    private byte[] buffer = new byte[1 << 16];
+    private int length;
+
+    WriteTaskTextRowEncoder(WriteTaskJdbcValueConverter valueConverter, List<WriteTaskColumn> columns, DatabaseType databaseType) {
+        this.valueConverter = valueConverter;
+        this.columnNames = new String[columns.size()];
+        this.formats = new ValueFormat[columns.size()];
+        this.batchColumns = new int[columns.size()];
+        boolean postgresql = databaseType == DatabaseType.POSTGRESQL;
+        for (int index = 0; index < columns.size(); index++) {
+            WriteTaskColumn column = columns.get(index);
+            String dbType = column.getDbType() == null ? "" : column.getDbType().toUpperCase(Locale.ROOT);
+            columnNames[index] = column.getColumnName();
+            if (postgresql && ("JSON".equals(dbType) || "JSONB".equals(dbType))) {
+                formats[index] = ValueFormat.JSON;
+            } else if (valueConverter.isTimestampType(dbType)) {
+                formats[index] = ValueFormat.TIMESTAMP;
+            } else if ("DATE".equals(dbType)) {
+                formats[index] = ValueFormat.DATE;
+            } else {
+                formats[index] = ValueFormat.PLAIN;
+            }
+        }
+        this.timestampWithOffset = postgresql;
+        this.trueValue = postgresql ? new byte[] {'t'} : new byte[] {'1'};
+        this.falseValue = postgresql ? new byte[] {'f'} : new byte[] {'0'};
+    }
+
+    void bind(WriteTaskRowBatch batch) {
+        this.batch = batch;
+        for (int index = 0; index < columnNames.length; index++) {
+            batchColumns[index] = batch.columnIndex(columnNames[index]);
+        }
+    }
+
+    void encodeRow(int row) throws Exception {
+        for (int index = 0; index < columnNames.length; index++) {
+            if (index > 0) {
+                writeByte('\t');
+            }
+            encodeValue(index, row);
+        }
+        writeByte('\n');
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    private void encodeValue(int index, int row) throws Exception {
+        int column = batchColumns[index];
+        if (column < 0 || batch.isNull(column, row)) {
+            writeBytes(NULL_VALUE, 0, NULL_VALUE.length);
+            return;
+        }
+        switch (batch.columnKind(column)) {
+            case LONG -> writeAscii(Long.toString(batch.getLong(column, row)));
+            case DECIMAL -> writeAscii(batch.getDecimal(column, row).toPlainString());
+            case BOOLEAN -> writeBoolean(batch.getBoolean(column, row));
+            case STRING -> {
+                if (formats[index] == ValueFormat.PLAIN) {
+                    writeEscaped(batch.stringBytes(column), batch.stringOffset(column, row), batch.stringLength(column, row));
+                } else {
+                    encodeObject(formats[index], batch.getString(column, row));
+                }
+            }
+            case TIMESTAMP -> {
+                if (formats[index] == ValueFormat.TIMESTAMP) {
+                    writeAscii(formatTimestamp(new Timestamp(batch.getLong(column, row))));
+                } else {
+                    encodeObject(formats[index], batch.getObject(column, row));
+                }
+            }
+            default -> encodeObject(formats[index], batch.getObject(column, row));
+        }
+    }
+
+    private void encodeObject(ValueFormat format, Object value) throws Exception {
+        if (value == null) {
+            writeBytes(NULL_VALUE, 0, NULL_VALUE.length);
+            return;
+        }
+        if (format == ValueFormat.JSON) {
+            writeEscaped(valueConverter.normalizeJsonValue(value));
+            return;
+        }
+        if (value instanceof String stringValue) {
+            switch (format) {
+                case TIMESTAMP -> writeAscii(formatTimestamp(valueConverter.parseTimestamp(stringValue)));
+                case DATE -> writeAscii(valueConverter.parseDate(stringValue).toString());
+                default -> writeEscaped(stringValue);
+            }
+            return;
+        }
+        if (value instanceof Boolean booleanValue) {
+            writeBoolean(booleanValue);
+            return;
+        }
+        if (value instanceof BigDecimal bigDecimalValue) {
+            writeAscii(bigDecimalValue.toPlainString());
+            return;
+        }
+        if (value instanceof Instant instantValue) {
+            writeAscii(formatTimestamp(Timestamp.from(instantValue)));
+            return;
+        }
+        if (value instanceof LocalDateTime localDateTimeValue) {
+            writeAscii(formatTimestamp(Timestamp.valueOf(localDateTimeValue)));
+            return;
+        }
+        if (value instanceof LocalDate localDateValue) {
+            writeAscii(localDateValue.toString());
+            return;
+        }
+        if (value instanceof Map<?, ?> || value instanceof List<?>) {
+            writeEscaped(valueConverter.toJson(value));
+            return;
+        }
+        writeEscaped(value.toString());
+    }
+
+    private String formatTimestamp(Timestamp timestamp) {
+        if (timestampWithOffset) {
+            return OffsetDateTime.ofInstant(timestamp.toInstant(), ZoneId.systemDefault()).toString();
+        }
+        return timestamp.toLocalDateTime().toString();
+    }
+
+    private void writeBoolean(boolean value) {
+        byte[] bytes = value ? trueValue : falseValue;
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    private void writeAscii(String value) {
+        ensureCapacity(value.length());
+        for (int index = 0; index < value.length(); index++) {
+            buffer[length++] = (byte) value.charAt(index);
+        }
+    }
+
+    private void writeEscaped(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeEscaped(bytes, 0, bytes.length);
+    }
+
+    private void writeEscaped(byte[] bytes, int offset, int count) {
+        ensureCapacity(count * 2);
+        for (int index = offset; index < offset + count; index++) {
+            byte value = bytes[index];
+            switch (value) {
+                case '\\' -> {
+                    buffer[length++] = '\\';
+                    buffer[length++] = '\\';
+                }
+                case '\t' -> {
+                    buffer[length++] = '\\';
+                    buffer[length++] = 't';
+                }
+                case '\n' -> {
+                    buffer[length++] = '\\';
+                    buffer[length++] = 'n';
+                }
+                case '\r' -> {
+                    buffer[length++] = '\\';
+                    buffer[length++] = 'r';
+                }
+                default -> buffer[length++] = value;
+            }
+        }
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(bytes, offset, buffer, length, count);
+        length += count;
+    }
+
+    private void writeByte(char value) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.datagenerator.task.application;
 
+import com.datagenerator.task.application.WriteTaskCompiledGenerator.BooleanValues;
+import com.datagenerator.task.application.WriteTaskCompiledGenerator.DecimalValues;
+import com.datagenerator.task.application.WriteTaskCompiledGenerator.LongValues;
+import com.datagenerator.task.application.WriteTaskCompiledGenerator.StringValues;
+import com.datagenerator.task.application.WriteTaskCompiledGenerator.TemporalValues;
 import com.datagenerator.task.domain.ColumnGeneratorType;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -8,63 +13,86 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Map;
-import java.util.Random;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 import org.springframework.stereotype.Component;
 
 @Component
 public class WriteTaskValueGenerator {
 
-    public Object generateValue(
+    private static final int MAX_COLUMNAR_DECIMAL_SCALE = 15;
+    private static final double MAX_EXACT_DOUBLE = 9.007199254740992E15;
+
+    public WriteTaskCompiledGenerator compile(
             String sequenceKey,
             ColumnGeneratorType generatorType,
             Map<String, Object> generatorConfig,
-            int rowIndex,
-            Random random,
-            Map<String, Long> sequenceState
+            boolean rowLevel
     ) {
         Map<String, Object> config = generatorConfig == null ? Map.of() : generatorConfig;
         return switch (generatorType) {
-            case SEQUENCE -> nextSequence(sequenceKey, config, sequenceState);
-            case RANDOM_INT -> generateRandomInt(config, random);
-            case RANDOM_DECIMAL -> generateRandomDecimal(config, random);
-            case STRING -> generateString(config, random, rowIndex);
-            case ENUM -> chooseEnum(config, random);
-            case BOOLEAN -> generateBoolean(config, random);
-            case DATETIME -> generateDatetime(config, random);
-            case UUID -> UUID.randomUUID().toString();
+            case SEQUENCE -> rowLevel ? compileRowSequence(sequenceKey, config) : compileSequence(sequenceKey, config);
+            case RANDOM_INT -> compileRandomInt(config);
+            case RANDOM_DECIMAL -> compileRandomDecimal(config);
+            case STRING -> compileString(config);
+            case ENUM -> compileEnum(config);
+            case BOOLEAN -> compileBoolean(config);
+            case DATETIME -> compileDatetime(config);
+            case UUID -> (StringValues) (random, rowIndex, sequenceState) -> UUID.randomUUID().toString();
+        };
+    }
+
+    private LongValues compileSequence(String sequenceKey, Map<String, Object> config) {
+        long start = asLong(config.get("start"), 1L);
+        long step = asLong(config.get("step"), 1L);
+        return (random, rowIndex, sequenceState) -> {
+            Long current = sequenceState.get(sequenceKey);
+            long value = current == null ? start : current;
+            sequenceState.put(sequenceKey, value + step);
+            return value;
         };
     }
 
-    private long nextSequence(String sequenceKey, Map<String, Object> config, Map<String, Long> sequenceState) {
+    private LongValues compileRowSequence(String sequenceKey, Map<String, Object> config) {
         long start = asLong(config.get("start"), 1L);
         long step = asLong(config.get("step"), 1L);
-        long current = sequenceState.getOrDefault(sequenceKey, start);
-        sequenceState.put(sequenceKey, current + step);
-        return current;
+        return (random, rowIndex, sequenceState) -> {
+            Long runtimeStart = sequenceState.get(sequenceKey);
+            return (runtimeStart == null ? start : runtimeStart) + step * rowIndex;
+        };
     }
 
-    private long generateRandomInt(Map<String, Object> config, Random random) {
+    private LongValues compileRandomInt(Map<String, Object> config) {
         long min = asLong(config.get("min"), 0L);
         long max = asLong(config.get("max"), 1000L);
         if (max < min) {
             throw new IllegalArgumentException("随机整数生成规则中 max 不能小于 min");
         }
-        return min + (long) Math.floor(random.nextDouble() * (max - min + 1));
+        long span = max - min + 1;
+        return (random, rowIndex, sequenceState) -> min + (long) Math.floor(random.nextDouble() * span);
     }
 
-    private BigDecimal generateRandomDecimal(Map<String, Object> config, Random random) {
+    private WriteTaskCompiledGenerator compileRandomDecimal(Map<String, Object> config) {
         double min = asDouble(config.get("min"), 0D);
         double max = asDouble(config.get("max"), 1000D);
         int scale = asInt(config.get("scale"), 2);
         if (max < min) {
             throw new IllegalArgumentException("随机小数生成规则中 max 不能小于 min");
         }
-        double value = min + random.nextDouble() * (max - min);
-        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+        double span = max - min;
+        if (scale >= 0 && scale <= MAX_COLUMNAR_DECIMAL_SCALE
+                && Math.max(Math.abs(min), Math.abs(max)) * Math.pow(10, scale) < MAX_EXACT_DOUBLE) {
+            double factor = Math.pow(10, scale);
+            return new DecimalValues(scale, (random, rowIndex, sequenceState) -> {
+                double scaled = (min + random.nextDouble() * span) * factor;
+                return (long) Math.copySign(Math.floor(Math.abs(scaled) + 0.5D), scaled);
+            });
+        }
+        return (random, rowIndex, sequenceState) -> BigDecimal.valueOf(min + random.nextDouble() * span)
+                .setScale(scale, RoundingMode.HALF_UP);
     }
 
-    private String generateString(Map<String, Object> config, Random random, int rowIndex) {
+    private StringValues compileString(Map<String, Object> config) {
         String prefix = String.valueOf(config.getOrDefault("prefix", ""));
         String suffix = String.valueOf(config.getOrDefault("suffix", ""));
         int length = Math.max(1, asInt(config.get("length"), 12));
@@ -75,43 +103,65 @@ public class WriteTaskValueGenerator {
 
         String mode = String.valueOf(config.getOrDefault("mode", "random"));
         if ("email".equalsIgnoreCase(mode)) {
-            String domain = String.valueOf(config.getOrDefault("domain", "demo.local"));
-            return prefix + "user" + (rowIndex + 1) + "@" + domain + suffix;
-        }
-
-        StringBuilder builder = new StringBuilder(prefix);
-        for (int index = 0; index < length; index++) {
-            builder.append(charset.charAt(random.nextInt(charset.length())));
-        }
-        builder.append(suffix);
-        return builder.toString();
+            String head = prefix + "user";
+            String tail = "@" + config.getOrDefault("domain", "demo.local") + suffix;
+            return (random, rowIndex, sequenceState) -> head + (rowIndex + 1) + tail;
+        }
+
+        char[] characters = charset.toCharArray();
+        int capacity = prefix.length() + length + suffix.length();
+        return (random, rowIndex, sequenceState) -> {
+            StringBuilder builder = new StringBuilder(capacity).append(prefix);
+            for (int index = 0; index < length; index++) {
+                builder.append(characters[random.nextInt(characters.length)]);
+            }
+            return builder.append(suffix).toString();
+        };
     }
 
-    private Object chooseEnum(Map<String, Object> config, Random random) {
+    private WriteTaskCompiledGenerator compileEnum(Map<String, Object> config) {
         Object values = config.get("values");
         if (!(values instanceof java.util.List<?> options) || options.isEmpty()) {
             throw new IllegalArgumentException("枚举生成规则要求 values 至少包含一个选项");
         }
-        return options.get(random.nextInt(options.size()));
+        if (options.stream().allMatch(String.class::isInstance)) {
+            String[] labels = options.toArray(String[]::new);
+            return (StringValues) (random, rowIndex, sequenceState) -> labels[random.nextInt(labels.length)];
+        }
+        Object[] choices = options.toArray();
+        return (random, rowIndex, sequenceState) -> choices[random.nextInt(choices.length)];
     }
 
-    private boolean generateBoolean(Map<String, Object> config, Random random) {
+    private BooleanValues compileBoolean(Map<String, Object> config) {
         double trueRate = asDouble(config.get("trueRate"), 0.5D);
-        return random.nextDouble() <= trueRate;
+        return (random, rowIndex, sequenceState) -> random.nextDouble() <= trueRate;
     }
 
-    private String generateDatetime(Map<String, Object> config, Random random) {
-        Instant from = parseInstant(config.get("from"), Instant.now().minusSeconds(30L * 24 * 3600));
-        Instant to = parseInstant(config.get("to"), Instant.now());
-        if (to.isBefore(from)) {
-            throw new IllegalArgumentException("时间生成规则中 to 不能早于 from");
-        }
-        long offset = (long) (random.nextDouble() * (to.toEpochMilli() - from.toEpochMilli() + 1));
-        Instant generated = Instant.ofEpochMilli(from.toEpochMilli() + offset);
-        if (asBoolean(config.get("dateOnly"), false)) {
-            return generated.atZone(ZoneOffset.UTC).toLocalDate().toString();
-        }
-        return generated.toString();
+    private TemporalValues compileDatetime(Map<String, Object> config) {
+        Instant from = parseInstant(config.get("from"), null);
+        Instant to = parseInstant(config.get("to"), null);
+        boolean dateOnly = asBoolean(config.get("dateOnly"), false);
+        if (from != null && to != null) {
+            if (to.isBefore(from)) {
+                throw new IllegalArgumentException("时间生成规则中 to 不能早于 from");
+            }
+            long fromMillis = from.toEpochMilli();
+            long span = to.toEpochMilli() - fromMillis + 1;
+            return new TemporalValues(dateOnly, (random, rowIndex, sequenceState) -> randomMillis(fromMillis, span, random));
+        }
+        return new TemporalValues(dateOnly, (random, rowIndex, sequenceState) -> {
+            Instant resolvedFrom = from != null ? from : Instant.now().minusSeconds(30L * 24 * 3600);
+            Instant resolvedTo = to != null ? to : Instant.now();
+            if (resolvedTo.isBefore(resolvedFrom)) {
+                throw new IllegalArgumentException("时间生成规则中 to 不能早于 from");
+            }
+            long fromMillis = resolvedFrom.toEpochMilli();
+            return randomMillis(fromMillis, resolvedTo.toEpochMilli() - fromMillis + 1, random);
+        });
+    }
+
+    private long randomMillis(long fromMillis, long span, RandomGenerator random) {
+        return fromMillis + (long) (random.nextDouble() * span);
     }
 
     private Instant parseInstant(Object value, Instant fallback) {
@@ -4,5 +4,7 @@ public enum WriteExecutionTriggerType {
     MANUAL,
     SCHEDULED,
     API,
-    CONTINUOUS
+    CONTINUOUS,
+    STREAMING,
+    RESUME
 }
@@ -49,4 +49,26 @@ public class WriteTaskExecution extends BaseEntity {
     @Lob
     @Column(name = "delivery_details_json", columnDefinition = "LONGTEXT")
     private String deliveryDetailsJson;
+
+    @Column(name = "checkpoint_seed")
+    private Long checkpointSeed;
+
+    @Column(name = "checkpoint_chunk_index")
+    private Long checkpointChunkIndex;
+
+    @Column(name = "checkpoint_row_count")
+    private Long checkpointRowCount;
+
+    @Lob
+    @Column(name = "checkpoint_sequence_json", columnDefinition = "LONGTEXT")
+    private String checkpointSequenceJson;
+
+    @Column(name = "checkpoint_plan_fingerprint", length = 64)
+    private String checkpointPlanFingerprint;
+
+    @Column(name = "checkpoint_planned_row_count")
+    private Long checkpointPlannedRowCount;
+
+    @Column(name = "resumed_from_execution_id")
+    private Long resumedFromExecutionId;
 }
@@ -4,5 +4,6 @@ public enum WriteTaskScheduleType {
     MANUAL,
     ONCE,
     CRON,
-    INTERVAL
+    INTERVAL,
+    STREAM
 }
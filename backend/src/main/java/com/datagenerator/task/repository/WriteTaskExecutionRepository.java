@@ -17,6 +17,8 @@ public interface WriteTaskExecutionRepository extends JpaRepository<WriteTaskExe
 
     boolean existsByWriteTaskIdAndStatus(Long writeTaskId, WriteExecutionStatus status);
 
+    boolean existsByResumedFromExecutionId(Long resumedFromExecutionId);
+
     long countByWriteTaskIdAndTriggerTypeAndStatusIn(
             Long writeTaskId,
             WriteExecutionTriggerType triggerType,
@@ -0,0 +1,6 @@
+ALTER TABLE write_task_execution
+    ADD COLUMN checkpoint_seed BIGINT NULL AFTER delivery_details_json,
+    ADD COLUMN checkpoint_chunk_index BIGINT NULL AFTER checkpoint_seed,
+    ADD COLUMN checkpoint_row_count BIGINT NULL AFTER checkpoint_chunk_index,
+    ADD COLUMN checkpoint_sequence_json LONGTEXT NULL AFTER checkpoint_row_count,
+    ADD COLUMN resumed_from_execution_id BIGINT NULL AFTER checkpoint_sequence_json;
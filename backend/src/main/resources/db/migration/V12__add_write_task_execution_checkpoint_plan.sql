@@ -0,0 +1,3 @@
+ALTER TABLE write_task_execution
+    ADD COLUMN checkpoint_plan_fingerprint VARCHAR(64) NULL AFTER checkpoint_sequence_json,
+    ADD COLUMN checkpoint_planned_row_count BIGINT NULL AFTER checkpoint_plan_fingerprint;
@@ -0,0 +1,67 @@
+package com.datagenerator.common.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+class KafkaSendWindowTest {
+
+    @Test
+    void send_shouldCountCallbackResultsAndBlockWhenWindowIsFull() throws Exception {
+        MockProducer<String, String> producer = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        KafkaSendWindow window = new KafkaSendWindow(null, 2);
+
+        window.send(producer, new ProducerRecord<>("orders", "1", "a"));
+        window.send(producer, new ProducerRecord<>("orders", "2", "b"));
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> {
+            try {
+                window.send(producer, new ProducerRecord<>("orders", "3", "c"));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(third).isNotDone();
+        assertThat(producer.history()).hasSize(2);
+
+        producer.completeNext();
+        third.get(5, TimeUnit.SECONDS);
+        producer.errorNext(new RuntimeException("broker unavailable"));
+        producer.completeNext();
+        window.await(producer);
+
+        assertThat(window.deliveryMode()).isEqualTo("ASYNC");
+        assertThat(window.successCount()).isEqualTo(2L);
+        assertThat(window.failureCount()).isEqualTo(1L);
+        assertThat(window.errors()).containsExactly("broker unavailable");
+    }
+
+    @Test
+    void send_shouldWaitForEachRecordInSyncMode() throws Exception {
+        MockProducer<String, String> producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        KafkaSendWindow window = new KafkaSendWindow("sync", null);
+
+        window.send(producer, new ProducerRecord<>("orders", "1", "a"));
+        window.send(producer, new ProducerRecord<>("orders", "2", "b"));
+        window.await(producer);
+
+        assertThat(window.deliveryMode()).isEqualTo("SYNC");
+        assertThat(window.maxInFlight()).isEqualTo(KafkaSendWindow.DEFAULT_MAX_IN_FLIGHT);
+        assertThat(window.successCount()).isEqualTo(2L);
+        assertThat(producer.history()).extracting(ProducerRecord::key).containsExactly("1", "2");
+    }
+
+    @Test
+    void constructor_shouldRejectUnknownDeliveryMode() {
+        assertThatThrownBy(() -> new KafkaSendWindow("fire-and-forget", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("deliveryMode");
+    }
+}
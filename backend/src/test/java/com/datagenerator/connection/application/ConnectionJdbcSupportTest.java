@@ -21,7 +21,7 @@ class ConnectionJdbcSupportTest {
             new PostgresqlDatabaseDialect(),
             new SqlServerDatabaseDialect(),
             new OracleDatabaseDialect()
-    )), secretCodec);
+    )), secretCodec, new TargetConnectionPoolManager(2, 600_000L, 1_800_000L, 10_000L));
 
     @Test
     void normalizeParamsForStorage_shouldProvideUtf8DefaultsForMysql() {
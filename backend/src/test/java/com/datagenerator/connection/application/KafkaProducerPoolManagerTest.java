@@ -0,0 +1,112 @@
+package com.datagenerator.connection.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datagenerator.connection.api.KafkaProducerPoolStatsResponse;
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.connection.domain.TargetConnection;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+class KafkaProducerPoolManagerTest {
+
+    private final List<MockProducer<String, byte[]>> created = new ArrayList<>();
+    private final KafkaProducerPoolManager poolManager = new KafkaProducerPoolManager(
+            new KafkaConnectionSupport(new TargetConnectionSecretCodec("test-secret-key")),
+            300_000L,
+            properties -> {
+                MockProducer<String, byte[]> producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+                created.add(producer);
+                return producer;
+            }
+    );
+
+    @Test
+    void borrow_shouldReuseProducerUntilConfigChanges() {
+        TargetConnection connection = kafkaConnection("{\"bootstrapServers\":\"localhost:9092\"}");
+
+        try (KafkaProducerPoolManager.Lease first = poolManager.borrow(connection)) {
+            first.reportDelivery(2, 0, null);
+        }
+        try (KafkaProducerPoolManager.Lease second = poolManager.borrow(connection)) {
+            assertThat(second.producer()).isSameAs(created.get(0));
+        }
+
+        connection.setConfigJson("{\"bootstrapServers\":\"localhost:9092\",\"lingerMs\":20}");
+        try (KafkaProducerPoolManager.Lease third = poolManager.borrow(connection)) {
+            assertThat(third.producer()).isSameAs(created.get(1));
+        }
+
+        assertThat(created).hasSize(2);
+        assertThat(created.get(0).closed()).isTrue();
+        assertThat(created.get(1).closed()).isFalse();
+        assertThat(poolManager.stats()).singleElement().satisfies(stats -> {
+            assertThat(stats.connectionId()).isEqualTo(7L);
+            assertThat(stats.clientId()).isEqualTo("mdg-writer-7");
+            assertThat(stats.activeLeases()).isZero();
+            assertThat(stats.healthy()).isTrue();
+        });
+    }
+
+    @Test
+    void invalidate_shouldCloseLeasedProducerOnlyAfterRelease() {
+        TargetConnection connection = kafkaConnection("{\"bootstrapServers\":\"localhost:9092\"}");
+
+        KafkaProducerPoolManager.Lease lease = poolManager.borrow(connection);
+        poolManager.invalidate(7L);
+
+        assertThat(created.get(0).closed()).isFalse();
+        lease.close();
+        assertThat(created.get(0).closed()).isTrue();
+        assertThat(poolManager.stats()).isEmpty();
+    }
+
+    @Test
+    void borrow_shouldReplaceProducerReportedUnhealthy() {
+        TargetConnection connection = kafkaConnection("{\"bootstrapServers\":\"localhost:9092\"}");
+
+        try (KafkaProducerPoolManager.Lease lease = poolManager.borrow(connection)) {
+            lease.reportDelivery(0, 3, "Topic authorization failed");
+        }
+        assertThat(poolManager.stats()).singleElement().satisfies(stats -> {
+            assertThat(stats.healthy()).isFalse();
+            assertThat(stats.failedCount()).isEqualTo(3L);
+            assertThat(stats.lastError()).isEqualTo("Topic authorization failed");
+        });
+
+        try (KafkaProducerPoolManager.Lease lease = poolManager.borrow(connection)) {
+            assertThat(lease.producer()).isSameAs(created.get(1));
+        }
+        assertThat(created.get(0).closed()).isTrue();
+    }
+
+    @Test
+    void borrow_shouldKeepSeparateProducerPerSlot() {
+        TargetConnection connection = kafkaConnection("{\"bootstrapServers\":\"localhost:9092\"}");
+
+        try (KafkaProducerPoolManager.Lease first = poolManager.borrow(connection, 0);
+             KafkaProducerPoolManager.Lease second = poolManager.borrow(connection, 1)) {
+            assertThat(first.producer()).isNotSameAs(second.producer());
+        }
+        assertThat(poolManager.stats())
+                .extracting(KafkaProducerPoolStatsResponse::clientId)
+                .containsExactly("mdg-writer-7", "mdg-writer-7-1");
+
+        poolManager.invalidate(7L);
+        assertThat(created).allSatisfy(producer -> assertThat(producer.closed()).isTrue());
+        assertThat(poolManager.stats()).isEmpty();
+    }
+
+    private TargetConnection kafkaConnection(String configJson) {
+        TargetConnection connection = new TargetConnection();
+        connection.setId(7L);
+        connection.setName("kafka-demo");
+        connection.setDbType(DatabaseType.KAFKA);
+        connection.setConfigJson(configJson);
+        return connection;
+    }
+}
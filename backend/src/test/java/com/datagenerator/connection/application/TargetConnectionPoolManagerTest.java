@@ -0,0 +1,81 @@
+package com.datagenerator.connection.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datagenerator.connection.api.TargetConnectionPoolStatsResponse;
+import com.zaxxer.hikari.HikariConfig;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TargetConnectionPoolManagerTest {
+
+    private final TargetConnectionPoolManager poolManager = new TargetConnectionPoolManager(2, 600_000L, 1_800_000L, 10_000L);
+    private final AtomicInteger createdConfigs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        poolManager.destroy();
+    }
+
+    @Test
+    void borrow_shouldReusePoolUntilConfigVersionChanges() throws Exception {
+        try (Connection ignored = poolManager.borrow(1L, "demo", "v1", h2Config())) {
+            assertThat(poolManager.stats())
+                    .singleElement()
+                    .satisfies(stats -> {
+                        assertThat(stats.connectionId()).isEqualTo(1L);
+                        assertThat(stats.activeConnections()).isEqualTo(1);
+                        assertThat(stats.maxPoolSize()).isEqualTo(2);
+                    });
+        }
+        try (Connection ignored = poolManager.borrow(1L, "demo", "v1", h2Config())) {
+            assertThat(createdConfigs).hasValue(1);
+        }
+        try (Connection ignored = poolManager.borrow(1L, "demo", "v2", h2Config())) {
+            assertThat(createdConfigs).hasValue(2);
+        }
+
+        assertThat(poolManager.stats())
+                .extracting(TargetConnectionPoolStatsResponse::configVersion)
+                .containsExactly("v2");
+    }
+
+    @Test
+    void invalidate_shouldClosePool() throws Exception {
+        try (Connection ignored = poolManager.borrow(7L, "demo", "v1", h2Config())) {
+            assertThat(poolManager.stats()).hasSize(1);
+        }
+
+        poolManager.invalidate(7L);
+
+        assertThat(poolManager.stats()).isEmpty();
+    }
+
+    @Test
+    void evict_shouldRetireBorrowedConnectionInsteadOfReturningIt() throws Exception {
+        Connection connection = poolManager.borrow(3L, "demo", "v1", h2Config());
+
+        poolManager.evict(3L, connection);
+        connection.close();
+
+        assertThat(poolManager.stats())
+                .singleElement()
+                .satisfies(stats -> {
+                    assertThat(stats.activeConnections()).isZero();
+                    assertThat(stats.totalConnections()).isZero();
+                });
+    }
+
+    private Supplier<HikariConfig> h2Config() {
+        return () -> {
+            createdConfigs.incrementAndGet();
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl("jdbc:h2:mem:pool_manager_test;DB_CLOSE_DELAY=-1");
+            config.setUsername("sa");
+            return config;
+        };
+    }
+}
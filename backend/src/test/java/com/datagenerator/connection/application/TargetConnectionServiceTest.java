@@ -42,6 +42,12 @@ class TargetConnectionServiceTest {
     @Mock
     private KafkaConnectionSupport kafkaConnectionSupport;
 
+    @Mock
+    private KafkaProducerPoolManager kafkaProducerPoolManager;
+
+    @Mock
+    private TargetMetadataCache metadataCache;
+
     private TargetConnectionService service;
     private TargetConnectionSecretCodec secretCodec;
 
@@ -54,7 +60,9 @@ class TargetConnectionServiceTest {
                 tableSchemaIntrospectionService,
                 connectionJdbcSupport,
                 kafkaConnectionSupport,
-                secretCodec
+                kafkaProducerPoolManager,
+                secretCodec,
+                metadataCache
         );
         lenient().when(repository.save(any(TargetConnection.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
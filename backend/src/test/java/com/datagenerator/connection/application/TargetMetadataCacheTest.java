@@ -0,0 +1,79 @@
+package com.datagenerator.connection.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datagenerator.connection.domain.TargetConnection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TargetMetadataCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TargetMetadataCache cache = new TargetMetadataCache(TimeUnit.SECONDS.toNanos(60), now::get);
+
+    @Test
+    void get_shouldReuseLoadedMetadataUntilTtlExpires() throws Exception {
+        TargetConnection connection = connection(3L);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(connection, TargetMetadataCache.Kind.TABLE_EXISTS, "orders", () -> loads.incrementAndGet() > 0)).isTrue();
+        assertThat(cache.get(connection, TargetMetadataCache.Kind.TABLE_EXISTS, "orders", () -> loads.incrementAndGet() > 0)).isTrue();
+        cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "orders", loads::incrementAndGet);
+        assertThat(loads.get()).isEqualTo(2);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get(connection, TargetMetadataCache.Kind.TABLE_EXISTS, "orders", () -> loads.incrementAndGet() > 0);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void get_shouldKeepCaseSensitiveTableReferencesApart() throws Exception {
+        TargetConnection connection = connection(3L);
+
+        cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "\"demo\".\"public\".\"Orders\"", () -> List.of("OrderId"));
+
+        assertThat(cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "\"demo\".\"public\".\"orders\"", () -> List.of("order_id")))
+                .isEqualTo(List.of("order_id"));
+        assertThat(cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "\"demo\".\"public\".\"Orders\"", () -> List.of()))
+                .isEqualTo(List.of("OrderId"));
+    }
+
+    @Test
+    void invalidate_shouldDropTableOrConnectionEntries() throws Exception {
+        TargetConnection connection = connection(3L);
+        TargetConnection other = connection(4L);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(connection, TargetMetadataCache.Kind.TABLE_EXISTS, "orders", () -> loads.incrementAndGet() > 0);
+        cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "orders", loads::incrementAndGet);
+        cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "customers", loads::incrementAndGet);
+        cache.get(other, TargetMetadataCache.Kind.COLUMNS, "orders", loads::incrementAndGet);
+
+        cache.invalidate(3L, "orders");
+        assertThat(cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "orders", () -> -1)).isEqualTo(-1);
+        assertThat(cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "customers", () -> -1)).isEqualTo(3);
+
+        cache.invalidate(3L);
+        assertThat(cache.get(connection, TargetMetadataCache.Kind.COLUMNS, "customers", () -> -2)).isEqualTo(-2);
+        assertThat(cache.get(other, TargetMetadataCache.Kind.COLUMNS, "orders", () -> -2)).isEqualTo(4);
+    }
+
+    @Test
+    void get_shouldBypassCacheForUnsavedConnections() throws Exception {
+        TargetConnection draft = connection(null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(draft, TargetMetadataCache.Kind.COLUMNS, "orders", loads::incrementAndGet);
+        cache.get(draft, TargetMetadataCache.Kind.COLUMNS, "orders", loads::incrementAndGet);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private TargetConnection connection(Long id) {
+        TargetConnection connection = new TargetConnection();
+        connection.setId(id);
+        return connection;
+    }
+}
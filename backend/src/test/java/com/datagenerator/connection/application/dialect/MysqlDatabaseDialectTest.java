@@ -1,9 +1,14 @@
 package com.datagenerator.connection.application.dialect;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datagenerator.connection.domain.TargetConnection;
@@ -11,6 +16,7 @@ import java.sql.PreparedStatement;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
+import java.sql.Statement;
 import com.datagenerator.task.domain.WriteTaskColumn;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -108,4 +114,190 @@ class MysqlDatabaseDialectTest {
         assertThat(columnsResult.get(0).dbType()).isEqualTo("ENUM");
         assertThat(columnsResult.get(0).enumValues()).containsExactly("pending", "processing", "completed", "cancelled");
     }
+
+    @Test
+    void describeModel_shouldLoadColumnsAndKeysForAllTablesInOneCatalogPass() throws Exception {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        PreparedStatement keyStatement = mock(PreparedStatement.class);
+        ResultSet keys = mock(ResultSet.class);
+        ResultSet columns = mock(ResultSet.class);
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("mysql_test");
+
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.prepareStatement(anyString())).thenReturn(keyStatement);
+        when(keyStatement.executeQuery()).thenReturn(keys);
+        when(keys.next()).thenReturn(true, true, true, false);
+        when(keys.getString("TABLE_NAME")).thenReturn("audit_log", "orders", "order_items", "order_items");
+        when(keys.getString("CONSTRAINT_KIND")).thenReturn("P", "F");
+        when(keys.getString("CONSTRAINT_NAME")).thenReturn("fk_items_order");
+        when(keys.getString("COLUMN_NAME")).thenReturn("id", "order_id");
+        when(keys.getString("REF_SCHEMA")).thenReturn("mysql_test");
+        when(keys.getString("REF_TABLE")).thenReturn("orders");
+        when(keys.getString("REF_COLUMN")).thenReturn("id");
+
+        when(metaData.getColumns("mysql_test", null, "%", "%")).thenReturn(columns);
+        when(columns.next()).thenReturn(true, true, true, true, true, false);
+        when(columns.getString("TABLE_NAME")).thenReturn("audit_log", "orders", "order_items", "customers", "products");
+        when(columns.getString("COLUMN_NAME")).thenReturn("id", "order_id", "id", "id");
+        when(columns.getString("TYPE_NAME")).thenReturn("BIGINT");
+        when(columns.wasNull()).thenReturn(false);
+        when(columns.getInt("NULLABLE")).thenReturn(DatabaseMetaData.columnNoNulls);
+        when(columns.getString("IS_AUTOINCREMENT")).thenReturn("NO");
+
+        var model = dialect.describeModel(connection, targetConnection, List.of("orders", "order_items", "customers", "products"));
+
+        assertThat(model.tables()).extracting(table -> table.tableName())
+                .containsExactly("orders", "order_items", "customers", "products");
+        assertThat(model.tables().get(0).columns().get(0).primaryKey()).isTrue();
+        assertThat(model.tables().get(1).columns().get(0).primaryKey()).isFalse();
+        assertThat(model.relations()).hasSize(1);
+        assertThat(model.relations().get(0).parentTable()).isEqualTo("mysql_test.orders");
+        assertThat(model.relations().get(0).childTable()).isEqualTo("mysql_test.order_items");
+        assertThat(model.relations().get(0).childColumns()).isEqualTo(List.of("order_id"));
+        verify(keyStatement).setString(1, "mysql_test");
+        verify(metaData, times(1)).getColumns(any(), any(), anyString(), anyString());
+        verify(metaData, never()).getPrimaryKeys(any(), any(), anyString());
+        verify(metaData, never()).getImportedKeys(any(), any(), anyString());
+    }
+
+    @Test
+    void buildBulkLoadSql_shouldCastBitColumnsThroughUserVariables() {
+        TargetConnection connection = new TargetConnection();
+        connection.setDatabaseName("demo_sink");
+
+        WriteTaskColumn idColumn = new WriteTaskColumn();
+        idColumn.setColumnName("id");
+        idColumn.setDbType("BIGINT");
+
+        WriteTaskColumn activeColumn = new WriteTaskColumn();
+        activeColumn.setColumnName("active");
+        activeColumn.setDbType("BOOLEAN");
+
+        assertThat(dialect.buildBulkLoadSql(connection, "orders", List.of(idColumn, activeColumn))).isEqualTo(
+                "LOAD DATA LOCAL INFILE 'mdg-stream.tsv' INTO TABLE `demo_sink`.`orders` CHARACTER SET utf8mb4 "
+                        + "FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' "
+                        + "(`id`, @v1) SET `active` = CAST(@v1 AS UNSIGNED)"
+        );
+    }
+
+    @Test
+    void buildMultiRowInsertSql_shouldRepeatRowPlaceholders() {
+        TargetConnection connection = new TargetConnection();
+        connection.setDatabaseName("demo_sink");
+
+        WriteTaskColumn idColumn = new WriteTaskColumn();
+        idColumn.setColumnName("id");
+        idColumn.setDbType("BIGINT");
+
+        WriteTaskColumn nameColumn = new WriteTaskColumn();
+        nameColumn.setColumnName("name");
+        nameColumn.setDbType("VARCHAR");
+
+        assertThat(dialect.buildMultiRowInsertSql(connection, "orders", List.of(idColumn, nameColumn), 3)).isEqualTo(
+                "INSERT INTO `demo_sink`.`orders` (`id`, `name`) VALUES (?, ?), (?, ?), (?, ?)"
+        );
+    }
+
+    @Test
+    void buildConnectionProperties_shouldEnableBatchRewriteUnlessConfigured() {
+        TargetConnection connection = new TargetConnection();
+        connection.setUsername("root");
+        connection.setPasswordValue("secret");
+
+        assertThat(dialect.buildConnectionProperties(connection).getProperty("rewriteBatchedStatements")).isEqualTo("true");
+
+        connection.setJdbcParams("rewriteBatchedStatements=false");
+        assertThat(dialect.buildConnectionProperties(connection).getProperty("rewriteBatchedStatements")).isEqualTo("false");
+    }
+
+    @Test
+    void beginBulkSession_shouldDisableChecksAndRestorePreviousSessionValues() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet previous = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT @@SESSION.foreign_key_checks")).thenReturn(previous);
+        when(previous.next()).thenReturn(true);
+        when(previous.getInt(1)).thenReturn(1);
+
+        DatabaseBulkSession session = dialect.beginBulkSession(connection, new TargetConnection(), List.of());
+        session.finish(connection);
+        session.restore(connection);
+        session.restore(connection);
+
+        assertThat(session.profile()).isEqualTo("MYSQL_FOREIGN_KEY_CHECKS_DISABLED");
+        assertThat(session.details()).containsKeys("settings", "setupMs", "validationMs");
+        verify(statement).execute("SET SESSION foreign_key_checks = 0");
+        verify(statement, times(1)).execute("SET SESSION foreign_key_checks = 1");
+    }
+
+    @Test
+    void finishBulkSession_shouldRejectRowsWithoutMatchingParent() throws Exception {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("demo_sink");
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        Statement statement = mock(Statement.class);
+        ResultSet previous = mock(ResultSet.class);
+        ResultSet importedKeys = mock(ResultSet.class);
+        ResultSet violations = mock(ResultSet.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT @@SESSION.foreign_key_checks")).thenReturn(previous);
+        when(previous.next()).thenReturn(true);
+        when(previous.getInt(1)).thenReturn(1);
+        when(metaData.getImportedKeys(any(), any(), anyString())).thenReturn(importedKeys);
+        when(importedKeys.next()).thenReturn(true, false);
+        when(importedKeys.getString("FK_NAME")).thenReturn("fk_orders_customer");
+        when(importedKeys.getString("PKTABLE_NAME")).thenReturn("customers");
+        when(importedKeys.getString("FKTABLE_NAME")).thenReturn("orders");
+        when(importedKeys.getString("PKCOLUMN_NAME")).thenReturn("id");
+        when(importedKeys.getString("FKCOLUMN_NAME")).thenReturn("customer_id");
+        when(statement.executeQuery(
+                "SELECT COUNT(*) FROM `demo_sink`.`orders` c WHERE c.`customer_id` IS NOT NULL "
+                        + "AND NOT EXISTS (SELECT 1 FROM `demo_sink`.`customers` p WHERE p.`id` = c.`customer_id`)"
+        )).thenReturn(violations);
+        when(violations.next()).thenReturn(true);
+        when(violations.getLong(1)).thenReturn(2L);
+
+        DatabaseBulkSession session = dialect.beginBulkSession(connection, targetConnection, List.of("orders"));
+
+        assertThatThrownBy(() -> session.finish(connection))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fk_orders_customer 有 2 行未匹配父表记录");
+        session.restore(connection);
+        verify(statement).execute("SET SESSION foreign_key_checks = 1");
+    }
+
+    @Test
+    void createStagingTable_shouldSkipSwapWhenTableHasTriggersOrGrants() throws Exception {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("demo_sink");
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        ResultSet noRows = mock(ResultSet.class);
+        PreparedStatement dependencyQuery = mock(PreparedStatement.class);
+        ResultSet dependencies = mock(ResultSet.class);
+        Statement statement = mock(Statement.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.prepareStatement(contains("information_schema.TRIGGERS"))).thenReturn(dependencyQuery);
+        when(metaData.getExportedKeys(any(), any(), anyString())).thenReturn(noRows);
+        when(metaData.getImportedKeys(any(), any(), anyString())).thenReturn(noRows);
+        when(metaData.getTables(any(), any(), anyString(), any())).thenReturn(noRows);
+        when(dependencyQuery.executeQuery()).thenReturn(dependencies);
+        when(dependencies.next()).thenReturn(true);
+        when(dependencies.getBoolean(1)).thenReturn(true, false);
+
+        assertThat(dialect.createStagingTable(connection, targetConnection, "audited_orders")).isNull();
+        assertThat(dialect.createStagingTable(connection, targetConnection, "plain_orders")).isEqualTo("plain_orders_mdg_stage");
+
+        verify(dependencyQuery, times(2)).setString(1, "demo_sink");
+        verify(dependencyQuery).setString(2, "audited_orders");
+        verify(dependencyQuery).setString(6, "audited_orders");
+        verify(statement, never()).execute(contains("`audited_orders_mdg_stage`"));
+        verify(statement).execute("CREATE TABLE `demo_sink`.`plain_orders_mdg_stage` LIKE `demo_sink`.`plain_orders`");
+    }
 }
@@ -0,0 +1,72 @@
+package com.datagenerator.connection.application.dialect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datagenerator.connection.domain.TargetConnection;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OracleDatabaseDialectTest {
+
+    private final OracleDatabaseDialect dialect = new OracleDatabaseDialect();
+
+    @Test
+    void beginBulkSession_shouldReportNoopWhenNoForeignKeyIsDeferrable() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        stubDeferrableCount(connection, 0L);
+        when(connection.createStatement()).thenReturn(statement);
+
+        DatabaseBulkSession session = dialect.beginBulkSession(connection, targetConnection(), List.of("CUSTOMER", "ORDERS"));
+        session.finish(connection);
+
+        assertThat(session.profile()).isEqualTo("ORACLE_NO_DEFERRABLE_CONSTRAINTS");
+        assertThat(session.relaxed()).isFalse();
+        assertThat(session.details()).containsEntry("settings", List.of()).containsEntry("relaxed", false);
+        verify(statement, never()).execute(anyString());
+        verify(connection, never()).getMetaData();
+    }
+
+    @Test
+    void beginBulkSession_shouldDeferConstraintsWhenLoadedTablesHaveDeferrableForeignKeys() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        PreparedStatement query = stubDeferrableCount(connection, 1L);
+        when(connection.createStatement()).thenReturn(statement);
+
+        DatabaseBulkSession session = dialect.beginBulkSession(connection, targetConnection(), List.of("ORDERS"));
+
+        assertThat(session.profile()).isEqualTo("ORACLE_DEFERRED_CONSTRAINTS");
+        assertThat(session.relaxed()).isTrue();
+        verify(query).setString(1, "DEMO");
+        verify(query).setString(2, "ORDERS");
+        verify(statement).execute("SET CONSTRAINTS ALL DEFERRED");
+    }
+
+    private PreparedStatement stubDeferrableCount(Connection connection, long count) throws Exception {
+        PreparedStatement query = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(contains("DEFERRABLE = 'DEFERRABLE'"))).thenReturn(query);
+        when(query.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(count);
+        return query;
+    }
+
+    private TargetConnection targetConnection() {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("ORCLPDB1");
+        targetConnection.setUsername("demo");
+        return targetConnection;
+    }
+}
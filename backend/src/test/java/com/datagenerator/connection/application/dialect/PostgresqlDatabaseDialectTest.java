@@ -1,10 +1,27 @@
 package com.datagenerator.connection.application.dialect;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.domain.WriteTaskColumn;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
 import java.util.List;
+import org.mockito.InOrder;
 import org.junit.jupiter.api.Test;
 
 class PostgresqlDatabaseDialectTest {
@@ -32,4 +49,143 @@ class PostgresqlDatabaseDialectTest {
                         + "VALUES (CAST(? AS JSONB), ?)"
         );
     }
+
+    @Test
+    void buildBulkLoadSql_shouldCopyFromStdinInColumnOrder() {
+        TargetConnection connection = new TargetConnection();
+        connection.setDatabaseName("demo_sink");
+        connection.setSchemaName("public");
+
+        WriteTaskColumn idColumn = new WriteTaskColumn();
+        idColumn.setColumnName("id");
+        idColumn.setDbType("BIGINT");
+
+        WriteTaskColumn jsonColumn = new WriteTaskColumn();
+        jsonColumn.setColumnName("profile");
+        jsonColumn.setDbType("JSONB");
+
+        String sql = dialect.buildBulkLoadSql(connection, "synthetic_user_activity", List.of(idColumn, jsonColumn));
+
+        assertThat(sql).isEqualTo(
+                "COPY \"demo_sink\".\"public\".\"synthetic_user_activity\" (\"id\", \"profile\") FROM STDIN"
+        );
+    }
+
+    @Test
+    void truncateTargetTable_shouldFallBackToDeleteWhenTableIsReferenced() throws Exception {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("demo_sink");
+        targetConnection.setSchemaName("public");
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        ResultSet unreferenced = mock(ResultSet.class);
+        ResultSet referenced = mock(ResultSet.class);
+        Statement statement = mock(Statement.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.createStatement()).thenReturn(statement);
+        when(metaData.getExportedKeys("demo_sink", "public", "orders")).thenReturn(unreferenced);
+        when(metaData.getExportedKeys("demo_sink", "public", "customers")).thenReturn(referenced);
+        when(referenced.next()).thenReturn(true);
+
+        assertThat(dialect.truncateTargetTable(connection, targetConnection, "orders")).isTrue();
+        assertThat(dialect.truncateTargetTable(connection, targetConnection, "customers")).isFalse();
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).executeUpdate("TRUNCATE TABLE \"demo_sink\".\"public\".\"orders\"");
+        inOrder.verify(statement).executeUpdate("DELETE FROM \"demo_sink\".\"public\".\"customers\"");
+    }
+
+    @Test
+    void swapStagingTable_shouldRenameStagingTableIntoPlaceAndDropRetiredCopy() throws Exception {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("demo_sink");
+        targetConnection.setSchemaName("public");
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        ResultSet noTables = mock(ResultSet.class);
+        Statement statement = mock(Statement.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.createStatement()).thenReturn(statement);
+        when(metaData.getTables(any(), any(), anyString(), any())).thenReturn(noTables);
+
+        dialect.swapStagingTable(connection, targetConnection, "orders", "orders_mdg_stage");
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).execute("ALTER TABLE \"demo_sink\".\"public\".\"orders\" RENAME TO \"orders_mdg_retired\"");
+        inOrder.verify(statement).execute("ALTER TABLE \"demo_sink\".\"public\".\"orders_mdg_stage\" RENAME TO \"orders\"");
+        inOrder.verify(statement).execute("DROP TABLE \"demo_sink\".\"public\".\"orders_mdg_retired\"");
+    }
+
+    @Test
+    void createStagingTable_shouldSkipSwapWhenTableOwnsSerialSequenceOrHasDependents() throws Exception {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("demo_sink");
+        targetConnection.setSchemaName("public");
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        ResultSet noRows = mock(ResultSet.class);
+        PreparedStatement dependencyQuery = mock(PreparedStatement.class);
+        ResultSet dependencies = mock(ResultSet.class);
+        Statement statement = mock(Statement.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.prepareStatement(contains("pg_depend"))).thenReturn(dependencyQuery);
+        when(metaData.getExportedKeys(any(), any(), anyString())).thenReturn(noRows);
+        when(metaData.getImportedKeys(any(), any(), anyString())).thenReturn(noRows);
+        when(metaData.getTables(any(), any(), anyString(), any())).thenReturn(noRows);
+        when(dependencyQuery.executeQuery()).thenReturn(dependencies);
+        when(dependencies.next()).thenReturn(true);
+        when(dependencies.getBoolean(1)).thenReturn(true, false);
+
+        assertThat(dialect.createStagingTable(connection, targetConnection, "serial_orders")).isNull();
+        assertThat(dialect.createStagingTable(connection, targetConnection, "plain_orders")).isEqualTo("plain_orders_mdg_stage");
+
+        verify(dependencyQuery).setString(2, "serial_orders");
+        verify(statement, never()).execute(contains("\"serial_orders_mdg_stage\""));
+        verify(statement).execute("CREATE TABLE \"demo_sink\".\"public\".\"plain_orders_mdg_stage\" "
+                + "(LIKE \"demo_sink\".\"public\".\"plain_orders\" INCLUDING ALL)");
+    }
+
+    @Test
+    void beginBulkSession_shouldFallBackToDeferredConstraintsWhenReplicaRoleIsDenied() throws Exception {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("demo_sink");
+        targetConnection.setSchemaName("public");
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        Savepoint savepoint = mock(Savepoint.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+        when(statement.execute("SET LOCAL session_replication_role = replica"))
+                .thenThrow(new SQLException("permission denied to set parameter \"session_replication_role\""));
+
+        DatabaseBulkSession session = dialect.beginBulkSession(connection, targetConnection, List.of());
+        session.restore(connection);
+
+        assertThat(session.profile()).isEqualTo("POSTGRESQL_DEFERRED_CONSTRAINTS");
+        InOrder inOrder = inOrder(connection, statement);
+        inOrder.verify(connection).rollback(savepoint);
+        inOrder.verify(statement).execute("SET CONSTRAINTS ALL DEFERRED");
+    }
+
+    @Test
+    void beginBulkSession_shouldScopeReplicaRoleToLoadTransaction() throws Exception {
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDatabaseName("demo_sink");
+        targetConnection.setSchemaName("public");
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        Savepoint savepoint = mock(Savepoint.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+
+        DatabaseBulkSession session = dialect.beginBulkSession(connection, targetConnection, List.of());
+        session.finish(connection);
+        session.restore(connection);
+
+        assertThat(session.profile()).isEqualTo("POSTGRESQL_REPLICA_ROLE");
+        verify(statement).execute("SET LOCAL session_replication_role = replica");
+        verify(connection).releaseSavepoint(savepoint);
+        verify(statement, times(1)).execute(anyString());
+    }
 }
@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.datagenerator.task.application.KafkaAvroSchemaService;
 import com.datagenerator.task.application.KafkaSchemaImportService;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ class WriteTaskKafkaSchemaControllerTest {
     @MockBean
     private KafkaSchemaImportService importService;
 
+    @MockBean
+    private KafkaAvroSchemaService avroSchemaService;
+
     @Test
     void importExample_shouldReturnSchemaResponse() throws Exception {
         given(importService.importExampleJson("{\"id\":1}"))
@@ -48,4 +52,26 @@ class WriteTaskKafkaSchemaControllerTest {
                 .andExpect(jsonPath("$.data.scalarPaths[0]").value("id"))
                 .andExpect(jsonPath("$.data.warnings[0].code").value("NULL_VALUE"));
     }
+
+    @Test
+    void describeAvro_shouldReturnAvroSchemaResponse() throws Exception {
+        given(avroSchemaService.describe("{\"type\":\"OBJECT\",\"children\":[]}"))
+                .willReturn(new KafkaAvroSchemaResponse(
+                        "AVRO",
+                        "{\"type\":\"record\",\"name\":\"Payload\",\"fields\":[]}",
+                        "0011223344556677"
+                ));
+
+        mockMvc.perform(post("/api/write-tasks/kafka/schema/avro")
+                        .contentType(APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "content": "{\\\"type\\\":\\\"OBJECT\\\",\\\"children\\\":[]}"
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.payloadFormat").value("AVRO"))
+                .andExpect(jsonPath("$.data.fingerprint").value("0011223344556677"));
+    }
 }
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.TargetMetadataCache;
 import com.datagenerator.connection.application.dialect.DatabaseDialect;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
@@ -37,7 +38,7 @@ class WriteTaskExecutionPreparationServiceTest {
         when(dialect.tableExists(eq(connection), any(TargetConnection.class), eq("qa_orders"))).thenReturn(true);
         when(dialect.queryMaxValue(eq(connection), any(TargetConnection.class), eq("qa_orders"), eq("order_id"))).thenReturn(15L);
 
-        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport);
+        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport, new TargetMetadataCache(0));
 
         WriteTask task = new WriteTask();
         task.setTableName("qa_orders");
@@ -58,7 +59,7 @@ class WriteTaskExecutionPreparationServiceTest {
         when(jdbcSupport.dialect(DatabaseType.MYSQL)).thenReturn(dialect);
         when(dialect.tableExists(eq(connection), any(TargetConnection.class), eq("qa_orders"))).thenReturn(false);
 
-        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport);
+        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport, new TargetMetadataCache(0));
 
         WriteTask task = new WriteTask();
         task.setTableName("qa_orders");
@@ -80,7 +81,7 @@ class WriteTaskExecutionPreparationServiceTest {
         when(dialect.tableExists(eq(connection), any(TargetConnection.class), eq("qa_orders"))).thenReturn(true);
         when(dialect.queryMaxValue(eq(connection), any(TargetConnection.class), eq("qa_orders"), eq("order_id"))).thenReturn(4L);
 
-        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport);
+        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport, new TargetMetadataCache(0));
 
         WriteTask task = new WriteTask();
         task.setTableName("qa_orders");
@@ -107,7 +108,7 @@ class WriteTaskExecutionPreparationServiceTest {
         when(dialect.tableExists(eq(connection), eq(connectionDefinition), eq("sales.customers"))).thenReturn(true);
         when(dialect.queryMaxValue(eq(connection), eq(connectionDefinition), eq("sales.customers"), eq("customer_id"))).thenReturn(99L);
 
-        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport);
+        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport, new TargetMetadataCache(0));
 
         WriteTask task = new WriteTask();
         task.setTableName("sales.customers");
@@ -125,7 +126,7 @@ class WriteTaskExecutionPreparationServiceTest {
     @Test
     void prepareForExecution_shouldBypassJdbcPreparationForKafka() {
         ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
-        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport);
+        WriteTaskExecutionPreparationService service = new WriteTaskExecutionPreparationService(jdbcSupport, new TargetMetadataCache(0));
 
         WriteTask task = new WriteTask();
         task.setTableName("demo.topic");
@@ -0,0 +1,101 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datagenerator.task.domain.ColumnGeneratorType;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskGeneratorPlanCompilerTest {
+
+    private final WriteTaskGeneratorPlanCompiler compiler = new WriteTaskGeneratorPlanCompiler(
+            new KafkaPayloadSchemaService(new ObjectMapper()),
+            new WriteTaskValueGenerator()
+    );
+
+    @Test
+    void compile_shouldReuseCachedPlanUntilGeneratorDefinitionChanges() {
+        WriteTask task = sampleTask("{\"min\":1,\"max\":5}");
+
+        WriteTaskGeneratorPlan first = compiler.compile(task);
+        WriteTaskGeneratorPlan second = compiler.compile(task);
+        task.getColumns().get(1).setGeneratorConfigJson("{\"min\":10,\"max\":10}");
+        WriteTaskGeneratorPlan third = compiler.compile(task);
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(third.nextColumnRow(new Random(1L), 0, new LinkedHashMap<>())).containsEntry("score", 10L);
+    }
+
+    @Test
+    void fingerprint_shouldChangeOnlyWhenGeneratorDefinitionChanges() {
+        WriteTask task = sampleTask("{\"min\":1,\"max\":5}");
+
+        String first = compiler.fingerprint(task);
+        task.setBatchSize(2_000);
+        String second = compiler.fingerprint(task);
+        task.getColumns().get(1).setGeneratorConfigJson("{\"min\":1,\"max\":6}");
+
+        assertThat(second).isEqualTo(first).hasSize(64);
+        assertThat(compiler.fingerprint(task)).isNotEqualTo(first);
+    }
+
+    @Test
+    void evict_shouldDropCachedPlansForTask() {
+        WriteTask task = sampleTask("{\"min\":1,\"max\":5}");
+
+        WriteTaskGeneratorPlan first = compiler.compile(task);
+        compiler.evict(task.getId());
+
+        assertThat(compiler.compile(task)).isNotSameAs(first);
+    }
+
+    @Test
+    void compile_shouldGenerateSameValuesAsStandaloneGenerators() {
+        WriteTask task = sampleTask("{\"min\":1,\"max\":1000}");
+        WriteTaskValueGenerator valueGenerator = new WriteTaskValueGenerator();
+        WriteTaskGeneratorPlan plan = compiler.compile(task);
+        WriteTaskCompiledGenerator idGenerator = valueGenerator.compile(
+                "id", ColumnGeneratorType.SEQUENCE, Map.of("start", 100, "step", 2), false
+        );
+        WriteTaskCompiledGenerator scoreGenerator = valueGenerator.compile(
+                "score", ColumnGeneratorType.RANDOM_INT, Map.of("min", 1, "max", 1000), false
+        );
+
+        Random compiledRandom = new Random(42L);
+        Random standaloneRandom = new Random(42L);
+        Map<String, Long> compiledState = new LinkedHashMap<>();
+        Map<String, Long> standaloneState = new LinkedHashMap<>();
+        for (int rowIndex = 0; rowIndex < 20; rowIndex++) {
+            Map<String, Object> row = plan.nextColumnRow(compiledRandom, rowIndex, compiledState);
+            assertThat(row.get("id")).isEqualTo(idGenerator.next(standaloneRandom, rowIndex, standaloneState));
+            assertThat(row.get("score")).isEqualTo(scoreGenerator.next(standaloneRandom, rowIndex, standaloneState));
+        }
+    }
+
+    private WriteTask sampleTask(String scoreConfigJson) {
+        WriteTask task = new WriteTask();
+        task.setId(7L);
+        task.replaceColumns(List.of(
+                column("id", ColumnGeneratorType.SEQUENCE, "{\"start\":100,\"step\":2}", 0),
+                column("score", ColumnGeneratorType.RANDOM_INT, scoreConfigJson, 1)
+        ));
+        return task;
+    }
+
+    private WriteTaskColumn column(String name, ColumnGeneratorType generatorType, String configJson, int sortOrder) {
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName(name);
+        column.setDbType("BIGINT");
+        column.setGeneratorType(generatorType);
+        column.setGeneratorConfigJson(configJson);
+        column.setSortOrder(sortOrder);
+        return column;
+    }
+}
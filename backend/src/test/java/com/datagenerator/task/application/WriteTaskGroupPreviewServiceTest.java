@@ -30,8 +30,9 @@ class WriteTaskGroupPreviewServiceTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final WriteTaskGroupPreviewService service = new WriteTaskGroupPreviewService(
-            new WriteTaskValueGenerator(),
+            new WriteTaskGeneratorPlanCompiler(new KafkaPayloadSchemaService(objectMapper), new WriteTaskValueGenerator()),
             mock(ConnectionJdbcSupport.class),
+            mock(WriteTaskParentKeySampler.class),
             new KafkaPayloadSchemaService(objectMapper),
             objectMapper
     );
@@ -2,6 +2,7 @@ package com.datagenerator.task.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -10,6 +11,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datagenerator.connection.application.TargetConnectionService;
+import com.datagenerator.connection.application.dialect.DatabaseBulkSession;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.api.WriteTaskColumnUpsertRequest;
@@ -40,6 +42,7 @@ import com.datagenerator.task.repository.WriteTaskRelationRepository;
 import com.datagenerator.task.repository.WriteTaskRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +94,7 @@ class WriteTaskGroupServiceTest {
                 tableExecutionRepository,
                 connectionService,
                 previewService,
+                mock(WriteTaskGeneratorPlanCompiler.class),
                 executionPreparationService,
                 writerRegistry,
                 jdbcWriter,
@@ -324,6 +328,113 @@ class WriteTaskGroupServiceTest {
                 });
     }
 
+    @Test
+    void run_shouldWrapJdbcTablesInBulkSessionAndEstimateSavedTime() throws Exception {
+        WriteTaskGroup group = bulkSessionGroup();
+        WriteTask customerTask = task(51L, "customer", "customer");
+        WriteTask orderTask = task(52L, "orders", "orders");
+        TargetConnection connection = new TargetConnection();
+        connection.setDbType(DatabaseType.MYSQL);
+        Connection jdbcConnection = mock(Connection.class);
+        DatabaseBulkSession bulkSession = mock(DatabaseBulkSession.class);
+        stubBulkSessionRun(group, customerTask, orderTask, connection, jdbcConnection, bulkSession);
+        when(bulkSession.relaxed()).thenReturn(true);
+        when(bulkSession.details()).thenReturn(Map.of("profile", "MYSQL_FOREIGN_KEY_CHECKS_DISABLED"));
+        when(jdbcWriter.writeWithinTransaction(orderTask, connection, jdbcConnection, List.of(Map.of("id", 100L)), 101L))
+                .thenReturn(new WriteTaskDeliveryResult(1L, 0L, "orders ok", Map.of("writtenRowCount", 1L)));
+        WriteTaskGroupExecution baseline = new WriteTaskGroupExecution();
+        baseline.setId(90L);
+        baseline.setStatus(WriteExecutionStatus.SUCCESS);
+        baseline.setSummaryJson("{\"insertedRowCount\":2,\"writeDurationMs\":600000}");
+        when(executionRepository.findByWriteTaskGroupIdOrderByStartedAtDesc(13L)).thenReturn(List.of(baseline));
+
+        var response = service.run(13L);
+
+        assertThat(response.status()).isEqualTo("SUCCESS");
+        assertThat(response.summary())
+                .containsEntry("bulkSession", Map.of("profile", "MYSQL_FOREIGN_KEY_CHECKS_DISABLED"))
+                .containsEntry("baselineExecutionId", 90)
+                .containsKey("writeDurationMs");
+        assertThat(((Number) response.summary().get("estimatedTimeSavedMs")).longValue()).isGreaterThan(500_000L);
+        InOrder inOrder = inOrder(bulkSession, jdbcConnection);
+        inOrder.verify(bulkSession).finish(jdbcConnection);
+        inOrder.verify(bulkSession).restore(jdbcConnection);
+        inOrder.verify(jdbcConnection).commit();
+        verify(jdbcWriter, never()).discardConnection(connection, jdbcConnection);
+    }
+
+    @Test
+    void run_shouldNotEstimateSavedTimeWhenBulkSessionRelaxesNothing() throws Exception {
+        WriteTaskGroup group = bulkSessionGroup();
+        WriteTask customerTask = task(51L, "customer", "customer");
+        WriteTask orderTask = task(52L, "orders", "orders");
+        TargetConnection connection = new TargetConnection();
+        connection.setDbType(DatabaseType.ORACLE);
+        Connection jdbcConnection = mock(Connection.class);
+        DatabaseBulkSession bulkSession = mock(DatabaseBulkSession.class);
+        stubBulkSessionRun(group, customerTask, orderTask, connection, jdbcConnection, bulkSession);
+        when(bulkSession.relaxed()).thenReturn(false);
+        when(bulkSession.details()).thenReturn(Map.of("profile", "ORACLE_NO_DEFERRABLE_CONSTRAINTS", "relaxed", false));
+        when(jdbcWriter.writeWithinTransaction(orderTask, connection, jdbcConnection, List.of(Map.of("id", 100L)), 101L))
+                .thenReturn(new WriteTaskDeliveryResult(1L, 0L, "orders ok", Map.of("writtenRowCount", 1L)));
+
+        var response = service.run(13L);
+
+        assertThat(response.status()).isEqualTo("SUCCESS");
+        assertThat(response.summary())
+                .containsEntry("bulkSession", Map.of("profile", "ORACLE_NO_DEFERRABLE_CONSTRAINTS", "relaxed", false))
+                .doesNotContainKeys("bulkSessionOverheadMs", "estimatedTimeSavedMs", "baselineExecutionId");
+        verify(executionRepository, never()).findByWriteTaskGroupIdOrderByStartedAtDesc(13L);
+    }
+
+    @Test
+    void run_shouldDiscardCommittedConnectionWhenBulkSessionRestoreFails() throws Exception {
+        WriteTaskGroup group = bulkSessionGroup();
+        WriteTask customerTask = task(51L, "customer", "customer");
+        WriteTask orderTask = task(52L, "orders", "orders");
+        TargetConnection connection = new TargetConnection();
+        connection.setDbType(DatabaseType.MYSQL);
+        Connection jdbcConnection = mock(Connection.class);
+        DatabaseBulkSession bulkSession = mock(DatabaseBulkSession.class);
+        stubBulkSessionRun(group, customerTask, orderTask, connection, jdbcConnection, bulkSession);
+        when(jdbcWriter.writeWithinTransaction(orderTask, connection, jdbcConnection, List.of(Map.of("id", 100L)), 101L))
+                .thenReturn(new WriteTaskDeliveryResult(1L, 0L, "orders ok", Map.of("writtenRowCount", 1L)));
+        doThrow(new SQLException("connection is closed")).when(bulkSession).restore(jdbcConnection);
+
+        var response = service.run(13L);
+
+        assertThat(response.status()).isEqualTo("SUCCESS");
+        assertThat(response.summary()).containsEntry("bulkSessionRestoreError", "connection is closed");
+        InOrder inOrder = inOrder(bulkSession, jdbcConnection, jdbcWriter);
+        inOrder.verify(bulkSession).restore(jdbcConnection);
+        inOrder.verify(jdbcConnection).commit();
+        inOrder.verify(jdbcWriter).discardConnection(connection, jdbcConnection);
+    }
+
+    @Test
+    void run_shouldKeepOriginalLoadErrorWhenBulkSessionRestoreFails() throws Exception {
+        WriteTaskGroup group = bulkSessionGroup();
+        WriteTask customerTask = task(51L, "customer", "customer");
+        WriteTask orderTask = task(52L, "orders", "orders");
+        TargetConnection connection = new TargetConnection();
+        connection.setDbType(DatabaseType.MYSQL);
+        Connection jdbcConnection = mock(Connection.class);
+        DatabaseBulkSession bulkSession = mock(DatabaseBulkSession.class);
+        stubBulkSessionRun(group, customerTask, orderTask, connection, jdbcConnection, bulkSession);
+        when(jdbcWriter.writeWithinTransaction(orderTask, connection, jdbcConnection, List.of(Map.of("id", 100L)), 101L))
+                .thenThrow(new IllegalStateException("子表写入失败"));
+        doThrow(new SQLException("connection is closed")).when(bulkSession).restore(jdbcConnection);
+
+        var response = service.run(13L);
+
+        assertThat(response.status()).isEqualTo("FAILED");
+        assertThat(response.errorSummary()).isEqualTo("子表写入失败");
+        verify(jdbcConnection).rollback();
+        verify(bulkSession, never()).finish(jdbcConnection);
+        verify(bulkSession).restore(jdbcConnection);
+        verify(jdbcWriter).discardConnection(connection, jdbcConnection);
+    }
+
     @Test
     void run_shouldPersistFailedExecutionWhenGenerationFails() throws Exception {
         WriteTaskGroup group = new WriteTaskGroup();
@@ -525,6 +636,45 @@ class WriteTaskGroupServiceTest {
         assertThat(savedGroup.getMaxRowsTotal()).isEqualTo(500L);
     }
 
+    private WriteTaskGroup bulkSessionGroup() {
+        WriteTaskGroup group = new WriteTaskGroup();
+        group.setId(13L);
+        group.setName("bulk-flow");
+        group.setConnectionId(9L);
+        group.setStatus(WriteTaskStatus.READY);
+        group.setScheduleType(WriteTaskScheduleType.MANUAL);
+        group.setSeed(20260422L);
+        return group;
+    }
+
+    private void stubBulkSessionRun(
+            WriteTaskGroup group,
+            WriteTask customerTask,
+            WriteTask orderTask,
+            TargetConnection connection,
+            Connection jdbcConnection,
+            DatabaseBulkSession bulkSession
+    ) throws Exception {
+        when(groupRepository.findById(13L)).thenReturn(Optional.of(group));
+        when(taskRepository.findByGroupIdOrderByIdAsc(13L)).thenReturn(List.of(customerTask, orderTask));
+        when(relationRepository.findByGroupIdOrderBySortOrderAscIdAsc(13L)).thenReturn(List.of());
+        when(connectionService.findById(9L)).thenReturn(connection);
+        when(jdbcWriter.openTransactionalConnection(connection)).thenReturn(jdbcConnection);
+        when(jdbcWriter.openBulkSession(connection, jdbcConnection, List.of("customer", "orders"))).thenReturn(bulkSession);
+        when(previewService.generate(any(), any(), any(), any())).thenReturn(
+                new WriteTaskGroupGenerationResult(
+                        20260422L,
+                        List.of(
+                                new WriteTaskTableGenerationResult(customerTask, List.of(Map.of("id", 1L)), 0, 0, 0, 0L),
+                                new WriteTaskTableGenerationResult(orderTask, List.of(Map.of("id", 100L)), 0, 0, 0, 0L)
+                        )
+                )
+        );
+        when(jdbcWriter.writeWithinTransaction(customerTask, connection, jdbcConnection, List.of(Map.of("id", 1L)), 101L))
+                .thenReturn(new WriteTaskDeliveryResult(1L, 0L, "customer ok", Map.of("writtenRowCount", 1L)));
+        when(tableExecutionRepository.findByWriteTaskGroupExecutionIdOrderByIdAsc(101L)).thenReturn(List.of());
+    }
+
     private WriteTaskGroupTaskUpsertRequest taskRequest(String taskKey, String tableName) {
         return new WriteTaskGroupTaskUpsertRequest(
                 null,
@@ -0,0 +1,61 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskJdbcPartitionedLoadTest {
+
+    @Test
+    void run_shouldStopProducerAndOtherPartitionsWhenOnePartitionFails() {
+        AtomicInteger producedChunks = new AtomicInteger();
+        AtomicInteger writes = new AtomicInteger();
+        AtomicInteger committedSegments = new AtomicInteger();
+        WriteTaskRowStream rows = WriteTaskRowStream.of(10_000, () -> {
+            if (producedChunks.get() >= 1_000) {
+                return null;
+            }
+            sleep(5);
+            producedChunks.incrementAndGet();
+            return WriteTaskRowBatch.fromRows(List.of(Map.of("id", producedChunks.get())));
+        });
+        WriteTaskJdbcPartitionedLoad load = new WriteTaskJdbcPartitionedLoad(
+                4,
+                1,
+                () -> mock(Connection.class),
+                (connection, segment) -> {
+                    if (writes.incrementAndGet() == 3) {
+                        throw new IllegalStateException("partition write failed");
+                    }
+                    long written = 0;
+                    while (segment.hasNext()) {
+                        written += segment.next().size();
+                    }
+                    committedSegments.incrementAndGet();
+                    return written;
+                },
+                "mdg-partition-test"
+        );
+
+        assertThatThrownBy(() -> load.run(rows))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("partition write failed");
+        assertThat(producedChunks.get()).isLessThan(100);
+        assertThat(committedSegments.get()).isLessThan(100);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.datagenerator.task.application;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskJdbcValueConverterTest {
+
+    private final WriteTaskJdbcValueConverter converter = new WriteTaskJdbcValueConverter(new ObjectMapper());
+
+    @Test
+    void rowBinder_shouldBindTemporalColumnsWithoutParsing() throws Exception {
+        WriteTaskRowBatch batch = WriteTaskRowBatch.create(
+                new String[] {"created_at", "birthday", "label"},
+                new WriteTaskRowBatch.ColumnKind[] {
+                        WriteTaskRowBatch.ColumnKind.TIMESTAMP,
+                        WriteTaskRowBatch.ColumnKind.DATE,
+                        WriteTaskRowBatch.ColumnKind.TIMESTAMP
+                },
+                new int[3],
+                1
+        );
+        int row = batch.appendRow();
+        long millis = Instant.parse("2024-03-01T08:30:00Z").toEpochMilli();
+        batch.setLong(0, row, millis);
+        batch.setLong(1, row, LocalDate.parse("2024-03-02").toEpochDay());
+        batch.setLong(2, row, millis);
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        WriteTaskJdbcValueConverter.RowBinder binder = converter.rowBinder(DatabaseType.MYSQL, List.of(
+                column("created_at", "datetime"),
+                column("birthday", "DATE"),
+                column("label", "VARCHAR")
+        ));
+        binder.bind(batch);
+        binder.bindRow(statement, 1, batch, row);
+
+        verify(statement).setTimestamp(1, new Timestamp(millis));
+        verify(statement).setObject(2, LocalDate.parse("2024-03-02"));
+        verify(statement).setString(3, "2024-03-01T08:30:00Z");
+    }
+
+    @Test
+    void rowBinder_shouldParseStringsAndQuotePlainJsonText() throws Exception {
+        WriteTaskRowBatch batch = WriteTaskRowBatch.create(
+                new String[] {"created_at", "payload", "note"},
+                new WriteTaskRowBatch.ColumnKind[] {
+                        WriteTaskRowBatch.ColumnKind.STRING,
+                        WriteTaskRowBatch.ColumnKind.STRING,
+                        WriteTaskRowBatch.ColumnKind.STRING
+                },
+                new int[3],
+                2
+        );
+        int first = batch.appendRow();
+        batch.setString(0, first, "2024-03-01 08:30:00");
+        batch.setString(1, first, "plain text");
+        batch.setString(2, first, "{\"kind\":\"json\"}");
+        int second = batch.appendRow();
+        batch.setString(0, second, "2024-03-01T08:30:00+08:00");
+        batch.setNull(1, second);
+        batch.setString(2, second, "[1,2]");
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        WriteTaskJdbcValueConverter.RowBinder binder = converter.rowBinder(DatabaseType.POSTGRESQL, List.of(
+                column("created_at", "TIMESTAMP"),
+                column("payload", "JSONB"),
+                column("note", "jsonb"),
+                column("missing", "TEXT")
+        ));
+        binder.bind(batch);
+        binder.bindRow(statement, 1, batch, first);
+        binder.bindRow(statement, 5, batch, second);
+
+        verify(statement).setTimestamp(1, Timestamp.valueOf("2024-03-01 08:30:00"));
+        verify(statement).setObject(2, "\"plain text\"", Types.OTHER);
+        verify(statement).setObject(3, "{\"kind\":\"json\"}", Types.OTHER);
+        verify(statement).setObject(4, null);
+        verify(statement).setTimestamp(5, Timestamp.from(Instant.parse("2024-03-01T00:30:00Z")));
+        verify(statement).setNull(6, Types.OTHER);
+        verify(statement).setObject(7, "[1,2]", Types.OTHER);
+        verify(statement).setObject(8, null);
+    }
+
+    @Test
+    void rowBinder_shouldFallBackToValueTypeForObjectColumns() throws Exception {
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(List.of(Map.of("tags", List.of("a", "b"), "amount", 7)));
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        WriteTaskJdbcValueConverter.RowBinder binder = converter.rowBinder(DatabaseType.MYSQL, List.of(
+                column("tags", "JSON"),
+                column("amount", "INT")
+        ));
+        binder.bind(batch);
+        binder.bindRow(statement, 1, batch, 0);
+
+        verify(statement).setString(1, "[\"a\",\"b\"]");
+        verify(statement).setInt(2, 7);
+    }
+
+    private WriteTaskColumn column(String name, String dbType) {
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName(name);
+        column.setDbType(dbType);
+        return column;
+    }
+}
@@ -1,15 +1,22 @@
 package com.datagenerator.task.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datagenerator.connection.api.DatabaseColumnResponse;
 import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.TargetMetadataCache;
 import com.datagenerator.connection.application.dialect.DatabaseDialect;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
@@ -18,14 +25,27 @@ import com.datagenerator.task.domain.TableMode;
 import com.datagenerator.task.domain.WriteMode;
 import com.datagenerator.task.domain.WriteTask;
 import com.datagenerator.task.domain.WriteTaskColumn;
+import com.datagenerator.task.domain.WriteTaskScheduleType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
 class WriteTaskJdbcWriterTest {
 
@@ -55,6 +75,7 @@ class WriteTaskJdbcWriterTest {
         task.setTableMode(TableMode.CREATE_IF_MISSING);
         task.setWriteMode(WriteMode.APPEND);
         task.setBatchSize(50);
+        task.setTargetConfigJson("{\"rowCountMode\":\"EXACT\"}");
         task.setColumns(List.of(column));
 
         when(jdbcSupport.open(any())).thenReturn(connection);
@@ -64,7 +85,7 @@ class WriteTaskJdbcWriterTest {
                 .thenReturn("INSERT INTO smoke_orders (id) VALUES (?)");
         when(connection.prepareStatement("INSERT INTO smoke_orders (id) VALUES (?)")).thenReturn(statement);
 
-        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper());
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(), new TargetMetadataCache(0));
         WriteTaskDeliveryResult result = writer.write(
                 task,
                 targetConnection,
@@ -83,6 +104,55 @@ class WriteTaskJdbcWriterTest {
         assertThat(result.details()).containsEntry("rowDelta", 1L);
     }
 
+    @Test
+    void write_shouldDeriveRowDeltaFromBatchUpdateCountsUnlessCountModeSelected() throws Exception {
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDbType(DatabaseType.MYSQL);
+
+        WriteTask task = new WriteTask();
+        task.setTableName("orders");
+        task.setTableMode(TableMode.USE_EXISTING);
+        task.setWriteMode(WriteMode.APPEND);
+        task.setBatchSize(2);
+        task.setColumns(List.of(column("id", "BIGINT")));
+
+        when(jdbcSupport.open(any())).thenReturn(connection);
+        when(jdbcSupport.dialect(DatabaseType.MYSQL)).thenReturn(dialect);
+        when(dialect.buildInsertSql(targetConnection, "orders", task.getColumns()))
+                .thenReturn("INSERT INTO orders (id) VALUES (?)");
+        when(connection.prepareStatement("INSERT INTO orders (id) VALUES (?)")).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[] {1, Statement.SUCCESS_NO_INFO}, new int[] {1});
+        List<Map<String, Object>> rows = List.of(Map.of("id", 1L), Map.of("id", 2L), Map.of("id", 3L));
+
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(), new TargetMetadataCache(0));
+        WriteTaskDeliveryResult result = writer.write(task, targetConnection, rows);
+
+        assertThat(result.successCount()).isEqualTo(3L);
+        assertThat(result.details())
+                .containsEntry("rowCountMode", "BATCH")
+                .containsEntry("rowDelta", 3L)
+                .doesNotContainKeys("beforeWriteRowCount", "afterWriteRowCount");
+        verify(dialect, never()).countRows(any(), any(), anyString());
+        verify(dialect, never()).estimateRowCount(any(), any(), anyString());
+
+        task.setTargetConfigJson("{\"rowCountMode\":\"ESTIMATE\"}");
+        when(statement.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1});
+        when(dialect.estimateRowCount(connection, targetConnection, "orders")).thenReturn(500_000_000L);
+
+        WriteTaskDeliveryResult estimated = writer.write(task, targetConnection, rows);
+
+        assertThat(estimated.details())
+                .containsEntry("rowCountMode", "ESTIMATE")
+                .containsEntry("beforeWriteRowCount", 500_000_000L)
+                .containsEntry("afterWriteRowCount", 500_000_003L)
+                .containsEntry("rowDelta", 3L);
+        verify(dialect, never()).countRows(any(), any(), anyString());
+    }
+
     @Test
     void write_shouldUseActualPostgresqlJsonbTypeFromExistingTableWhenStoredTaskTypeIsOutdated() throws Exception {
         ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
@@ -127,10 +197,421 @@ class WriteTaskJdbcWriterTest {
         when(connection.prepareStatement("INSERT INTO synthetic_user_activity (profile) VALUES (CAST(? AS JSONB))"))
                 .thenReturn(statement);
 
-        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper());
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(), new TargetMetadataCache(0));
         writer.write(task, targetConnection, List.of(Map.of("profile", "plain-text")));
 
         verify(statement).setObject(1, "\"plain-text\"", Types.OTHER);
         verify(connection).commit();
     }
+
+    @Test
+    void write_shouldStreamRowsThroughPostgresqlCopyWhenSelected() throws Exception {
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        CopyIn copyIn = mock(CopyIn.class);
+        ByteArrayOutputStream copied = new ByteArrayOutputStream();
+
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDbType(DatabaseType.POSTGRESQL);
+
+        WriteTask task = new WriteTask();
+        task.setTableName("public.orders");
+        task.setTableMode(TableMode.CREATE_IF_MISSING);
+        task.setWriteMode(WriteMode.APPEND);
+        task.setBatchSize(1);
+        task.setTargetConfigJson("{\"loadStrategy\":\"COPY\"}");
+        task.setColumns(List.of(
+                column("id", "BIGINT"),
+                column("note", "VARCHAR"),
+                column("profile", "JSONB"),
+                column("order_date", "DATE")
+        ));
+
+        when(jdbcSupport.open(any())).thenReturn(connection);
+        when(jdbcSupport.dialect(DatabaseType.POSTGRESQL)).thenReturn(dialect);
+        when(dialect.countRows(connection, targetConnection, "public.orders")).thenReturn(0L, 2L);
+        when(dialect.buildBulkLoadSql(targetConnection, "public.orders", task.getColumns()))
+                .thenReturn("COPY orders (id, note, profile, order_date) FROM STDIN");
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn("COPY orders (id, note, profile, order_date) FROM STDIN")).thenReturn(copyIn);
+        doAnswer(invocation -> {
+            copied.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("id", 2L);
+        second.put("note", null);
+        second.put("profile", null);
+        second.put("order_date", "2024-03-05T10:00:00");
+
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(
+                jdbcSupport,
+                new ObjectMapper(),
+                List.of(new WriteTaskPostgresqlCopyLoader(jdbcSupport, new ObjectMapper())),
+                new TargetMetadataCache(0)
+        );
+        WriteTaskDeliveryResult result = writer.write(task, targetConnection, List.of(
+                Map.of("id", 1L, "note", "tab\there\\", "profile", Map.of("vip", true), "order_date", "2024-03-04"),
+                second
+        ));
+
+        assertThat(copied.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "1\ttab\\there\\\\\t{\"vip\":true}\t2024-03-04\n"
+                        + "2\t\\N\t\\N\t2024-03-05\n"
+        );
+        verify(copyIn, times(2)).flushCopy();
+        verify(copyIn).endCopy();
+        verify(connection, never()).prepareStatement(anyString());
+        assertThat(result.successCount()).isEqualTo(2L);
+        assertThat(result.details()).containsEntry("loadStrategy", "COPY");
+    }
+
+    private WriteTaskColumn column(String name, String dbType) {
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName(name);
+        column.setDbType(dbType);
+        column.setNullableFlag(true);
+        column.setGeneratorType(ColumnGeneratorType.STRING);
+        return column;
+    }
+
+    @Test
+    void write_shouldSplitRowsAcrossParallelConnectionsWhenParallelStrategySelected() throws Exception {
+        String url = "jdbc:h2:mem:parallel_writer_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+        try (Connection setup = DriverManager.getConnection(url);
+             Statement statement = setup.createStatement()) {
+            statement.execute("CREATE TABLE parallel_orders (id BIGINT PRIMARY KEY)");
+        }
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDbType(DatabaseType.MYSQL);
+        targetConnection.setConfigJson("{\"maxParallelWriters\":3}");
+
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName("id");
+        column.setDbType("BIGINT");
+        WriteTask task = new WriteTask();
+        task.setTableName("parallel_orders");
+        task.setTableMode(TableMode.USE_EXISTING);
+        task.setWriteMode(WriteMode.APPEND);
+        task.setBatchSize(7);
+        task.setTargetConfigJson("{\"writeStrategy\":\"PARALLEL\",\"parallelWriters\":8,\"commitEveryRows\":20,\"rowCountMode\":\"EXACT\"}");
+        task.setColumns(List.of(column));
+
+        Set<String> writerThreads = ConcurrentHashMap.newKeySet();
+        when(jdbcSupport.open(any())).thenAnswer(invocation -> {
+            writerThreads.add(Thread.currentThread().getName());
+            return DriverManager.getConnection(url);
+        });
+        when(jdbcSupport.dialect(DatabaseType.MYSQL)).thenReturn(dialect);
+        when(dialect.buildInsertSql(targetConnection, "parallel_orders", task.getColumns()))
+                .thenReturn("INSERT INTO parallel_orders (id) VALUES (?)");
+        when(dialect.countRows(any(), any(), anyString())).thenAnswer(invocation -> {
+            Connection connection = invocation.getArgument(0);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM parallel_orders")) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+
+        long[] nextId = {0};
+        WriteTaskRowStream rows = WriteTaskRowStream.of(100, () -> {
+            if (nextId[0] >= 100) {
+                return null;
+            }
+            List<Map<String, Object>> chunk = new ArrayList<>();
+            for (int index = 0; index < 10; index++) {
+                chunk.add(Map.of("id", ++nextId[0]));
+            }
+            return WriteTaskRowBatch.fromRows(chunk);
+        });
+
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(), new TargetMetadataCache(0));
+        WriteTaskDeliveryResult result = writer.write(task, targetConnection, rows, 42L);
+
+        assertThat(result.successCount()).isEqualTo(100L);
+        assertThat(result.details())
+                .containsEntry("writeStrategy", "PARALLEL")
+                .containsEntry("parallelWriters", 3)
+                .containsEntry("afterWriteRowCount", 100L);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> partitions = (List<Map<String, Object>>) result.details().get("partitions");
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.stream().mapToLong(partition -> (Long) partition.get("writtenRowCount")).sum()).isEqualTo(100L);
+        assertThat(writerThreads).contains("mdg-jdbc-42-0", "mdg-jdbc-42-1", "mdg-jdbc-42-2");
+        try (Connection verify = DriverManager.getConnection(url);
+             Statement statement = verify.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(DISTINCT id), MAX(id) FROM parallel_orders")) {
+            resultSet.next();
+            assertThat(resultSet.getLong(1)).isEqualTo(100L);
+            assertThat(resultSet.getLong(2)).isEqualTo(100L);
+        }
+    }
+
+    @Test
+    void write_shouldCommitEveryNBatchesAndResumeFromCheckpoint() throws Exception {
+        String url = "jdbc:h2:mem:checkpoint_writer_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+        try (Connection setup = DriverManager.getConnection(url);
+             Statement statement = setup.createStatement()) {
+            statement.execute("CREATE TABLE checkpoint_orders (id BIGINT PRIMARY KEY)");
+        }
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDbType(DatabaseType.MYSQL);
+
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName("id");
+        column.setDbType("BIGINT");
+        WriteTask task = new WriteTask();
+        task.setTableName("checkpoint_orders");
+        task.setTableMode(TableMode.USE_EXISTING);
+        task.setWriteMode(WriteMode.OVERWRITE);
+        task.setBatchSize(4);
+        task.setTargetConfigJson("{\"writeStrategy\":\"CHECKPOINT\",\"commitEveryBatches\":3,\"rowCountMode\":\"EXACT\"}");
+        task.setColumns(List.of(column));
+
+        when(jdbcSupport.open(any())).thenAnswer(invocation -> DriverManager.getConnection(url));
+        when(jdbcSupport.dialect(DatabaseType.MYSQL)).thenReturn(dialect);
+        when(dialect.buildInsertSql(targetConnection, "checkpoint_orders", task.getColumns()))
+                .thenReturn("INSERT INTO checkpoint_orders (id) VALUES (?)");
+        when(dialect.countRows(any(), any(), anyString())).thenAnswer(invocation -> {
+            Connection connection = invocation.getArgument(0);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM checkpoint_orders")) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(), new TargetMetadataCache(0));
+        List<String> checkpoints = new ArrayList<>();
+        WriteTaskCheckpoint firstRun = new WriteTaskCheckpoint(0, 0,
+                (chunkIndex, rowCount) -> checkpoints.add(chunkIndex + ":" + rowCount));
+
+        assertThatThrownBy(() -> writer.write(task, targetConnection, idChunks(1, 100, 70), 7L, firstRun))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("generator failed");
+        assertThat(checkpoints).containsExactly("0:0", "3:30", "6:60");
+        assertThat(countRows(url, "checkpoint_orders")).isEqualTo(60L);
+        verify(dialect, times(1)).clearTargetTable(any(), eq(targetConnection), eq("checkpoint_orders"));
+
+        WriteTaskCheckpoint resumed = new WriteTaskCheckpoint(6, 60,
+                (chunkIndex, rowCount) -> checkpoints.add(chunkIndex + ":" + rowCount));
+        WriteTaskDeliveryResult result = writer.write(task, targetConnection, idChunks(61, 100, -1), 8L, resumed);
+
+        assertThat(result.successCount()).isEqualTo(40L);
+        assertThat(result.details())
+                .containsEntry("writeStrategy", "CHECKPOINT")
+                .containsEntry("commitCount", 2)
+                .containsEntry("resumedFromRowCount", 60L)
+                .containsEntry("checkpointChunkIndex", 10L)
+                .containsEntry("checkpointRowCount", 100L)
+                .containsEntry("afterWriteRowCount", 100L);
+        assertThat(checkpoints).endsWith("6:60", "9:90", "10:100");
+        assertThat(countRows(url, "checkpoint_orders")).isEqualTo(100L);
+        verify(dialect, times(1)).clearTargetTable(any(), eq(targetConnection), eq("checkpoint_orders"));
+    }
+
+    @Test
+    void write_shouldCheckpointConsumedRowsWhenLoaderReportsFewerAffectedRows() throws Exception {
+        String url = "jdbc:h2:mem:checkpoint_loader_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+        try (Connection setup = DriverManager.getConnection(url);
+             Statement statement = setup.createStatement()) {
+            statement.execute("CREATE TABLE loader_orders (id BIGINT PRIMARY KEY)");
+        }
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        WriteTaskBulkLoader loader = mock(WriteTaskBulkLoader.class);
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDbType(DatabaseType.MYSQL);
+
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName("id");
+        column.setDbType("BIGINT");
+        WriteTask task = new WriteTask();
+        task.setTableName("loader_orders");
+        task.setTableMode(TableMode.USE_EXISTING);
+        task.setWriteMode(WriteMode.APPEND);
+        task.setBatchSize(10);
+        task.setTargetConfigJson("{\"writeStrategy\":\"CHECKPOINT\",\"commitEveryBatches\":2,\"loadStrategy\":\"LOAD_DATA\"}");
+        task.setColumns(List.of(column));
+
+        when(jdbcSupport.open(any())).thenAnswer(invocation -> DriverManager.getConnection(url));
+        when(jdbcSupport.dialect(DatabaseType.MYSQL)).thenReturn(dialect);
+        when(loader.strategy()).thenReturn("LOAD_DATA");
+        when(loader.supports(DatabaseType.MYSQL)).thenReturn(true);
+        when(loader.load(any(), eq(targetConnection), eq(task), eq("loader_orders"), any(), any())).thenAnswer(invocation -> {
+            WriteTaskRowStream rows = invocation.getArgument(5);
+            long consumed = 0;
+            while (rows.hasNext()) {
+                consumed += rows.next().size();
+            }
+            return consumed - 3;
+        });
+
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(loader), new TargetMetadataCache(0));
+        List<String> checkpoints = new ArrayList<>();
+        WriteTaskCheckpoint checkpoint = new WriteTaskCheckpoint(0, 0,
+                (chunkIndex, rowCount) -> checkpoints.add(chunkIndex + ":" + rowCount));
+        WriteTaskDeliveryResult result = writer.write(task, targetConnection, idChunks(1, 40, -1), 10L, checkpoint);
+
+        assertThat(result.successCount()).isEqualTo(34L);
+        assertThat(checkpoints).containsExactly("0:0", "2:20", "4:40");
+        assertThat(result.details()).containsEntry("checkpointRowCount", 40L);
+    }
+
+    @Test
+    void write_shouldCommitStreamRunsOnBoundedInterval() throws Exception {
+        String url = "jdbc:h2:mem:stream_writer_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+        try (Connection setup = DriverManager.getConnection(url);
+             Statement statement = setup.createStatement()) {
+            statement.execute("CREATE TABLE stream_orders (id BIGINT PRIMARY KEY)");
+        }
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDbType(DatabaseType.MYSQL);
+
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName("id");
+        column.setDbType("BIGINT");
+        WriteTask task = new WriteTask();
+        task.setTableName("stream_orders");
+        task.setTableMode(TableMode.USE_EXISTING);
+        task.setWriteMode(WriteMode.APPEND);
+        task.setScheduleType(WriteTaskScheduleType.STREAM);
+        task.setBatchSize(10);
+        task.setTargetConfigJson("{\"commitIntervalSeconds\":1,\"stream\":{\"targetRowsPerSecond\":10}}");
+        task.setColumns(List.of(column));
+
+        when(jdbcSupport.open(any())).thenAnswer(invocation -> DriverManager.getConnection(url));
+        when(jdbcSupport.dialect(DatabaseType.MYSQL)).thenReturn(dialect);
+        when(dialect.buildInsertSql(targetConnection, "stream_orders", task.getColumns()))
+                .thenReturn("INSERT INTO stream_orders (id) VALUES (?)");
+
+        WriteTaskRowStream source = idChunks(1, 30, -1);
+        long[] visibleBeforeLastChunk = {-1};
+        int[] chunks = {0};
+        WriteTaskRowStream paced = WriteTaskRowStream.of(30, () -> {
+            if (!source.hasNext()) {
+                return null;
+            }
+            chunks[0]++;
+            try {
+                if (chunks[0] == 2) {
+                    Thread.sleep(1100);
+                }
+                if (chunks[0] == 3) {
+                    visibleBeforeLastChunk[0] = countRows(url, "stream_orders");
+                }
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+            return source.next();
+        });
+
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(), new TargetMetadataCache(0));
+        WriteTaskDeliveryResult result = writer.write(task, targetConnection, paced, 9L);
+
+        assertThat(result.successCount()).isEqualTo(30L);
+        assertThat(result.details())
+                .containsEntry("commitIntervalSeconds", 1)
+                .containsEntry("commitCount", 2);
+        assertThat(visibleBeforeLastChunk[0]).isEqualTo(20L);
+        assertThat(countRows(url, "stream_orders")).isEqualTo(30L);
+    }
+
+    @Test
+    void write_shouldLoadStagingTableAndSwapItInWhenSwapOverwriteSelected() throws Exception {
+        String url = "jdbc:h2:mem:swap_writer_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+        try (Connection setup = DriverManager.getConnection(url);
+             Statement statement = setup.createStatement()) {
+            statement.execute("CREATE TABLE swap_orders (id BIGINT PRIMARY KEY)");
+            statement.execute("INSERT INTO swap_orders (id) VALUES (1001), (1002), (1003)");
+        }
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        TargetConnection targetConnection = new TargetConnection();
+        targetConnection.setDbType(DatabaseType.POSTGRESQL);
+
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName("id");
+        column.setDbType("BIGINT");
+        WriteTask task = new WriteTask();
+        task.setTableName("swap_orders");
+        task.setTableMode(TableMode.USE_EXISTING);
+        task.setWriteMode(WriteMode.OVERWRITE);
+        task.setBatchSize(7);
+        task.setTargetConfigJson("{\"overwriteMode\":\"SWAP\"}");
+        task.setColumns(List.of(column));
+
+        when(jdbcSupport.open(any())).thenAnswer(invocation -> DriverManager.getConnection(url));
+        when(jdbcSupport.dialect(DatabaseType.POSTGRESQL)).thenReturn(dialect);
+        when(dialect.createStagingTable(any(), eq(targetConnection), eq("swap_orders"))).thenAnswer(invocation -> {
+            Connection connection = invocation.getArgument(0);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE swap_orders_mdg_stage (id BIGINT PRIMARY KEY)");
+            }
+            return "swap_orders_mdg_stage";
+        });
+        when(dialect.buildInsertSql(targetConnection, "swap_orders_mdg_stage", task.getColumns()))
+                .thenReturn("INSERT INTO swap_orders_mdg_stage (id) VALUES (?)");
+        long[] visibleDuringLoad = {-1};
+        doAnswer(invocation -> {
+            visibleDuringLoad[0] = countRows(url, "swap_orders");
+            Connection connection = invocation.getArgument(0);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE swap_orders RENAME TO swap_orders_mdg_retired");
+                statement.execute("ALTER TABLE swap_orders_mdg_stage RENAME TO swap_orders");
+                statement.execute("DROP TABLE swap_orders_mdg_retired");
+            }
+            return null;
+        }).when(dialect).swapStagingTable(any(), eq(targetConnection), eq("swap_orders"), eq("swap_orders_mdg_stage"));
+
+        WriteTaskJdbcWriter writer = new WriteTaskJdbcWriter(jdbcSupport, new ObjectMapper(), List.of(), new TargetMetadataCache(0));
+        WriteTaskDeliveryResult result = writer.write(task, targetConnection, idChunks(1, 20, 0), 55L);
+
+        assertThat(result.successCount()).isEqualTo(20L);
+        assertThat(result.details())
+                .containsEntry("overwriteMode", "SWAP")
+                .containsEntry("afterWriteRowCount", 20L);
+        assertThat(visibleDuringLoad[0]).isEqualTo(3L);
+        assertThat(countRows(url, "swap_orders")).isEqualTo(20L);
+        verify(dialect, never()).clearTargetTable(any(), any(), anyString());
+        verify(dialect, never()).truncateTargetTable(any(), any(), anyString());
+    }
+
+    private WriteTaskRowStream idChunks(long firstId, long lastId, long failAfterId) {
+        long[] nextId = {firstId};
+        return WriteTaskRowStream.of(lastId - firstId + 1, () -> {
+            if (nextId[0] > lastId) {
+                return null;
+            }
+            if (failAfterId > 0 && nextId[0] > failAfterId) {
+                throw new IllegalStateException("generator failed");
+            }
+            List<Map<String, Object>> chunk = new ArrayList<>();
+            for (int index = 0; index < 10; index++) {
+                chunk.add(Map.of("id", nextId[0]++));
+            }
+            return WriteTaskRowBatch.fromRows(chunk);
+        });
+    }
+
+    private long countRows(String url, String tableName) throws Exception {
+        try (Connection verify = DriverManager.getConnection(url);
+             Statement statement = verify.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskKafkaAvroPayloadSerializerTest {
+
+    private static final String PAYLOAD_SCHEMA = """
+            {
+              "type": "OBJECT",
+              "children": [
+                {"type": "SCALAR", "name": "id", "valueType": "LONG", "generatorType": "SEQUENCE"},
+                {"type": "SCALAR", "name": "name", "valueType": "STRING", "generatorType": "STRING", "nullable": true},
+                {"type": "SCALAR", "name": "amount", "valueType": "DECIMAL", "generatorType": "RANDOM_DECIMAL"},
+                {
+                  "type": "ARRAY",
+                  "name": "tags",
+                  "itemSchema": {"type": "SCALAR", "valueType": "STRING", "generatorType": "STRING"}
+                }
+              ]
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KafkaPayloadSchemaService payloadSchemaService = new KafkaPayloadSchemaService(objectMapper);
+
+    @Test
+    void serialize_shouldWriteAvroBinaryEncoding() {
+        KafkaPayloadSchemaNode schema = payloadSchemaService.parseAndValidate(PAYLOAD_SCHEMA);
+        WriteTaskKafkaAvroPayloadSerializer serializer = new WriteTaskKafkaAvroPayloadSerializer(schema);
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1L);
+        row.put("name", null);
+        row.put("amount", new BigDecimal("12.5"));
+        row.put("tags", List.of("a"));
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(List.of(row));
+
+        byte[] payload = serializer.serialize(batch, 0);
+
+        assertThat(payload).containsExactly(0x02, 0x00, 0x04, 0x04, 0xE2, 0x02, 0x02, 0x61, 0x00);
+        assertThat(serializer.format()).isEqualTo("AVRO");
+    }
+
+    @Test
+    void serialize_shouldRejectNullForNonNullableField() {
+        KafkaPayloadSchemaNode schema = payloadSchemaService.parseAndValidate(PAYLOAD_SCHEMA);
+        WriteTaskKafkaAvroPayloadSerializer serializer = new WriteTaskKafkaAvroPayloadSerializer(schema);
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", null);
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(List.of(row));
+
+        assertThatThrownBy(() -> serializer.serialize(batch, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("id");
+    }
+
+    @Test
+    void describe_shouldDeriveMatchingAvroRecordSchema() throws Exception {
+        KafkaAvroSchemaService avroSchemaService = new KafkaAvroSchemaService(payloadSchemaService, null, objectMapper);
+
+        var response = avroSchemaService.describe(PAYLOAD_SCHEMA);
+        var schema = objectMapper.readTree(response.avroSchemaJson());
+
+        assertThat(response.payloadFormat()).isEqualTo("AVRO");
+        assertThat(response.fingerprint()).hasSize(16);
+        assertThat(schema.path("name").asText()).isEqualTo("Payload");
+        assertThat(schema.path("namespace").asText()).isEqualTo("com.datagenerator.kafka");
+        assertThat(Arrays.asList(
+                schema.path("fields").get(0).path("type").asText(),
+                schema.path("fields").get(1).path("type").get(0).asText(),
+                schema.path("fields").get(2).path("type").path("logicalType").asText(),
+                schema.path("fields").get(3).path("type").path("items").asText()
+        )).containsExactly("long", "null", "decimal", "string");
+        assertThat(schema.path("fields").get(2).path("type").path("scale").asInt()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,87 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datagenerator.task.domain.KafkaPayloadSchemaNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskKafkaJsonPayloadSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void serialize_shouldWriteSchemaDrivenPayloadBytesMatchingObjectMapperOutput() throws Exception {
+        KafkaPayloadSchemaNode schema = new KafkaPayloadSchemaService(objectMapper).parseAndValidate("""
+                {
+                  "type": "OBJECT",
+                  "children": [
+                    {
+                      "type": "OBJECT",
+                      "name": "order",
+                      "children": [
+                        {"type": "SCALAR", "name": "id", "valueType": "STRING", "generatorType": "UUID"},
+                        {"type": "SCALAR", "name": "amount", "valueType": "DECIMAL", "generatorType": "RANDOM_DECIMAL"},
+                        {"type": "SCALAR", "name": "paid", "valueType": "BOOLEAN", "generatorType": "BOOLEAN", "nullable": true}
+                      ]
+                    },
+                    {
+                      "type": "ARRAY",
+                      "name": "items",
+                      "itemSchema": {
+                        "type": "OBJECT",
+                        "children": [
+                          {"type": "SCALAR", "name": "sku", "valueType": "STRING", "generatorType": "STRING"},
+                          {"type": "SCALAR", "name": "qty", "valueType": "INT", "generatorType": "RANDOM_INT"}
+                        ]
+                      }
+                    }
+                  ]
+                }
+                """);
+        WriteTaskKafkaJsonPayloadSerializer serializer = new WriteTaskKafkaJsonPayloadSerializer(objectMapper, schema);
+
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("id", "ord-\"1\"");
+        order.put("amount", new BigDecimal("12.50"));
+        order.put("paid", null);
+        order.put("channel", "relation-enriched");
+        List<Map<String, Object>> rows = List.of(
+                row(order, List.of(Map.of("sku", "sku-1", "qty", 2))),
+                row(Map.of("id", "ord-2", "amount", new BigDecimal("3"), "paid", true), List.of())
+        );
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(rows);
+
+        for (int row = 0; row < rows.size(); row++) {
+            byte[] payload = serializer.serialize(batch, row);
+
+            assertThat(new String(payload, StandardCharsets.UTF_8))
+                    .isEqualTo(objectMapper.writeValueAsString(batch.rowView(row)));
+        }
+    }
+
+    @Test
+    void serialize_shouldWriteColumnarRowsWithoutPayloadSchema() throws Exception {
+        WriteTaskKafkaJsonPayloadSerializer serializer = new WriteTaskKafkaJsonPayloadSerializer(objectMapper, null);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", 7L);
+        values.put("name", "名称");
+        values.put("note", null);
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(List.of(values));
+
+        assertThat(new String(serializer.serialize(batch, 0), StandardCharsets.UTF_8))
+                .isEqualTo("{\"id\":7,\"name\":\"名称\",\"note\":null}");
+    }
+
+    private Map<String, Object> row(Map<String, Object> order, List<Map<String, Object>> items) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("order", order);
+        row.put("items", items);
+        return row;
+    }
+}
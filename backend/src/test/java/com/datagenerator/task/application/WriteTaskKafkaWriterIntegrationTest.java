@@ -3,6 +3,7 @@ package com.datagenerator.task.application;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.datagenerator.connection.application.KafkaConnectionSupport;
+import com.datagenerator.connection.application.KafkaProducerPoolManager;
 import com.datagenerator.connection.application.TargetConnectionSecretCodec;
 import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
@@ -13,6 +14,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -34,6 +37,10 @@ import org.springframework.kafka.test.utils.KafkaTestUtils;
 class WriteTaskKafkaWriterIntegrationTest {
 
     private static final EmbeddedKafkaKraftBroker BROKER = new EmbeddedKafkaKraftBroker(1, 1);
+    private static final KafkaConnectionSupport KAFKA_CONNECTION_SUPPORT =
+            new KafkaConnectionSupport(new TargetConnectionSecretCodec("test-secret-key"));
+    private static final KafkaProducerPoolManager PRODUCER_POOL =
+            new KafkaProducerPoolManager(KAFKA_CONNECTION_SUPPORT, 300_000L);
 
     @BeforeAll
     static void startBroker() {
@@ -42,6 +49,7 @@ class WriteTaskKafkaWriterIntegrationTest {
 
     @AfterAll
     static void stopBroker() {
+        PRODUCER_POOL.destroy();
         BROKER.destroy();
     }
 
@@ -52,7 +60,9 @@ class WriteTaskKafkaWriterIntegrationTest {
 
         ObjectMapper objectMapper = new ObjectMapper();
         WriteTaskKafkaWriter writer = new WriteTaskKafkaWriter(
-                new KafkaConnectionSupport(new TargetConnectionSecretCodec("test-secret-key")),
+                KAFKA_CONNECTION_SUPPORT,
+                PRODUCER_POOL,
+                new KafkaPayloadSchemaService(objectMapper),
                 objectMapper
         );
 
@@ -125,6 +135,7 @@ class WriteTaskKafkaWriterIntegrationTest {
                 assertThat(record.key()).startsWith("evt-");
                 assertThat(headerValue(record, "source")).isEqualTo("mdg");
                 assertThat(headerValue(record, "env")).isEqualTo("test");
+                assertThat(headerValue(record, "mdg-execution-id")).isEqualTo("99");
             });
 
             List<Map<String, Object>> payloads = recordList.stream()
@@ -143,7 +154,9 @@ class WriteTaskKafkaWriterIntegrationTest {
 
         ObjectMapper objectMapper = new ObjectMapper();
         WriteTaskKafkaWriter writer = new WriteTaskKafkaWriter(
-                new KafkaConnectionSupport(new TargetConnectionSecretCodec("test-secret-key")),
+                KAFKA_CONNECTION_SUPPORT,
+                PRODUCER_POOL,
+                new KafkaPayloadSchemaService(objectMapper),
                 objectMapper
         );
 
@@ -212,7 +225,9 @@ class WriteTaskKafkaWriterIntegrationTest {
 
         ObjectMapper objectMapper = new ObjectMapper();
         WriteTaskKafkaWriter writer = new WriteTaskKafkaWriter(
-                new KafkaConnectionSupport(new TargetConnectionSecretCodec("test-secret-key")),
+                KAFKA_CONNECTION_SUPPORT,
+                PRODUCER_POOL,
+                new KafkaPayloadSchemaService(objectMapper),
                 objectMapper
         );
 
@@ -288,6 +303,92 @@ class WriteTaskKafkaWriterIntegrationTest {
         }
     }
 
+    @Test
+    void write_shouldFanOutAcrossPartitionsWithParallelProducersPreservingKeyOrder() throws Exception {
+        String topic = "mdg.kafka.writer.fanout." + UUID.randomUUID();
+        createTopic(topic, 6);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        WriteTaskKafkaWriter writer = new WriteTaskKafkaWriter(
+                KAFKA_CONNECTION_SUPPORT,
+                PRODUCER_POOL,
+                new KafkaPayloadSchemaService(objectMapper),
+                objectMapper
+        );
+
+        TargetConnection connection = new TargetConnection();
+        connection.setId(41L);
+        connection.setName("Embedded Kafka Fan-out");
+        connection.setDbType(DatabaseType.KAFKA);
+        connection.setHost("127.0.0.1");
+        connection.setPort(9092);
+        connection.setDatabaseName("kafka");
+        connection.setUsername("");
+        connection.setPasswordValue("");
+        connection.setConfigJson("""
+                {
+                  "bootstrapServers": "%s",
+                  "acks": "all"
+                }
+                """.formatted(BROKER.getBrokersAsString()).trim());
+
+        WriteTask task = new WriteTask();
+        task.setConnectionId(41L);
+        task.setName("Kafka Fan-out");
+        task.setTableName(topic);
+        task.setTableMode(TableMode.CREATE_IF_MISSING);
+        task.setWriteMode(WriteMode.APPEND);
+        task.setBatchSize(50);
+        task.setRowCount(120);
+        task.setTargetConfigJson("""
+                {
+                  "payloadFormat": "JSON",
+                  "keyMode": "FIELD",
+                  "keyField": "device_id",
+                  "producerThreads": 3
+                }
+                """);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int index = 0; index < 120; index++) {
+            rows.add(Map.of("device_id", "device-" + (index % 12), "seq", index));
+        }
+
+        WriteTaskDeliveryResult result = writer.write(task, connection, rows, 7L);
+
+        assertThat(result.successCount()).isEqualTo(120L);
+        assertThat(result.errorCount()).isZero();
+        assertThat(result.details())
+                .containsEntry("producerThreads", 3)
+                .containsEntry("partitionCount", 6);
+        assertThat(PRODUCER_POOL.stats())
+                .filteredOn(stats -> stats.connectionId().equals(41L))
+                .hasSize(3);
+
+        try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(consumerProperties())) {
+            consumer.subscribe(List.of(topic));
+            List<ConsumerRecord<String, String>> recordList = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + 20_000;
+            while (recordList.size() < 120 && System.currentTimeMillis() < deadline) {
+                consumer.poll(Duration.ofMillis(500)).forEach(recordList::add);
+            }
+
+            assertThat(recordList).hasSize(120);
+            Map<String, Integer> lastSeqByKey = new HashMap<>();
+            for (ConsumerRecord<String, String> record : recordList) {
+                assertThat(record.partition())
+                        .isEqualTo(WriteTaskKafkaPartitionFanOut.partitionForKey(record.key(), 6));
+                int seq = ((Number) readPayload(record.value(), objectMapper).get("seq")).intValue();
+                Integer previous = lastSeqByKey.put(record.key(), seq);
+                if (previous != null) {
+                    assertThat(seq).isGreaterThan(previous);
+                }
+            }
+            assertThat(lastSeqByKey).hasSize(12);
+        }
+        PRODUCER_POOL.invalidate(41L);
+    }
+
     private static void createTopic(String topic, int partitions) throws Exception {
         Properties properties = new Properties();
         properties.put("bootstrap.servers", BROKER.getBrokersAsString());
@@ -0,0 +1,133 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.dialect.MysqlDatabaseDialect;
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.connection.domain.TargetConnection;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskMysqlLoadDataLoaderTest {
+
+    @Test
+    void load_shouldStreamBatchesThroughLoadDataWhenLocalInfileIsEnabled() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        JdbcStatement mysqlStatement = mock(JdbcStatement.class);
+        ResultSet localInfile = mock(ResultSet.class);
+        List<String> streamed = new ArrayList<>();
+        mockLocalInfileProperty(connection, true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT @@GLOBAL.local_infile")).thenReturn(localInfile);
+        when(localInfile.next()).thenReturn(true);
+        when(localInfile.getBoolean(1)).thenReturn(true);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(mysqlStatement);
+        doAnswer(invocation -> {
+            InputStream stream = invocation.getArgument(0);
+            if (stream != null) {
+                streamed.add(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            return null;
+        }).when(mysqlStatement).setLocalInfileInputStream(any());
+        when(statement.executeUpdate(startsWith("LOAD DATA LOCAL INFILE"))).thenReturn(2);
+
+        long written = loader().load(connection, targetConnection(), task(), task().getTableName(), task().getColumns(), WriteTaskRowStream.of(List.of(
+                Map.of("id", 1L, "name", "a\tb", "active", true),
+                Map.of("id", 2L, "name", "c", "active", false)
+        )));
+
+        assertThat(written).isEqualTo(2L);
+        assertThat(streamed).containsExactly("1\ta\\tb\t1\n2\tc\t0\n");
+    }
+
+    @Test
+    void load_shouldFallBackToMultiRowInsertsSizedByMaxAllowedPacket() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet packetSize = mock(ResultSet.class);
+        PreparedStatement fullStatement = mock(PreparedStatement.class);
+        PreparedStatement tailStatement = mock(PreparedStatement.class);
+        mockLocalInfileProperty(connection, false);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT @@max_allowed_packet")).thenReturn(packetSize);
+        when(packetSize.next()).thenReturn(true);
+        when(packetSize.getLong(1)).thenReturn(80L);
+        when(connection.prepareStatement(
+                "INSERT INTO `demo_sink`.`orders` (`id`, `name`, `active`) VALUES (?, ?, ?), (?, ?, ?)"
+        )).thenReturn(fullStatement);
+        when(connection.prepareStatement(
+                "INSERT INTO `demo_sink`.`orders` (`id`, `name`, `active`) VALUES (?, ?, ?)"
+        )).thenReturn(tailStatement);
+        when(fullStatement.executeUpdate()).thenReturn(2);
+        when(tailStatement.executeUpdate()).thenReturn(1);
+
+        long written = loader().load(connection, targetConnection(), task(), task().getTableName(), task().getColumns(), WriteTaskRowStream.of(List.of(
+                Map.of("id", 1L, "name", "a", "active", true),
+                Map.of("id", 2L, "name", "b", "active", true),
+                Map.of("id", 3L, "name", "c", "active", false)
+        )));
+
+        assertThat(written).isEqualTo(3L);
+        verify(fullStatement).setLong(4, 2L);
+        verify(fullStatement).executeUpdate();
+        verify(tailStatement).setLong(1, 3L);
+        verify(tailStatement).executeUpdate();
+    }
+
+    private void mockLocalInfileProperty(Connection connection, boolean enabled) throws Exception {
+        JdbcConnection mysqlConnection = mock(JdbcConnection.class, RETURNS_DEEP_STUBS);
+        when(connection.unwrap(JdbcConnection.class)).thenReturn(mysqlConnection);
+        when(mysqlConnection.getPropertySet().getBooleanProperty(PropertyKey.allowLoadLocalInfile).getValue()).thenReturn(enabled);
+    }
+
+    private WriteTaskMysqlLoadDataLoader loader() {
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        when(jdbcSupport.dialect(DatabaseType.MYSQL)).thenReturn(new MysqlDatabaseDialect());
+        return new WriteTaskMysqlLoadDataLoader(jdbcSupport, new ObjectMapper());
+    }
+
+    private TargetConnection targetConnection() {
+        TargetConnection connection = new TargetConnection();
+        connection.setDbType(DatabaseType.MYSQL);
+        connection.setDatabaseName("demo_sink");
+        return connection;
+    }
+
+    private WriteTask task() {
+        WriteTask task = new WriteTask();
+        task.setTableName("orders");
+        task.setBatchSize(500);
+        task.setColumns(List.of(column("id", "BIGINT"), column("name", "VARCHAR"), column("active", "BOOLEAN")));
+        return task;
+    }
+
+    private WriteTaskColumn column(String name, String dbType) {
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName(name);
+        column.setDbType(dbType);
+        return column;
+    }
+}
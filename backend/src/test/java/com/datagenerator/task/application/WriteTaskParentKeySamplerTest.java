@@ -0,0 +1,100 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datagenerator.connection.application.ConnectionJdbcSupport;
+import com.datagenerator.connection.application.dialect.DatabaseDialect;
+import com.datagenerator.connection.domain.DatabaseType;
+import com.datagenerator.connection.domain.TargetConnection;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskParentKeySamplerTest {
+
+    @Test
+    void sample_shouldBoundFullScanWithReservoir() throws Exception {
+        DatabaseDialect dialect = dialect();
+        Connection jdbcConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = keyResultSet(10_000);
+        when(jdbcConnection.getAutoCommit()).thenReturn(true);
+        when(jdbcConnection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+
+        WriteTaskRelationCandidatePool pool = sampler(dialect, 500)
+                .sample(jdbcConnection, targetConnection(), "orders", List.of("id"), 42L);
+
+        assertThat(pool.size()).isEqualTo(500);
+        assertThat(pool.primitiveColumn(0)).isTrue();
+        Set<Object> keys = new HashSet<>();
+        for (int candidate = 0; candidate < pool.size(); candidate++) {
+            keys.add(pool.value(candidate, 0));
+        }
+        assertThat(keys).hasSize(500);
+        assertThat(keys.stream().anyMatch(key -> (Long) key >= 500L)).isTrue();
+        verify(statement).setFetchSize(5_000);
+        verify(jdbcConnection).setAutoCommit(false);
+        verify(jdbcConnection).setAutoCommit(true);
+    }
+
+    @Test
+    void sample_shouldUseNativeTableSampleWhenEstimateExceedsSampleSize() throws Exception {
+        DatabaseDialect dialect = dialect();
+        when(dialect.estimateRowCount(any(), any(), anyString())).thenReturn(1_000_000L);
+        when(dialect.tableSampleClause(anyDouble(), anyLong())).thenReturn("TABLESAMPLE SYSTEM (0.1)");
+        Connection jdbcConnection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = keyResultSet(800);
+        when(jdbcConnection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(statement);
+        when(statement.executeQuery(contains("TABLESAMPLE SYSTEM (0.1) WHERE"))).thenReturn(resultSet);
+
+        WriteTaskRelationCandidatePool pool = sampler(dialect, 500)
+                .sample(jdbcConnection, targetConnection(), "orders", List.of("id"), 42L);
+
+        assertThat(pool.size()).isEqualTo(500);
+        verify(dialect).tableSampleClause(0.1D, 42L);
+    }
+
+    private WriteTaskParentKeySampler sampler(DatabaseDialect dialect, int sampleSize) {
+        ConnectionJdbcSupport jdbcSupport = mock(ConnectionJdbcSupport.class);
+        when(jdbcSupport.dialect(DatabaseType.POSTGRESQL)).thenReturn(dialect);
+        return new WriteTaskParentKeySampler(jdbcSupport, sampleSize, 5_000);
+    }
+
+    private DatabaseDialect dialect() {
+        DatabaseDialect dialect = mock(DatabaseDialect.class);
+        when(dialect.quoteIdentifier(anyString())).thenAnswer(invocation -> "\"" + invocation.getArgument(0) + "\"");
+        when(dialect.quoteQualifiedIdentifier(any(), anyString())).thenAnswer(invocation -> "\"" + invocation.getArgument(1) + "\"");
+        when(dialect.streamingFetchSize(anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
+        return dialect;
+    }
+
+    private TargetConnection targetConnection() {
+        TargetConnection connection = new TargetConnection();
+        connection.setDbType(DatabaseType.POSTGRESQL);
+        return connection;
+    }
+
+    private ResultSet keyResultSet(long rows) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        AtomicLong cursor = new AtomicLong(-1);
+        when(resultSet.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows);
+        when(resultSet.getObject(1)).thenAnswer(invocation -> cursor.get());
+        return resultSet;
+    }
+}
@@ -0,0 +1,143 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "mdg.benchmark", matches = "true")
+class WriteTaskPayloadPathBenchmarkTest {
+
+    private static final Pattern INDEXED_SEGMENT = Pattern.compile("^(.*)\\[(\\d+)]$");
+    private static final int ROWS = 2_000;
+    private static final int ROUNDS = 200;
+    private static final String KEY_PATH = "order.id";
+    private static final List<String> HEADER_PATHS = List.of("order.items[0].sku", "tenant", "order.items[].sku");
+
+    @Test
+    void measurePerRecordResolutionCost() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int index = 0; index < ROWS; index++) {
+            rows.add(row(index));
+        }
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(rows);
+
+        WriteTaskPayloadPath keyAccessor = WriteTaskPayloadPath.compile(KEY_PATH);
+        List<WriteTaskPayloadPath> headerAccessors = HEADER_PATHS.stream().map(WriteTaskPayloadPath::compile).toList();
+
+        long legacyChecksum = 0;
+        long compiledChecksum = 0;
+        for (int warmup = 0; warmup < ROUNDS; warmup++) {
+            legacyChecksum += runLegacy(batch);
+            compiledChecksum += runCompiled(batch, keyAccessor, headerAccessors);
+        }
+        assertThat(compiledChecksum).isEqualTo(legacyChecksum);
+
+        long legacyStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            legacyChecksum += runLegacy(batch);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long compiledStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            compiledChecksum += runCompiled(batch, keyAccessor, headerAccessors);
+        }
+        long compiledNanos = System.nanoTime() - compiledStart;
+
+        double records = (double) ROWS * ROUNDS;
+        System.out.printf(
+                "Kafka key/header resolution per record: legacy %.1f ns, compiled %.1f ns (checksum %d/%d)%n",
+                legacyNanos / records,
+                compiledNanos / records,
+                legacyChecksum,
+                compiledChecksum
+        );
+    }
+
+    private long runLegacy(WriteTaskRowBatch batch) {
+        long checksum = 0;
+        for (int rowIndex = 0; rowIndex < batch.size(); rowIndex++) {
+            Map<String, Object> row = batch.rowView(rowIndex);
+            checksum += String.valueOf(legacyResolve(row, KEY_PATH)).length();
+            for (String headerPath : HEADER_PATHS) {
+                checksum += String.valueOf(legacyResolve(row, headerPath)).length();
+            }
+        }
+        return checksum;
+    }
+
+    private long runCompiled(WriteTaskRowBatch batch, WriteTaskPayloadPath keyAccessor, List<WriteTaskPayloadPath> headerAccessors) {
+        long checksum = 0;
+        for (int rowIndex = 0; rowIndex < batch.size(); rowIndex++) {
+            checksum += String.valueOf(keyAccessor.resolve(batch, rowIndex)).length();
+            for (WriteTaskPayloadPath headerAccessor : headerAccessors) {
+                checksum += String.valueOf(headerAccessor.resolve(batch, rowIndex)).length();
+            }
+        }
+        return checksum;
+    }
+
+    private Object legacyResolve(Object current, String keyPath) {
+        return legacyResolve(current, keyPath.split("\\."), 0);
+    }
+
+    private Object legacyResolve(Object current, String[] segments, int index) {
+        if (current == null) {
+            return null;
+        }
+        if (index >= segments.length) {
+            return current;
+        }
+        String segment = segments[index];
+        if (segment.endsWith("[]")) {
+            Object next = ((Map<?, ?>) current).get(segment.substring(0, segment.length() - 2));
+            if (!(next instanceof List<?> listValue)) {
+                return null;
+            }
+            ArrayList<Object> values = new ArrayList<>();
+            for (Object item : listValue) {
+                Object nested = legacyResolve(item, segments, index + 1);
+                if (nested != null) {
+                    values.add(nested);
+                }
+            }
+            return values;
+        }
+        Matcher matcher = INDEXED_SEGMENT.matcher(segment);
+        if (matcher.matches()) {
+            Object next = ((Map<?, ?>) current).get(matcher.group(1));
+            int itemIndex = Integer.parseInt(matcher.group(2));
+            if (!(next instanceof List<?> listValue) || itemIndex >= listValue.size()) {
+                return null;
+            }
+            return legacyResolve(listValue.get(itemIndex), segments, index + 1);
+        }
+        return current instanceof Map<?, ?> mapValue ? legacyResolve(mapValue.get(segment), segments, index + 1) : null;
+    }
+
+    private Map<String, Object> row(int index) {
+        List<Object> items = new ArrayList<>();
+        for (int item = 0; item < 3; item++) {
+            Map<String, Object> itemValue = new LinkedHashMap<>();
+            itemValue.put("sku", "sku-" + index + "-" + item);
+            itemValue.put("qty", item + 1);
+            items.add(itemValue);
+        }
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("id", "ord-" + index);
+        order.put("amount", index * 3L);
+        order.put("items", items);
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("order", order);
+        row.put("tenant", "tenant-" + (index % 7));
+        row.put("createdAt", "2024-01-01T00:00:00");
+        return row;
+    }
+}
@@ -0,0 +1,73 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskPayloadPathTest {
+
+    @Test
+    void resolve_shouldSupportNestedIndexedAndFlattenedSegments() {
+        Map<String, Object> row = orderRow("ord-1", List.of("sku-1", "sku-2"));
+
+        assertThat(WriteTaskPayloadPath.compile("order.id").resolve(row)).isEqualTo("ord-1");
+        assertThat(WriteTaskPayloadPath.compile("order.items[1].sku").resolve(row)).isEqualTo("sku-2");
+        assertThat(WriteTaskPayloadPath.compile("order.items[].sku").resolve(row)).isEqualTo(List.of("sku-1", "sku-2"));
+        assertThat(WriteTaskPayloadPath.compile("order.items[5].sku").resolve(row)).isNull();
+        assertThat(WriteTaskPayloadPath.compile("order.missing.id").resolve(row)).isNull();
+        assertThat(WriteTaskPayloadPath.compile(" ").resolve(row)).isNull();
+    }
+
+    @Test
+    void resolve_shouldReadRootColumnStraightFromBatch() {
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(List.of(
+                orderRow("ord-1", List.of("sku-1")),
+                orderRow("ord-2", List.of("sku-3", "sku-4"))
+        ));
+        WriteTaskPayloadPath path = WriteTaskPayloadPath.compile("order.items[].sku");
+
+        assertThat(path.resolve(batch, 0)).isEqualTo(List.of("sku-1"));
+        assertThat(path.resolve(batch, 1)).isEqualTo(List.of("sku-3", "sku-4"));
+        assertThat(WriteTaskPayloadPath.compile("tenant").resolve(batch, 1)).isEqualTo("tenant-a");
+        assertThat(WriteTaskPayloadPath.compile("absent").resolve(batch, 0)).isNull();
+    }
+
+    @Test
+    void assign_shouldWriteFieldsIndexedItemsAndEveryListItem() {
+        Map<String, Object> row = orderRow("ord-1", List.of("sku-1", "sku-2"));
+        UnaryOperator<Object> copier = UnaryOperator.identity();
+
+        assertThat(WriteTaskPayloadPath.compile("order.customerId").assign(row, 9L, copier)).isTrue();
+        assertThat(WriteTaskPayloadPath.compile("order.items[0].sku").assign(row, "sku-x", copier)).isTrue();
+        assertThat(WriteTaskPayloadPath.compile("order.items[].qty").assign(row, 3, copier)).isTrue();
+        assertThat(WriteTaskPayloadPath.compile("order.items[7].sku").assign(row, "sku-y", copier)).isFalse();
+        assertThat(WriteTaskPayloadPath.compile("tenant.id").assign(row, "t", copier)).isFalse();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> order = (Map<String, Object>) row.get("order");
+        assertThat(order.get("customerId")).isEqualTo(9L);
+        assertThat(WriteTaskPayloadPath.compile("order.items[].sku").resolve(row)).isEqualTo(List.of("sku-x", "sku-2"));
+        assertThat(WriteTaskPayloadPath.compile("order.items[].qty").resolve(row)).isEqualTo(List.of(3, 3));
+    }
+
+    private Map<String, Object> orderRow(String orderId, List<String> skus) {
+        List<Object> items = new ArrayList<>();
+        for (String sku : skus) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sku", sku);
+            items.add(item);
+        }
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("id", orderId);
+        order.put("items", items);
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("order", order);
+        row.put("tenant", "tenant-a");
+        return row;
+    }
+}
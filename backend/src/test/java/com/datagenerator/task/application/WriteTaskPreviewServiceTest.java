@@ -18,10 +18,10 @@ import org.junit.jupiter.api.Test;
 
 class WriteTaskPreviewServiceTest {
 
-    private final WriteTaskPreviewService service = new WriteTaskPreviewService(
+    private final WriteTaskPreviewService service = new WriteTaskPreviewService(new WriteTaskRowGenerator(new WriteTaskGeneratorPlanCompiler(
             new KafkaPayloadSchemaService(new ObjectMapper()),
             new WriteTaskValueGenerator()
-    );
+    )));
 
     @Test
     void preview_shouldGenerateDeterministicRows() {
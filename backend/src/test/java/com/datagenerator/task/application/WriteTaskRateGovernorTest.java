@@ -0,0 +1,94 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskRateGovernorTest {
+
+    @Test
+    void acquire_shouldPaceConstantRateAgainstClock() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        WriteTaskRateGovernor governor = new WriteTaskRateGovernor(
+                profile(Map.of("targetRowsPerSecond", 1000, "durationSeconds", 3)),
+                clock::get,
+                clock::addAndGet
+        );
+
+        long rows = 0;
+        int granted;
+        while ((granted = governor.acquire(500, () -> false)) > 0) {
+            assertThat(granted).isLessThanOrEqualTo(50);
+            rows += granted;
+        }
+
+        assertThat(clock.get()).isGreaterThanOrEqualTo(3_000_000_000L);
+        assertThat(rows).isBetween(2_950L, 3_050L);
+        assertThat(governor.averageRowsPerSecond()).isCloseTo(1000, within(20d));
+        assertThat(governor.recentRowsPerSecond()).isCloseTo(1000, within(20d));
+    }
+
+    @Test
+    void acquire_shouldStopWhenRequested() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        WriteTaskRateGovernor governor = new WriteTaskRateGovernor(
+                profile(Map.of("targetRowsPerSecond", 100)),
+                clock::get,
+                clock::addAndGet
+        );
+
+        assertThat(governor.acquire(10, () -> true)).isZero();
+        assertThat(governor.grantedRows()).isZero();
+    }
+
+    @Test
+    void rateAt_shouldApplyRampUpSineAndSteps() {
+        WriteTaskStreamProfile ramp = profile(Map.of("targetRowsPerSecond", 200, "rampUpSeconds", 10));
+        assertThat(ramp.rateAt(0)).isZero();
+        assertThat(ramp.rateAt(5)).isEqualTo(100);
+        assertThat(ramp.rateAt(20)).isEqualTo(200);
+
+        WriteTaskStreamProfile sine = profile(Map.of(
+                "targetRowsPerSecond", 100,
+                "profile", "sine",
+                "amplitude", 0.5,
+                "periodSeconds", 40
+        ));
+        assertThat(sine.rateAt(10)).isCloseTo(150, within(0.001));
+        assertThat(sine.rateAt(30)).isCloseTo(50, within(0.001));
+
+        WriteTaskStreamProfile step = profile(Map.of(
+                "targetRowsPerSecond", 100,
+                "profile", "STEP",
+                "steps", List.of(
+                        Map.of("afterSeconds", 60, "rowsPerSecond", 500),
+                        Map.of("afterSeconds", 30, "rowsPerSecond", 300)
+                )
+        ));
+        assertThat(step.rateAt(10)).isEqualTo(100);
+        assertThat(step.rateAt(45)).isEqualTo(300);
+        assertThat(step.rateAt(90)).isEqualTo(500);
+    }
+
+    @Test
+    void fromTargetConfig_shouldRejectMissingOrInvalidRate() {
+        assertThatThrownBy(() -> WriteTaskStreamProfile.fromTargetConfig(Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("targetConfigJson.stream");
+        assertThatThrownBy(() -> profile(Map.of("targetRowsPerSecond", 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("targetRowsPerSecond");
+        assertThatThrownBy(() -> profile(Map.of("targetRowsPerSecond", 10, "profile", "STEP")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("steps");
+    }
+
+    private WriteTaskStreamProfile profile(Map<String, Object> stream) {
+        return WriteTaskStreamProfile.fromTargetConfig(Map.of(WriteTaskStreamProfile.CONFIG_KEY, stream));
+    }
+}
@@ -0,0 +1,48 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskRelationCandidatePoolTest {
+
+    @Test
+    void fromRows_shouldKeepOnlyCompleteKeyTuplesInOrder() {
+        Map<String, Object> incomplete = new HashMap<>();
+        incomplete.put("tenant_id", 1L);
+        incomplete.put("id", null);
+
+        WriteTaskRelationCandidatePool pool = WriteTaskRelationCandidatePool.fromRows(
+                List.of(
+                        Map.of("tenant_id", 1L, "id", 10L, "name", "a"),
+                        incomplete,
+                        Map.of("tenant_id", 2L, "id", 20L)
+                ),
+                List.of("tenant_id", "id")
+        );
+
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.arity()).isEqualTo(2);
+        assertThat(pool.value(0, 1)).isEqualTo(10L);
+        assertThat(pool.value(1, 0)).isEqualTo(2L);
+    }
+
+    @Test
+    void pick_shouldReturnIndexesWithinPoolOrMissWhenEmpty() {
+        WriteTaskRelationCandidatePool.Builder builder = WriteTaskRelationCandidatePool.builder(1, 1);
+        for (long id = 0; id < 100; id++) {
+            builder.add(new Object[] {id});
+        }
+        WriteTaskRelationCandidatePool pool = builder.build();
+        SplittableRandom random = new SplittableRandom(7L);
+
+        for (int attempt = 0; attempt < 1_000; attempt++) {
+            assertThat(pool.pick(random)).isBetween(0, 99);
+        }
+        assertThat(WriteTaskRelationCandidatePool.empty().pick(random)).isEqualTo(-1);
+    }
+}
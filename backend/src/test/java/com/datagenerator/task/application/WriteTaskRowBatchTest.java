@@ -0,0 +1,82 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datagenerator.task.application.WriteTaskRowBatch.ColumnKind;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskRowBatchTest {
+
+    @Test
+    void batch_shouldStoreTypedValuesAndNulls() {
+        WriteTaskRowBatch batch = sampleBatch(70);
+
+        assertThat(batch.size()).isEqualTo(70);
+        assertThat(batch.getLong(0, 69)).isEqualTo(69L);
+        assertThat(batch.getDecimal(1, 3)).isEqualTo(new BigDecimal("0.03"));
+        assertThat(batch.getBoolean(2, 64)).isTrue();
+        assertThat(batch.getBoolean(2, 65)).isFalse();
+        assertThat(batch.getString(3, 2)).isEqualTo("名称-2");
+        assertThat(batch.isNull(4, 5)).isTrue();
+        assertThat(batch.isNull(4, 6)).isFalse();
+        assertThat(batch.toRow(6)).containsExactly(
+                Map.entry("id", 6L),
+                Map.entry("amount", new BigDecimal("0.06")),
+                Map.entry("active", true),
+                Map.entry("name", "名称-6"),
+                Map.entry("extra", List.of(6))
+        );
+    }
+
+    @Test
+    void concat_shouldPreserveRowOrderAcrossBlocks() {
+        WriteTaskRowBatch merged = WriteTaskRowBatch.concat(List.of(sampleBatch(70), sampleBatch(3)));
+
+        assertThat(merged.size()).isEqualTo(73);
+        assertThat(merged.getLong(0, 70)).isZero();
+        assertThat(merged.getString(3, 72)).isEqualTo("名称-2");
+        assertThat(merged.getBoolean(2, 72)).isTrue();
+        assertThat(merged.isNull(4, 70)).isTrue();
+        assertThat(merged.toRows().subList(70, 73)).isEqualTo(sampleBatch(3).toRows());
+    }
+
+    @Test
+    void fromRows_shouldExposeMapViewAndBlankChecks() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("id", 1);
+        first.put("name", " ");
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("id", 2);
+        second.put("tag", "x");
+
+        WriteTaskRowBatch batch = WriteTaskRowBatch.fromRows(List.of(first, second));
+
+        assertThat(batch.columnCount()).isEqualTo(3);
+        assertThat(batch.isBlank(batch.columnIndex("name"), 0)).isTrue();
+        assertThat(batch.isNull(batch.columnIndex("name"), 1)).isTrue();
+        assertThat(batch.rowView(1)).containsEntry("id", 2).containsEntry("tag", "x");
+        assertThat(batch.columnIndex("missing")).isEqualTo(-1);
+    }
+
+    private WriteTaskRowBatch sampleBatch(int rowCount) {
+        WriteTaskRowBatch batch = WriteTaskRowBatch.create(
+                new String[] {"id", "amount", "active", "name", "extra"},
+                new ColumnKind[] {ColumnKind.LONG, ColumnKind.DECIMAL, ColumnKind.BOOLEAN, ColumnKind.STRING, ColumnKind.OBJECT},
+                new int[] {0, 2, 0, 0, 0},
+                4
+        );
+        for (int index = 0; index < rowCount; index++) {
+            int row = batch.appendRow();
+            batch.setLong(0, row, index);
+            batch.setLong(1, row, index);
+            batch.setBoolean(2, row, index % 2 == 0);
+            batch.setString(3, row, "名称-" + index);
+            batch.setObject(4, row, index % 5 == 0 ? null : List.of(index));
+        }
+        return batch;
+    }
+}
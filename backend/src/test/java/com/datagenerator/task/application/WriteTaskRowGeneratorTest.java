@@ -0,0 +1,255 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
+
+import com.datagenerator.common.support.RandomStreamSupport;
+import com.datagenerator.task.api.WriteTaskColumnUpsertRequest;
+import com.datagenerator.task.api.WriteTaskUpsertRequest;
+import com.datagenerator.task.domain.ColumnGeneratorType;
+import com.datagenerator.task.domain.TableMode;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.datagenerator.task.domain.WriteMode;
+import com.datagenerator.task.domain.WriteTaskScheduleType;
+import com.datagenerator.task.domain.WriteTaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskRowGeneratorTest {
+
+    private final WriteTaskRowGenerator generator = new WriteTaskRowGenerator(new WriteTaskGeneratorPlanCompiler(
+            new KafkaPayloadSchemaService(new ObjectMapper()),
+            new WriteTaskValueGenerator()
+    ));
+
+    @Test
+    void stream_shouldEmitBoundedChunksBeyondPreviewCap() {
+        WriteTaskRowStream stream = generator.stream(sampleEntity(1L), null, 70_500, 7L, 1_000);
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        Map<String, Object> lastRow = null;
+        while (stream.hasNext()) {
+            WriteTaskRowBatch chunk = stream.next();
+            chunkSizes.add(chunk.size());
+            lastRow = chunk.toRow(chunk.size() - 1);
+        }
+
+        assertThat(chunkSizes).hasSizeGreaterThan(1);
+        assertThat(chunkSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(32_000));
+        assertThat(chunkSizes.subList(0, chunkSizes.size() - 1))
+                .allSatisfy(size -> assertThat(size % RandomStreamSupport.BLOCK_SIZE).isZero());
+        assertThat(stream.generatedRowCount()).isEqualTo(70_500);
+        assertThat(stream.generatedChunkCount()).isEqualTo(chunkSizes.size());
+        assertThat(lastRow).containsEntry("id", 70_500L);
+    }
+
+    @Test
+    void stream_shouldProduceSameRowsRegardlessOfChunkSize() {
+        List<Map<String, Object>> smallChunks = new ArrayList<>();
+        generator.stream(sampleEntity(4L), null, 5_500, 99L, 1)
+                .forEachRemaining(chunk -> smallChunks.addAll(chunk.toRows()));
+        List<Map<String, Object>> largeChunks = new ArrayList<>();
+        generator.stream(sampleEntity(4L), null, 5_500, 99L, 32_000)
+                .forEachRemaining(chunk -> largeChunks.addAll(chunk.toRows()));
+
+        assertThat(largeChunks).hasSize(5_500).isEqualTo(smallChunks);
+        assertThat(largeChunks).extracting(row -> row.get("id"))
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 5_500).boxed().toList());
+    }
+
+    @Test
+    void stream_shouldMatchPreviewRowsForSameSeed() {
+        WriteTaskUpsertRequest task = sampleTask();
+        List<Map<String, Object>> previewRows = generator.generate(task, 5, 20260413L);
+
+        WriteTaskRowStream stream = generator.stream(sampleEntity(2L), task, 5, 20260413L, 2);
+        List<Map<String, Object>> streamedRows = new ArrayList<>();
+        stream.forEachRemaining(chunk -> streamedRows.addAll(chunk.toRows()));
+
+        assertThat(streamedRows).isEqualTo(previewRows);
+    }
+
+    @Test
+    void stream_shouldApplyRuntimeSequenceStart() {
+        WriteTaskUpsertRequest runtimeRequest = sampleTask(41L);
+
+        List<Map<String, Object>> rows = generator.stream(sampleEntity(3L), runtimeRequest, 3, 7L, 10).next().toRows();
+
+        assertThat(rows).extracting(row -> row.get("id")).containsExactly(41L, 42L, 43L);
+    }
+
+    @Test
+    void resume_shouldRegenerateOnlyRowsAfterCheckpoint() {
+        List<Map<String, Object>> fullRows = new ArrayList<>();
+        generator.stream(sampleEntity(7L), sampleTask(41L), 5_500, 99L, 1_000)
+                .forEachRemaining(chunk -> fullRows.addAll(chunk.toRows()));
+
+        WriteTaskRowStream resumed = generator.resume(sampleEntity(7L), Map.of("id", 41L), 5_500, 99L, 1_000, 3_333);
+        List<Map<String, Object>> resumedRows = new ArrayList<>();
+        resumed.forEachRemaining(chunk -> resumedRows.addAll(chunk.toRows()));
+
+        assertThat(resumed.generatedRowCount()).isEqualTo(2_167);
+        assertThat(resumedRows).isEqualTo(fullRows.subList(3_333, 5_500));
+        assertThat(resumedRows.get(0)).containsEntry("id", 3_374L);
+    }
+
+    @Test
+    void streamPaced_shouldContinueOpenBlocksAcrossUnalignedGrants() throws Exception {
+        WriteTaskGeneratorPlanCompiler compiler = spy(new WriteTaskGeneratorPlanCompiler(
+                new KafkaPayloadSchemaService(new ObjectMapper()),
+                new WriteTaskValueGenerator()
+        ));
+        AtomicReference<WriteTaskGeneratorPlan> plan = new AtomicReference<>();
+        doAnswer(invocation -> {
+            plan.set(spy((WriteTaskGeneratorPlan) invocation.callRealMethod()));
+            return plan.get();
+        }).when(compiler).compile(any(WriteTask.class));
+        AtomicLong clock = new AtomicLong();
+        WriteTaskStreamProfile profile = WriteTaskStreamProfile.fromTargetConfig(
+                Map.of(WriteTaskStreamProfile.CONFIG_KEY, Map.of("targetRowsPerSecond", 700))
+        );
+        WriteTaskStreamSession session = new WriteTaskStreamSession(
+                8L,
+                profile,
+                new WriteTaskRateGovernor(profile, clock::get, clock::addAndGet)
+        );
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Map<String, Object>> pacedRows = new ArrayList<>();
+        new WriteTaskRowGenerator(compiler).streamPaced(sampleEntity(9L), null, 2_500L, 99L, 1_000, session)
+                .forEachRemaining(chunk -> {
+                    chunkSizes.add(chunk.size());
+                    pacedRows.addAll(chunk.toRows());
+                });
+        List<Map<String, Object>> fullRows = new ArrayList<>();
+        generator.stream(sampleEntity(9L), null, 2_500, 99L, 1_000)
+                .forEachRemaining(chunk -> fullRows.addAll(chunk.toRows()));
+
+        assertThat(chunkSizes).contains(35);
+        assertThat(pacedRows).isEqualTo(fullRows);
+        long filledRows = mockingDetails(plan.get()).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("fillRow"))
+                .count();
+        assertThat(filledRows).isEqualTo(2_500L);
+    }
+
+    @Test
+    void stream_shouldFillPrimitiveColumns() {
+        WriteTaskRowBatch batch = generator.stream(sampleEntity(5L), null, 10, 7L, 10).next();
+
+        assertThat(batch.columnKind(batch.columnIndex("id"))).isEqualTo(WriteTaskRowBatch.ColumnKind.LONG);
+        assertThat(batch.columnKind(batch.columnIndex("score"))).isEqualTo(WriteTaskRowBatch.ColumnKind.LONG);
+        assertThat(batch.getLong(batch.columnIndex("id"), 9)).isEqualTo(10L);
+    }
+
+    @Test
+    void stream_shouldStoreDatetimeColumnsAsEpochValues() {
+        WriteTask task = sampleEntity(6L);
+        List<WriteTaskColumn> columns = new ArrayList<>(task.getColumns());
+        columns.add(column("created_at", ColumnGeneratorType.DATETIME,
+                "{\"from\":\"2024-01-01T00:00:00Z\",\"to\":\"2024-01-31T00:00:00Z\"}", 2));
+        columns.add(column("birthday", ColumnGeneratorType.DATETIME,
+                "{\"from\":\"2024-01-01T00:00:00Z\",\"to\":\"2024-01-31T00:00:00Z\",\"dateOnly\":true}", 3));
+        task.replaceColumns(columns);
+
+        WriteTaskRowBatch batch = generator.stream(task, null, 10, 7L, 10).next();
+        int createdAt = batch.columnIndex("created_at");
+        int birthday = batch.columnIndex("birthday");
+
+        assertThat(batch.columnKind(createdAt)).isEqualTo(WriteTaskRowBatch.ColumnKind.TIMESTAMP);
+        assertThat(batch.columnKind(birthday)).isEqualTo(WriteTaskRowBatch.ColumnKind.DATE);
+        assertThat(batch.getObject(createdAt, 0))
+                .isEqualTo(Instant.ofEpochMilli(batch.getLong(createdAt, 0)).toString());
+        assertThat(batch.getObject(birthday, 0))
+                .isEqualTo(LocalDate.ofEpochDay(batch.getLong(birthday, 0)).toString());
+        assertThat(batch.getLong(createdAt, 0)).isBetween(1_704_067_200_000L, 1_706_659_200_000L);
+    }
+
+    private WriteTask sampleEntity(Long id) {
+        WriteTask task = new WriteTask();
+        task.setId(id);
+        task.setName("stream-task");
+        task.setTableName("demo_table");
+        task.replaceColumns(List.of(
+                column("id", ColumnGeneratorType.SEQUENCE, "{\"start\":1,\"step\":1}", 0),
+                column("score", ColumnGeneratorType.RANDOM_INT, "{\"min\":1,\"max\":100}", 1)
+        ));
+        return task;
+    }
+
+    private WriteTaskColumn column(String name, ColumnGeneratorType generatorType, String configJson, int sortOrder) {
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName(name);
+        column.setDbType("BIGINT");
+        column.setNullableFlag(false);
+        column.setGeneratorType(generatorType);
+        column.setGeneratorConfigJson(configJson);
+        column.setSortOrder(sortOrder);
+        return column;
+    }
+
+    private WriteTaskUpsertRequest sampleTask() {
+        return sampleTask(1L);
+    }
+
+    private WriteTaskUpsertRequest sampleTask(long sequenceStart) {
+        return new WriteTaskUpsertRequest(
+                "stream-task",
+                1L,
+                "demo_table",
+                TableMode.USE_EXISTING,
+                WriteMode.APPEND,
+                2_500,
+                1_000,
+                null,
+                WriteTaskStatus.READY,
+                WriteTaskScheduleType.MANUAL,
+                null,
+                null,
+                null,
+                null,
+                null,
+                "test",
+                null,
+                null,
+                List.of(
+                        new WriteTaskColumnUpsertRequest(
+                                "id",
+                                "BIGINT",
+                                null,
+                                null,
+                                null,
+                                false,
+                                true,
+                                ColumnGeneratorType.SEQUENCE,
+                                Map.of("start", sequenceStart, "step", 1),
+                                0
+                        ),
+                        new WriteTaskColumnUpsertRequest(
+                                "score",
+                                "INT",
+                                null,
+                                null,
+                                null,
+                                false,
+                                false,
+                                ColumnGeneratorType.RANDOM_INT,
+                                Map.of("min", 1, "max", 100),
+                                1
+                        )
+                )
+        );
+    }
+}
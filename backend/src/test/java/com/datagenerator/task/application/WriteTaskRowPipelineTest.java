@@ -0,0 +1,75 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskRowPipelineTest {
+
+    @Test
+    void pipelined_shouldDeliverChunksInOrderAndReportStageTimes() {
+        AtomicInteger produced = new AtomicInteger();
+        List<String> listenerThreads = new ArrayList<>();
+        WriteTaskRowStream stream = WriteTaskRowStream.of(10, () -> produced.get() >= 5 ? null : chunk(produced.getAndIncrement()))
+                .onChunk(chunk -> listenerThreads.add(Thread.currentThread().getName()))
+                .pipelined(2, "pipeline-test");
+
+        List<Object> ids = new ArrayList<>();
+        while (stream.hasNext()) {
+            WriteTaskRowBatch batch = stream.next();
+            ids.add(batch.getObject(batch.columnIndex("id"), 0));
+        }
+        stream.close();
+
+        assertThat(ids).containsExactly(0, 1, 2, 3, 4);
+        assertThat(stream.generatedRowCount()).isEqualTo(10);
+        assertThat(listenerThreads).containsOnly("pipeline-test");
+        assertThat(stream.stageStats())
+                .containsEntry("queueCapacity", 2)
+                .containsKeys("generatorBusyMs", "generatorBlockedMs", "writerBusyMs", "writerIdleMs", "bottleneck");
+    }
+
+    @Test
+    void pipelined_shouldApplyBackpressureAndStopOnClose() throws Exception {
+        AtomicInteger produced = new AtomicInteger();
+        WriteTaskRowStream stream = WriteTaskRowStream.of(0, () -> chunk(produced.getAndIncrement()))
+                .pipelined(2, "pipeline-backpressure")
+                .prefetch();
+
+        Thread.sleep(300);
+        assertThat(produced.get()).isLessThanOrEqualTo(4);
+
+        stream.close();
+        int producedAfterClose = produced.get();
+        Thread.sleep(200);
+        assertThat(produced.get()).isEqualTo(producedAfterClose);
+    }
+
+    @Test
+    void pipelined_shouldSurfaceGenerationFailureToWriter() {
+        AtomicInteger produced = new AtomicInteger();
+        WriteTaskRowStream stream = WriteTaskRowStream.of(0, () -> {
+            if (produced.getAndIncrement() == 1) {
+                throw new IllegalArgumentException("非空字段校验未通过");
+            }
+            return chunk(0);
+        }).pipelined(4, "pipeline-failure");
+
+        assertThatThrownBy(() -> {
+            while (stream.hasNext()) {
+                stream.next();
+            }
+        }).isInstanceOf(IllegalArgumentException.class).hasMessage("非空字段校验未通过");
+        assertThat(stream.failed()).isTrue();
+        stream.close();
+    }
+
+    private WriteTaskRowBatch chunk(int id) {
+        return WriteTaskRowBatch.fromRows(List.of(Map.of("id", id), Map.of("id", id)));
+    }
+}
@@ -47,7 +47,8 @@ class WriteTaskSchedulingServiceTest {
                 scheduler,
                 repository,
                 executionRepository,
-                service
+                service,
+                new WriteTaskStreamingService(service, repository)
         );
     }
 
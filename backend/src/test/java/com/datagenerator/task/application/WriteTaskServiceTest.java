@@ -2,6 +2,10 @@ package com.datagenerator.task.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -12,7 +16,6 @@ import com.datagenerator.connection.domain.DatabaseType;
 import com.datagenerator.connection.domain.TargetConnection;
 import com.datagenerator.task.api.WriteTaskColumnUpsertRequest;
 import com.datagenerator.task.api.WriteTaskExecutionResponse;
-import com.datagenerator.task.api.WriteTaskPreviewResponse;
 import com.datagenerator.task.api.WriteTaskUpsertRequest;
 import com.datagenerator.task.domain.ColumnGeneratorType;
 import com.datagenerator.task.domain.TableMode;
@@ -22,6 +25,7 @@ import com.datagenerator.task.domain.WriteMode;
 import com.datagenerator.task.domain.WriteTask;
 import com.datagenerator.task.domain.WriteTaskColumn;
 import com.datagenerator.task.domain.WriteTaskExecution;
+import com.datagenerator.task.domain.WriteTaskExecutionLog;
 import com.datagenerator.task.domain.WriteTaskScheduleType;
 import com.datagenerator.task.domain.WriteTaskStatus;
 import com.datagenerator.task.repository.WriteTaskExecutionLogRepository;
@@ -32,6 +36,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +63,12 @@ class WriteTaskServiceTest {
     @Mock
     private WriteTaskPreviewService previewService;
 
+    @Mock
+    private WriteTaskRowGenerator rowGenerator;
+
+    @Mock
+    private WriteTaskGeneratorPlanCompiler planCompiler;
+
     @Mock
     private WriteTaskExecutionPreparationService executionPreparationService;
 
@@ -77,6 +89,8 @@ class WriteTaskServiceTest {
                 executionLogRepository,
                 connectionService,
                 previewService,
+                rowGenerator,
+                planCompiler,
                 executionPreparationService,
                 writerRegistry,
                 new KafkaPayloadSchemaService(objectMapper),
@@ -94,7 +108,7 @@ class WriteTaskServiceTest {
         lenient().when(executionPreparationService.prepareForExecution(any(), any(), any()))
                 .thenAnswer(invocation -> invocation.getArgument(1));
         lenient().when(writerRegistry.get(any())).thenReturn(writer);
-        lenient().when(writer.write(any(), any(), any(), any())).thenReturn(new WriteTaskDeliveryResult(
+        lenient().when(writer.write(any(), any(), any(WriteTaskRowStream.class), any())).thenReturn(new WriteTaskDeliveryResult(
                 2,
                 0,
                 "目标表写入完成",
@@ -112,9 +126,7 @@ class WriteTaskServiceTest {
         WriteTask task = sampleTask();
         TargetConnection connection = sampleConnection();
         when(repository.findById(1L)).thenReturn(Optional.of(task));
-        when(previewService.preview(any(), any(), any())).thenReturn(new WriteTaskPreviewResponse(
-                2,
-                7L,
+        when(rowGenerator.stream(any(), any(), anyInt(), anyLong(), any())).thenReturn(WriteTaskRowStream.of(
                 List.of(
                         Map.of("order_id", 1L, "customer_name", "张三"),
                         Map.of("order_id", 2L, "customer_name", "李四")
@@ -144,16 +156,14 @@ class WriteTaskServiceTest {
         TargetConnection connection = sampleConnection();
         connection.setDbType(DatabaseType.KAFKA);
         when(repository.findById(1L)).thenReturn(Optional.of(task));
-        when(previewService.preview(any(), any(), any())).thenReturn(new WriteTaskPreviewResponse(
-                2,
-                7L,
+        when(rowGenerator.stream(any(), any(), anyInt(), anyLong(), any())).thenReturn(WriteTaskRowStream.of(
                 List.of(
                         Map.of("order_id", 1L, "customer_name", "张三"),
                         Map.of("order_id", 2L, "customer_name", "李四")
                 )
         ));
         when(connectionService.findById(9L)).thenReturn(connection);
-        when(writer.write(any(), any(), any(), any())).thenReturn(new WriteTaskDeliveryResult(
+        when(writer.write(any(), any(), any(WriteTaskRowStream.class), any())).thenReturn(new WriteTaskDeliveryResult(
                 2,
                 0,
                 "Kafka Topic 写入完成",
@@ -172,14 +182,45 @@ class WriteTaskServiceTest {
         verify(writerRegistry).get(DatabaseType.KAFKA);
     }
 
+    @Test
+    void run_shouldUpdateExecutionStateOnlyFromCallingThread() throws Exception {
+        WriteTask task = sampleTask();
+        when(repository.findById(1L)).thenReturn(Optional.of(task));
+        when(connectionService.findById(9L)).thenReturn(sampleConnection());
+        when(rowGenerator.stream(any(), any(), anyInt(), anyLong(), any())).thenReturn(WriteTaskRowStream.of(
+                List.of(
+                        Map.of("order_id", 1L, "customer_name", "张三"),
+                        Map.of("order_id", 2L, "customer_name", "")
+                )
+        ));
+        Set<String> persistingThreads = ConcurrentHashMap.newKeySet();
+        when(executionRepository.save(any(WriteTaskExecution.class))).thenAnswer(invocation -> {
+            persistingThreads.add(Thread.currentThread().getName());
+            WriteTaskExecution execution = invocation.getArgument(0);
+            if (execution.getId() == null) {
+                execution.setId(1L);
+            }
+            return execution;
+        });
+        when(executionLogRepository.save(any(WriteTaskExecutionLog.class))).thenAnswer(invocation -> {
+            persistingThreads.add(Thread.currentThread().getName());
+            return invocation.getArgument(0);
+        });
+
+        WriteTaskExecutionResponse response = service.run(1L);
+
+        assertThat(response.status()).isEqualTo(WriteExecutionStatus.FAILED);
+        Map<?, ?> deliveryDetails = objectMapper.readValue(response.deliveryDetailsJson(), Map.class);
+        assertThat(((Map<?, ?>) deliveryDetails.get("nonNullValidation")).get("blankStringCount")).isEqualTo(1);
+        assertThat(persistingThreads).containsExactly(Thread.currentThread().getName());
+    }
+
     @Test
     void run_shouldFailBeforeWriteWhenRequiredFieldContainsNullOrBlank() throws Exception {
         WriteTask task = sampleTask();
         when(repository.findById(1L)).thenReturn(Optional.of(task));
         when(connectionService.findById(9L)).thenReturn(sampleConnection());
-        when(previewService.preview(any(), any(), any())).thenReturn(new WriteTaskPreviewResponse(
-                2,
-                7L,
+        when(rowGenerator.stream(any(), any(), anyInt(), anyLong(), any())).thenReturn(WriteTaskRowStream.of(
                 List.of(
                         Map.of("order_id", 1L, "customer_name", ""),
                         rowWithNullCustomerName()
@@ -196,7 +237,7 @@ class WriteTaskServiceTest {
         assertThat(validation.get("nullValueCount")).isEqualTo(1);
         assertThat(validation.get("blankStringCount")).isEqualTo(1);
         assertThat(validation.get("issueCount")).isEqualTo(2);
-        verify(writer, never()).write(any(), any(), any(), any());
+        verify(writer, never()).write(any(), any(), any(WriteTaskRowStream.class), any());
     }
 
     @Test
@@ -424,9 +465,7 @@ class WriteTaskServiceTest {
 
         when(repository.findById(1L)).thenReturn(Optional.of(task));
         when(connectionService.findById(9L)).thenReturn(connection);
-        when(previewService.preview(any(), any(), any())).thenReturn(new WriteTaskPreviewResponse(
-                1,
-                7L,
+        when(rowGenerator.stream(any(), any(), anyInt(), anyLong(), any())).thenReturn(WriteTaskRowStream.of(
                 List.of(rowWithNullNestedAmount())
         ));
 
@@ -438,7 +477,7 @@ class WriteTaskServiceTest {
         Map<?, ?> validation = (Map<?, ?>) deliveryDetails.get("nonNullValidation");
         assertThat(validation.get("passed")).isEqualTo(false);
         assertThat(validation.get("nullValueCount")).isEqualTo(1);
-        verify(writer, never()).write(any(), any(), any(), any());
+        verify(writer, never()).write(any(), any(), any(WriteTaskRowStream.class), any());
     }
 
     @Test
@@ -451,6 +490,111 @@ class WriteTaskServiceTest {
         assertThat(exception.getMessage()).contains("触发类型");
     }
 
+    @Test
+    void resumeExecution_shouldContinueFromCheckpointWithRecordedSeedAndSequences() throws Exception {
+        WriteTask task = sampleTask();
+        task.setRowCount(5);
+        task.setTargetConfigJson("{\"writeStrategy\":\"CHECKPOINT\",\"commitEveryBatches\":2}");
+        WriteTaskExecution failed = new WriteTaskExecution();
+        failed.setId(5L);
+        failed.setWriteTaskId(1L);
+        failed.setStatus(WriteExecutionStatus.FAILED);
+        failed.setCheckpointSeed(99L);
+        failed.setCheckpointChunkIndex(3L);
+        failed.setCheckpointRowCount(3L);
+        failed.setCheckpointSequenceJson("{\"order_id\":41}");
+        failed.setCheckpointPlanFingerprint("plan-v1");
+        failed.setCheckpointPlannedRowCount(5L);
+        when(executionRepository.findById(5L)).thenReturn(Optional.of(failed));
+        when(repository.findById(1L)).thenReturn(Optional.of(task));
+        when(planCompiler.fingerprint(task)).thenReturn("plan-v1");
+        when(connectionService.findById(9L)).thenReturn(sampleConnection());
+        when(rowGenerator.resume(task, Map.of("order_id", 41L), 5, 99L, 100, 3)).thenReturn(WriteTaskRowStream.of(
+                List.of(
+                        Map.of("order_id", 44L, "customer_name", "张三"),
+                        Map.of("order_id", 45L, "customer_name", "李四")
+                )
+        ));
+        when(writer.write(any(), any(), any(WriteTaskRowStream.class), any(), any(WriteTaskCheckpoint.class))).thenAnswer(invocation -> {
+            WriteTaskRowStream rows = invocation.getArgument(2);
+            rows.forEachRemaining(chunk -> {
+            });
+            WriteTaskCheckpoint checkpoint = invocation.getArgument(4);
+            checkpoint.advance(2, 2);
+            return new WriteTaskDeliveryResult(2, 0, "目标表分段提交写入完成", Map.of("writtenRowCount", 2L));
+        });
+
+        WriteTaskExecutionResponse response = service.resumeExecution(5L);
+
+        assertThat(response.status()).isEqualTo(WriteExecutionStatus.SUCCESS);
+        assertThat(response.triggerType()).isEqualTo(WriteExecutionTriggerType.RESUME);
+        assertThat(response.resumedFromExecutionId()).isEqualTo(5L);
+        assertThat(response.checkpointChunkIndex()).isEqualTo(5L);
+        assertThat(response.checkpointRowCount()).isEqualTo(5L);
+        Map<?, ?> deliveryDetails = objectMapper.readValue(response.deliveryDetailsJson(), Map.class);
+        assertThat(deliveryDetails.get("resumedFromRowCount")).isEqualTo(3);
+        assertThat(deliveryDetails.get("seed")).isEqualTo(99);
+        verify(executionRepository, atLeastOnce()).save(argThat(execution -> "plan-v1".equals(execution.getCheckpointPlanFingerprint())
+                && Long.valueOf(5L).equals(execution.getCheckpointPlannedRowCount())));
+        verify(executionPreparationService, never()).prepareForExecution(any(), any(), any());
+    }
+
+    @Test
+    void resumeExecution_shouldRejectCheckpointWhenTaskChangedSinceFailure() {
+        WriteTask task = sampleTask();
+        task.setRowCount(5);
+        task.setTargetConfigJson("{\"writeStrategy\":\"CHECKPOINT\"}");
+        WriteTaskExecution failed = new WriteTaskExecution();
+        failed.setId(5L);
+        failed.setWriteTaskId(1L);
+        failed.setStatus(WriteExecutionStatus.FAILED);
+        failed.setCheckpointSeed(99L);
+        failed.setCheckpointRowCount(3L);
+        failed.setCheckpointPlanFingerprint("plan-v1");
+        failed.setCheckpointPlannedRowCount(5L);
+        when(executionRepository.findById(5L)).thenReturn(Optional.of(failed));
+        when(repository.findById(1L)).thenReturn(Optional.of(task));
+        when(planCompiler.fingerprint(task)).thenReturn("plan-v2", "plan-v1");
+
+        IllegalArgumentException planChanged = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> service.resumeExecution(5L)
+        );
+        task.setRowCount(8);
+        IllegalArgumentException rowCountChanged = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> service.resumeExecution(5L)
+        );
+
+        assertThat(planChanged.getMessage()).contains("字段或生成配置");
+        assertThat(rowCountChanged.getMessage()).contains("写入行数");
+        verify(executionRepository, never()).save(any());
+    }
+
+    @Test
+    void resumeExecution_shouldRejectExecutionWithoutCheckpoint() {
+        WriteTaskExecution succeeded = new WriteTaskExecution();
+        succeeded.setId(6L);
+        succeeded.setStatus(WriteExecutionStatus.SUCCESS);
+        WriteTaskExecution failed = new WriteTaskExecution();
+        failed.setId(7L);
+        failed.setStatus(WriteExecutionStatus.FAILED);
+        when(executionRepository.findById(6L)).thenReturn(Optional.of(succeeded));
+        when(executionRepository.findById(7L)).thenReturn(Optional.of(failed));
+
+        IllegalArgumentException notFailed = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> service.resumeExecution(6L)
+        );
+        IllegalArgumentException noCheckpoint = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> service.resumeExecution(7L)
+        );
+
+        assertThat(notFailed.getMessage()).contains("仅失败的执行记录");
+        assertThat(noCheckpoint.getMessage()).contains("没有可恢复的检查点");
+    }
+
     private WriteTask sampleTask() {
         WriteTask task = new WriteTask();
         task.setId(1L);
@@ -0,0 +1,106 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datagenerator.task.domain.WriteTaskColumn;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskSqlServerBulkDataTest {
+
+    @Test
+    void bulkData_shouldDescribeDestinationTypesAndConvertRowsAcrossBatches() throws Exception {
+        Map<String, Object> withNulls = new LinkedHashMap<>();
+        withNulls.put("id", 3L);
+        withNulls.put("qty", null);
+        withNulls.put("price", null);
+        withNulls.put("active", null);
+        withNulls.put("created_date", null);
+        withNulls.put("created_at", null);
+        withNulls.put("note", Map.of("vip", true));
+
+        Iterator<WriteTaskRowBatch> batches = List.of(
+                WriteTaskRowBatch.fromRows(List.of(
+                        row(1L, 5L, "12.345", true, "2024-03-04", "2024-03-04 10:15:30", "first"),
+                        row(2L, 6L, "1", false, "2024-03-05", "2024-03-05T00:00:00", "second")
+                )),
+                WriteTaskRowBatch.fromRows(List.of(withNulls))
+        ).iterator();
+        WriteTaskRowStream rows = WriteTaskRowStream.of(3, () -> batches.hasNext() ? batches.next() : null);
+
+        WriteTaskSqlServerBulkData bulkData = new WriteTaskSqlServerBulkData(
+                List.of(
+                        column("id", "BIGINT", null, null, null),
+                        column("qty", "INT", null, null, null),
+                        column("price", "DECIMAL", null, 10, 2),
+                        column("active", "BIT", null, null, null),
+                        column("created_date", "DATE", null, null, null),
+                        column("created_at", "DATETIME2", null, null, null),
+                        column("note", "NVARCHAR", 64, null, null)
+                ),
+                rows,
+                new WriteTaskJdbcValueConverter(new ObjectMapper())
+        );
+
+        assertThat(bulkData.getColumnOrdinals()).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThat(bulkData.getColumnType(2)).isEqualTo(Types.INTEGER);
+        assertThat(bulkData.getPrecision(3)).isEqualTo(10);
+        assertThat(bulkData.getScale(3)).isEqualTo(2);
+        assertThat(bulkData.getPrecision(7)).isEqualTo(64);
+
+        assertThat(bulkData.next()).isTrue();
+        assertThat(bulkData.getRowData()).containsExactly(
+                1L,
+                5,
+                new BigDecimal("12.35"),
+                true,
+                Date.valueOf("2024-03-04"),
+                Timestamp.valueOf(LocalDateTime.parse("2024-03-04T10:15:30")),
+                "first"
+        );
+        assertThat(bulkData.next()).isTrue();
+        assertThat(bulkData.next()).isTrue();
+        assertThat(bulkData.getRowData()).containsExactly(3L, null, null, null, null, null, "{\"vip\":true}");
+        assertThat(bulkData.next()).isFalse();
+        assertThat(bulkData.rowCount()).isEqualTo(3L);
+    }
+
+    private Map<String, Object> row(
+            long id,
+            long qty,
+            String price,
+            boolean active,
+            String createdDate,
+            String createdAt,
+            String note
+    ) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("qty", qty);
+        row.put("price", new BigDecimal(price));
+        row.put("active", active);
+        row.put("created_date", createdDate);
+        row.put("created_at", createdAt);
+        row.put("note", note);
+        return row;
+    }
+
+    private WriteTaskColumn column(String name, String dbType, Integer length, Integer precision, Integer scale) {
+        WriteTaskColumn column = new WriteTaskColumn();
+        column.setColumnName(name);
+        column.setDbType(dbType);
+        column.setLengthValue(length);
+        column.setPrecisionValue(precision);
+        column.setScaleValue(scale);
+        return column;
+    }
+}
@@ -0,0 +1,93 @@
+package com.datagenerator.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datagenerator.task.api.WriteTaskExecutionResponse;
+import com.datagenerator.task.api.WriteTaskStreamStatusResponse;
+import com.datagenerator.task.domain.WriteTask;
+import com.datagenerator.task.domain.WriteTaskExecution;
+import com.datagenerator.task.domain.WriteTaskScheduleType;
+import com.datagenerator.task.repository.WriteTaskRepository;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+
+class WriteTaskStreamingServiceTest {
+
+    private final WriteTaskService service = mock(WriteTaskService.class);
+    private final WriteTaskRepository repository = mock(WriteTaskRepository.class);
+    private final WriteTaskStreamingService streamingService = new WriteTaskStreamingService(service, repository);
+
+    @Test
+    void start_shouldRecordStreamingFailureOnStatus() throws Exception {
+        WriteTask task = sampleTask();
+        when(repository.findById(8L)).thenReturn(Optional.empty());
+        when(service.runStreaming(eq(8L), any(WriteTaskStreamSession.class)))
+                .thenThrow(new IllegalArgumentException("当前任务仍在执行中，请等待上一批写入完成"));
+
+        streamingService.start(task);
+        WriteTaskStreamStatusResponse status = awaitStatus(() -> streamingService.status(8L).error() != null);
+
+        assertThat(status.streaming()).isFalse();
+        assertThat(status.error()).isEqualTo("当前任务仍在执行中，请等待上一批写入完成");
+    }
+
+    @Test
+    void start_shouldWaitForStoppingSessionBeforeStartingNextOne() throws Exception {
+        WriteTask task = sampleTask();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        when(repository.findById(8L)).thenReturn(Optional.empty());
+        when(service.runStreaming(eq(8L), any(WriteTaskStreamSession.class))).thenAnswer(invocation -> {
+            WriteTaskStreamSession session = invocation.getArgument(1);
+            if (runs.incrementAndGet() == 1) {
+                firstStarted.countDown();
+                while (!session.stopRequested()) {
+                    Thread.sleep(5);
+                }
+                Thread.sleep(50);
+                return WriteTaskExecutionResponse.from(new WriteTaskExecution());
+            }
+            while (!session.stopRequested()) {
+                Thread.sleep(5);
+            }
+            return WriteTaskExecutionResponse.from(new WriteTaskExecution());
+        });
+
+        streamingService.start(task);
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        streamingService.stop(8L);
+        streamingService.start(task);
+
+        assertThat(streamingService.isStreaming(8L)).isTrue();
+        awaitStatus(() -> runs.get() == 2);
+        streamingService.destroy();
+        verify(service, times(2)).runStreaming(eq(8L), any(WriteTaskStreamSession.class));
+    }
+
+    private WriteTaskStreamStatusResponse awaitStatus(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+        return streamingService.status(8L);
+    }
+
+    private WriteTask sampleTask() {
+        WriteTask task = new WriteTask();
+        task.setId(8L);
+        task.setScheduleType(WriteTaskScheduleType.STREAM);
+        task.setTargetConfigJson("{\"stream\":{\"targetRowsPerSecond\":10}}");
+        return task;
+    }
+}